@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalogo.application.autocomplete;
+
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.Suggestion;
+import com.fullcycle.admin.catalogo.domain.autocomplete.SuggestionType;
+
+import java.lang.System.Logger.Level;
+
+// The aggregate is already persisted when these run, so an index failure is logged instead of failing the write
+public final class AutocompleteIndexing {
+
+    private static final System.Logger log = System.getLogger(AutocompleteIndexing.class.getName());
+
+    private AutocompleteIndexing() {
+    }
+
+    public static void index(final AutocompleteGateway aGateway, final Suggestion aSuggestion) {
+        try {
+            aGateway.index(aSuggestion);
+        } catch (final RuntimeException e) {
+            log.log(Level.WARNING, "Autocomplete index failed [type:%s] [id:%s] [error:%s]"
+                    .formatted(aSuggestion.type(), aSuggestion.id(), e.getMessage()), e);
+        }
+    }
+
+    public static void remove(final AutocompleteGateway aGateway, final SuggestionType aType, final String anId) {
+        try {
+            aGateway.remove(aType, anId);
+        } catch (final RuntimeException e) {
+            log.log(Level.WARNING, "Autocomplete remove failed [type:%s] [id:%s] [error:%s]"
+                    .formatted(aType, anId, e.getMessage()), e);
+        }
+    }
+}
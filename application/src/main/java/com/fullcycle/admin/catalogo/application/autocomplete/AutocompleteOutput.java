@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.application.autocomplete;
+
+import com.fullcycle.admin.catalogo.domain.autocomplete.Suggestion;
+import com.fullcycle.admin.catalogo.domain.autocomplete.SuggestionType;
+
+public record AutocompleteOutput(
+        String id,
+        String name,
+        SuggestionType type
+) {
+    public static AutocompleteOutput from(final Suggestion aSuggestion) {
+        return new AutocompleteOutput(
+                aSuggestion.id(),
+                aSuggestion.name(),
+                aSuggestion.type()
+        );
+    }
+}
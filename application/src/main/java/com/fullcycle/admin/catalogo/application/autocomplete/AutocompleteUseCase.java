@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.autocomplete;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteQuery;
+
+import java.util.List;
+
+public sealed abstract class AutocompleteUseCase
+        extends UseCase<AutocompleteQuery, List<AutocompleteOutput>>
+        permits DefaultAutocompleteUseCase {
+}
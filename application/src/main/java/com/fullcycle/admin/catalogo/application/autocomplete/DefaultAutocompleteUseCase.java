@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.application.autocomplete;
+
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public non-sealed class DefaultAutocompleteUseCase extends AutocompleteUseCase {
+
+    private final AutocompleteGateway autocompleteGateway;
+
+    public DefaultAutocompleteUseCase(final AutocompleteGateway autocompleteGateway) {
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
+    }
+
+    @Override
+    public List<AutocompleteOutput> execute(final AutocompleteQuery aQuery) {
+        if (aQuery.terms() == null || aQuery.terms().isBlank()) {
+            return List.of();
+        }
+
+        return this.autocompleteGateway.search(aQuery).stream()
+                .map(AutocompleteOutput::from)
+                .toList();
+    }
+}
@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.application.castmember.create;
 
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteIndexing;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.Suggestion;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
@@ -11,9 +14,14 @@ public final class DefaultCreateCastMemberUseCase
         extends CreateCastMemberUseCase {
 
     private final CastMemberGateway castMemberGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
-    public DefaultCreateCastMemberUseCase(final CastMemberGateway castMemberGateway) {
+    public DefaultCreateCastMemberUseCase(
+            final CastMemberGateway castMemberGateway,
+            final AutocompleteGateway autocompleteGateway
+    ) {
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Override
@@ -29,7 +37,10 @@ public final class DefaultCreateCastMemberUseCase
             notify(notification);
         }
 
-        return CreateCastMemberOutput.from(this.castMemberGateway.create(aMember));
+        final var created = this.castMemberGateway.create(aMember);
+        AutocompleteIndexing.index(this.autocompleteGateway, Suggestion.from(created));
+
+        return CreateCastMemberOutput.from(created);
     }
 
     private void notify(final Notification notification) {
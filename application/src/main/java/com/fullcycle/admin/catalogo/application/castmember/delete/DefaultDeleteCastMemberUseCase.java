@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.application.castmember.delete;
 
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteIndexing;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.SuggestionType;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 
@@ -9,13 +12,19 @@ public non-sealed class DefaultDeleteCastMemberUseCase
         extends DeleteCastMemberUseCase {
 
     private final CastMemberGateway castMemberGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
-    public DefaultDeleteCastMemberUseCase(final CastMemberGateway castMemberGateway) {
+    public DefaultDeleteCastMemberUseCase(
+            final CastMemberGateway castMemberGateway,
+            final AutocompleteGateway autocompleteGateway
+    ) {
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Override
     public void execute(final String anIn) {
         this.castMemberGateway.deleteById(CastMemberID.from(anIn));
+        AutocompleteIndexing.remove(this.autocompleteGateway, SuggestionType.CAST_MEMBER, anIn);
     }
 }
@@ -1,6 +1,9 @@
 package com.fullcycle.admin.catalogo.application.castmember.update;
 
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteIndexing;
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.Suggestion;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
@@ -14,9 +17,14 @@ import java.util.function.Supplier;
 public non-sealed class DefaultUpdateCastMemberUseCase extends UpdateCastMemberUseCase {
 
     private final CastMemberGateway castMemberGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
-    public DefaultUpdateCastMemberUseCase(final CastMemberGateway castMemberGateway) {
+    public DefaultUpdateCastMemberUseCase(
+            final CastMemberGateway castMemberGateway,
+            final AutocompleteGateway autocompleteGateway
+    ) {
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Override
@@ -35,7 +43,10 @@ public non-sealed class DefaultUpdateCastMemberUseCase extends UpdateCastMemberU
             notify(anId, notification);
         }
 
-        return UpdateCastMemberOutput.from(this.castMemberGateway.update(aMember));
+        final var updated = this.castMemberGateway.update(aMember);
+        AutocompleteIndexing.index(this.autocompleteGateway, Suggestion.from(updated));
+
+        return UpdateCastMemberOutput.from(updated);
     }
 
     private void notify(final Identifier anId, final Notification notification) {
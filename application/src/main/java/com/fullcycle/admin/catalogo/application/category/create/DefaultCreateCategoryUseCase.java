@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.application.category.create;
 
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteIndexing;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.Suggestion;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
@@ -11,9 +14,14 @@ import java.util.Objects;
 public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
-    public DefaultCreateCategoryUseCase(final CategoryGateway categoryGateway) {
+    public DefaultCreateCategoryUseCase(
+            final CategoryGateway categoryGateway,
+            final AutocompleteGateway autocompleteGateway
+    ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Override
@@ -35,6 +43,7 @@ public class DefaultCreateCategoryUseCase extends CreateCategoryUseCase {
     private Either<Notification, CreateCategoryOutput> create(final Category aCategory) {
         return API.Try(() -> this.categoryGateway.create(aCategory))
                 .toEither()
+                .peek(it -> AutocompleteIndexing.index(this.autocompleteGateway, Suggestion.from(it)))
                 .bimap(Notification::create, CreateCategoryOutput::from);
     }
 }
@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.application.category.delete;
 
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteIndexing;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.SuggestionType;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 
@@ -8,13 +11,19 @@ import java.util.Objects;
 public class DefaultDeleteCategoryUseCase extends DeleteCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
-    public DefaultDeleteCategoryUseCase(final CategoryGateway categoryGateway) {
+    public DefaultDeleteCategoryUseCase(
+            final CategoryGateway categoryGateway,
+            final AutocompleteGateway autocompleteGateway
+    ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Override
     public void execute(final String input) {
         this.categoryGateway.deleteById(CategoryID.from(input));
+        AutocompleteIndexing.remove(this.autocompleteGateway, SuggestionType.CATEGORY, input);
     }
 }
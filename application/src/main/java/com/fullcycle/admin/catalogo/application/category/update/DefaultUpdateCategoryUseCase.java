@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.application.category.update;
 
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteIndexing;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.Suggestion;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
@@ -15,9 +18,14 @@ import java.util.function.Supplier;
 public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
     private final CategoryGateway categoryGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
-    public DefaultUpdateCategoryUseCase(final CategoryGateway categoryGateway) {
+    public DefaultUpdateCategoryUseCase(
+            final CategoryGateway categoryGateway,
+            final AutocompleteGateway autocompleteGateway
+    ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Override
@@ -41,6 +49,7 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
         return API.Try(() -> this.categoryGateway.update(aCategory))
                 .toEither()
+                .peek(it -> AutocompleteIndexing.index(this.autocompleteGateway, Suggestion.from(it)))
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
 
@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.application.genre.create;
 
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteIndexing;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.Suggestion;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
@@ -19,13 +22,16 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
 
     private final CategoryGateway categoryGateway;
     private final GenreGateway genreGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
     public DefaultCreateGenreUseCase(
             final CategoryGateway categoryGateway,
-            final GenreGateway genreGateway
+            final GenreGateway genreGateway,
+            final AutocompleteGateway autocompleteGateway
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Override
@@ -45,7 +51,10 @@ public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
 
         aGenre.addCategories(categories);
 
-        return CreateGenreOutput.from(this.genreGateway.create(aGenre));
+        final var created = this.genreGateway.create(aGenre);
+        AutocompleteIndexing.index(this.autocompleteGateway, Suggestion.from(created));
+
+        return CreateGenreOutput.from(created);
     }
 
     private ValidationHandler validateCategories(final List<CategoryID> ids) {
@@ -1,5 +1,8 @@
 package com.fullcycle.admin.catalogo.application.genre.delete;
 
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteIndexing;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.SuggestionType;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
 
@@ -8,13 +11,19 @@ import java.util.Objects;
 public class DefaultDeleteGenreUseCase extends DeleteGenreUseCase {
 
     private final GenreGateway genreGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
-    public DefaultDeleteGenreUseCase(final GenreGateway genreGateway) {
+    public DefaultDeleteGenreUseCase(
+            final GenreGateway genreGateway,
+            final AutocompleteGateway autocompleteGateway
+    ) {
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Override
     public void execute(final String anId) {
         this.genreGateway.deleteById(GenreID.from(anId));
+        AutocompleteIndexing.remove(this.autocompleteGateway, SuggestionType.GENRE, anId);
     }
 }
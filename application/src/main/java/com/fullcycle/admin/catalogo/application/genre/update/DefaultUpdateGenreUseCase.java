@@ -1,6 +1,9 @@
 package com.fullcycle.admin.catalogo.application.genre.update;
 
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteIndexing;
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.Suggestion;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
@@ -23,13 +26,16 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
 
     private final CategoryGateway categoryGateway;
     private final GenreGateway genreGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
     public DefaultUpdateGenreUseCase(
             final CategoryGateway categoryGateway,
-            final GenreGateway genreGateway
+            final GenreGateway genreGateway,
+            final AutocompleteGateway autocompleteGateway
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Override
@@ -53,7 +59,10 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
             );
         }
 
-        return UpdateGenreOutput.from(this.genreGateway.update(aGenre));
+        final var updated = this.genreGateway.update(aGenre);
+        AutocompleteIndexing.index(this.autocompleteGateway, Suggestion.from(updated));
+
+        return UpdateGenreOutput.from(updated);
     }
 
     private ValidationHandler validateCategories(List<CategoryID> ids) {
@@ -18,12 +18,15 @@ import com.fullcycle.admin.catalogo.domain.video.Rating;
 import com.fullcycle.admin.catalogo.domain.video.Video;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
 
+import java.time.Duration;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.*;
@@ -35,19 +38,25 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
+    private final ExecutorService mediaExecutor;
+    private final Duration mediaTimeout;
 
     public DefaultCreateVideoUseCase(
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final VideoGateway videoGateway
+            final VideoGateway videoGateway,
+            final ExecutorService mediaExecutor,
+            final Duration mediaTimeout
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaExecutor = Objects.requireNonNull(mediaExecutor);
+        this.mediaTimeout = Objects.requireNonNull(mediaTimeout);
     }
 
     @Override
@@ -87,37 +96,36 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
 
     private Video create(final CreateVideoCommand aCommand, final Video aVideo) {
         final var anId = aVideo.getId();
+        final var stores = new MediaFanOut(this.mediaExecutor, this.mediaTimeout);
 
         try {
             final var aVideoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VIDEO, it)))
-                    .orElse(null);
+                    .map(it -> stores.submit(() -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VIDEO, it))));
 
             final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(TRAILER, it)))
-                    .orElse(null);
+                    .map(it -> stores.submit(() -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(TRAILER, it))));
 
             final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(BANNER, it)))
-                    .orElse(null);
+                    .map(it -> stores.submit(() -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(BANNER, it))));
 
             final var aThumbnailMedia = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL, it)))
-                    .orElse(null);
+                    .map(it -> stores.submit(() -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL, it))));
 
             final var aThumbHalfMedia = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL_HALF, it)))
-                    .orElse(null);
+                    .map(it -> stores.submit(() -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(THUMBNAIL_HALF, it))));
+
+            stores.start();
 
             return this.videoGateway.create(
                     aVideo
-                            .updateVideoMedia(aVideoMedia)
-                            .updateTrailerMedia(aTrailerMedia)
-                            .updateBannerMedia(aBannerMedia)
-                            .updateThumbnailMedia(aThumbnailMedia)
-                            .updateThumbnailHalfMedia(aThumbHalfMedia)
+                            .updateVideoMedia(aVideoMedia.map(Supplier::get).orElse(null))
+                            .updateTrailerMedia(aTrailerMedia.map(Supplier::get).orElse(null))
+                            .updateBannerMedia(aBannerMedia.map(Supplier::get).orElse(null))
+                            .updateThumbnailMedia(aThumbnailMedia.map(Supplier::get).orElse(null))
+                            .updateThumbnailHalfMedia(aThumbHalfMedia.map(Supplier::get).orElse(null))
             );
         } catch (Throwable t) {
+            stores.abort();
             this.mediaResourceGateway.clearResources(anId);
             throw InternalErrorException.with(
                     "An error on create video was observed [videoId:%s]".formatted(anId.getValue()),
@@ -0,0 +1,119 @@
+package com.fullcycle.admin.catalogo.application.video.create;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+final class MediaFanOut {
+
+    private static final int PENDING = 0;
+    private static final int RUNNING = 1;
+    private static final int FINISHED = 2;
+
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final List<Task<?>> tasks;
+    private CountDownLatch settled;
+    private long deadline;
+
+    MediaFanOut(final ExecutorService executor, final Duration timeout) {
+        this.executor = Objects.requireNonNull(executor);
+        this.timeout = Objects.requireNonNull(timeout);
+        this.tasks = new ArrayList<>();
+    }
+
+    <T> Supplier<T> submit(final Callable<T> aStore) {
+        final var aTask = new Task<>(aStore);
+        this.tasks.add(aTask);
+        return aTask::result;
+    }
+
+    void start() {
+        this.settled = new CountDownLatch(this.tasks.size());
+        this.deadline = System.nanoTime() + this.timeout.toNanos();
+        for (final var aTask : this.tasks) {
+            aTask.start();
+        }
+    }
+
+    boolean abort() {
+        if (this.settled == null) {
+            return true;
+        }
+
+        for (final var aTask : this.tasks) {
+            aTask.abort();
+        }
+
+        try {
+            return this.settled.await(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private final class Task<T> {
+
+        private final Callable<T> store;
+        private final AtomicInteger state;
+        private Future<T> future;
+
+        private Task(final Callable<T> store) {
+            this.store = store;
+            this.state = new AtomicInteger(PENDING);
+        }
+
+        private void start() {
+            this.future = executor.submit(this::run);
+        }
+
+        private T run() throws Exception {
+            if (!this.state.compareAndSet(PENDING, RUNNING)) {
+                throw new CancellationException();
+            }
+            try {
+                return this.store.call();
+            } finally {
+                this.state.set(FINISHED);
+                settled.countDown();
+            }
+        }
+
+        private T result() {
+            try {
+                return this.future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while storing media", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("Media store did not complete within %s".formatted(timeout), e);
+            }
+        }
+
+        private void abort() {
+            if (this.state.compareAndSet(PENDING, FINISHED)) {
+                settled.countDown();
+            }
+            if (this.future != null) {
+                this.future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.fullcycle.admin.catalogo.application.video.media;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.ImageRendition;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public final class MediaRequests {
+
+    private MediaRequests() {}
+
+    public static VideoMediaType typeOf(final String aType) {
+        return VideoMediaType.of(aType)
+                .orElseThrow(() -> NotFoundException.with(new Error("Media type %s doesn't exists".formatted(aType))));
+    }
+
+    public static ImageRendition renditionOf(final String aSize, final VideoMediaType aType) {
+        if (aSize == null || aSize.isBlank()) {
+            return ImageRendition.ORIGINAL;
+        }
+
+        final var aRendition = ImageRendition.of(aSize)
+                .orElseThrow(() -> NotFoundException.with(new Error("Media size %s doesn't exists".formatted(aSize))));
+
+        if (aRendition != ImageRendition.ORIGINAL && !aType.isImage()) {
+            throw NotFoundException.with(new Error("Media size %s is not available for %s".formatted(aSize, aType.name())));
+        }
+        return aRendition;
+    }
+
+    public static NotFoundException notFound(final String anId, final String aType) {
+        return NotFoundException.with(new Error("Resource %s not found for video %s".formatted(aType, anId)));
+    }
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.application.video.media.direct;
+
+import com.fullcycle.admin.catalogo.domain.video.DirectUpload;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record DirectUploadOutput(
+        String id,
+        String videoId,
+        VideoMediaType type,
+        String contentType,
+        long size,
+        String url,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+    public static DirectUploadOutput from(final DirectUpload anUpload) {
+        return new DirectUploadOutput(
+                anUpload.id(),
+                anUpload.videoId(),
+                anUpload.type(),
+                anUpload.contentType(),
+                anUpload.size(),
+                anUpload.url().url(),
+                anUpload.url().headers(),
+                anUpload.url().expiresAt()
+        );
+    }
+}
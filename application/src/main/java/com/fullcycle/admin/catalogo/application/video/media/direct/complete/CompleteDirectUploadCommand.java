@@ -0,0 +1,21 @@
+package com.fullcycle.admin.catalogo.application.video.media.direct.complete;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record CompleteDirectUploadCommand(
+        String videoId,
+        VideoMediaType mediaType,
+        String uploadId,
+        String checksum,
+        Long size
+) {
+    public static CompleteDirectUploadCommand with(
+            final String anId,
+            final VideoMediaType aType,
+            final String anUploadId,
+            final String aChecksum,
+            final Long aSize
+    ) {
+        return new CompleteDirectUploadCommand(anId, aType, anUploadId, aChecksum, aSize);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.media.direct.complete;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+
+public abstract class CompleteDirectUploadUseCase
+        extends UseCase<CompleteDirectUploadCommand, UploadMediaOutput> {
+}
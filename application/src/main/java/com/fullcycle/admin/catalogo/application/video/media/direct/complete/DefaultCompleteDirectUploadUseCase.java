@@ -0,0 +1,42 @@
+package com.fullcycle.admin.catalogo.application.video.media.direct.complete;
+
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.domain.video.DirectUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+
+import java.util.Objects;
+
+public class DefaultCompleteDirectUploadUseCase extends CompleteDirectUploadUseCase {
+
+    private final DirectUploadGateway directUploadGateway;
+    private final UploadMediaUseCase uploadMediaUseCase;
+
+    public DefaultCompleteDirectUploadUseCase(
+            final DirectUploadGateway directUploadGateway,
+            final UploadMediaUseCase uploadMediaUseCase
+    ) {
+        this.directUploadGateway = Objects.requireNonNull(directUploadGateway);
+        this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final CompleteDirectUploadCommand aCmd) {
+        final var aResource = this.directUploadGateway.complete(
+                VideoID.from(aCmd.videoId()),
+                aCmd.mediaType(),
+                aCmd.uploadId(),
+                aCmd.checksum(),
+                aCmd.size()
+        );
+
+        final var output = this.uploadMediaUseCase.execute(
+                UploadMediaCommand.with(aCmd.videoId(), VideoResource.with(aCmd.mediaType(), aResource)));
+
+        // The uploaded object is only released once the media is attached, so a failed attach can be retried
+        this.directUploadGateway.delete(aCmd.uploadId());
+        return output;
+    }
+}
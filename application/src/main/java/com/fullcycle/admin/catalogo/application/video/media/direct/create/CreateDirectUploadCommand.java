@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.application.video.media.direct.create;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record CreateDirectUploadCommand(
+        String videoId,
+        VideoMediaType mediaType,
+        String contentType,
+        String fileName,
+        Long size,
+        String checksum,
+        String sha256
+) {
+    public static CreateDirectUploadCommand with(
+            final String anId,
+            final VideoMediaType aType,
+            final String aContentType,
+            final String aFileName,
+            final Long aSize,
+            final String aChecksum,
+            final String aSha256
+    ) {
+        return new CreateDirectUploadCommand(anId, aType, aContentType, aFileName, aSize, aChecksum, aSha256);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.media.direct.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.video.media.direct.DirectUploadOutput;
+
+public abstract class CreateDirectUploadUseCase
+        extends UseCase<CreateDirectUploadCommand, DirectUploadOutput> {
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.admin.catalogo.application.video.media.direct.create;
+
+import com.fullcycle.admin.catalogo.application.video.media.direct.DirectUploadOutput;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.DirectUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class DefaultCreateDirectUploadUseCase extends CreateDirectUploadUseCase {
+
+    private final DirectUploadGateway directUploadGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCreateDirectUploadUseCase(
+            final DirectUploadGateway directUploadGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.directUploadGateway = Objects.requireNonNull(directUploadGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public DirectUploadOutput execute(final CreateDirectUploadCommand aCmd) {
+        final var notification = Notification.create();
+        if (aCmd.fileName() == null || aCmd.fileName().isBlank()) {
+            notification.append(new Error("'file_name' should not be empty"));
+        }
+        if (aCmd.contentType() == null || aCmd.contentType().isBlank()) {
+            notification.append(new Error("'content_type' should not be empty"));
+        }
+        if (aCmd.size() == null || aCmd.size() <= 0) {
+            notification.append(new Error("'size' should be greater than zero"));
+        }
+        if (aCmd.checksum() == null || aCmd.checksum().isBlank()) {
+            notification.append(new Error("'checksum' should not be empty"));
+        }
+        if (aCmd.sha256() == null || aCmd.sha256().isBlank()) {
+            notification.append(new Error("'sha256' should not be empty"));
+        }
+
+        if (notification.hasError()) {
+            throw new NotificationException("Could not create direct upload", notification);
+        }
+
+        final var anId = VideoID.from(aCmd.videoId());
+        this.videoGateway.findById(anId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, anId));
+
+        return DirectUploadOutput.from(this.directUploadGateway.create(
+                anId,
+                aCmd.mediaType(),
+                aCmd.contentType(),
+                aCmd.fileName(),
+                aCmd.size(),
+                aCmd.checksum(),
+                aCmd.sha256()
+        ));
+    }
+}
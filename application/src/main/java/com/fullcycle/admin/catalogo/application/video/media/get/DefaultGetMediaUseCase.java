@@ -1,10 +1,8 @@
 package com.fullcycle.admin.catalogo.application.video.media.get;
 
+import com.fullcycle.admin.catalogo.application.video.media.MediaRequests;
 import com.fullcycle.admin.catalogo.domain.MediaResourceGateway;
-import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
-import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.VideoID;
-import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 
 import java.util.Objects;
 
@@ -19,21 +17,13 @@ public class DefaultGetMediaUseCase extends GetMediaUseCase {
     @Override
     public MediaOutput execute(final GetMediaCommand aCmd) {
         final var anId = VideoID.from(aCmd.videoId());
-        final var aType = VideoMediaType.of(aCmd.mediaType())
-                .orElseThrow(() -> typeNotFound(aCmd.mediaType()));
+        final var aType = MediaRequests.typeOf(aCmd.mediaType());
+        final var aRendition = MediaRequests.renditionOf(aCmd.size(), aType);
 
         final var aResource =
-                this.mediaResourceGateway.getResource(anId, aType)
-                        .orElseThrow(() -> notFound(aCmd.videoId(), aCmd.mediaType()));
+                this.mediaResourceGateway.getResource(anId, aType, aRendition)
+                        .orElseThrow(() -> MediaRequests.notFound(aCmd.videoId(), aCmd.mediaType()));
 
         return MediaOutput.with(aResource);
     }
-
-    private NotFoundException notFound(final String anId, final String aType) {
-        return NotFoundException.with(new Error("Resource %s not found for video %s".formatted(aType, anId)));
-    }
-
-    private NotFoundException typeNotFound(final String aType) {
-        return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(aType)));
-    }
 }
@@ -2,9 +2,14 @@ package com.fullcycle.admin.catalogo.application.video.media.get;
 
 public record GetMediaCommand(
         String videoId,
-        String mediaType
+        String mediaType,
+        String size
 ) {
     public static GetMediaCommand with(final String anId, final String aType) {
-        return new GetMediaCommand(anId, aType);
+        return new GetMediaCommand(anId, aType, null);
+    }
+
+    public static GetMediaCommand with(final String anId, final String aType, final String aSize) {
+        return new GetMediaCommand(anId, aType, aSize);
     }
 }
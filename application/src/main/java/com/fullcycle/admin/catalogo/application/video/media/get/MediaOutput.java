@@ -1,15 +1,20 @@
 package com.fullcycle.admin.catalogo.application.video.media.get;
 
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 
 public record MediaOutput(
-        byte[] content,
+        ContentStream content,
+        long size,
+        String checksum,
         String contentType,
         String name
 ) {
     public static MediaOutput with(final Resource aResource) {
         return new MediaOutput(
-                aResource.content(),
+                aResource.stream(),
+                aResource.size(),
+                aResource.checksum(),
                 aResource.contentType(),
                 aResource.name()
         );
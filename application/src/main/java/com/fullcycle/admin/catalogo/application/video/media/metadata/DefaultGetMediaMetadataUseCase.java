@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.application.video.media.metadata;
+
+import com.fullcycle.admin.catalogo.application.video.media.MediaRequests;
+import com.fullcycle.admin.catalogo.domain.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class DefaultGetMediaMetadataUseCase extends GetMediaMetadataUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultGetMediaMetadataUseCase(final MediaResourceGateway mediaResourceGateway) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public MediaMetadataOutput execute(final GetMediaMetadataCommand aCmd) {
+        final var anId = VideoID.from(aCmd.videoId());
+        final var aType = MediaRequests.typeOf(aCmd.mediaType());
+        final var aRendition = MediaRequests.renditionOf(aCmd.size(), aType);
+
+        final var aMetadata =
+                this.mediaResourceGateway.getMetadata(anId, aType, aRendition)
+                        .orElseThrow(() -> MediaRequests.notFound(aCmd.videoId(), aCmd.mediaType()));
+
+        return MediaMetadataOutput.with(aMetadata);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.video.media.metadata;
+
+public record GetMediaMetadataCommand(
+        String videoId,
+        String mediaType,
+        String size
+) {
+    public static GetMediaMetadataCommand with(final String anId, final String aType, final String aSize) {
+        return new GetMediaMetadataCommand(anId, aType, aSize);
+    }
+}
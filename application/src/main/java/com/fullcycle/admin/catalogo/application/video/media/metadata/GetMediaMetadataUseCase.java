@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.media.metadata;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class GetMediaMetadataUseCase
+        extends UseCase<GetMediaMetadataCommand, MediaMetadataOutput> {
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.application.video.media.metadata;
+
+import com.fullcycle.admin.catalogo.domain.resource.ResourceMetadata;
+
+public record MediaMetadataOutput(
+        long size,
+        String checksum,
+        String contentType,
+        String name
+) {
+    public static MediaMetadataOutput with(final ResourceMetadata aMetadata) {
+        return new MediaMetadataOutput(
+                aMetadata.size(),
+                aMetadata.checksum(),
+                aMetadata.contentType(),
+                aMetadata.name()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.application.video.media.session;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record UploadSessionCommand(
+        String videoId,
+        VideoMediaType mediaType,
+        String uploadId
+) {
+    public static UploadSessionCommand with(final String anId, final VideoMediaType aType, final String anUploadId) {
+        return new UploadSessionCommand(anId, aType, anUploadId);
+    }
+}
@@ -0,0 +1,26 @@
+package com.fullcycle.admin.catalogo.application.video.media.session;
+
+import com.fullcycle.admin.catalogo.domain.video.UploadSession;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record UploadSessionOutput(
+        String id,
+        String videoId,
+        VideoMediaType type,
+        String contentType,
+        String name,
+        int chunks,
+        long offset
+) {
+    public static UploadSessionOutput from(final UploadSession aSession) {
+        return new UploadSessionOutput(
+                aSession.id(),
+                aSession.videoId(),
+                aSession.type(),
+                aSession.contentType(),
+                aSession.name(),
+                aSession.chunks(),
+                aSession.offset()
+        );
+    }
+}
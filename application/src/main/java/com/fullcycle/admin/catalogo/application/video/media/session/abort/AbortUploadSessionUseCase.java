@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.abort;
+
+import com.fullcycle.admin.catalogo.application.UnitUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionCommand;
+
+public abstract class AbortUploadSessionUseCase
+        extends UnitUseCase<UploadSessionCommand> {
+}
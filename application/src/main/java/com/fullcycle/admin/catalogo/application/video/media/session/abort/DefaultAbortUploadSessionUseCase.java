@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.abort;
+
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionCommand;
+import com.fullcycle.admin.catalogo.domain.video.UploadSessionGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class DefaultAbortUploadSessionUseCase extends AbortUploadSessionUseCase {
+
+    private final UploadSessionGateway uploadSessionGateway;
+
+    public DefaultAbortUploadSessionUseCase(final UploadSessionGateway uploadSessionGateway) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+    }
+
+    @Override
+    public void execute(final UploadSessionCommand aCmd) {
+        // Checks the session belongs to this video and media before discarding its chunks
+        this.uploadSessionGateway.get(VideoID.from(aCmd.videoId()), aCmd.mediaType(), aCmd.uploadId());
+        this.uploadSessionGateway.delete(aCmd.uploadId());
+    }
+}
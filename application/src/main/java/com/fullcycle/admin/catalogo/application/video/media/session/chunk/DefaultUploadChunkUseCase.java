@@ -0,0 +1,27 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.chunk;
+
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionOutput;
+import com.fullcycle.admin.catalogo.domain.video.UploadSessionGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class DefaultUploadChunkUseCase extends UploadChunkUseCase {
+
+    private final UploadSessionGateway uploadSessionGateway;
+
+    public DefaultUploadChunkUseCase(final UploadSessionGateway uploadSessionGateway) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final UploadChunkCommand aCmd) {
+        return UploadSessionOutput.from(this.uploadSessionGateway.writeChunk(
+                VideoID.from(aCmd.videoId()),
+                aCmd.mediaType(),
+                aCmd.uploadId(),
+                aCmd.number(),
+                aCmd.content()
+        ));
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.chunk;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.io.InputStream;
+
+public record UploadChunkCommand(
+        String videoId,
+        VideoMediaType mediaType,
+        String uploadId,
+        int number,
+        InputStream content
+) {
+    public static UploadChunkCommand with(
+            final String anId,
+            final VideoMediaType aType,
+            final String anUploadId,
+            final int aNumber,
+            final InputStream aContent
+    ) {
+        return new UploadChunkCommand(anId, aType, anUploadId, aNumber, aContent);
+    }
+}
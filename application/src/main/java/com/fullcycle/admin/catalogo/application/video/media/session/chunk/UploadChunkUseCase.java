@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.chunk;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionOutput;
+
+public abstract class UploadChunkUseCase
+        extends UseCase<UploadChunkCommand, UploadSessionOutput> {
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.complete;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record CompleteUploadSessionCommand(
+        String videoId,
+        VideoMediaType mediaType,
+        String uploadId,
+        String checksum
+) {
+    public static CompleteUploadSessionCommand with(
+            final String anId,
+            final VideoMediaType aType,
+            final String anUploadId,
+            final String aChecksum
+    ) {
+        return new CompleteUploadSessionCommand(anId, aType, anUploadId, aChecksum);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.complete;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+
+public abstract class CompleteUploadSessionUseCase
+        extends UseCase<CompleteUploadSessionCommand, UploadMediaOutput> {
+}
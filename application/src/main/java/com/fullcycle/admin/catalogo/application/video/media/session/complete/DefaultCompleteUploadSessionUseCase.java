@@ -0,0 +1,41 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.complete;
+
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.domain.video.UploadSessionGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+
+import java.util.Objects;
+
+public class DefaultCompleteUploadSessionUseCase extends CompleteUploadSessionUseCase {
+
+    private final UploadSessionGateway uploadSessionGateway;
+    private final UploadMediaUseCase uploadMediaUseCase;
+
+    public DefaultCompleteUploadSessionUseCase(
+            final UploadSessionGateway uploadSessionGateway,
+            final UploadMediaUseCase uploadMediaUseCase
+    ) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final CompleteUploadSessionCommand aCmd) {
+        final var aResource = this.uploadSessionGateway.complete(
+                VideoID.from(aCmd.videoId()),
+                aCmd.mediaType(),
+                aCmd.uploadId(),
+                aCmd.checksum()
+        );
+
+        final var output = this.uploadMediaUseCase.execute(
+                UploadMediaCommand.with(aCmd.videoId(), VideoResource.with(aCmd.mediaType(), aResource)));
+
+        // The chunks are only released once the media is attached, so a failed attach can be retried
+        this.uploadSessionGateway.delete(aCmd.uploadId());
+        return output;
+    }
+}
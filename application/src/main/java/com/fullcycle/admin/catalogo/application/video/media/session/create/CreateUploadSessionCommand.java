@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.create;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record CreateUploadSessionCommand(
+        String videoId,
+        VideoMediaType mediaType,
+        String contentType,
+        String fileName
+) {
+    public static CreateUploadSessionCommand with(
+            final String anId,
+            final VideoMediaType aType,
+            final String aContentType,
+            final String aFileName
+    ) {
+        return new CreateUploadSessionCommand(anId, aType, aContentType, aFileName);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.create;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionOutput;
+
+public abstract class CreateUploadSessionUseCase
+        extends UseCase<CreateUploadSessionCommand, UploadSessionOutput> {
+}
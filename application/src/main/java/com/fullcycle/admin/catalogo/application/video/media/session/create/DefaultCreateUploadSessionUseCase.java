@@ -0,0 +1,49 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.create;
+
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionOutput;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
+import com.fullcycle.admin.catalogo.domain.video.UploadSessionGateway;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class DefaultCreateUploadSessionUseCase extends CreateUploadSessionUseCase {
+
+    private final UploadSessionGateway uploadSessionGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCreateUploadSessionUseCase(
+            final UploadSessionGateway uploadSessionGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final CreateUploadSessionCommand aCmd) {
+        final var notification = Notification.create();
+        if (aCmd.fileName() == null || aCmd.fileName().isBlank()) {
+            notification.append(new Error("'file_name' should not be empty"));
+        }
+        if (aCmd.contentType() == null || aCmd.contentType().isBlank()) {
+            notification.append(new Error("'content_type' should not be empty"));
+        }
+
+        if (notification.hasError()) {
+            throw new NotificationException("Could not create upload session", notification);
+        }
+
+        final var anId = VideoID.from(aCmd.videoId());
+        this.videoGateway.findById(anId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, anId));
+
+        return UploadSessionOutput.from(
+                this.uploadSessionGateway.create(anId, aCmd.mediaType(), aCmd.contentType(), aCmd.fileName()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.get;
+
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionOutput;
+import com.fullcycle.admin.catalogo.domain.video.UploadSessionGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class DefaultGetUploadSessionUseCase extends GetUploadSessionUseCase {
+
+    private final UploadSessionGateway uploadSessionGateway;
+
+    public DefaultGetUploadSessionUseCase(final UploadSessionGateway uploadSessionGateway) {
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+    }
+
+    @Override
+    public UploadSessionOutput execute(final UploadSessionCommand aCmd) {
+        return UploadSessionOutput.from(
+                this.uploadSessionGateway.get(VideoID.from(aCmd.videoId()), aCmd.mediaType(), aCmd.uploadId()));
+    }
+}
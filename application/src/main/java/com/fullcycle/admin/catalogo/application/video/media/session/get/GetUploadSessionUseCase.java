@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.get;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionOutput;
+
+public abstract class GetUploadSessionUseCase
+        extends UseCase<UploadSessionCommand, UploadSessionOutput> {
+}
@@ -37,8 +37,7 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
 
     private void updateVideo(final VideoMediaType aType, final MediaStatus aStatus, final Video aVideo, final String encodedPath) {
         switch (aStatus) {
-            case PENDING -> {
-            }
+            case PENDING -> aVideo.replicated(aType);
             case PROCESSING -> aVideo.processing(aType);
             case COMPLETED -> aVideo.completed(aType, encodedPath);
         }
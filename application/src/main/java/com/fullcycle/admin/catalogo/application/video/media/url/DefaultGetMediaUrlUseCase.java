@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalogo.application.video.media.url;
+
+import com.fullcycle.admin.catalogo.application.video.media.MediaRequests;
+import com.fullcycle.admin.catalogo.domain.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class DefaultGetMediaUrlUseCase extends GetMediaUrlUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final Duration ttl;
+
+    public DefaultGetMediaUrlUseCase(final MediaResourceGateway mediaResourceGateway, final Duration ttl) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.ttl = Objects.requireNonNull(ttl);
+    }
+
+    @Override
+    public MediaUrlOutput execute(final GetMediaUrlCommand aCmd) {
+        final var anId = VideoID.from(aCmd.videoId());
+        final var aType = MediaRequests.typeOf(aCmd.mediaType());
+        final var aRendition = MediaRequests.renditionOf(aCmd.size(), aType);
+
+        final var aSignedUrl =
+                this.mediaResourceGateway.getSignedUrl(anId, aType, aRendition, this.ttl)
+                        .orElseThrow(() -> MediaRequests.notFound(aCmd.videoId(), aCmd.mediaType()));
+
+        return MediaUrlOutput.with(aSignedUrl);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.application.video.media.url;
+
+public record GetMediaUrlCommand(
+        String videoId,
+        String mediaType,
+        String size
+) {
+    public static GetMediaUrlCommand with(final String anId, final String aType, final String aSize) {
+        return new GetMediaUrlCommand(anId, aType, aSize);
+    }
+}
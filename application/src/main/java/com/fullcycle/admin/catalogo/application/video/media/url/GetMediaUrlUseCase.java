@@ -0,0 +1,7 @@
+package com.fullcycle.admin.catalogo.application.video.media.url;
+
+import com.fullcycle.admin.catalogo.application.UseCase;
+
+public abstract class GetMediaUrlUseCase
+        extends UseCase<GetMediaUrlCommand, MediaUrlOutput> {
+}
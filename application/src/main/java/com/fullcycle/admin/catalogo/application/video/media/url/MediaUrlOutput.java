@@ -0,0 +1,14 @@
+package com.fullcycle.admin.catalogo.application.video.media.url;
+
+import com.fullcycle.admin.catalogo.domain.resource.SignedUrl;
+
+import java.time.Instant;
+
+public record MediaUrlOutput(
+        String url,
+        Instant expiresAt
+) {
+    public static MediaUrlOutput with(final SignedUrl aSignedUrl) {
+        return new MediaUrlOutput(aSignedUrl.url(), aSignedUrl.expiresAt());
+    }
+}
@@ -0,0 +1,73 @@
+package com.fullcycle.admin.catalogo.application.autocomplete;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteQuery;
+import com.fullcycle.admin.catalogo.domain.autocomplete.Suggestion;
+import com.fullcycle.admin.catalogo.domain.autocomplete.SuggestionType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+class AutocompleteUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultAutocompleteUseCase useCase;
+
+    @Mock
+    private AutocompleteGateway autocompleteGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(autocompleteGateway);
+    }
+
+    @Test
+    void givenAValidQuery_whenCallsAutocomplete_shouldReturnSuggestions() {
+        // given
+        final var suggestions = List.of(
+                new Suggestion("1", "Ação", SuggestionType.GENRE),
+                new Suggestion("2", "Acadêmico", SuggestionType.CATEGORY)
+        );
+
+        final var expectedItems = suggestions.stream()
+                .map(AutocompleteOutput::from)
+                .toList();
+
+        when(autocompleteGateway.search(any()))
+                .thenReturn(suggestions);
+
+        final var aQuery = new AutocompleteQuery("ac", Set.of(), 10);
+
+        // when
+        final var actualOutput = useCase.execute(aQuery);
+
+        // then
+        Assertions.assertEquals(expectedItems, actualOutput);
+
+        Mockito.verify(autocompleteGateway, times(1)).search(aQuery);
+    }
+
+    @Test
+    void givenABlankTerm_whenCallsAutocomplete_shouldReturnEmptyWithoutSearching() {
+        // given
+        final var aQuery = new AutocompleteQuery(" ", Set.of(SuggestionType.GENRE), 10);
+
+        // when
+        final var actualOutput = useCase.execute(aQuery);
+
+        // then
+        Assertions.assertTrue(actualOutput.isEmpty());
+
+        Mockito.verify(autocompleteGateway, Mockito.never()).search(any());
+    }
+}
@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.application.category.create;
 
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.SuggestionType;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -23,9 +25,12 @@ class CreateCategoryUseCaseTest extends UseCaseTest {
     @Mock
     private CategoryGateway categoryGateway;
 
+    @Mock
+    private AutocompleteGateway autocompleteGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(categoryGateway);
+        return List.of(categoryGateway, autocompleteGateway);
     }
 
     @Test
@@ -56,6 +61,11 @@ class CreateCategoryUseCaseTest extends UseCaseTest {
                         Objects.nonNull(aCategory.updatedAt()) &&
                         Objects.isNull(aCategory.deletedAt())
         ));
+        verify(autocompleteGateway, times(1)).index(argThat(aSuggestion ->
+                Objects.equals(actualOutput.id(), aSuggestion.id()) &&
+                        Objects.equals(expectedName, aSuggestion.name()) &&
+                        Objects.equals(SuggestionType.CATEGORY, aSuggestion.type())
+        ));
     }
 
     @Test
@@ -143,5 +153,31 @@ class CreateCategoryUseCaseTest extends UseCaseTest {
                         Objects.nonNull(aCategory.updatedAt()) &&
                         Objects.isNull(aCategory.deletedAt())
         ));
+        verify(autocompleteGateway, never()).index(any());
+    }
+
+    @Test
+    void givenAValidCommand_whenAutocompleteThrowsRandomException_thenShouldReturnCategoryId() {
+        // Given
+        final var expectedName = "Filmes";
+        final var expectedDescription = "A categoria mais assistida";
+        final var expectedIsActive = true;
+
+        final var aCommand = CreateCategoryCommand.with(expectedName, expectedDescription, expectedIsActive);
+
+        when(categoryGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+        doThrow(new IllegalStateException("Autocomplete error."))
+                .when(autocompleteGateway).index(any());
+
+        // When
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        // Then
+        assertNotNull(actualOutput);
+        assertNotNull(actualOutput.id());
+
+        verify(categoryGateway, times(1)).create(any());
+        verify(autocompleteGateway, times(1)).index(any());
     }
 }
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.application.category.delete;
 
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
@@ -22,9 +23,12 @@ class DeleteCategoryUseCaseTest extends UseCaseTest {
     @Mock
     private CategoryGateway categoryGateway;
 
+    @Mock
+    private AutocompleteGateway autocompleteGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(categoryGateway);
+        return List.of(categoryGateway, autocompleteGateway);
     }
 
     @Test
@@ -73,4 +77,22 @@ class DeleteCategoryUseCaseTest extends UseCaseTest {
         // Then
         verify(categoryGateway, times(1)).deleteById(expectedId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAValidId_whenAutocompleteThrowsRandomException_thenShouldBeOk() {
+        // Given
+        final var aCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId();
+
+        doNothing()
+                .when(categoryGateway).deleteById(expectedId);
+        doThrow(new IllegalStateException("Autocomplete error."))
+                .when(autocompleteGateway).remove(any(), any());
+
+        // When
+        assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
+
+        // Then
+        verify(categoryGateway, times(1)).deleteById(expectedId);
+    }
+}
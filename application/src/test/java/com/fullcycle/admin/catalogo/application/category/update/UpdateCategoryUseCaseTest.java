@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.application.category.update;
 
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
@@ -27,9 +28,12 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
     @Mock
     private CategoryGateway categoryGateway;
 
+    @Mock
+    private AutocompleteGateway autocompleteGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(categoryGateway);
+        return List.of(categoryGateway, autocompleteGateway);
     }
 
     @Test
@@ -216,4 +220,33 @@ class UpdateCategoryUseCaseTest extends UseCaseTest {
 
         verify(categoryGateway, never()).update(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAValidCommand_whenAutocompleteThrowsRandomException_thenShouldReturnCategoryId() {
+        // Given
+        final var aCategory = Category.newCategory("film", null, true);
+        final var expectedId = aCategory.getId();
+
+        final var aCommand = UpdateCategoryCommand.with(
+                expectedId.getValue(),
+                "Filmes",
+                "A categoria mais assistida",
+                true);
+
+        when(categoryGateway.findById(expectedId))
+                .thenReturn(Optional.of(Category.with(aCategory)));
+        when(categoryGateway.update(any()))
+                .thenAnswer(returnsFirstArg());
+        doThrow(new IllegalStateException("Autocomplete error."))
+                .when(autocompleteGateway).index(any());
+
+        // When
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        // Then
+        assertEquals(expectedId.getValue(), actualOutput.id());
+
+        verify(categoryGateway, times(1)).update(any());
+        verify(autocompleteGateway, times(1)).index(any());
+    }
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.admin.catalogo.application.genre.create;
 
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
@@ -30,9 +31,12 @@ class CreateGenreUseCaseTest extends UseCaseTest {
     @Mock
     private GenreGateway genreGateway;
 
+    @Mock
+    private AutocompleteGateway autocompleteGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(categoryGateway, genreGateway);
+        return List.of(categoryGateway, genreGateway, autocompleteGateway);
     }
 
     @Test
@@ -259,4 +263,24 @@ class CreateGenreUseCaseTest extends UseCaseTest {
                         && Objects.nonNull(aGenre.getDeletedAt())
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAValidCommand_whenAutocompleteThrowsRandomException_shouldReturnGenreId() {
+        // given
+        final var aCommand = CreateGenreCommand.with("Ação", true, List.of());
+
+        when(genreGateway.create(any()))
+                .thenAnswer(returnsFirstArg());
+        doThrow(new IllegalStateException("Autocomplete error."))
+                .when(autocompleteGateway).index(any());
+
+        // when
+        final var actualOutput = useCase.execute(aCommand);
+
+        // then
+        Assertions.assertNotNull(actualOutput);
+        Assertions.assertNotNull(actualOutput.id());
+
+        Mockito.verify(genreGateway, times(1)).create(any());
+    }
+}
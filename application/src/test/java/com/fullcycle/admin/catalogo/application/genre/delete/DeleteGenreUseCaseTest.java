@@ -1,6 +1,8 @@
 package com.fullcycle.admin.catalogo.application.genre.delete;
 
 import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.SuggestionType;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
@@ -23,9 +25,12 @@ class DeleteGenreUseCaseTest extends UseCaseTest {
     @Mock
     private GenreGateway genreGateway;
 
+    @Mock
+    private AutocompleteGateway autocompleteGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(genreGateway);
+        return List.of(genreGateway, autocompleteGateway);
     }
 
     @Test
@@ -43,6 +48,7 @@ class DeleteGenreUseCaseTest extends UseCaseTest {
 
         // when
         Mockito.verify(genreGateway, times(1)).deleteById(expectedId);
+        Mockito.verify(autocompleteGateway, times(1)).remove(SuggestionType.GENRE, expectedId.getValue());
     }
 
     @Test
@@ -77,4 +83,22 @@ class DeleteGenreUseCaseTest extends UseCaseTest {
         // when
         Mockito.verify(genreGateway, times(1)).deleteById(expectedId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAValidGenreId_whenCallsDeleteGenreAndAutocompleteThrows_shouldBeOk() {
+        // given
+        final var aGenre = Genre.newGenre("Ação", true);
+        final var expectedId = aGenre.getId();
+
+        doNothing()
+                .when(genreGateway).deleteById(any());
+        doThrow(new IllegalStateException("Autocomplete error"))
+                .when(autocompleteGateway).remove(any(), any());
+
+        // when
+        Assertions.assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
+
+        // then
+        Mockito.verify(genreGateway, times(1)).deleteById(expectedId);
+    }
+}
@@ -0,0 +1,171 @@
+package com.fullcycle.admin.catalogo.application.video.create;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.MediaResourceGateway;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class CreateVideoUseCaseTest extends UseCaseTest {
+
+    private DefaultCreateVideoUseCase useCase;
+
+    private ExecutorService executor;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway);
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newFixedThreadPool(5);
+        this.useCase = new DefaultCreateVideoUseCase(
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                mediaResourceGateway,
+                videoGateway,
+                executor,
+                Duration.ofSeconds(5)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void givenAllMedias_whenCallsCreateVideo_shouldStoreThemConcurrently() {
+        // given
+        final var aCommand = aCommandWithAllMedias();
+        final var allStoresRunning = new CyclicBarrier(5);
+
+        when(mediaResourceGateway.storeAudioVideo(any(), any())).thenAnswer(invocation -> {
+            allStoresRunning.await(2, TimeUnit.SECONDS);
+            return Fixture.Videos.audioVideo(invocation.<VideoResource>getArgument(1).type());
+        });
+        when(mediaResourceGateway.storeImage(any(), any())).thenAnswer(invocation -> {
+            allStoresRunning.await(2, TimeUnit.SECONDS);
+            return Fixture.Videos.image(invocation.<VideoResource>getArgument(1).type());
+        });
+        when(videoGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommand);
+
+        // then
+        Assertions.assertNotNull(actualOutput.id());
+
+        verify(mediaResourceGateway, times(2)).storeAudioVideo(any(), any());
+        verify(mediaResourceGateway, times(3)).storeImage(any(), any());
+        verify(videoGateway).create(argThat(aVideo ->
+                aVideo.getVideo().isPresent()
+                        && aVideo.getTrailer().isPresent()
+                        && aVideo.getBanner().isPresent()
+                        && aVideo.getThumbnail().isPresent()
+                        && aVideo.getThumbnailHalf().isPresent()
+        ));
+        verify(mediaResourceGateway, never()).clearResources(any());
+    }
+
+    @Test
+    void givenAFailingStore_whenCallsCreateVideo_shouldCancelInFlightStoresBeforeClearingResources() {
+        // given
+        final var aCommand = aCommandWithAllMedias();
+        final var videoStoreStarted = new CountDownLatch(1);
+        final var videoStoreInterrupted = new AtomicBoolean(false);
+
+        when(mediaResourceGateway.storeAudioVideo(any(), argThat(it -> it != null && it.type() == VIDEO))).thenAnswer(invocation -> {
+            videoStoreStarted.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                videoStoreInterrupted.set(true);
+            }
+            return Fixture.Videos.audioVideo(VIDEO);
+        });
+        when(mediaResourceGateway.storeAudioVideo(any(), argThat(it -> it != null && it.type() == TRAILER))).thenAnswer(invocation -> {
+            videoStoreStarted.await(2, TimeUnit.SECONDS);
+            throw new IllegalStateException("Gateway error");
+        });
+        lenient().when(mediaResourceGateway.storeImage(any(), any()))
+                .thenAnswer(invocation -> Fixture.Videos.image(invocation.<VideoResource>getArgument(1).type()));
+        doAnswer(invocation -> {
+            Assertions.assertTrue(videoStoreInterrupted.get());
+            return null;
+        }).when(mediaResourceGateway).clearResources(any());
+
+        // when
+        final var actualException = Assertions.assertThrows(InternalErrorException.class, () -> useCase.execute(aCommand));
+
+        // then
+        Assertions.assertTrue(actualException.getMessage().startsWith("An error on create video was observed"));
+        Assertions.assertTrue(videoStoreInterrupted.get());
+
+        verify(mediaResourceGateway).clearResources(any());
+        verify(videoGateway, never()).create(any());
+    }
+
+    private static CreateVideoCommand aCommandWithAllMedias() {
+        return CreateVideoCommand.with(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Fixture.year(),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating().getName(),
+                Set.of(),
+                Set.of(),
+                Set.of(),
+                Fixture.Videos.resource(VideoMediaType.VIDEO),
+                Fixture.Videos.resource(VideoMediaType.TRAILER),
+                Fixture.Videos.resource(VideoMediaType.BANNER),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+                Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF)
+        );
+    }
+}
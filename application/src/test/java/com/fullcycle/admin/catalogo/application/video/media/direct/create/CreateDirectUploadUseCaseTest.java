@@ -0,0 +1,106 @@
+package com.fullcycle.admin.catalogo.application.video.media.direct.create;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.resource.SignedUrl;
+import com.fullcycle.admin.catalogo.domain.video.DirectUpload;
+import com.fullcycle.admin.catalogo.domain.video.DirectUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CreateDirectUploadUseCaseTest extends UseCaseTest {
+
+    private static final String SHA256 = "84d89877f0d4041efb6bf91a16f0248f2fd573e6af05c19f96bedb9f882f7882";
+
+    @InjectMocks
+    private DefaultCreateDirectUploadUseCase useCase;
+
+    @Mock
+    private DirectUploadGateway directUploadGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(directUploadGateway, videoGateway);
+    }
+
+    @Test
+    void givenAValidCommand_whenCallsCreateDirectUpload_shouldReturnTheSignedUploadUrl() {
+        // given
+        final var aVideo = Fixture.video();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedChecksum = Fixture.checksum();
+        final var expectedUrl = SignedUrl.with("https://storage/uploads/abc/content", Instant.now());
+
+        when(videoGateway.findById(expectedId))
+                .thenReturn(Optional.of(aVideo));
+        when(directUploadGateway.create(expectedId, expectedType, "video/mp4", "video.mp4", 10L, expectedChecksum, SHA256))
+                .thenReturn(new DirectUpload("abc", expectedId.getValue(), expectedType, "video/mp4", "video.mp4", 10L,
+                        expectedChecksum, SHA256, expectedUrl));
+
+        final var aCmd = CreateDirectUploadCommand.with(
+                expectedId.getValue(), expectedType, "video/mp4", "video.mp4", 10L, expectedChecksum, SHA256);
+
+        // when
+        final var actualOutput = useCase.execute(aCmd);
+
+        // then
+        Assertions.assertEquals("abc", actualOutput.id());
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+        Assertions.assertEquals(expectedUrl.url(), actualOutput.url());
+        Assertions.assertEquals(expectedUrl.expiresAt(), actualOutput.expiresAt());
+    }
+
+    @Test
+    void givenAnInvalidCommand_whenCallsCreateDirectUpload_shouldReturnAllErrors() {
+        // given
+        final var aCmd = CreateDirectUploadCommand.with("123", VideoMediaType.VIDEO, " ", null, 0L, "", null);
+
+        // when
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(aCmd));
+
+        // then
+        Assertions.assertEquals(5, actualException.getErrors().size());
+        Assertions.assertEquals("'file_name' should not be empty", actualException.getErrors().get(0).message());
+        Assertions.assertEquals("'content_type' should not be empty", actualException.getErrors().get(1).message());
+        Assertions.assertEquals("'size' should be greater than zero", actualException.getErrors().get(2).message());
+        Assertions.assertEquals("'checksum' should not be empty", actualException.getErrors().get(3).message());
+        Assertions.assertEquals("'sha256' should not be empty", actualException.getErrors().get(4).message());
+
+        verifyNoInteractions(videoGateway, directUploadGateway);
+    }
+
+    @Test
+    void givenAnUnknownVideo_whenCallsCreateDirectUpload_shouldThrowNotFound() {
+        // given
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        final var aCmd = CreateDirectUploadCommand.with(
+                "123", VideoMediaType.VIDEO, "video/mp4", "video.mp4", 10L, Fixture.checksum(), SHA256);
+
+        // when
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCmd));
+
+        // then
+        verify(videoGateway).findById(VideoID.from("123"));
+        verifyNoInteractions(directUploadGateway);
+    }
+}
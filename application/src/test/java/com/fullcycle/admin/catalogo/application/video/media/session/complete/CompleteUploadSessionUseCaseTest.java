@@ -0,0 +1,83 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.complete;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.UploadSessionGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class CompleteUploadSessionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCompleteUploadSessionUseCase useCase;
+
+    @Mock
+    private UploadSessionGateway uploadSessionGateway;
+
+    @Mock
+    private UploadMediaUseCase uploadMediaUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(uploadSessionGateway, uploadMediaUseCase);
+    }
+
+    @Test
+    void givenAllChunks_whenCallsCompleteUploadSession_shouldAttachTheMediaAndRemoveTheSession() {
+        // given
+        final var aResource = Resource.with("abc".getBytes(), Fixture.checksum(), "video/mp4", "video.mp4");
+        final var expectedType = VideoMediaType.VIDEO;
+
+        when(uploadSessionGateway.complete(VideoID.from("123"), expectedType, "abc", aResource.checksum()))
+                .thenReturn(aResource);
+        when(uploadMediaUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput("123", expectedType));
+
+        final var aCmd = CompleteUploadSessionCommand.with("123", expectedType, "abc", aResource.checksum());
+
+        // when
+        final var actualOutput = useCase.execute(aCmd);
+
+        // then
+        Assertions.assertEquals("123", actualOutput.videoId());
+
+        verify(uploadMediaUseCase).execute(argThat(cmd ->
+                "123".equals(cmd.videoId())
+                        && expectedType == cmd.videoResource().type()
+                        && aResource == cmd.videoResource().resource()
+        ));
+        verify(uploadSessionGateway).delete("abc");
+    }
+
+    @Test
+    void givenAFailedAttach_whenCallsCompleteUploadSession_shouldKeepTheSession() {
+        // given
+        final var aResource = Resource.with("abc".getBytes(), Fixture.checksum(), "video/mp4", "video.mp4");
+
+        when(uploadSessionGateway.complete(any(), any(), any(), any()))
+                .thenReturn(aResource);
+        when(uploadMediaUseCase.execute(any()))
+                .thenThrow(new IllegalStateException("Gateway error"));
+
+        final var aCmd = CompleteUploadSessionCommand.with("123", VideoMediaType.VIDEO, "abc", aResource.checksum());
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(aCmd));
+
+        // then
+        verify(uploadSessionGateway, never()).delete(any());
+    }
+}
@@ -0,0 +1,93 @@
+package com.fullcycle.admin.catalogo.application.video.media.session.create;
+
+import com.fullcycle.admin.catalogo.application.UseCaseTest;
+import com.fullcycle.admin.catalogo.domain.Fixture;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.admin.catalogo.domain.video.UploadSession;
+import com.fullcycle.admin.catalogo.domain.video.UploadSessionGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CreateUploadSessionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateUploadSessionUseCase useCase;
+
+    @Mock
+    private UploadSessionGateway uploadSessionGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(uploadSessionGateway, videoGateway);
+    }
+
+    @Test
+    void givenAValidCommand_whenCallsCreateUploadSession_shouldReturnTheSession() {
+        // given
+        final var aVideo = Fixture.video();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+
+        when(videoGateway.findById(expectedId))
+                .thenReturn(Optional.of(aVideo));
+        when(uploadSessionGateway.create(expectedId, expectedType, "video/mp4", "video.mp4"))
+                .thenReturn(new UploadSession("abc", expectedId.getValue(), expectedType, "video/mp4", "video.mp4", 0, 0));
+
+        final var aCmd = CreateUploadSessionCommand.with(expectedId.getValue(), expectedType, "video/mp4", "video.mp4");
+
+        // when
+        final var actualOutput = useCase.execute(aCmd);
+
+        // then
+        Assertions.assertEquals("abc", actualOutput.id());
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+        Assertions.assertEquals(0, actualOutput.offset());
+    }
+
+    @Test
+    void givenABlankFileNameAndContentType_whenCallsCreateUploadSession_shouldReturnBothErrors() {
+        // given
+        final var aCmd = CreateUploadSessionCommand.with("123", VideoMediaType.VIDEO, " ", null);
+
+        // when
+        final var actualException = Assertions.assertThrows(NotificationException.class, () -> useCase.execute(aCmd));
+
+        // then
+        Assertions.assertEquals(2, actualException.getErrors().size());
+        Assertions.assertEquals("'file_name' should not be empty", actualException.getErrors().get(0).message());
+        Assertions.assertEquals("'content_type' should not be empty", actualException.getErrors().get(1).message());
+
+        verifyNoInteractions(videoGateway, uploadSessionGateway);
+    }
+
+    @Test
+    void givenAnUnknownVideo_whenCallsCreateUploadSession_shouldThrowNotFound() {
+        // given
+        when(videoGateway.findById(any()))
+                .thenReturn(Optional.empty());
+
+        final var aCmd = CreateUploadSessionCommand.with("123", VideoMediaType.VIDEO, "video/mp4", "video.mp4");
+
+        // when
+        Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCmd));
+
+        // then
+        verify(videoGateway).findById(VideoID.from("123"));
+        verifyNoInteractions(uploadSessionGateway);
+    }
+}
@@ -1,8 +1,11 @@
 package com.fullcycle.admin.catalogo.domain;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceMetadata;
+import com.fullcycle.admin.catalogo.domain.resource.SignedUrl;
 import com.fullcycle.admin.catalogo.domain.video.*;
 
+import java.time.Duration;
 import java.util.Optional;
 
 public interface MediaResourceGateway {
@@ -13,5 +16,11 @@ public interface MediaResourceGateway {
 
     Optional<Resource> getResource(VideoID anId, VideoMediaType type);
 
+    Optional<Resource> getResource(VideoID anId, VideoMediaType type, ImageRendition rendition);
+
+    Optional<ResourceMetadata> getMetadata(VideoID anId, VideoMediaType type, ImageRendition rendition);
+
+    Optional<SignedUrl> getSignedUrl(VideoID anId, VideoMediaType type, ImageRendition rendition, Duration ttl);
+
     void clearResources(VideoID anId);
 }
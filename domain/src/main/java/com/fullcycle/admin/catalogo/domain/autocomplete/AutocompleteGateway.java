@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.domain.autocomplete;
+
+import java.util.List;
+
+public interface AutocompleteGateway {
+
+    void index(Suggestion aSuggestion);
+
+    void remove(SuggestionType aType, String anId);
+
+    List<Suggestion> search(AutocompleteQuery aQuery);
+}
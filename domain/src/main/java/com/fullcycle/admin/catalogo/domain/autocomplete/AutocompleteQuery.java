@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.domain.autocomplete;
+
+import java.util.Set;
+
+public record AutocompleteQuery(
+        String terms,
+        Set<SuggestionType> types,
+        int limit
+) {
+
+    public static final int MAX_LIMIT = 50;
+
+    public AutocompleteQuery {
+        types = types == null || types.isEmpty() ? Set.of(SuggestionType.values()) : Set.copyOf(types);
+        limit = Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.domain.autocomplete;
+
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+
+public record Suggestion(
+        String id,
+        String name,
+        SuggestionType type
+) {
+
+    public static Suggestion from(final Category aCategory) {
+        return new Suggestion(aCategory.getId().getValue(), aCategory.name(), SuggestionType.CATEGORY);
+    }
+
+    public static Suggestion from(final Genre aGenre) {
+        return new Suggestion(aGenre.getId().getValue(), aGenre.getName(), SuggestionType.GENRE);
+    }
+
+    public static Suggestion from(final CastMember aMember) {
+        return new Suggestion(aMember.getId().getValue(), aMember.getName(), SuggestionType.CAST_MEMBER);
+    }
+}
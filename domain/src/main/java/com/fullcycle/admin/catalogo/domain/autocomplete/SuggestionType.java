@@ -0,0 +1,25 @@
+package com.fullcycle.admin.catalogo.domain.autocomplete;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum SuggestionType {
+
+    CATEGORY,
+    GENRE,
+    CAST_MEMBER;
+
+    public static Optional<SuggestionType> of(final String value) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(value))
+                .findFirst();
+    }
+
+    public static SuggestionType from(final String value) {
+        return of(value).orElseThrow(() -> DomainException.with(
+                new Error("'types' must contain only category, genre or cast_member but was %s".formatted(value))));
+    }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.domain.pagination;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum CountMode {
+
+    EXACT,
+    NONE,
+    ESTIMATED,
+    CACHED;
+
+    public static Optional<CountMode> of(final String value) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(value))
+                .findFirst();
+    }
+
+    public static CountMode from(final String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return of(value).orElseThrow(() -> DomainException.with(
+                new Error("'count' must be one of exact, none, estimated or cached but was %s".formatted(value))));
+    }
+}
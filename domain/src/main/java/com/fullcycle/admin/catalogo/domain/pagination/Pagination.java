@@ -7,12 +7,26 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String next,
+        boolean hasNext
 ) {
+
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long total,
+            final List<T> items
+    ) {
+        this(currentPage, perPage, total, items, null, (long) (currentPage + 1) * perPage < total);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items.stream()
                 .map(mapper)
                 .toList();
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, next(), hasNext());
     }
 }
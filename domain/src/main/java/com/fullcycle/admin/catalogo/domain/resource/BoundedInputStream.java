@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.domain.resource;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+class BoundedInputStream extends FilterInputStream {
+
+    private long remaining;
+
+    BoundedInputStream(final InputStream in, final long limit) {
+        super(in);
+        this.remaining = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+
+        final var result = super.read();
+        if (result != -1) {
+            remaining--;
+        }
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+
+        final var result = super.read(b, off, (int) Math.min(len, remaining));
+        if (result != -1) {
+            remaining -= result;
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        final var skipped = super.skip(Math.min(n, remaining));
+        remaining -= skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(super.available(), remaining);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.fullcycle.admin.catalogo.domain.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+@FunctionalInterface
+public interface ContentStream {
+
+    InputStream open() throws IOException;
+
+    default InputStream open(final long offset, final long length) throws IOException {
+        final var in = open();
+        try {
+            in.skipNBytes(offset);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return new BoundedInputStream(in, length);
+    }
+
+    default long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+        try (final var in = open(offset, length)) {
+            return in.transferTo(Channels.newOutputStream(target));
+        }
+    }
+
+    // Only streams that yield the same bytes on every open may be read twice, e.g. hashed before deciding whether to write them
+    default boolean isRepeatable() {
+        return false;
+    }
+
+    static ContentStream repeatable(final ContentStream source) {
+        return new ContentStream() {
+            @Override
+            public InputStream open() throws IOException {
+                return source.open();
+            }
+
+            @Override
+            public InputStream open(final long offset, final long length) throws IOException {
+                return source.open(offset, length);
+            }
+
+            @Override
+            public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+                return source.transferTo(offset, length, target);
+            }
+
+            @Override
+            public boolean isRepeatable() {
+                return true;
+            }
+        };
+    }
+
+    static ContentStream of(final byte[] content) {
+        return new ContentStream() {
+            @Override
+            public InputStream open() {
+                return new ByteArrayInputStream(content);
+            }
+
+            @Override
+            public boolean isRepeatable() {
+                return true;
+            }
+
+            @Override
+            public InputStream open(final long offset, final long length) {
+                final var from = (int) Math.min(offset, content.length);
+                final var count = (int) Math.min(length, content.length - from);
+                return new ByteArrayInputStream(content, from, count);
+            }
+        };
+    }
+}
@@ -2,31 +2,106 @@ package com.fullcycle.admin.catalogo.domain.resource;
 
 import com.fullcycle.admin.catalogo.domain.ValueObject;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public class Resource extends ValueObject {
 
     private final byte[] content;
-    private final String checksum;
+    private final ContentStream stream;
+    private final long size;
+    private final Supplier<String> checksum;
     private final String contentType;
     private final String name;
-    private Resource(final byte[] content, final String checksum, final String contentType, final String name) {
-        this.content = Objects.requireNonNull(content);
+
+    private Resource(
+            final byte[] content,
+            final ContentStream stream,
+            final long size,
+            final Supplier<String> checksum,
+            final String contentType,
+            final String name
+    ) {
+        this.content = content;
+        this.stream = Objects.requireNonNull(stream);
+        this.size = size;
         this.checksum = Objects.requireNonNull(checksum);
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource with(final byte[] content, final String checksum, final String contentType, final String name) {
-        return new Resource(content, checksum, contentType, name);
+        Objects.requireNonNull(content);
+        Objects.requireNonNull(checksum);
+        return new Resource(content, ContentStream.of(content), content.length, () -> checksum, contentType, name);
+    }
+
+    public static Resource with(
+            final ContentStream stream,
+            final long size,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        Objects.requireNonNull(checksum);
+        return new Resource(null, stream, size, () -> checksum, contentType, name);
+    }
+
+    public static Resource with(
+            final ContentStream stream,
+            final long size,
+            final Supplier<String> checksum,
+            final String contentType,
+            final String name
+    ) {
+        return new Resource(null, stream, size, checksum, contentType, name);
     }
 
     public String checksum() {
-        return checksum;
+        return checksum.get();
     }
 
     public byte[] content() {
-        return content;
+        if (content != null) {
+            return content;
+        }
+
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream openStream() {
+        try {
+            return stream.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream openStream(final long offset, final long length) {
+        try {
+            return stream.open(offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ContentStream stream() {
+        return stream;
+    }
+
+    public boolean isStreamed() {
+        return content == null;
+    }
+
+    public long size() {
+        return size;
     }
 
     public String contentType() {
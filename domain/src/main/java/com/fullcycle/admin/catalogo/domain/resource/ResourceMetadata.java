@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.domain.resource;
+
+import java.util.Objects;
+
+public record ResourceMetadata(long size, String checksum, String contentType, String name) {
+
+    public ResourceMetadata {
+        Objects.requireNonNull(checksum);
+        Objects.requireNonNull(contentType);
+        Objects.requireNonNull(name);
+    }
+
+    public static ResourceMetadata with(
+            final long size,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        return new ResourceMetadata(size, checksum, contentType, name);
+    }
+
+    public static ResourceMetadata of(final Resource aResource) {
+        return new ResourceMetadata(aResource.size(), aResource.checksum(), aResource.contentType(), aResource.name());
+    }
+
+    public ResourceMetadata withName(final String aName) {
+        return new ResourceMetadata(size, checksum, contentType, aName);
+    }
+}
@@ -0,0 +1,22 @@
+package com.fullcycle.admin.catalogo.domain.resource;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+
+public record SignedUrl(String url, Instant expiresAt, Map<String, String> headers) {
+
+    public SignedUrl {
+        Objects.requireNonNull(url);
+        Objects.requireNonNull(expiresAt);
+        headers = headers == null ? Map.of() : Map.copyOf(headers);
+    }
+
+    public static SignedUrl with(final String url, final Instant expiresAt) {
+        return new SignedUrl(url, expiresAt, Map.of());
+    }
+
+    public static SignedUrl with(final String url, final Instant expiresAt, final Map<String, String> headers) {
+        return new SignedUrl(url, expiresAt, headers);
+    }
+}
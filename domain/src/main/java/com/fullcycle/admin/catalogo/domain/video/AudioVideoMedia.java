@@ -38,6 +38,14 @@ public class AudioVideoMedia extends ValueObject {
         return new AudioVideoMedia(IdUtils.uuid(), checksum, name, rawLocation, "", MediaStatus.PENDING);
     }
 
+    public static AudioVideoMedia replicating(
+            final String checksum,
+            final String name,
+            final String rawLocation
+    ) {
+        return new AudioVideoMedia(IdUtils.uuid(), checksum, name, rawLocation, "", MediaStatus.REPLICATING);
+    }
+
     public static AudioVideoMedia with(
             final String id,
             final String checksum,
@@ -86,6 +94,21 @@ public class AudioVideoMedia extends ValueObject {
         return Objects.hash(checksum, rawLocation);
     }
 
+    public AudioVideoMedia replicated() {
+        if (!isReplicating()) {
+            return this;
+        }
+
+        return AudioVideoMedia.with(
+                id(),
+                checksum(),
+                name(),
+                rawLocation(),
+                encodedLocation(),
+                MediaStatus.PENDING
+        );
+    }
+
     public AudioVideoMedia processing() {
         return AudioVideoMedia.with(
                 id(),
@@ -111,4 +134,8 @@ public class AudioVideoMedia extends ValueObject {
     public boolean isPendingEncode() {
         return MediaStatus.PENDING == this.status;
     }
+
+    public boolean isReplicating() {
+        return MediaStatus.REPLICATING == this.status;
+    }
 }
@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.SignedUrl;
+
+public record DirectUpload(
+        String id,
+        String videoId,
+        VideoMediaType type,
+        String contentType,
+        String name,
+        long size,
+        String checksum,
+        String sha256,
+        SignedUrl url
+) {
+}
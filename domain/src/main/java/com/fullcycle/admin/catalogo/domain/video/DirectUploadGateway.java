@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+
+public interface DirectUploadGateway {
+
+    DirectUpload create(
+            VideoID anId,
+            VideoMediaType aType,
+            String aContentType,
+            String aName,
+            long aSize,
+            String aChecksum,
+            String aSha256
+    );
+
+    Resource complete(VideoID anId, VideoMediaType aType, String anUploadId, String aChecksum, Long aSize);
+
+    void delete(String anUploadId);
+}
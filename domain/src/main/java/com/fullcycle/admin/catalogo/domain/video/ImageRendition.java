@@ -0,0 +1,29 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum ImageRendition {
+
+    ORIGINAL(0),
+    LARGE(1280),
+    MEDIUM(640),
+    SMALL(320),
+    PLACEHOLDER(32);
+
+    private final int width;
+
+    ImageRendition(final int width) {
+        this.width = width;
+    }
+
+    public static Optional<ImageRendition> of(final String value) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(value))
+                .findFirst();
+    }
+
+    public int getWidth() {
+        return width;
+    }
+}
@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+public record UploadSession(
+        String id,
+        String videoId,
+        VideoMediaType type,
+        String contentType,
+        String name,
+        int chunks,
+        long offset
+) {
+}
@@ -0,0 +1,18 @@
+package com.fullcycle.admin.catalogo.domain.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+
+import java.io.InputStream;
+
+public interface UploadSessionGateway {
+
+    UploadSession create(VideoID anId, VideoMediaType aType, String aContentType, String aName);
+
+    UploadSession get(VideoID anId, VideoMediaType aType, String anUploadId);
+
+    UploadSession writeChunk(VideoID anId, VideoMediaType aType, String anUploadId, int aNumber, InputStream aContent);
+
+    Resource complete(VideoID anId, VideoMediaType aType, String anUploadId, String aChecksum);
+
+    void delete(String anUploadId);
+}
@@ -313,6 +313,20 @@ public class Video extends AggregateRoot<VideoID> {
         return Optional.ofNullable(thumbnailHalf);
     }
 
+    public Video replicated(final VideoMediaType aType) {
+        if (VideoMediaType.VIDEO == aType) {
+            getVideo()
+                    .filter(AudioVideoMedia::isReplicating)
+                    .ifPresent(media -> updateVideoMedia(media.replicated()));
+        } else if (VideoMediaType.TRAILER == aType) {
+            getTrailer()
+                    .filter(AudioVideoMedia::isReplicating)
+                    .ifPresent(media -> updateTrailerMedia(media.replicated()));
+        }
+
+        return this;
+    }
+
     public Video processing(final VideoMediaType aType) {
         if (VideoMediaType.VIDEO == aType) {
             getVideo()
@@ -5,15 +5,25 @@ import java.util.Optional;
 
 public enum VideoMediaType {
 
-    VIDEO,
-    TRAILER,
-    BANNER,
-    THUMBNAIL,
-    THUMBNAIL_HALF;
+    VIDEO(false),
+    TRAILER(false),
+    BANNER(true),
+    THUMBNAIL(true),
+    THUMBNAIL_HALF(true);
+
+    private final boolean image;
+
+    VideoMediaType(final boolean image) {
+        this.image = image;
+    }
 
     public static Optional<VideoMediaType> of(final String value) {
         return Arrays.stream(values())
                 .filter(it -> it.name().equalsIgnoreCase(value))
                 .findFirst();
     }
+
+    public boolean isImage() {
+        return image;
+    }
 }
@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.domain.video;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 
 import java.util.Set;
 
@@ -14,6 +15,46 @@ public record VideoSearchQuery(
         String direction,
         Set<CastMemberID> castMembers,
         Set<CategoryID> categories,
-        Set<GenreID> genres
+        Set<GenreID> genres,
+        String after,
+        CountMode count
 ) {
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> castMembers,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, null);
+    }
+
+    public VideoSearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Set<CastMemberID> castMembers,
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final String after
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, after, null);
+    }
+
+    public boolean isKeyset() {
+        return after != null;
+    }
+
+    public CountMode countMode() {
+        if (count != null) {
+            return count;
+        }
+        return isKeyset() ? CountMode.NONE : CountMode.EXACT;
+    }
 }
@@ -0,0 +1,55 @@
+package com.fullcycle.admin.catalogo.domain.resource;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ResourceTest extends UnitTest {
+
+    @Test
+    void givenAByteArray_whenCallsWith_shouldNotBeStreamed() throws IOException {
+        // given
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedSize = expectedContent.length;
+
+        // when
+        final var actualResource = Resource.with(expectedContent, "03fe62de", "video/mp4", "video.mp4");
+
+        // then
+        Assertions.assertFalse(actualResource.isStreamed());
+        Assertions.assertEquals(expectedSize, actualResource.size());
+        Assertions.assertSame(expectedContent, actualResource.content());
+        try (final var in = actualResource.openStream()) {
+            Assertions.assertArrayEquals(expectedContent, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void givenAContentStream_whenCallsWith_shouldOpenLazily() throws IOException {
+        // given
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedSize = expectedContent.length;
+        final var opened = new AtomicInteger(0);
+        final ContentStream aStream = () -> {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(expectedContent);
+        };
+
+        // when
+        final var actualResource = Resource.with(aStream, expectedSize, "03fe62de", "video/mp4", "video.mp4");
+
+        // then
+        Assertions.assertTrue(actualResource.isStreamed());
+        Assertions.assertEquals(0, opened.get());
+        Assertions.assertEquals(expectedSize, actualResource.size());
+        try (final var in = actualResource.openStream()) {
+            Assertions.assertArrayEquals(expectedContent, in.readAllBytes());
+        }
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+        Assertions.assertEquals(2, opened.get());
+    }
+}
@@ -217,6 +217,41 @@ class VideoTest extends UnitTest {
         Assertions.assertDoesNotThrow(() -> actualVideo.validate(new ThrowsValidationHandler()));
     }
 
+    @Test
+    void givenAReplicatingVideoMedia_whenCallsReplicated_shouldBecomePendingAndRegisterTheEvent() {
+        // given
+        final var aVideo = Video.newVideo(
+                "System Design Interviews",
+                "Uma descrição",
+                Year.of(2022),
+                120.10,
+                false,
+                false,
+                Rating.L,
+                Set.of(CategoryID.unique()),
+                Set.of(GenreID.unique()),
+                Set.of(CastMemberID.unique())
+        );
+
+        final var aVideoMedia =
+                AudioVideoMedia.replicating("abc", "Video.mp4", "/123/videos");
+
+        final var aReplicatingVideo = Video.with(aVideo).updateVideoMedia(aVideoMedia);
+        Assertions.assertTrue(aReplicatingVideo.getDomainEvents().isEmpty());
+
+        // when
+        final var actualVideo = Video.with(aReplicatingVideo).replicated(VideoMediaType.VIDEO);
+
+        // then
+        final var actualMedia = actualVideo.getVideo().get();
+        Assertions.assertEquals(aVideoMedia.id(), actualMedia.id());
+        Assertions.assertEquals(MediaStatus.PENDING, actualMedia.status());
+        Assertions.assertEquals(1, actualVideo.getDomainEvents().size());
+
+        final var actualEvent = (VideoMediaCreated) actualVideo.getDomainEvents().get(0);
+        Assertions.assertEquals(aVideoMedia.rawLocation(), actualEvent.filePath());
+    }
+
     @Test
     void givenValidVideo_whenCallsUpdateTrailerMedia_shouldReturnUpdated() {
         // given
@@ -0,0 +1,32 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.infrastructure.autocomplete.models.AutocompleteResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+import java.util.Set;
+
+@RequestMapping(value = "autocomplete")
+@Tag(name = "Autocomplete")
+public interface AutocompleteAPI {
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Suggest categories, genres and cast members whose names match the typed text")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions retrieved"),
+            @ApiResponse(responseCode = "422", description = "An invalid type was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    List<AutocompleteResponse> autocomplete(
+            @RequestParam(name = "search", required = false, defaultValue = "") final String search,
+            @RequestParam(name = "types", required = false, defaultValue = "") final Set<String> types,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
+    );
+}
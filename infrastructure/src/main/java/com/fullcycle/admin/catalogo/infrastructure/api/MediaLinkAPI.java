@@ -0,0 +1,53 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+@RequestMapping(value = "media-links")
+@Tag(name = "Media links")
+public interface MediaLinkAPI {
+
+    @GetMapping
+    @Operation(summary = "Download a stored object through a signed url of a local storage")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Object retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Signature is invalid or expired"),
+            @ApiResponse(responseCode = "404", description = "Object was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> download(
+            @RequestParam(name = "key") String key,
+            @RequestParam(name = "name", required = false) String name,
+            @RequestParam(name = "expires") long expires,
+            @RequestParam(name = "signature") String signature
+    );
+
+    @PutMapping
+    @Operation(summary = "Upload an object through a signed url of a local storage")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Object stored successfully"),
+            @ApiResponse(responseCode = "400", description = "Content length or checksum differ from the signed ones"),
+            @ApiResponse(responseCode = "403", description = "Signature is invalid, expired or the content type does not match"),
+            @ApiResponse(responseCode = "411", description = "Content length is missing"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<Void> upload(
+            @RequestParam(name = "key") String key,
+            @RequestParam(name = "content_type") String contentType,
+            @RequestParam(name = "size") long size,
+            @RequestParam(name = "checksum") String checksum,
+            @RequestParam(name = "expires") long expires,
+            @RequestParam(name = "signature") String signature,
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE, required = false) String contentTypeHeader,
+            @RequestHeader(name = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            InputStream content
+    );
+}
@@ -1,20 +1,20 @@
 package com.fullcycle.admin.catalogo.infrastructure.api;
 
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.Set;
 
 @RequestMapping(value = "videos")
@@ -36,7 +36,9 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
             @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
             @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
-            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "count", required = false) String count
     );
 
     @PostMapping(
@@ -118,12 +120,50 @@ public interface VideoAPI {
     @Operation(summary = "Get a video media by its type")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Media range retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Media was not modified"),
             @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range is not satisfiable"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<byte[]> getMediaByType(
+    ResponseEntity<StreamingResponseBody> getMediaByType(
             @PathVariable(name = "id") String id,
-            @PathVariable(name = "type") String type
+            @PathVariable(name = "type") String type,
+            @RequestParam(name = "size", required = false) String size,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
+
+    @RequestMapping(value = "{id}/medias/{type}", method = RequestMethod.HEAD)
+    @Operation(summary = "Get the size, checksum and content type of a video media without its content")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Media metadata retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Media was not modified"),
+            @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<Void> headMediaByType(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestParam(name = "size", required = false) String size,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
+
+    @GetMapping(value = "{id}/medias/{type}", params = {"delivery", "delivery!=proxy"})
+    @Operation(summary = "Get a short-lived signed storage url of a video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Signed url retrieved successfully"),
+            @ApiResponse(responseCode = "302", description = "Redirected to the signed url"),
+            @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "422", description = "A query param was invalid"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<MediaUrlResponse> getMediaUrlByType(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestParam(name = "size", required = false) String size,
+            @RequestParam(name = "delivery") String delivery
     );
 
     @PostMapping(value = "{id}/medias/{type}")
@@ -138,4 +178,125 @@ public interface VideoAPI {
             @PathVariable(name = "type") String type,
             @RequestParam(name = "media_file") MultipartFile media
     );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/uploads",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Start a resumable upload of a video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload session created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<UploadSessionResponse> createUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CreateUploadRequest payload
+    );
+
+    @GetMapping(value = "{id}/medias/{type}/uploads/{uploadId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the received offset of a resumable upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload session retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    UploadSessionResponse getUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+
+    @PutMapping(
+            value = "{id}/medias/{type}/uploads/{uploadId}/chunks/{number}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Upload a numbered chunk of a resumable upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk received successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    UploadSessionResponse uploadChunk(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId,
+            @PathVariable(name = "number") int number,
+            InputStream content
+    );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/uploads/{uploadId}/complete",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Complete a resumable upload and attach the media to the video")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or upload session was not found"),
+            @ApiResponse(responseCode = "422", description = "Chunks are missing or the checksum does not match"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> completeUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId,
+            @RequestBody CompleteUploadRequest payload
+    );
+
+    @DeleteMapping(value = "{id}/medias/{type}/uploads/{uploadId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Abort a resumable upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Upload session aborted"),
+            @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    void abortUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/direct-uploads",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Issue a signed url to upload a video media straight to the storage")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload intent created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<DirectUploadResponse> createDirectUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CreateDirectUploadRequest payload
+    );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/direct-uploads/{uploadId}/complete",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Verify a media uploaded straight to the storage and attach it to the video")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "404", description = "Video or upload intent was not found"),
+            @ApiResponse(responseCode = "422", description = "The object is missing or its size or checksum does not match"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> completeDirectUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId,
+            @RequestBody CompleteDirectUploadRequest payload
+    );
 }
@@ -0,0 +1,40 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteUseCase;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteQuery;
+import com.fullcycle.admin.catalogo.domain.autocomplete.SuggestionType;
+import com.fullcycle.admin.catalogo.infrastructure.api.AutocompleteAPI;
+import com.fullcycle.admin.catalogo.infrastructure.autocomplete.models.AutocompleteResponse;
+import com.fullcycle.admin.catalogo.infrastructure.autocomplete.presenters.AutocompletePresenter;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+public class AutocompleteController implements AutocompleteAPI {
+
+    private final AutocompleteUseCase autocompleteUseCase;
+
+    public AutocompleteController(final AutocompleteUseCase autocompleteUseCase) {
+        this.autocompleteUseCase = Objects.requireNonNull(autocompleteUseCase);
+    }
+
+    @Override
+    public List<AutocompleteResponse> autocomplete(final String search, final Set<String> types, final int limit) {
+        final var aQuery = new AutocompleteQuery(search, toSuggestionType(types), limit);
+
+        return this.autocompleteUseCase.execute(aQuery).stream()
+                .map(AutocompletePresenter::present)
+                .toList();
+    }
+
+    private Set<SuggestionType> toSuggestionType(final Set<String> types) {
+        return types.stream()
+                .filter(it -> !it.isBlank())
+                .map(SuggestionType::from)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.infrastructure.api.BufferPoolMetricsAPI;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BufferPool;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BufferPoolMetrics;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class BufferPoolMetricsController implements BufferPoolMetricsAPI {
+
+    private final BufferPool bufferPool;
+
+    public BufferPoolMetricsController(final BufferPool bufferPool) {
+        this.bufferPool = Objects.requireNonNull(bufferPool);
+    }
+
+    @Override
+    public List<BufferPoolMetrics> list() {
+        return this.bufferPool.snapshot();
+    }
+}
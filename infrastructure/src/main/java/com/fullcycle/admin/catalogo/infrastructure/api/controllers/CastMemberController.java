@@ -7,6 +7,7 @@ import com.fullcycle.admin.catalogo.application.castmember.retrieve.get.GetCastM
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberCommand;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.CastMemberAPI;
@@ -60,9 +61,11 @@ public class CastMemberController implements CastMemberAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final String count
     ) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, after, CountMode.from(count)))
                 .map(CastMemberPresenter::present);
     }
 
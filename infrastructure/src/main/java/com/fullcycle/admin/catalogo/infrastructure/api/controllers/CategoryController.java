@@ -9,6 +9,7 @@ import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCateg
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
@@ -70,10 +71,12 @@ public class CategoryController implements CategoryAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final String count
     ) {
         return this.listCategoriesUseCase
-                .execute(new SearchQuery(page, perPage, search, sort, direction))
+                .execute(new SearchQuery(page, perPage, search, sort, direction, after, CountMode.from(count)))
                 .map(CategoryApiPresenter::present);
     }
 
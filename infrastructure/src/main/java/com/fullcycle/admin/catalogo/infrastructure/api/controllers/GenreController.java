@@ -8,6 +8,7 @@ import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUse
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreCommand;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreOutput;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.domain.validation.handler.Notification;
@@ -65,10 +66,12 @@ public class GenreController implements GenreAPI {
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final String count
     ) {
         return this.listGenreUseCase
-                .execute(new SearchQuery(page, perPage, search, sort, direction))
+                .execute(new SearchQuery(page, perPage, search, sort, direction, after, CountMode.from(count)))
                 .map(GenreApiPresenter::present);
     }
 
@@ -0,0 +1,91 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.api.MediaLinkAPI;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.LocalUrlSigner;
+import com.fullcycle.admin.catalogo.infrastructure.utils.DigestingContentStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@RestController
+public class MediaLinkController implements MediaLinkAPI {
+
+    private final StorageService storageService;
+    private final LocalUrlSigner signer;
+
+    public MediaLinkController(final StorageService storageService, final LocalUrlSigner signer) {
+        this.storageService = Objects.requireNonNull(storageService);
+        this.signer = Objects.requireNonNull(signer);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> download(
+            final String key,
+            final String name,
+            final long expires,
+            final String signature
+    ) {
+        if (!this.signer.verify(key, name, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return this.storageService.get(key)
+                .map(aResource -> ResponseEntity.ok()
+                        .contentType(MediaType.valueOf(aResource.contentType()))
+                        .contentLength(aResource.size())
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(
+                                Optional.ofNullable(name).orElse(aResource.name())))
+                        .<StreamingResponseBody>body(out -> aResource.stream()
+                                .transferTo(0, aResource.size(), Channels.newChannel(out))))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @Override
+    public ResponseEntity<Void> upload(
+            final String key,
+            final String contentType,
+            final long size,
+            final String checksum,
+            final long expires,
+            final String signature,
+            final String contentTypeHeader,
+            final Long contentLength,
+            final InputStream content
+    ) {
+        if (!this.signer.verifyUpload(key, contentType, size, checksum, expires, signature) || !contentType.equals(contentTypeHeader)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        if (contentLength == null || contentLength < 0) {
+            return ResponseEntity.status(HttpStatus.LENGTH_REQUIRED).build();
+        }
+
+        if (contentLength != size) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        final var aContent = DigestingContentStream.of(() -> content, contentLength);
+        final var aName = key.substring(key.lastIndexOf('/') + 1);
+
+        this.storageService.store(key, Resource.with(aContent, contentLength, aContent::checksum, contentType, aName));
+
+        // Mirrors the x-goog-hash check of GCS, the object never stays behind with content other than the signed one
+        if (!aContent.isComplete() || !checksum.equalsIgnoreCase(aContent.checksum())) {
+            this.storageService.deleteAll(List.of(key));
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
+
+import com.fullcycle.admin.catalogo.infrastructure.api.StorageMetricsAPI;
+import com.fullcycle.admin.catalogo.infrastructure.services.metrics.StorageMetrics;
+import com.fullcycle.admin.catalogo.infrastructure.services.metrics.StorageOperationMetrics;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+public class StorageMetricsController implements StorageMetricsAPI {
+
+    private final StorageMetrics storageMetrics;
+
+    public StorageMetricsController(final StorageMetrics storageMetrics) {
+        this.storageMetrics = Objects.requireNonNull(storageMetrics);
+    }
+
+    @Override
+    public List<StorageOperationMetrics> list() {
+        return this.storageMetrics.snapshot();
+    }
+}
@@ -3,10 +3,28 @@ package com.fullcycle.admin.catalogo.infrastructure.api.controllers;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoCommand;
 import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.direct.complete.CompleteDirectUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.media.direct.complete.CompleteDirectUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.direct.create.CreateDirectUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.media.direct.create.CreateDirectUploadUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.abort.AbortUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.UploadChunkCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.UploadChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.complete.CompleteUploadSessionCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.complete.CompleteUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.create.CreateUploadSessionCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.create.CreateUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.get.GetUploadSessionUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.metadata.GetMediaMetadataCommand;
+import com.fullcycle.admin.catalogo.application.video.media.metadata.GetMediaMetadataUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.url.GetMediaUrlCommand;
+import com.fullcycle.admin.catalogo.application.video.media.url.GetMediaUrlUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
 import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoCommand;
@@ -15,27 +33,36 @@ import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
 import com.fullcycle.admin.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
 import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
 import com.fullcycle.admin.catalogo.domain.video.VideoResource;
 import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.api.VideoAPI;
-import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoListResponse;
-import com.fullcycle.admin.catalogo.infrastructure.video.models.VideoResponse;
+import com.fullcycle.admin.catalogo.infrastructure.utils.DigestingContentStream;
+import com.fullcycle.admin.catalogo.infrastructure.video.models.*;
 import com.fullcycle.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
@@ -49,7 +76,16 @@ public class VideoController implements VideoAPI {
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final ListVideosUseCase listVideosUseCase;
     private final GetMediaUseCase getMediaUseCase;
+    private final GetMediaMetadataUseCase getMediaMetadataUseCase;
+    private final GetMediaUrlUseCase getMediaUrlUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final CreateUploadSessionUseCase createUploadSessionUseCase;
+    private final GetUploadSessionUseCase getUploadSessionUseCase;
+    private final UploadChunkUseCase uploadChunkUseCase;
+    private final CompleteUploadSessionUseCase completeUploadSessionUseCase;
+    private final AbortUploadSessionUseCase abortUploadSessionUseCase;
+    private final CreateDirectUploadUseCase createDirectUploadUseCase;
+    private final CompleteDirectUploadUseCase completeDirectUploadUseCase;
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
@@ -58,7 +94,16 @@ public class VideoController implements VideoAPI {
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideosUseCase listVideosUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase
+            final GetMediaMetadataUseCase getMediaMetadataUseCase,
+            final GetMediaUrlUseCase getMediaUrlUseCase,
+            final UploadMediaUseCase uploadMediaUseCase,
+            final CreateUploadSessionUseCase createUploadSessionUseCase,
+            final GetUploadSessionUseCase getUploadSessionUseCase,
+            final UploadChunkUseCase uploadChunkUseCase,
+            final CompleteUploadSessionUseCase completeUploadSessionUseCase,
+            final AbortUploadSessionUseCase abortUploadSessionUseCase,
+            final CreateDirectUploadUseCase createDirectUploadUseCase,
+            final CompleteDirectUploadUseCase completeDirectUploadUseCase
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
@@ -66,7 +111,16 @@ public class VideoController implements VideoAPI {
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
+        this.getMediaMetadataUseCase = Objects.requireNonNull(getMediaMetadataUseCase);
+        this.getMediaUrlUseCase = Objects.requireNonNull(getMediaUrlUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.createUploadSessionUseCase = Objects.requireNonNull(createUploadSessionUseCase);
+        this.getUploadSessionUseCase = Objects.requireNonNull(getUploadSessionUseCase);
+        this.uploadChunkUseCase = Objects.requireNonNull(uploadChunkUseCase);
+        this.completeUploadSessionUseCase = Objects.requireNonNull(completeUploadSessionUseCase);
+        this.abortUploadSessionUseCase = Objects.requireNonNull(abortUploadSessionUseCase);
+        this.createDirectUploadUseCase = Objects.requireNonNull(createDirectUploadUseCase);
+        this.completeDirectUploadUseCase = Objects.requireNonNull(completeDirectUploadUseCase);
     }
 
     @Override
@@ -78,14 +132,16 @@ public class VideoController implements VideoAPI {
             final String direction,
             final Set<String> castMembers,
             final Set<String> categories,
-            final Set<String> genres
+            final Set<String> genres,
+            final String after,
+            final String count
     ) {
         final var castMemberIDs = mapTo(castMembers, CastMemberID::from);
         final var categoriesIDs = mapTo(categories, CategoryID::from);
         final var genresIDs = mapTo(genres, GenreID::from);
 
         final var aQuery =
-                new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs);
+                new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs, after, CountMode.from(count));
 
         return VideoApiPresenter.present(this.listVideosUseCase.execute(aQuery));
     }
@@ -185,21 +241,101 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(final String id, final String type) {
+    public ResponseEntity<StreamingResponseBody> getMediaByType(
+            final String id,
+            final String type,
+            final String size,
+            final String range,
+            final String ifRange,
+            final String ifNoneMatch
+    ) {
         final var aMedia =
-                this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
+                this.getMediaUseCase.execute(GetMediaCommand.with(id, type, size));
+
+        final var anETag = "\"%s\"".formatted(aMedia.checksum());
+        final var aSize = aMedia.size();
+
+        if (matchesETag(ifNoneMatch, anETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(anETag)
+                    .build();
+        }
+
+        final var aRange = rangeOf(range, ifRange, anETag);
+
+        if (aRange.isEmpty()) {
+            return mediaResponse(HttpStatus.OK, aMedia, anETag)
+                    .contentLength(aSize)
+                    .body(out -> transfer(aMedia, 0, aSize, out));
+        }
+
+        final var start = aRange.get().getRangeStart(aSize);
+        final var end = aRange.get().getRangeEnd(aSize);
+
+        if (start >= aSize || start > end) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */%d".formatted(aSize))
+                    .build();
+        }
+
+        final var aLength = end - start + 1;
+
+        return mediaResponse(HttpStatus.PARTIAL_CONTENT, aMedia, anETag)
+                .contentLength(aLength)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes %d-%d/%d".formatted(start, end, aSize))
+                .body(out -> transfer(aMedia, start, aLength, out));
+    }
+
+    @Override
+    public ResponseEntity<Void> headMediaByType(
+            final String id,
+            final String type,
+            final String size,
+            final String ifNoneMatch
+    ) {
+        final var aMetadata =
+                this.getMediaMetadataUseCase.execute(GetMediaMetadataCommand.with(id, type, size));
+
+        final var anETag = "\"%s\"".formatted(aMetadata.checksum());
+
+        if (matchesETag(ifNoneMatch, anETag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(anETag)
+                    .build();
+        }
+
+        return mediaResponse(HttpStatus.OK, aMetadata.contentType(), aMetadata.name(), anETag)
+                .contentLength(aMetadata.size())
+                .build();
+    }
+
+    @Override
+    public ResponseEntity<MediaUrlResponse> getMediaUrlByType(
+            final String id,
+            final String type,
+            final String size,
+            final String delivery
+    ) {
+        final var aDelivery = deliveryOf(delivery);
+
+        final var aUrl =
+                this.getMediaUrlUseCase.execute(GetMediaUrlCommand.with(id, type, size));
+
+        if (aDelivery == MediaDelivery.REDIRECT) {
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .cacheControl(CacheControl.noStore())
+                    .location(URI.create(aUrl.url()))
+                    .build();
+        }
 
         return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(aMedia.contentType()))
-                .contentLength(aMedia.content().length)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-                .body(aMedia.content());
+                .cacheControl(CacheControl.noStore())
+                .body(VideoApiPresenter.present(aUrl));
     }
 
     @Override
     public ResponseEntity<?> uploadMediaByType(final String id, final String type, final MultipartFile media) {
-        final var aType = VideoMediaType.of(type)
-                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for VideoMediaType".formatted(type))));
+        final var aType = mediaTypeOf(type);
 
         final var aCmd =
                 UploadMediaCommand.with(id, VideoResource.with(aType, resourceOf(media)));
@@ -211,20 +347,196 @@ public class VideoController implements VideoAPI {
                 .body(VideoApiPresenter.present(output));
     }
 
+    @Override
+    public ResponseEntity<UploadSessionResponse> createUpload(
+            final String id,
+            final String type,
+            final CreateUploadRequest payload
+    ) {
+        final var aCmd =
+                CreateUploadSessionCommand.with(id, mediaTypeOf(type), payload.contentType(), payload.fileName());
+
+        final var aSession = this.createUploadSessionUseCase.execute(aCmd);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s/uploads/%s".formatted(id, type, aSession.id())))
+                .body(VideoApiPresenter.present(aSession));
+    }
+
+    @Override
+    public UploadSessionResponse getUpload(final String id, final String type, final String uploadId) {
+        return VideoApiPresenter.present(
+                this.getUploadSessionUseCase.execute(UploadSessionCommand.with(id, mediaTypeOf(type), uploadId)));
+    }
+
+    @Override
+    public UploadSessionResponse uploadChunk(
+            final String id,
+            final String type,
+            final String uploadId,
+            final int number,
+            final InputStream content
+    ) {
+        final var aCmd =
+                UploadChunkCommand.with(id, mediaTypeOf(type), uploadId, number, content);
+
+        return VideoApiPresenter.present(this.uploadChunkUseCase.execute(aCmd));
+    }
+
+    @Override
+    public ResponseEntity<?> completeUpload(
+            final String id,
+            final String type,
+            final String uploadId,
+            final CompleteUploadRequest payload
+    ) {
+        final var aCmd =
+                CompleteUploadSessionCommand.with(id, mediaTypeOf(type), uploadId, payload.checksum());
+
+        final var output = this.completeUploadSessionUseCase.execute(aCmd);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(id, type)))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public void abortUpload(final String id, final String type, final String uploadId) {
+        this.abortUploadSessionUseCase.execute(UploadSessionCommand.with(id, mediaTypeOf(type), uploadId));
+    }
+
+    @Override
+    public ResponseEntity<DirectUploadResponse> createDirectUpload(
+            final String id,
+            final String type,
+            final CreateDirectUploadRequest payload
+    ) {
+        final var aCmd = CreateDirectUploadCommand.with(
+                id,
+                mediaTypeOf(type),
+                payload.contentType(),
+                payload.fileName(),
+                payload.size(),
+                payload.checksum(),
+                payload.sha256()
+        );
+
+        final var output = this.createDirectUploadUseCase.execute(aCmd);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s/direct-uploads/%s".formatted(id, type, output.id())))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> completeDirectUpload(
+            final String id,
+            final String type,
+            final String uploadId,
+            final CompleteDirectUploadRequest payload
+    ) {
+        final var aCmd = CompleteDirectUploadCommand.with(
+                id,
+                mediaTypeOf(type),
+                uploadId,
+                payload.checksum(),
+                payload.size()
+        );
+
+        final var output = this.completeDirectUploadUseCase.execute(aCmd);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(id, type)))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    private MediaDelivery deliveryOf(final String delivery) {
+        return Arrays.stream(MediaDelivery.values())
+                .filter(it -> it.name().equalsIgnoreCase(delivery))
+                .findFirst()
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for delivery".formatted(delivery))));
+    }
+
+    private VideoMediaType mediaTypeOf(final String type) {
+        return VideoMediaType.of(type)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for VideoMediaType".formatted(type))));
+    }
+
     private Resource resourceOf(final MultipartFile part) {
         if (part == null) {
             return null;
         }
 
+        final var content = DigestingContentStream.of(ContentStream.repeatable(part::getInputStream), part.getSize());
+        return Resource.with(
+                content,
+                part.getSize(),
+                content::checksum,
+                part.getContentType(),
+                part.getOriginalFilename()
+        );
+    }
+
+    private ResponseEntity.BodyBuilder mediaResponse(
+            final HttpStatus aStatus,
+            final MediaOutput aMedia,
+            final String anETag
+    ) {
+        return mediaResponse(aStatus, aMedia.contentType(), aMedia.name(), anETag);
+    }
+
+    private ResponseEntity.BodyBuilder mediaResponse(
+            final HttpStatus aStatus,
+            final String aContentType,
+            final String aName,
+            final String anETag
+    ) {
+        return ResponseEntity.status(aStatus)
+                .contentType(MediaType.valueOf(aContentType))
+                .eTag(anETag)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aName));
+    }
+
+    private Optional<HttpRange> rangeOf(final String range, final String ifRange, final String anETag) {
+        if (range == null || range.isBlank()) {
+            return Optional.empty();
+        }
+
+        if (ifRange != null && !ifRange.isBlank() && !ifRange.trim().equals(anETag)) {
+            return Optional.empty();
+        }
+
         try {
-            return Resource.with(
-                    part.getBytes(),
-                    HashingUtils.checksum(part.getBytes()),
-                    part.getContentType(),
-                    part.getOriginalFilename()
-            );
-        } catch (Throwable t) {
-            throw new RuntimeException(t);
+            final var ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? Optional.of(ranges.get(0)) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
+
+    private static boolean matchesETag(final String header, final String anETag) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .map(it -> it.startsWith("W/") ? it.substring(2) : it)
+                .anyMatch(it -> it.equals("*") || it.equals(anETag));
+    }
+
+    private static void transfer(
+            final MediaOutput aMedia,
+            final long offset,
+            final long length,
+            final OutputStream out
+    ) throws IOException {
+        aMedia.content().transferTo(offset, length, Channels.newChannel(out));
+    }
+
+    private enum MediaDelivery {
+        REDIRECT,
+        URL
+    }
 }
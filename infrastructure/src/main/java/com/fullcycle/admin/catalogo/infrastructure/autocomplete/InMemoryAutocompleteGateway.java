@@ -0,0 +1,232 @@
+package com.fullcycle.admin.catalogo.infrastructure.autocomplete;
+
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteQuery;
+import com.fullcycle.admin.catalogo.domain.autocomplete.Suggestion;
+import com.fullcycle.admin.catalogo.domain.autocomplete.SuggestionType;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+
+@Component
+public class InMemoryAutocompleteGateway implements AutocompleteGateway, InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryAutocompleteGateway.class);
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+    private static final int GRAM_SIZE = 3;
+    private static final double NAME_PREFIX_SCORE = 3;
+    private static final double WORD_PREFIX_SCORE = 2;
+    private static final double MIN_SIMILARITY = 0.6;
+
+    private static final Comparator<Match> RANKING = Comparator.comparingDouble(Match::score).reversed()
+            .thenComparingInt(it -> it.entry().normalized().length())
+            .thenComparing(it -> it.entry().normalized())
+            .thenComparing(it -> it.entry().suggestion().id());
+
+    private final CategoryRepository categoryRepository;
+    private final GenreRepository genreRepository;
+    private final CastMemberRepository castMemberRepository;
+    private final Map<Key, Entry> entries;
+    private final NavigableMap<String, Set<Key>> words;
+    private final Map<String, Set<Key>> grams;
+    private final ReadWriteLock lock;
+
+    public InMemoryAutocompleteGateway(
+            final CategoryRepository categoryRepository,
+            final GenreRepository genreRepository,
+            final CastMemberRepository castMemberRepository
+    ) {
+        this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.entries = new HashMap<>();
+        this.words = new TreeMap<>();
+        this.grams = new HashMap<>();
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        rebuild(SuggestionType.CATEGORY, this.categoryRepository::findNamesAfter);
+        rebuild(SuggestionType.GENRE, this.genreRepository::findNamesAfter);
+        rebuild(SuggestionType.CAST_MEMBER, this.castMemberRepository::findNamesAfter);
+
+        log.info("Autocomplete index built [names:{}] [words:{}]", size(), wordCount());
+    }
+
+    @Override
+    public void index(final Suggestion aSuggestion) {
+        final var tokens = TextUtils.tokenize(aSuggestion.name());
+        final var normalized = String.join(" ", tokens);
+        final var anEntry = new Entry(aSuggestion, normalized, Set.copyOf(tokens), gramsOf(normalized));
+        final var aKey = new Key(aSuggestion.type(), aSuggestion.id());
+
+        this.lock.writeLock().lock();
+        try {
+            unindex(aKey);
+            this.entries.put(aKey, anEntry);
+            anEntry.words().forEach(word -> this.words.computeIfAbsent(word, it -> new HashSet<>()).add(aKey));
+            anEntry.grams().forEach(gram -> this.grams.computeIfAbsent(gram, it -> new HashSet<>()).add(aKey));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(final SuggestionType aType, final String anId) {
+        this.lock.writeLock().lock();
+        try {
+            unindex(new Key(aType, anId));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // Every query word must prefix a word of the name; trigram overlap fills the rest with infix and misspelled matches
+    @Override
+    public List<Suggestion> search(final AutocompleteQuery aQuery) {
+        final var tokens = new LinkedHashSet<>(TextUtils.tokenize(aQuery.terms()));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        final var normalized = String.join(" ", tokens);
+        final var types = aQuery.types();
+        final var limit = aQuery.limit();
+
+        this.lock.readLock().lock();
+        try {
+            final var scores = new HashMap<Key, Double>();
+
+            Set<Key> candidates = null;
+            for (final var token : tokens) {
+                final var matches = new HashSet<Key>();
+                this.words.subMap(token, true, token + Character.MAX_VALUE, false).values().forEach(matches::addAll);
+                if (candidates == null) {
+                    candidates = matches;
+                } else {
+                    candidates.retainAll(matches);
+                }
+                if (candidates.isEmpty()) {
+                    break;
+                }
+            }
+            candidates.stream()
+                    .filter(it -> types.contains(it.type()))
+                    .forEach(it -> scores.put(it, this.entries.get(it).normalized().startsWith(normalized)
+                            ? NAME_PREFIX_SCORE
+                            : WORD_PREFIX_SCORE));
+
+            if (scores.size() < limit) {
+                final var queryGrams = gramsOf(normalized);
+                final var shared = new HashMap<Key, Integer>();
+                queryGrams.forEach(gram -> this.grams.getOrDefault(gram, Set.of()).stream()
+                        .filter(it -> types.contains(it.type()) && !scores.containsKey(it))
+                        .forEach(it -> shared.merge(it, 1, Integer::sum)));
+                shared.forEach((aKey, count) -> {
+                    final var similarity = (double) count / queryGrams.size();
+                    if (similarity >= MIN_SIMILARITY) {
+                        scores.put(aKey, similarity);
+                    }
+                });
+            }
+
+            return top(scores, limit);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.entries.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void rebuild(final SuggestionType aType, final BiFunction<String, Pageable, List<IndexedName>> findAfter) {
+        var after = "";
+        List<IndexedName> batch;
+        do {
+            batch = findAfter.apply(after, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (final var aName : batch) {
+                index(new Suggestion(aName.id(), aName.name(), aType));
+                after = aName.id();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+    }
+
+    // Keeps only the best `limit` matches, so a one letter query over a large catalog is not fully sorted
+    private List<Suggestion> top(final Map<Key, Double> scores, final int limit) {
+        final var best = new PriorityQueue<Match>(RANKING.reversed());
+        scores.forEach((aKey, score) -> {
+            best.offer(new Match(this.entries.get(aKey), score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        });
+
+        return best.stream()
+                .sorted(RANKING)
+                .map(it -> it.entry().suggestion())
+                .toList();
+    }
+
+    private void unindex(final Key aKey) {
+        final var previous = this.entries.remove(aKey);
+        if (previous == null) {
+            return;
+        }
+
+        previous.words().forEach(word -> detach(this.words, word, aKey));
+        previous.grams().forEach(gram -> detach(this.grams, gram, aKey));
+    }
+
+    private int wordCount() {
+        this.lock.readLock().lock();
+        try {
+            return this.words.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private static void detach(final Map<String, Set<Key>> postings, final String aTerm, final Key aKey) {
+        final var keys = postings.get(aTerm);
+        keys.remove(aKey);
+        if (keys.isEmpty()) {
+            postings.remove(aTerm);
+        }
+    }
+
+    private static Set<String> gramsOf(final String normalized) {
+        final var result = new HashSet<String>();
+        for (int i = 0; i + GRAM_SIZE <= normalized.length(); i++) {
+            result.add(normalized.substring(i, i + GRAM_SIZE));
+        }
+        return result;
+    }
+
+    private record Key(SuggestionType type, String id) {
+    }
+
+    private record Entry(Suggestion suggestion, String normalized, Set<String> words, Set<String> grams) {
+    }
+
+    private record Match(Entry entry, double score) {
+    }
+}
@@ -0,0 +1,4 @@
+package com.fullcycle.admin.catalogo.infrastructure.autocomplete;
+
+public record IndexedName(String id, String name) {
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.admin.catalogo.infrastructure.autocomplete.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record AutocompleteResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("type") String type
+) {
+}
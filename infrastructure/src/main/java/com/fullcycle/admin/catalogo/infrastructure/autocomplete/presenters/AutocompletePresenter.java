@@ -0,0 +1,17 @@
+package com.fullcycle.admin.catalogo.infrastructure.autocomplete.presenters;
+
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteOutput;
+import com.fullcycle.admin.catalogo.infrastructure.autocomplete.models.AutocompleteResponse;
+
+import java.util.Locale;
+
+public interface AutocompletePresenter {
+
+    static AutocompleteResponse present(final AutocompleteOutput aSuggestion) {
+        return new AutocompleteResponse(
+                aSuggestion.id(),
+                aSuggestion.name(),
+                aSuggestion.type().name().toLowerCase(Locale.ROOT)
+        );
+    }
+}
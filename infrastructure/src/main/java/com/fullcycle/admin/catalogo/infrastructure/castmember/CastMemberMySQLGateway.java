@@ -3,28 +3,44 @@ package com.fullcycle.admin.catalogo.infrastructure.castmember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalogo.infrastructure.pagination.TotalCounter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceUtils;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import java.util.stream.StreamSupport;
 
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
 
-    private final CastMemberRepository castMemberRepository;
+    private static final String TABLE = "cast_members";
 
-    public CastMemberMySQLGateway(final CastMemberRepository castMemberRepository) {
+    private final CastMemberRepository castMemberRepository;
+    private final EntityManager entityManager;
+    private final TotalCounter totalCounter;
+
+    public CastMemberMySQLGateway(
+            final CastMemberRepository castMemberRepository,
+            final EntityManager entityManager,
+            final TotalCounter totalCounter
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.totalCounter = Objects.requireNonNull(totalCounter);
     }
 
     @Override
@@ -37,6 +53,7 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         final var anId = aMemberId.getValue();
         if (this.castMemberRepository.existsById(anId)) {
             this.castMemberRepository.deleteById(anId);
+            this.totalCounter.invalidate(TABLE);
         }
     }
 
@@ -53,17 +70,54 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
 
     @Override
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
+        final var where = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        final LongSupplier total = () -> this.totalCounter.count(
+                aQuery.countMode(),
+                TABLE,
+                aQuery.terms(),
+                () -> SliceUtils.count(this.entityManager, CastMemberJpaEntity.class, where)
+        );
+
+        if (aQuery.isKeyset()) {
+            return KeysetUtils.findAfter(
+                    this.entityManager,
+                    CastMemberJpaEntity.class,
+                    where,
+                    List::of,
+                    row -> row.get(0, CastMemberJpaEntity.class).toAggregate(),
+                    aQuery.sort(),
+                    aQuery.direction(),
+                    aQuery.after(),
+                    aQuery.perPage(),
+                    total
+            );
+        }
+
+        if (aQuery.countMode() != CountMode.EXACT) {
+            return SliceUtils.findSlice(
+                    this.entityManager,
+                    CastMemberJpaEntity.class,
+                    where,
+                    List::of,
+                    row -> row.get(0, CastMemberJpaEntity.class).toAggregate(),
+                    aQuery.sort(),
+                    aQuery.direction(),
+                    aQuery.page(),
+                    aQuery.perPage(),
+                    total
+            );
+        }
+
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
-
         final var pageResult =
                 this.castMemberRepository.findAll(where, page);
 
@@ -86,8 +140,10 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
     }
 
     private CastMember save(final CastMember aCastMember) {
-        return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
+        final var result = this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
                 .toAggregate();
+        this.totalCounter.invalidate(TABLE);
+        return result;
     }
 
     private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
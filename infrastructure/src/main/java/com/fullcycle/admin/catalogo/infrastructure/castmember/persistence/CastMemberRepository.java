@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.castmember.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.autocomplete.IndexedName;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -15,4 +16,8 @@ public interface CastMemberRepository extends JpaRepository<CastMemberJpaEntity,
 
     @Query(value = "select c.id from CastMember c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query("select new com.fullcycle.admin.catalogo.infrastructure.autocomplete.IndexedName(c.id, c.name) "
+            + "from CastMember c where c.id > :after order by c.id")
+    List<IndexedName> findNamesAfter(@Param("after") String after, Pageable page);
 }
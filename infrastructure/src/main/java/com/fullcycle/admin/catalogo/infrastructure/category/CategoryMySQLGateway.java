@@ -3,10 +3,14 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.pagination.TotalCounter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceUtils;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -14,8 +18,10 @@ import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import java.util.stream.StreamSupport;
 
 import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils.like;
@@ -23,10 +29,20 @@ import static com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUti
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    private static final String TABLE = "categories";
+
     private final CategoryRepository repository;
+    private final EntityManager entityManager;
+    private final TotalCounter totalCounter;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final EntityManager entityManager,
+            final TotalCounter totalCounter
+    ) {
         this.repository = repository;
+        this.entityManager = entityManager;
+        this.totalCounter = totalCounter;
     }
 
     @Override
@@ -39,6 +55,7 @@ public class CategoryMySQLGateway implements CategoryGateway {
         final var anIdValue = aCategoryID.getValue();
         if (this.repository.existsById(anIdValue)) {
             this.repository.deleteById(anIdValue);
+            this.totalCounter.invalidate(TABLE);
         }
     }
 
@@ -55,11 +72,6 @@ public class CategoryMySQLGateway implements CategoryGateway {
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
         final var specifications = Optional.ofNullable(aQuery.terms())
                 .filter(str -> !str.isBlank())
                 .map(str -> {
@@ -68,6 +80,49 @@ public class CategoryMySQLGateway implements CategoryGateway {
                             .or(like("description", str));
                 })
                 .orElse(null);
+
+        final LongSupplier total = () -> this.totalCounter.count(
+                aQuery.countMode(),
+                TABLE,
+                aQuery.terms(),
+                () -> SliceUtils.count(this.entityManager, CategoryJpaEntity.class, specifications)
+        );
+
+        if (aQuery.isKeyset()) {
+            return KeysetUtils.findAfter(
+                    this.entityManager,
+                    CategoryJpaEntity.class,
+                    specifications,
+                    List::of,
+                    row -> row.get(0, CategoryJpaEntity.class).toAggregate(),
+                    aQuery.sort(),
+                    aQuery.direction(),
+                    aQuery.after(),
+                    aQuery.perPage(),
+                    total
+            );
+        }
+
+        if (aQuery.countMode() != CountMode.EXACT) {
+            return SliceUtils.findSlice(
+                    this.entityManager,
+                    CategoryJpaEntity.class,
+                    specifications,
+                    List::of,
+                    row -> row.get(0, CategoryJpaEntity.class).toAggregate(),
+                    aQuery.sort(),
+                    aQuery.direction(),
+                    aQuery.page(),
+                    aQuery.perPage(),
+                    total
+            );
+        }
+
+        final var page = PageRequest.of(
+                aQuery.page(),
+                aQuery.perPage(),
+                Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
+        );
         final var pageResult =
                 this.repository.findAll(Specification.where(specifications), page);
         return new Pagination<>(
@@ -89,7 +144,9 @@ public class CategoryMySQLGateway implements CategoryGateway {
     }
 
     private Category save(Category aCategory) {
-        return repository.save(CategoryJpaEntity.from(aCategory))
+        final var result = repository.save(CategoryJpaEntity.from(aCategory))
                 .toAggregate();
+        this.totalCounter.invalidate(TABLE);
+        return result;
     }
 }
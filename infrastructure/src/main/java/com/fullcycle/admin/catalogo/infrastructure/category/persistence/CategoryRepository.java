@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.category.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.autocomplete.IndexedName;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -15,4 +16,8 @@ public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, Str
 
     @Query(value = "select c.id from Category c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query("select new com.fullcycle.admin.catalogo.infrastructure.autocomplete.IndexedName(c.id, c.name) "
+            + "from Category c where c.id > :after order by c.id")
+    List<IndexedName> findNamesAfter(@Param("after") String after, Pageable page);
 }
@@ -3,6 +3,7 @@ package com.fullcycle.admin.catalogo.infrastructure.configuration;
 import com.nimbusds.jose.shaded.json.JSONObject;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -40,6 +41,9 @@ public class SecurityConfig {
                 })
                 .authorizeHttpRequests(authorize -> {
                     authorize
+                            .antMatchers(HttpMethod.GET, "/media-links").permitAll()
+                            .antMatchers(HttpMethod.PUT, "/media-links").permitAll()
+                            .antMatchers(HttpMethod.GET, "/autocomplete*").hasAnyRole(ROLE_ADMIN, ROLE_CAST_MEMBERS, ROLE_CATEGORIES, ROLE_GENRES, ROLE_VIDEOS)
                             .antMatchers("/cast_members*").hasAnyRole(ROLE_ADMIN, ROLE_CAST_MEMBERS)
                             .antMatchers("/categories*").hasAnyRole(ROLE_ADMIN, ROLE_CATEGORIES)
                             .antMatchers("/genres*").hasAnyRole(ROLE_ADMIN, ROLE_GENRES)
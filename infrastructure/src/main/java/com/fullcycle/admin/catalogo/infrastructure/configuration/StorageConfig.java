@@ -4,35 +4,169 @@ import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.goog
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.impl.GCStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.FileSystemStorageService;
 import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.LocalUrlSigner;
+import com.fullcycle.admin.catalogo.infrastructure.services.metrics.InstrumentedStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.metrics.StorageMetrics;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BufferPool;
+import com.fullcycle.admin.catalogo.infrastructure.video.AudioVideoDiskCache;
+import com.fullcycle.admin.catalogo.infrastructure.video.replication.MediaReplicationQueue;
+import com.fullcycle.admin.catalogo.infrastructure.video.replication.MediaSpool;
 import com.google.cloud.storage.Storage;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class StorageConfig {
 
+    private static final DataSize DEFAULT_MEDIA_CACHE_SIZE = DataSize.ofGigabytes(10);
+    private static final int MEDIA_CACHE_FILL_THREADS = 2;
+
     @Bean
     @ConfigurationProperties(value = "storage.catalogo-videos")
     public StorageProperties storageProperties() {
         return new StorageProperties();
     }
 
+    @Bean
+    public StorageMetrics storageMetrics() {
+        return new StorageMetrics();
+    }
+
+    @Bean
+    public BufferPool bufferPool() {
+        return BufferPool.shared();
+    }
+
+    @Bean
+    public AudioVideoDiskCache audioVideoDiskCache(final StorageProperties props) {
+        final var directory = props.getMediaCacheDirectory();
+        if (directory == null || directory.isBlank()) {
+            return AudioVideoDiskCache.disabled();
+        }
+
+        final var maxBytes = Optional.ofNullable(props.getMediaCacheSize())
+                .map(DataSize::toBytes)
+                .orElse(DEFAULT_MEDIA_CACHE_SIZE.toBytes());
+
+        final var counter = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(MEDIA_CACHE_FILL_THREADS, runnable -> {
+            final var thread = new Thread(runnable, "media-cache-fill-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        return new AudioVideoDiskCache(Path.of(directory), maxBytes, executor);
+    }
+
+    @Bean
+    public MediaSpool mediaSpool(final StorageProperties props) {
+        if (!isWriteBehind(props)) {
+            return MediaSpool.disabled();
+        }
+        return new MediaSpool(Path.of(props.getSpoolDirectory()).resolve("objects"));
+    }
+
+    @Bean
+    public MediaReplicationQueue mediaReplicationQueue(final StorageProperties props) {
+        if (!isWriteBehind(props)) {
+            return MediaReplicationQueue.disabled();
+        }
+        return new MediaReplicationQueue(Path.of(props.getSpoolDirectory()).resolve("requests"));
+    }
+
+    @Bean
+    public LocalUrlSigner localUrlSigner(final StorageProperties props) {
+        final var base = Optional.ofNullable(props.getSignedUrlBase())
+                .filter(it -> !it.isBlank())
+                .orElse(LocalUrlSigner.DEFAULT_BASE);
+
+        final var secret = props.getSignedUrlSecret();
+        if (secret != null && !secret.isBlank()) {
+            return new LocalUrlSigner(base, secret.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // A random secret would silently break every link handed out before a restart of the file system storage
+        if (props.getLocalDirectory() != null && !props.getLocalDirectory().isBlank()) {
+            throw new IllegalStateException("'storage.catalogo-videos.signed-url-secret' should be set when 'local-directory' is used");
+        }
+        return LocalUrlSigner.withRandomSecret(base);
+    }
+
     @Bean
     @Profile({"test-integration", "test-e2e"})
-    public StorageService localStorageAPI() {
-        return new InMemoryStorageService();
+    public StorageService localStorageAPI(
+            final StorageProperties props,
+            final LocalUrlSigner signer,
+            final StorageMetrics metrics
+    ) {
+        final var capacity = Optional.ofNullable(props.getMemoryCapacity())
+                .map(DataSize::toBytes)
+                .orElse(Long.MAX_VALUE);
+
+        return new InstrumentedStorageService(
+                new InMemoryStorageService(signer, capacity, props.isMemoryOffHeap()),
+                metrics
+        );
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "storage.catalogo-videos", name = "local-directory")
+    public StorageService fileSystemStorageAPI(
+            final StorageProperties props,
+            final LocalUrlSigner signer,
+            final StorageMetrics metrics
+    ) {
+        return new InstrumentedStorageService(new FileSystemStorageService(props.getLocalDirectory(), signer), metrics);
     }
 
     @Bean
     @ConditionalOnMissingBean
     public StorageService gcStorageAPI(
             final GoogleStorageProperties props,
-            final Storage storage
+            final Storage storage,
+            final StorageMetrics metrics
     ) {
-        return new GCStorageService(props.getBucket(), storage);
+        final var gcStorage = new GCStorageService(
+                props.getBucket(),
+                storage,
+                props.getChunkSize(),
+                props.getCompositeThreshold(),
+                props.getCompositePartSize(),
+                props.getCompositeParallelism(),
+                props.getRetryMaxAttempts(),
+                props.getSlicedReadThreshold(),
+                props.getSlicedReadSize(),
+                props.getSlicedReadParallelism(),
+                props.getSlicedReadMaxBuffered(),
+                props.getSlicedReadMaxConcurrency()
+        );
+
+        return new InstrumentedStorageService(gcStorage, metrics);
+    }
+
+    // Spooled media and their pending replications must survive a restart, or uploads acknowledged to clients are lost
+    private static boolean isWriteBehind(final StorageProperties props) {
+        if (!props.isWriteBehind()) {
+            return false;
+        }
+
+        if (props.getSpoolDirectory() == null || props.getSpoolDirectory().isBlank()) {
+            throw new IllegalStateException("'storage.catalogo-videos.spool-directory' should point to a persistent directory when 'write-behind' is enabled");
+        }
+        return true;
     }
 }
@@ -15,6 +15,15 @@ public class GoogleStorageProperties implements InitializingBean {
     private int retryMaxDelay;
     private int retryMaxAttempts;
     private double retryMultiplier;
+    private int chunkSize;
+    private long compositeThreshold;
+    private long compositePartSize;
+    private int compositeParallelism;
+    private long slicedReadThreshold;
+    private int slicedReadSize;
+    private int slicedReadParallelism;
+    private long slicedReadMaxBuffered;
+    private int slicedReadMaxConcurrency;
 
     public GoogleStorageProperties() {
     }
@@ -82,6 +91,87 @@ public class GoogleStorageProperties implements InitializingBean {
         return this;
     }
 
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public GoogleStorageProperties setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public long getCompositeThreshold() {
+        return compositeThreshold;
+    }
+
+    public GoogleStorageProperties setCompositeThreshold(long compositeThreshold) {
+        this.compositeThreshold = compositeThreshold;
+        return this;
+    }
+
+    public long getCompositePartSize() {
+        return compositePartSize;
+    }
+
+    public GoogleStorageProperties setCompositePartSize(long compositePartSize) {
+        this.compositePartSize = compositePartSize;
+        return this;
+    }
+
+    public int getCompositeParallelism() {
+        return compositeParallelism;
+    }
+
+    public GoogleStorageProperties setCompositeParallelism(int compositeParallelism) {
+        this.compositeParallelism = compositeParallelism;
+        return this;
+    }
+
+    public long getSlicedReadThreshold() {
+        return slicedReadThreshold;
+    }
+
+    public GoogleStorageProperties setSlicedReadThreshold(long slicedReadThreshold) {
+        this.slicedReadThreshold = slicedReadThreshold;
+        return this;
+    }
+
+    public int getSlicedReadSize() {
+        return slicedReadSize;
+    }
+
+    public GoogleStorageProperties setSlicedReadSize(int slicedReadSize) {
+        this.slicedReadSize = slicedReadSize;
+        return this;
+    }
+
+    public int getSlicedReadParallelism() {
+        return slicedReadParallelism;
+    }
+
+    public GoogleStorageProperties setSlicedReadParallelism(int slicedReadParallelism) {
+        this.slicedReadParallelism = slicedReadParallelism;
+        return this;
+    }
+
+    public long getSlicedReadMaxBuffered() {
+        return slicedReadMaxBuffered;
+    }
+
+    public GoogleStorageProperties setSlicedReadMaxBuffered(long slicedReadMaxBuffered) {
+        this.slicedReadMaxBuffered = slicedReadMaxBuffered;
+        return this;
+    }
+
+    public int getSlicedReadMaxConcurrency() {
+        return slicedReadMaxConcurrency;
+    }
+
+    public GoogleStorageProperties setSlicedReadMaxConcurrency(int slicedReadMaxConcurrency) {
+        this.slicedReadMaxConcurrency = slicedReadMaxConcurrency;
+        return this;
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         log.debug(toString());
@@ -97,6 +187,15 @@ public class GoogleStorageProperties implements InitializingBean {
                 ", retryMaxDelay=" + retryMaxDelay +
                 ", retryMaxAttempts=" + retryMaxAttempts +
                 ", retryMultiplier=" + retryMultiplier +
+                ", chunkSize=" + chunkSize +
+                ", compositeThreshold=" + compositeThreshold +
+                ", compositePartSize=" + compositePartSize +
+                ", compositeParallelism=" + compositeParallelism +
+                ", slicedReadThreshold=" + slicedReadThreshold +
+                ", slicedReadSize=" + slicedReadSize +
+                ", slicedReadParallelism=" + slicedReadParallelism +
+                ", slicedReadMaxBuffered=" + slicedReadMaxBuffered +
+                ", slicedReadMaxConcurrency=" + slicedReadMaxConcurrency +
                 '}';
     }
 }
\ No newline at end of file
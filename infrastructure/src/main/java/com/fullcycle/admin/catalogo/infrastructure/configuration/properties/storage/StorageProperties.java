@@ -3,6 +3,9 @@ package com.fullcycle.admin.catalogo.infrastructure.configuration.properties.sto
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
 
 public class StorageProperties implements InitializingBean {
 
@@ -12,6 +15,48 @@ public class StorageProperties implements InitializingBean {
 
     private String filenamePattern;
 
+    private String uploadDirectory;
+
+    private Duration uploadTtl;
+
+    private String localDirectory;
+
+    private int mediaParallelism;
+
+    private Duration mediaTimeout;
+
+    private String cleanupDirectory;
+
+    private int cleanupBatchSize;
+
+    private Duration cleanupInterval;
+
+    private DataSize imageCacheSize;
+
+    private Duration imageCacheTtl;
+
+    private Duration signedUrlTtl;
+
+    private String signedUrlBase;
+
+    private String signedUrlSecret;
+
+    private Duration directUploadTtl;
+
+    private DataSize memoryCapacity;
+
+    private boolean memoryOffHeap;
+
+    private String mediaCacheDirectory;
+
+    private DataSize mediaCacheSize;
+
+    private boolean writeBehind;
+
+    private String spoolDirectory;
+
+    private Duration replicationInterval;
+
     public StorageProperties() {
     }
 
@@ -31,6 +76,174 @@ public class StorageProperties implements InitializingBean {
         this.filenamePattern = filenamePattern;
     }
 
+    public String getUploadDirectory() {
+        return uploadDirectory;
+    }
+
+    public void setUploadDirectory(String uploadDirectory) {
+        this.uploadDirectory = uploadDirectory;
+    }
+
+    public Duration getUploadTtl() {
+        return uploadTtl;
+    }
+
+    public void setUploadTtl(Duration uploadTtl) {
+        this.uploadTtl = uploadTtl;
+    }
+
+    public String getLocalDirectory() {
+        return localDirectory;
+    }
+
+    public void setLocalDirectory(String localDirectory) {
+        this.localDirectory = localDirectory;
+    }
+
+    public int getMediaParallelism() {
+        return mediaParallelism;
+    }
+
+    public void setMediaParallelism(int mediaParallelism) {
+        this.mediaParallelism = mediaParallelism;
+    }
+
+    public Duration getMediaTimeout() {
+        return mediaTimeout;
+    }
+
+    public void setMediaTimeout(Duration mediaTimeout) {
+        this.mediaTimeout = mediaTimeout;
+    }
+
+    public String getCleanupDirectory() {
+        return cleanupDirectory;
+    }
+
+    public void setCleanupDirectory(String cleanupDirectory) {
+        this.cleanupDirectory = cleanupDirectory;
+    }
+
+    public int getCleanupBatchSize() {
+        return cleanupBatchSize;
+    }
+
+    public void setCleanupBatchSize(int cleanupBatchSize) {
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    public Duration getCleanupInterval() {
+        return cleanupInterval;
+    }
+
+    public void setCleanupInterval(Duration cleanupInterval) {
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    public DataSize getImageCacheSize() {
+        return imageCacheSize;
+    }
+
+    public void setImageCacheSize(DataSize imageCacheSize) {
+        this.imageCacheSize = imageCacheSize;
+    }
+
+    public Duration getImageCacheTtl() {
+        return imageCacheTtl;
+    }
+
+    public void setImageCacheTtl(Duration imageCacheTtl) {
+        this.imageCacheTtl = imageCacheTtl;
+    }
+
+    public Duration getSignedUrlTtl() {
+        return signedUrlTtl;
+    }
+
+    public void setSignedUrlTtl(Duration signedUrlTtl) {
+        this.signedUrlTtl = signedUrlTtl;
+    }
+
+    public String getSignedUrlBase() {
+        return signedUrlBase;
+    }
+
+    public void setSignedUrlBase(String signedUrlBase) {
+        this.signedUrlBase = signedUrlBase;
+    }
+
+    public String getSignedUrlSecret() {
+        return signedUrlSecret;
+    }
+
+    public void setSignedUrlSecret(String signedUrlSecret) {
+        this.signedUrlSecret = signedUrlSecret;
+    }
+
+    public Duration getDirectUploadTtl() {
+        return directUploadTtl;
+    }
+
+    public void setDirectUploadTtl(Duration directUploadTtl) {
+        this.directUploadTtl = directUploadTtl;
+    }
+
+    public DataSize getMemoryCapacity() {
+        return memoryCapacity;
+    }
+
+    public void setMemoryCapacity(DataSize memoryCapacity) {
+        this.memoryCapacity = memoryCapacity;
+    }
+
+    public boolean isMemoryOffHeap() {
+        return memoryOffHeap;
+    }
+
+    public void setMemoryOffHeap(boolean memoryOffHeap) {
+        this.memoryOffHeap = memoryOffHeap;
+    }
+
+    public String getMediaCacheDirectory() {
+        return mediaCacheDirectory;
+    }
+
+    public void setMediaCacheDirectory(String mediaCacheDirectory) {
+        this.mediaCacheDirectory = mediaCacheDirectory;
+    }
+
+    public DataSize getMediaCacheSize() {
+        return mediaCacheSize;
+    }
+
+    public void setMediaCacheSize(DataSize mediaCacheSize) {
+        this.mediaCacheSize = mediaCacheSize;
+    }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    public void setWriteBehind(boolean writeBehind) {
+        this.writeBehind = writeBehind;
+    }
+
+    public String getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    public void setSpoolDirectory(String spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    public Duration getReplicationInterval() {
+        return replicationInterval;
+    }
+
+    public void setReplicationInterval(Duration replicationInterval) {
+        this.replicationInterval = replicationInterval;
+    }
+
     @Override
     public void afterPropertiesSet() {
         log.debug(toString());
@@ -41,6 +254,26 @@ public class StorageProperties implements InitializingBean {
         return "StorageProperties{" +
                 "locationPattern='" + locationPattern + '\'' +
                 ", filenamePattern='" + filenamePattern + '\'' +
+                ", uploadDirectory='" + uploadDirectory + '\'' +
+                ", uploadTtl=" + uploadTtl +
+                ", localDirectory='" + localDirectory + '\'' +
+                ", mediaParallelism=" + mediaParallelism +
+                ", mediaTimeout=" + mediaTimeout +
+                ", cleanupDirectory='" + cleanupDirectory + '\'' +
+                ", cleanupBatchSize=" + cleanupBatchSize +
+                ", cleanupInterval=" + cleanupInterval +
+                ", imageCacheSize=" + imageCacheSize +
+                ", imageCacheTtl=" + imageCacheTtl +
+                ", signedUrlTtl=" + signedUrlTtl +
+                ", signedUrlBase='" + signedUrlBase + '\'' +
+                ", directUploadTtl=" + directUploadTtl +
+                ", memoryCapacity=" + memoryCapacity +
+                ", memoryOffHeap=" + memoryOffHeap +
+                ", mediaCacheDirectory='" + mediaCacheDirectory + '\'' +
+                ", mediaCacheSize=" + mediaCacheSize +
+                ", writeBehind=" + writeBehind +
+                ", spoolDirectory='" + spoolDirectory + '\'' +
+                ", replicationInterval=" + replicationInterval +
                 '}';
     }
 }
@@ -0,0 +1,24 @@
+package com.fullcycle.admin.catalogo.infrastructure.configuration.usecases;
+
+import com.fullcycle.admin.catalogo.application.autocomplete.AutocompleteUseCase;
+import com.fullcycle.admin.catalogo.application.autocomplete.DefaultAutocompleteUseCase;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Objects;
+
+@Configuration(proxyBeanMethods = false)
+public class AutocompleteUseCaseConfig {
+
+    private final AutocompleteGateway autocompleteGateway;
+
+    public AutocompleteUseCaseConfig(final AutocompleteGateway autocompleteGateway) {
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
+    }
+
+    @Bean
+    public AutocompleteUseCase autocompleteUseCase() {
+        return new DefaultAutocompleteUseCase(autocompleteGateway);
+    }
+}
@@ -10,6 +10,7 @@ import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.Default
 import com.fullcycle.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.DefaultUpdateCastMemberUseCase;
 import com.fullcycle.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,19 +21,24 @@ import java.util.Objects;
 public class CastMemberUseCaseConfig {
 
     private final CastMemberGateway castMemberGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
-    public CastMemberUseCaseConfig(final CastMemberGateway castMemberGateway) {
+    public CastMemberUseCaseConfig(
+            final CastMemberGateway castMemberGateway,
+            final AutocompleteGateway autocompleteGateway
+    ) {
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Bean
     public CreateCastMemberUseCase createCastMemberUseCase() {
-        return new DefaultCreateCastMemberUseCase(castMemberGateway);
+        return new DefaultCreateCastMemberUseCase(castMemberGateway, autocompleteGateway);
     }
 
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
-        return new DefaultDeleteCastMemberUseCase(castMemberGateway);
+        return new DefaultDeleteCastMemberUseCase(castMemberGateway, autocompleteGateway);
     }
 
     @Bean
@@ -47,6 +53,6 @@ public class CastMemberUseCaseConfig {
 
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
-        return new DefaultUpdateCastMemberUseCase(castMemberGateway);
+        return new DefaultUpdateCastMemberUseCase(castMemberGateway, autocompleteGateway);
     }
 }
@@ -10,6 +10,7 @@ import com.fullcycle.admin.catalogo.application.category.retrieve.list.DefaultLi
 import com.fullcycle.admin.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.fullcycle.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,19 +21,24 @@ import java.util.Objects;
 public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
+    public CategoryUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final AutocompleteGateway autocompleteGateway
+    ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Bean
     public CreateCategoryUseCase createCategoryUseCase() {
-        return new DefaultCreateCategoryUseCase(categoryGateway);
+        return new DefaultCreateCategoryUseCase(categoryGateway, autocompleteGateway);
     }
 
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
-        return new DefaultUpdateCategoryUseCase(categoryGateway);
+        return new DefaultUpdateCategoryUseCase(categoryGateway, autocompleteGateway);
     }
 
     @Bean
@@ -47,6 +53,6 @@ public class CategoryUseCaseConfig {
 
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
-        return new DefaultDeleteCategoryUseCase(categoryGateway);
+        return new DefaultDeleteCategoryUseCase(categoryGateway, autocompleteGateway);
     }
 }
@@ -10,6 +10,7 @@ import com.fullcycle.admin.catalogo.application.genre.retrieve.list.DefaultListG
 import com.fullcycle.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
 import com.fullcycle.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import org.springframework.context.annotation.Bean;
@@ -22,23 +23,26 @@ public class GenreUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
     private final GenreGateway genreGateway;
+    private final AutocompleteGateway autocompleteGateway;
 
     public GenreUseCaseConfig(
             final CategoryGateway categoryGateway,
-            final GenreGateway genreGateway
+            final GenreGateway genreGateway,
+            final AutocompleteGateway autocompleteGateway
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.autocompleteGateway = Objects.requireNonNull(autocompleteGateway);
     }
 
     @Bean
     public CreateGenreUseCase createGenreUseCase() {
-        return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
+        return new DefaultCreateGenreUseCase(categoryGateway, genreGateway, autocompleteGateway);
     }
 
     @Bean
     public DeleteGenreUseCase deleteGenreUseCase() {
-        return new DefaultDeleteGenreUseCase(genreGateway);
+        return new DefaultDeleteGenreUseCase(genreGateway, autocompleteGateway);
     }
 
     @Bean
@@ -53,6 +57,6 @@ public class GenreUseCaseConfig {
 
     @Bean
     public UpdateGenreUseCase updateGenreUseCase() {
-        return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway);
+        return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway, autocompleteGateway);
     }
 }
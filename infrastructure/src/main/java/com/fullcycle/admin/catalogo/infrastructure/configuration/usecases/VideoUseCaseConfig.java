@@ -4,12 +4,30 @@ import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.create.DefaultCreateVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DefaultDeleteVideoUseCase;
 import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.direct.complete.CompleteDirectUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.direct.complete.DefaultCompleteDirectUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.direct.create.CreateDirectUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.direct.create.DefaultCreateDirectUploadUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.DefaultGetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.DefaultUpdateMediaStatusUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.abort.AbortUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.abort.DefaultAbortUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.DefaultUploadChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.UploadChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.complete.CompleteUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.complete.DefaultCompleteUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.create.CreateUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.create.DefaultCreateUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.get.DefaultGetUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.get.GetUploadSessionUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.DefaultUploadMediaUseCase;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.metadata.DefaultGetMediaMetadataUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.metadata.GetMediaMetadataUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.url.DefaultGetMediaUrlUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.url.GetMediaUrlUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.DefaultListVideosUseCase;
@@ -20,38 +38,76 @@ import com.fullcycle.admin.catalogo.domain.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.fullcycle.admin.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
+import com.fullcycle.admin.catalogo.domain.video.DirectUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.UploadSessionGateway;
 import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class VideoUseCaseConfig {
 
+    private static final Duration DEFAULT_MEDIA_TIMEOUT = Duration.ofMinutes(10);
+    private static final Duration DEFAULT_SIGNED_URL_TTL = Duration.ofMinutes(5);
+
     private final CategoryGateway categoryGateway;
     private final CastMemberGateway castMemberGateway;
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
+    private final UploadSessionGateway uploadSessionGateway;
+    private final DirectUploadGateway directUploadGateway;
+    private final StorageProperties storageProperties;
 
     public VideoUseCaseConfig(
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final VideoGateway videoGateway
+            final VideoGateway videoGateway,
+            final UploadSessionGateway uploadSessionGateway,
+            final DirectUploadGateway directUploadGateway,
+            final StorageProperties storageProperties
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.uploadSessionGateway = Objects.requireNonNull(uploadSessionGateway);
+        this.directUploadGateway = Objects.requireNonNull(directUploadGateway);
+        this.storageProperties = Objects.requireNonNull(storageProperties);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService mediaStoreExecutor() {
+        final var counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, storageProperties.getMediaParallelism()), runnable -> {
+            final var thread = new Thread(runnable, "media-store-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Bean
-    public CreateVideoUseCase createVideoUseCase() {
-        return new DefaultCreateVideoUseCase(categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway);
+    public CreateVideoUseCase createVideoUseCase(final ExecutorService mediaStoreExecutor) {
+        return new DefaultCreateVideoUseCase(
+                categoryGateway,
+                castMemberGateway,
+                genreGateway,
+                mediaResourceGateway,
+                videoGateway,
+                mediaStoreExecutor,
+                Optional.ofNullable(storageProperties.getMediaTimeout()).orElse(DEFAULT_MEDIA_TIMEOUT)
+        );
     }
 
     @Bean
@@ -79,11 +135,59 @@ public class VideoUseCaseConfig {
         return new DefaultGetMediaUseCase(mediaResourceGateway);
     }
 
+    @Bean
+    public GetMediaMetadataUseCase getMediaMetadataUseCase() {
+        return new DefaultGetMediaMetadataUseCase(mediaResourceGateway);
+    }
+
+    @Bean
+    public GetMediaUrlUseCase getMediaUrlUseCase() {
+        return new DefaultGetMediaUrlUseCase(
+                mediaResourceGateway,
+                Optional.ofNullable(storageProperties.getSignedUrlTtl()).orElse(DEFAULT_SIGNED_URL_TTL)
+        );
+    }
+
     @Bean
     public UploadMediaUseCase uploadMediaUseCase() {
         return new DefaultUploadMediaUseCase(mediaResourceGateway, videoGateway);
     }
 
+    @Bean
+    public CreateUploadSessionUseCase createUploadSessionUseCase() {
+        return new DefaultCreateUploadSessionUseCase(uploadSessionGateway, videoGateway);
+    }
+
+    @Bean
+    public GetUploadSessionUseCase getUploadSessionUseCase() {
+        return new DefaultGetUploadSessionUseCase(uploadSessionGateway);
+    }
+
+    @Bean
+    public UploadChunkUseCase uploadChunkUseCase() {
+        return new DefaultUploadChunkUseCase(uploadSessionGateway);
+    }
+
+    @Bean
+    public CompleteUploadSessionUseCase completeUploadSessionUseCase(final UploadMediaUseCase uploadMediaUseCase) {
+        return new DefaultCompleteUploadSessionUseCase(uploadSessionGateway, uploadMediaUseCase);
+    }
+
+    @Bean
+    public AbortUploadSessionUseCase abortUploadSessionUseCase() {
+        return new DefaultAbortUploadSessionUseCase(uploadSessionGateway);
+    }
+
+    @Bean
+    public CreateDirectUploadUseCase createDirectUploadUseCase() {
+        return new DefaultCreateDirectUploadUseCase(directUploadGateway, videoGateway);
+    }
+
+    @Bean
+    public CompleteDirectUploadUseCase completeDirectUploadUseCase(final UploadMediaUseCase uploadMediaUseCase) {
+        return new DefaultCompleteDirectUploadUseCase(directUploadGateway, uploadMediaUseCase);
+    }
+
     @Bean
     public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
         return new DefaultUpdateMediaStatusUseCase(videoGateway);
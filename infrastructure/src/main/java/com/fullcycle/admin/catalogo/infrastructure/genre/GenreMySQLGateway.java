@@ -3,19 +3,25 @@ package com.fullcycle.admin.catalogo.infrastructure.genre;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
 import com.fullcycle.admin.catalogo.domain.genre.GenreGateway;
 import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.admin.catalogo.infrastructure.pagination.TotalCounter;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceUtils;
 import com.fullcycle.admin.catalogo.infrastructure.utils.SpecificationUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 import java.util.stream.StreamSupport;
 
 import static org.springframework.data.jpa.domain.Specification.where;
@@ -23,10 +29,20 @@ import static org.springframework.data.jpa.domain.Specification.where;
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
-    private final GenreRepository genreRepository;
+    private static final String TABLE = "genres";
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    private final GenreRepository genreRepository;
+    private final EntityManager entityManager;
+    private final TotalCounter totalCounter;
+
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final EntityManager entityManager,
+            final TotalCounter totalCounter
+    ) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.totalCounter = Objects.requireNonNull(totalCounter);
     }
 
     @Override
@@ -39,6 +55,7 @@ public class GenreMySQLGateway implements GenreGateway {
         final var aGenreId = anId.getValue();
         if (this.genreRepository.existsById(aGenreId)) {
             this.genreRepository.deleteById(aGenreId);
+            this.totalCounter.invalidate(TABLE);
         }
     }
 
@@ -55,17 +72,54 @@ public class GenreMySQLGateway implements GenreGateway {
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        final var where = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(this::assembleSpecification)
+                .orElse(null);
+
+        final LongSupplier total = () -> this.totalCounter.count(
+                aQuery.countMode(),
+                TABLE,
+                aQuery.terms(),
+                () -> SliceUtils.count(this.entityManager, GenreJpaEntity.class, where)
+        );
+
+        if (aQuery.isKeyset()) {
+            return KeysetUtils.findAfter(
+                    this.entityManager,
+                    GenreJpaEntity.class,
+                    where,
+                    List::of,
+                    row -> row.get(0, GenreJpaEntity.class).toAggregate(),
+                    aQuery.sort(),
+                    aQuery.direction(),
+                    aQuery.after(),
+                    aQuery.perPage(),
+                    total
+            );
+        }
+
+        if (aQuery.countMode() != CountMode.EXACT) {
+            return SliceUtils.findSlice(
+                    this.entityManager,
+                    GenreJpaEntity.class,
+                    where,
+                    List::of,
+                    row -> row.get(0, GenreJpaEntity.class).toAggregate(),
+                    aQuery.sort(),
+                    aQuery.direction(),
+                    aQuery.page(),
+                    aQuery.perPage(),
+                    total
+            );
+        }
+
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
                 Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
         );
 
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
-
         final var pageResult =
                 this.genreRepository.findAll(where(where), page);
 
@@ -88,8 +142,10 @@ public class GenreMySQLGateway implements GenreGateway {
     }
 
     private Genre save(final Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre))
+        final var result = this.genreRepository.save(GenreJpaEntity.from(aGenre))
                 .toAggregate();
+        this.totalCounter.invalidate(TABLE);
+        return result;
     }
 
     private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo.infrastructure.genre.persistence;
 
+import com.fullcycle.admin.catalogo.infrastructure.autocomplete.IndexedName;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -15,4 +16,8 @@ public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
 
     @Query(value = "select g.id from Genre g where g.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query("select new com.fullcycle.admin.catalogo.infrastructure.autocomplete.IndexedName(g.id, g.name) "
+            + "from Genre g where g.id > :after order by g.id")
+    List<IndexedName> findNamesAfter(@Param("after") String after, Pageable page);
 }
@@ -0,0 +1,97 @@
+package com.fullcycle.admin.catalogo.infrastructure.pagination;
+
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+@Component
+public class TotalCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(TotalCounter.class);
+
+    private static final int MAX_ENTRIES = 1_000;
+    private static final String SEPARATOR = "\u001F";
+    private static final String TABLE_ROWS = """
+            select TABLE_ROWS from information_schema.TABLES
+            where TABLE_SCHEMA = database() and TABLE_NAME = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    public TotalCounter(
+            final DataSource dataSource,
+            @Value("${pagination.count-cache-ttl:30s}") final Duration ttl
+    ) {
+        this.jdbcTemplate = dataSource != null ? new JdbcTemplate(dataSource) : null;
+        this.ttlNanos = Objects.requireNonNull(ttl).toNanos();
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    public long count(final CountMode aMode, final String aTable, final String aFilter, final LongSupplier exact) {
+        return switch (aMode) {
+            case EXACT -> exact.getAsLong();
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+            case CACHED -> cached(aTable, aFilter, exact);
+            case ESTIMATED -> aFilter == null || aFilter.isBlank()
+                    ? estimate(aTable, exact)
+                    : cached(aTable, aFilter, exact);
+        };
+    }
+
+    public void invalidate(final String aTable) {
+        final var prefix = aTable + SEPARATOR;
+        this.entries.keySet().removeIf(it -> it.startsWith(prefix));
+    }
+
+    private long cached(final String aTable, final String aFilter, final LongSupplier exact) {
+        final var key = aTable + SEPARATOR + Objects.requireNonNullElse(aFilter, "");
+        final var now = System.nanoTime();
+
+        final var anEntry = this.entries.get(key);
+        if (anEntry != null && now - anEntry.countedAt() < this.ttlNanos) {
+            return anEntry.total();
+        }
+
+        final var total = exact.getAsLong();
+        if (this.entries.size() >= MAX_ENTRIES) {
+            this.entries.values().removeIf(it -> now - it.countedAt() >= this.ttlNanos);
+            if (this.entries.size() >= MAX_ENTRIES) {
+                this.entries.clear();
+            }
+        }
+        this.entries.put(key, new Entry(total, now));
+        return total;
+    }
+
+    // InnoDB keeps an approximate row count per table, so an unfiltered total costs a metadata lookup
+    private long estimate(final String aTable, final LongSupplier exact) {
+        if (this.jdbcTemplate != null) {
+            try {
+                final var rows = this.jdbcTemplate.queryForObject(TABLE_ROWS, Long.class, aTable);
+                if (rows != null) {
+                    return rows;
+                }
+            } catch (DataAccessException e) {
+                log.debug("Table statistics unavailable, counting instead [table:{}] [error:{}]", aTable, e.getMessage());
+            }
+        }
+        return cached(aTable, "", exact);
+    }
+
+    private record Entry(long total, long countedAt) {
+    }
+}
@@ -1,9 +1,13 @@
 package com.fullcycle.admin.catalogo.infrastructure.services;
 
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceMetadata;
+import com.fullcycle.admin.catalogo.domain.resource.SignedUrl;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface StorageService {
 
@@ -11,7 +15,26 @@ public interface StorageService {
 
     Optional<Resource> get(String id);
 
+    default Optional<ResourceMetadata> stat(final String id) {
+        return get(id).map(ResourceMetadata::of);
+    }
+
     List<String> list(String prefix);
 
+    default Stream<String> scan(final String prefix) {
+        return list(prefix).stream();
+    }
+
+    SignedUrl signedUrl(String id, String filename, Duration ttl);
+
+    SignedUrl signedUploadUrl(String id, String contentType, long size, String checksum, Duration ttl);
+
+    void copy(String from, String to);
+
+    default void move(final String from, final String to) {
+        copy(from, to);
+        deleteAll(List.of(from));
+    }
+
     void deleteAll(final List<String> ids);
 }
@@ -1,41 +1,144 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.impl;
 
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceMetadata;
+import com.fullcycle.admin.catalogo.domain.resource.SignedUrl;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BufferPool;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SlicedInputStream;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.HttpMethod;
 import com.google.cloud.storage.Storage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
 
-public class GCStorageService implements StorageService {
+public class GCStorageService implements StorageService, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(GCStorageService.class);
+
+    private static final int MAX_COMPOSE_SOURCES = 32;
+    private static final long LIST_PAGE_SIZE = 1000;
+    private static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+    private static final int TRANSFER_BUFFER_SIZE = BufferPool.LARGE;
 
     private final String bucket;
     private final Storage storage;
+    private final int chunkSize;
+    private final long compositeThreshold;
+    private final long compositePartSize;
+    private final int maxAttempts;
+    private final long slicedReadThreshold;
+    private final int slicedReadSize;
+    private final int slicedReadParallelism;
+    private final long slicedReadMaxBuffered;
+    private final ExecutorService executor;
+    private final ExecutorService readExecutor;
 
     public GCStorageService(final String bucket, final Storage storage) {
+        this(bucket, storage, DEFAULT_CHUNK_SIZE, Long.MAX_VALUE, Long.MAX_VALUE, 1, 1, Long.MAX_VALUE, DEFAULT_CHUNK_SIZE, 1, Long.MAX_VALUE, 1);
+    }
+
+    public GCStorageService(
+            final String bucket,
+            final Storage storage,
+            final int chunkSize,
+            final long compositeThreshold,
+            final long compositePartSize,
+            final int compositeParallelism,
+            final int maxAttempts,
+            final long slicedReadThreshold,
+            final int slicedReadSize,
+            final int slicedReadParallelism,
+            final long slicedReadMaxBuffered,
+            final int slicedReadMaxConcurrency
+    ) {
         this.bucket = bucket;
         this.storage = storage;
+        this.chunkSize = chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+        this.compositeThreshold = compositeThreshold > 0 ? compositeThreshold : Long.MAX_VALUE;
+        this.compositePartSize = compositePartSize > 0 ? compositePartSize : Long.MAX_VALUE;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.slicedReadThreshold = slicedReadThreshold > 0 ? slicedReadThreshold : Long.MAX_VALUE;
+        this.slicedReadSize = slicedReadSize > 0 ? slicedReadSize : DEFAULT_CHUNK_SIZE;
+        this.slicedReadParallelism = Math.max(1, slicedReadParallelism);
+        this.slicedReadMaxBuffered = slicedReadMaxBuffered > 0 ? slicedReadMaxBuffered : Long.MAX_VALUE;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, compositeParallelism), daemonThreads("gcs-composite-"));
+        // Shared by every sliced read, so concurrent downloads queue their slices instead of adding threads
+        this.readExecutor = Executors.newFixedThreadPool(Math.max(1, slicedReadMaxConcurrency), daemonThreads("gcs-sliced-read-"));
     }
 
     @Override
     public void store(final String id, final Resource resource) {
         final var info = BlobInfo.newBuilder(this.bucket, id)
                 .setContentType(resource.contentType())
-                .setCrc32cFromHexString(resource.checksum())
                 .build();
 
-        this.storage.create(info, resource.content());
+        if (!resource.isStreamed()) {
+            this.storage.create(info.toBuilder().setCrc32cFromHexString(crc32cOf(resource.checksum())).build(), resource.content());
+            return;
+        }
+
+        if (resource.size() >= this.compositeThreshold) {
+            storeComposite(info, resource);
+            return;
+        }
+
+        final var crc = writeResumable(info, resource.stream(), 0, resource.size());
+        verifyStored(info.getName(), expectedOf(resource, crc));
     }
 
     @Override
     public Optional<Resource> get(final String id) {
         return Optional.ofNullable(this.storage.get(this.bucket, id))
                 .map(blob -> Resource.with(
-                        blob.getContent(),
-                        blob.getCrc32cToHexString(),
+                        contentOf(blob),
+                        blob.getSize(),
+                        checksumOf(blob),
+                        blob.getContentType(),
+                        blob.getName()
+                ));
+    }
+
+    @Override
+    public Optional<ResourceMetadata> stat(final String id) {
+        final var fields = Storage.BlobGetOption.fields(
+                Storage.BlobField.NAME,
+                Storage.BlobField.SIZE,
+                Storage.BlobField.CRC32C,
+                Storage.BlobField.CONTENT_TYPE
+        );
+
+        return Optional.ofNullable(this.storage.get(this.bucket, id, fields))
+                .map(blob -> ResourceMetadata.with(
+                        blob.getSize(),
+                        checksumOf(blob),
                         blob.getContentType(),
                         blob.getName()
                 ));
@@ -43,12 +146,85 @@ public class GCStorageService implements StorageService {
 
     @Override
     public List<String> list(final String prefix) {
-        final var blobs = this.storage.list(bucket, Storage.BlobListOption.prefix(prefix));
+        return scan(prefix).toList();
+    }
+
+    @Override
+    public Stream<String> scan(final String prefix) {
+        final var blobs = this.storage.list(
+                bucket,
+                Storage.BlobListOption.prefix(prefix),
+                Storage.BlobListOption.pageSize(LIST_PAGE_SIZE)
+        );
 
         return StreamSupport.stream(blobs.iterateAll().spliterator(), false)
                 .map(BlobInfo::getBlobId)
-                .map(BlobId::getName)
-                .toList();
+                .map(BlobId::getName);
+    }
+
+    @Override
+    public SignedUrl signedUrl(final String id, final String filename, final Duration ttl) {
+        final var expiresAt = Instant.now().plus(ttl);
+        final var info = BlobInfo.newBuilder(this.bucket, id).build();
+
+        final var options = new ArrayList<Storage.SignUrlOption>();
+        options.add(Storage.SignUrlOption.withV4Signature());
+        if (filename != null) {
+            options.add(Storage.SignUrlOption.withQueryParams(
+                    Map.of("response-content-disposition", "attachment; filename=%s".formatted(filename))
+            ));
+        }
+
+        final var url = this.storage.signUrl(
+                info,
+                ttl.toSeconds(),
+                TimeUnit.SECONDS,
+                options.toArray(Storage.SignUrlOption[]::new)
+        );
+
+        return SignedUrl.with(url.toString(), expiresAt);
+    }
+
+    @Override
+    public SignedUrl signedUploadUrl(
+            final String id,
+            final String contentType,
+            final long size,
+            final String checksum,
+            final Duration ttl
+    ) {
+        final var expiresAt = Instant.now().plus(ttl);
+        final var info = BlobInfo.newBuilder(this.bucket, id)
+                .setContentType(contentType)
+                .build();
+
+        // Signed extension headers make GCS reject a PUT whose length or CRC32C differs from the declared ones
+        final var extensionHeaders = Map.of(
+                "x-goog-content-length-range", "%d,%d".formatted(size, size),
+                "x-goog-hash", "crc32c=" + Base64.getEncoder().encodeToString(
+                        ByteBuffer.allocate(Integer.BYTES).putInt((int) HashingUtils.parse(checksum)).array())
+        );
+
+        final var url = this.storage.signUrl(
+                info,
+                ttl.toSeconds(),
+                TimeUnit.SECONDS,
+                Storage.SignUrlOption.withV4Signature(),
+                Storage.SignUrlOption.httpMethod(HttpMethod.PUT),
+                Storage.SignUrlOption.withContentType(),
+                Storage.SignUrlOption.withExtHeaders(extensionHeaders)
+        );
+
+        final var headers = new HashMap<>(extensionHeaders);
+        headers.put("Content-Type", contentType);
+        return SignedUrl.with(url.toString(), expiresAt, headers);
+    }
+
+    @Override
+    public void copy(final String from, final String to) {
+        // Rewrites happen inside GCS, getResult keeps polling until every chunk was copied
+        this.storage.copy(Storage.CopyRequest.of(this.bucket, from, BlobId.of(this.bucket, to)))
+                .getResult();
     }
 
     @Override
@@ -62,4 +238,252 @@ public class GCStorageService implements StorageService {
 
         this.storage.delete(blobs);
     }
+
+    private ContentStream contentOf(final Blob blob) {
+        final var ranged = new ContentStream() {
+            @Override
+            public InputStream open() {
+                return Channels.newInputStream(blob.reader());
+            }
+
+            @Override
+            public InputStream open(final long offset, final long length) throws IOException {
+                final var reader = blob.reader();
+                reader.seek(offset);
+                reader.limit(offset + length);
+                return Channels.newInputStream(reader);
+            }
+
+            @Override
+            public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+                try (final var reader = blob.reader()) {
+                    reader.seek(offset);
+                    reader.limit(offset + length);
+                    return BufferPool.shared().transfer(reader, target, TRANSFER_BUFFER_SIZE);
+                }
+            }
+        };
+
+        final var size = Optional.ofNullable(blob.getSize()).orElse(0L);
+        if (size < this.slicedReadThreshold) {
+            return ranged;
+        }
+
+        // Large objects are fetched as concurrent ranged reads and reassembled in order
+        return new ContentStream() {
+            @Override
+            public InputStream open() {
+                return sliced(ranged, 0, size, checksumOf(blob));
+            }
+
+            @Override
+            public InputStream open(final long offset, final long length) throws IOException {
+                final var count = Math.max(0, Math.min(length, size - offset));
+                return count < slicedReadThreshold
+                        ? ranged.open(offset, count)
+                        : sliced(ranged, offset, count, null);
+            }
+
+            @Override
+            public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+                try (final var in = open(offset, length)) {
+                    return BufferPool.sharedHeap().transfer(in, target, TRANSFER_BUFFER_SIZE);
+                }
+            }
+        };
+    }
+
+    private InputStream sliced(final ContentStream ranged, final long offset, final long length, final String checksum) {
+        return new SlicedInputStream(
+                ranged,
+                offset,
+                length,
+                this.slicedReadSize,
+                this.slicedReadParallelism,
+                this.slicedReadMaxBuffered,
+                this.maxAttempts,
+                this.readExecutor,
+                checksum
+        );
+    }
+
+    private void storeComposite(final BlobInfo info, final Resource resource) {
+        final var size = resource.size();
+        final var partSize = Math.max(this.compositePartSize, ceilDiv(size, MAX_COMPOSE_SOURCES));
+        final var partCount = (int) ceilDiv(size, partSize);
+        final var partIds = new ArrayList<String>(partCount);
+
+        for (int i = 0; i < partCount; i++) {
+            partIds.add("%s.part-%d-%s".formatted(info.getName(), i, IdUtils.uuid()));
+        }
+
+        final var aborted = new AtomicBoolean();
+        final var completion = new ExecutorCompletionService<Long>(this.executor);
+        final var uploads = new ArrayList<Future<Long>>(partCount);
+        try {
+            for (int i = 0; i < partCount; i++) {
+                final var offset = i * partSize;
+                final var length = Math.min(partSize, size - offset);
+                final var partInfo = BlobInfo.newBuilder(this.bucket, partIds.get(i)).build();
+                uploads.add(completion.submit(() -> writePart(partInfo, resource.stream(), offset, length, aborted)));
+            }
+
+            // Parts are awaited as they finish, so the first failure surfaces without waiting for the parts before it
+            for (int i = 0; i < partCount; i++) {
+                awaitPart(takeCompleted(completion));
+            }
+
+            long crc = 0;
+            for (int i = 0; i < partCount; i++) {
+                final var length = Math.min(partSize, size - i * partSize);
+                crc = HashingUtils.combine(crc, awaitPart(uploads.get(i)), length);
+            }
+
+            final var expected = expectedOf(resource, crc);
+            if (expected != crc) {
+                throw new IllegalStateException("Checksum mismatch for uploaded parts [blob:%s] [expected:%s] [actual:%s]"
+                        .formatted(info.getName(), HashingUtils.format(expected), HashingUtils.format(crc)));
+            }
+
+            final var target = BlobInfo.newBuilder(this.bucket, info.getName())
+                    .setContentType(info.getContentType())
+                    .build();
+
+            this.storage.compose(Storage.ComposeRequest.newBuilder()
+                    .addSource(partIds)
+                    .setTarget(target)
+                    .build());
+
+            verifyStored(info.getName(), expected);
+        } catch (RuntimeException e) {
+            aborted.set(true);
+            awaitAll(uploads);
+            throw e;
+        } finally {
+            deleteAll(partIds);
+        }
+    }
+
+    private Long writePart(final BlobInfo info, final ContentStream content, final long offset, final long length, final AtomicBoolean aborted) {
+        for (int attempt = 1; ; attempt++) {
+            if (aborted.get()) {
+                return null;
+            }
+            try {
+                final var crc = writeResumable(info, content, offset, length);
+                verifyStored(info.getName(), crc);
+                return crc;
+            } catch (RuntimeException e) {
+                if (attempt >= this.maxAttempts || aborted.get()) {
+                    // Parts not started yet are skipped as soon as one part gives up
+                    aborted.set(true);
+                    throw e;
+                }
+                log.warn("Retrying part upload [blob:{}] [attempt:{}] [error:{}]", info.getName(), attempt, e.getMessage());
+            }
+        }
+    }
+
+    private long writeResumable(final BlobInfo info, final ContentStream content, final long offset, final long length) {
+        final var crc = new CRC32C();
+        try (final var writer = this.storage.writer(info);
+             final var in = new CheckedInputStream(content.open(offset, length), crc)) {
+            writer.setChunkSize(this.chunkSize);
+            BufferPool.sharedHeap().transfer(in, writer, TRANSFER_BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return crc.getValue();
+    }
+
+    // Compares what GCS computed for the object with the expected value, so a corrupted object never stays in the bucket
+    private void verifyStored(final String id, final long expected) {
+        final var blob = this.storage.get(this.bucket, id, Storage.BlobGetOption.fields(Storage.BlobField.CRC32C));
+        final var actual = blob != null ? checksumOf(blob) : "";
+        if (!HashingUtils.format(expected).equals(actual)) {
+            this.storage.delete(BlobId.of(this.bucket, id));
+            throw new IllegalStateException("Checksum mismatch for stored object [blob:%s] [expected:%s] [actual:%s]"
+                    .formatted(id, HashingUtils.format(expected), actual));
+        }
+    }
+
+    private static long expectedOf(final Resource resource, final long crc) {
+        final var checksum = resource.checksum();
+        return checksum == null || checksum.isBlank() ? crc : HashingUtils.parse(checksum);
+    }
+
+    private static Future<Long> takeCompleted(final CompletionService<Long> completion) {
+        try {
+            return completion.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while uploading composite parts", e);
+        }
+    }
+
+    private static long awaitPart(final Future<Long> upload) {
+        try {
+            return upload.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while uploading composite parts", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException ex) {
+                throw ex;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Parts still being written when the upload fails must settle before their blobs are deleted, otherwise they leak
+    private static void awaitAll(final List<Future<Long>> uploads) {
+        var interrupted = Thread.interrupted();
+        for (final var upload : uploads) {
+            while (true) {
+                try {
+                    upload.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException | CancellationException e) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+        this.readExecutor.shutdownNow();
+    }
+
+    private static String checksumOf(final Blob blob) {
+        final var crc32c = blob.getCrc32c();
+        if (crc32c == null) {
+            return "";
+        }
+        return HashingUtils.format(Integer.toUnsignedLong(ByteBuffer.wrap(Base64.getDecoder().decode(crc32c)).getInt()));
+    }
+
+    private static String crc32cOf(final String checksum) {
+        // GCS expects the big-endian value while our checksums keep the little-endian byte order
+        return "%08x".formatted(HashingUtils.parse(checksum));
+    }
+
+    private static long ceilDiv(final long x, final long y) {
+        return (x + y - 1) / y;
+    }
+
+    private static ThreadFactory daemonThreads(final String prefix) {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 }
@@ -0,0 +1,306 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.SignedUrl;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BufferPool;
+import com.fullcycle.admin.catalogo.infrastructure.utils.FileContentStream;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+public class FileSystemStorageService implements StorageService {
+
+    private static final String METADATA_PREFIX = ".";
+    private static final String METADATA_SUFFIX = ".meta";
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final int TRANSFER_BUFFER_SIZE = BufferPool.LARGE;
+    private static final int PUBLISH_LOCKS = 64;
+
+    private final Path root;
+    private final LocalUrlSigner signer;
+    private final Object[] publishLocks;
+
+    public FileSystemStorageService(final String directory) {
+        this(directory, LocalUrlSigner.withRandomSecret(LocalUrlSigner.DEFAULT_BASE));
+    }
+
+    public FileSystemStorageService(final String directory, final LocalUrlSigner signer) {
+        this.signer = signer;
+        this.publishLocks = new Object[PUBLISH_LOCKS];
+        Arrays.setAll(this.publishLocks, it -> new Object());
+        this.root = Path.of(directory).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void store(final String id, final Resource resource) {
+        final var target = pathOf(id);
+        try {
+            Files.createDirectories(target.getParent());
+            final var partial = partialOf(target);
+            try {
+                try (final var in = resource.openStream();
+                     final var channel = FileChannel.open(partial, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    BufferPool.sharedHeap().transfer(in, channel, TRANSFER_BUFFER_SIZE);
+                    channel.force(true);
+                }
+                publish(partial, metadataPartialOf(target, resource), target);
+            } finally {
+                Files.deleteIfExists(partial);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(final String id) {
+        final var target = pathOf(id);
+        final var metadataPath = metadataOf(target);
+
+        if (!Files.isRegularFile(target) || !Files.isRegularFile(metadataPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            final var metadata = new Properties();
+            try (final var in = Files.newInputStream(metadataPath)) {
+                metadata.load(in);
+            }
+
+            return Optional.of(Resource.with(
+                    new FileContentStream(target),
+                    Files.size(target),
+                    metadata.getProperty("checksum"),
+                    metadata.getProperty("contentType"),
+                    metadata.getProperty("name")
+            ));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        final var separator = prefix.indexOf('/');
+        final var ids = new ArrayList<String>();
+
+        try {
+            if (separator >= 0) {
+                collect(shardOf(prefix.substring(0, separator)), prefix, ids);
+            } else {
+                try (final Stream<Path> first = listDirectory(this.root)) {
+                    for (final var level1 : first.toList()) {
+                        try (final Stream<Path> second = listDirectory(level1)) {
+                            for (final var level2 : second.toList()) {
+                                collect(level2, prefix, ids);
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return ids;
+    }
+
+    @Override
+    public SignedUrl signedUrl(final String id, final String filename, final Duration ttl) {
+        pathOf(id);
+        return this.signer.sign(id, filename, ttl);
+    }
+
+    @Override
+    public SignedUrl signedUploadUrl(final String id, final String contentType, final long size, final String checksum, final Duration ttl) {
+        pathOf(id);
+        return this.signer.signUpload(id, contentType, size, checksum, ttl);
+    }
+
+    @Override
+    public void copy(final String from, final String to) {
+        final var source = pathOf(from);
+        final var target = pathOf(to);
+        try {
+            Files.createDirectories(target.getParent());
+            final var partial = partialOf(target);
+            final var metadataPartial = partialOf(metadataOf(target));
+            try {
+                Files.copy(source, partial, StandardCopyOption.REPLACE_EXISTING);
+                Files.copy(metadataOf(source), metadataPartial, StandardCopyOption.REPLACE_EXISTING);
+                publish(partial, metadataPartial, target);
+            } finally {
+                Files.deleteIfExists(partial);
+                Files.deleteIfExists(metadataPartial);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A move within the same root is a rename, so promoting an object never rewrites its bytes
+    @Override
+    public void move(final String from, final String to) {
+        final var source = pathOf(from);
+        final var target = pathOf(to);
+        try {
+            Files.createDirectories(target.getParent());
+            final var metadataPartial = partialOf(metadataOf(target));
+            try {
+                Files.move(metadataOf(source), metadataPartial, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                publish(source, metadataPartial, target);
+            } finally {
+                Files.deleteIfExists(metadataPartial);
+            }
+            deleteEmptyParents(source.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteAll(final List<String> ids) {
+        if (ids == null || ids.isEmpty())
+            return;
+
+        try {
+            for (final var id : ids) {
+                final var target = pathOf(id);
+                Files.deleteIfExists(target);
+                Files.deleteIfExists(metadataOf(target));
+                deleteEmptyParents(target.getParent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void collect(final Path shard, final String prefix, final List<String> ids) throws IOException {
+        if (!Files.isDirectory(shard)) {
+            return;
+        }
+
+        try (final Stream<Path> segments = listDirectory(shard)) {
+            for (final var segment : segments.toList()) {
+                final var name = segment.getFileName().toString();
+                if (!name.startsWith(prefix) && !prefix.startsWith(name + "/")) {
+                    continue;
+                }
+
+                try (final Stream<Path> files = Files.walk(segment)) {
+                    files.filter(Files::isRegularFile)
+                            .filter(it -> !isInternal(it.getFileName().toString()))
+                            .map(it -> shard.relativize(it).toString().replace('\\', '/'))
+                            .filter(it -> it.startsWith(prefix))
+                            .forEach(ids::add);
+                }
+            }
+        }
+    }
+
+    private Path pathOf(final String id) {
+        final var separator = id.indexOf('/');
+        final var segment = separator >= 0 ? id.substring(0, separator) : id;
+        final var shard = shardOf(segment);
+        final var path = shard.resolve(id).normalize();
+
+        if (!path.startsWith(shard) || isInternal(path.getFileName().toString())) {
+            throw new IllegalArgumentException("Invalid resource id: %s".formatted(id));
+        }
+
+        return path;
+    }
+
+    private Path shardOf(final String segment) {
+        final var hash = HashingUtils.checksum(segment.getBytes(StandardCharsets.UTF_8));
+        return this.root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4));
+    }
+
+    private void deleteEmptyParents(final Path directory) throws IOException {
+        var current = directory;
+        while (current != null && !current.equals(this.root)) {
+            try (final Stream<Path> children = Files.list(current)) {
+                if (children.findAny().isPresent()) {
+                    return;
+                }
+            } catch (NoSuchFileException e) {
+                return;
+            }
+
+            try {
+                Files.deleteIfExists(current);
+            } catch (DirectoryNotEmptyException e) {
+                return;
+            }
+            current = current.getParent();
+        }
+    }
+
+    // Both files are complete before either is renamed, and the content goes first so a reader never pairs a new checksum with old bytes;
+    // the renames of one id are serialized so concurrent writers cannot cross their content and metadata
+    private void publish(final Path partial, final Path metadataPartial, final Path target) throws IOException {
+        try {
+            synchronized (this.publishLocks[Math.floorMod(target.hashCode(), PUBLISH_LOCKS)]) {
+                Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Files.move(metadataPartial, metadataOf(target), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            Files.deleteIfExists(metadataPartial);
+        }
+    }
+
+    private static Path metadataPartialOf(final Path target, final Resource resource) throws IOException {
+        final var metadata = new Properties();
+        metadata.setProperty("checksum", resource.checksum());
+        metadata.setProperty("contentType", resource.contentType());
+        metadata.setProperty("name", resource.name());
+
+        final var partial = partialOf(metadataOf(target));
+        try (final var out = Files.newOutputStream(partial, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            metadata.store(out, null);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        return partial;
+    }
+
+    // Every write gets its own temporary file, so concurrent writes of the same id never interleave
+    private static Path partialOf(final Path target) throws IOException {
+        return Files.createTempFile(target.getParent(), target.getFileName() + "-", PARTIAL_SUFFIX);
+    }
+
+    private static Path metadataOf(final Path target) {
+        return target.resolveSibling(METADATA_PREFIX + target.getFileName() + METADATA_SUFFIX);
+    }
+
+    private static boolean isInternal(final String filename) {
+        return filename.startsWith(METADATA_PREFIX) || filename.endsWith(PARTIAL_SUFFIX);
+    }
+
+    private static Stream<Path> listDirectory(final Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Stream.empty();
+        }
+        return Files.list(directory).filter(Files::isDirectory);
+    }
+}
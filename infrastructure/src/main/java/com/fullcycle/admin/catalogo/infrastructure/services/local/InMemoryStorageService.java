@@ -1,48 +1,222 @@
 package com.fullcycle.admin.catalogo.infrastructure.services.local;
 
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceMetadata;
+import com.fullcycle.admin.catalogo.domain.resource.SignedUrl;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.ByteBufferInputStream;
+import com.google.common.collect.Maps;
 
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 public class InMemoryStorageService implements StorageService {
 
-    private final Map<String, Resource> storage;
+    private final NavigableMap<String, Entry> storage;
+    private final LinkedHashMap<String, Entry> recency;
+    private final LocalUrlSigner signer;
+    private final long capacity;
+    private final boolean offHeap;
+    private long usedBytes;
 
     public InMemoryStorageService() {
-        this.storage = new ConcurrentHashMap<>();
+        this(LocalUrlSigner.withRandomSecret(LocalUrlSigner.DEFAULT_BASE));
+    }
+
+    public InMemoryStorageService(final LocalUrlSigner signer) {
+        this(signer, Long.MAX_VALUE, false);
+    }
+
+    public InMemoryStorageService(final LocalUrlSigner signer, final long capacity, final boolean offHeap) {
+        this.storage = new ConcurrentSkipListMap<>();
+        this.recency = new LinkedHashMap<>(16, 0.75f, true);
+        this.signer = signer;
+        this.capacity = capacity > 0 ? capacity : Long.MAX_VALUE;
+        this.offHeap = offHeap;
     }
 
     public void clear() {
-        this.storage.clear();
+        synchronized (this.recency) {
+            this.storage.clear();
+            this.recency.clear();
+            this.usedBytes = 0;
+        }
     }
 
     public Map<String, Resource> storage() {
-        return this.storage;
+        return Collections.unmodifiableMap(Maps.transformValues(this.storage, Entry::toResource));
+    }
+
+    public long usedBytes() {
+        synchronized (this.recency) {
+            return this.usedBytes;
+        }
     }
 
     @Override
     public void store(final String id, final Resource resource) {
-        this.storage.put(id, resource);
+        final var content = allocate(id, resource.size());
+
+        try (final var in = resource.openStream(); final var source = Channels.newChannel(in)) {
+            while (content.hasRemaining()) {
+                if (source.read(content) < 0) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final var anEntry = new Entry(
+                content.flip().asReadOnlyBuffer(),
+                resource.checksum(),
+                resource.contentType(),
+                resource.name()
+        );
+
+        put(id, anEntry);
     }
 
     @Override
     public Optional<Resource> get(final String id) {
-        return Optional.ofNullable(this.storage.get(id));
+        final var anEntry = this.storage.get(id);
+        if (anEntry == null) {
+            return Optional.empty();
+        }
+
+        synchronized (this.recency) {
+            this.recency.get(id);
+        }
+        return Optional.of(anEntry.toResource());
+    }
+
+    @Override
+    public Optional<ResourceMetadata> stat(final String id) {
+        return Optional.ofNullable(this.storage.get(id))
+                .map(it -> ResourceMetadata.with(it.size(), it.checksum(), it.contentType(), it.name()));
     }
 
     @Override
     public List<String> list(final String prefix) {
-        return this.storage.keySet().stream()
-                .filter(it -> it.startsWith(prefix))
-                .toList();
+        final var ids = new ArrayList<String>();
+        for (final var id : this.storage.tailMap(prefix, true).keySet()) {
+            if (!id.startsWith(prefix)) {
+                break;
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    @Override
+    public SignedUrl signedUrl(final String id, final String filename, final Duration ttl) {
+        return this.signer.sign(id, filename, ttl);
+    }
+
+    @Override
+    public SignedUrl signedUploadUrl(final String id, final String contentType, final long size, final String checksum, final Duration ttl) {
+        return this.signer.signUpload(id, contentType, size, checksum, ttl);
+    }
+
+    @Override
+    public void copy(final String from, final String to) {
+        final var anEntry = Optional.ofNullable(this.storage.get(from))
+                .orElseThrow(() -> new NoSuchElementException("Resource %s not found".formatted(from)));
+        put(to, anEntry);
     }
 
     @Override
     public void deleteAll(final List<String> ids) {
-        ids.forEach(this.storage::remove);
+        synchronized (this.recency) {
+            ids.forEach(this::remove);
+        }
+    }
+
+    private ByteBuffer allocate(final String id, final long size) {
+        if (size > Integer.MAX_VALUE || size > this.capacity) {
+            throw new IllegalArgumentException("Resource %s of %d bytes exceeds the storage capacity".formatted(id, size));
+        }
+
+        return this.offHeap ? ByteBuffer.allocateDirect((int) size) : ByteBuffer.allocate((int) size);
+    }
+
+    private void put(final String id, final Entry anEntry) {
+        synchronized (this.recency) {
+            remove(id);
+            this.recency.put(id, anEntry);
+            this.storage.put(id, anEntry);
+            this.usedBytes += anEntry.size();
+
+            final var eldest = this.recency.keySet().iterator();
+            while (this.usedBytes > this.capacity && eldest.hasNext()) {
+                final var anId = eldest.next();
+                if (anId.equals(id)) {
+                    continue;
+                }
+                eldest.remove();
+                this.usedBytes -= this.storage.remove(anId).size();
+            }
+        }
+    }
+
+    private void remove(final String id) {
+        final var previous = this.recency.remove(id);
+        if (previous != null) {
+            this.storage.remove(id);
+            this.usedBytes -= previous.size();
+        }
+    }
+
+    private record Entry(ByteBuffer content, String checksum, String contentType, String name) {
+
+        long size() {
+            return content.remaining();
+        }
+
+        Resource toResource() {
+            return Resource.with(new BufferContentStream(content), size(), checksum, contentType, name);
+        }
+    }
+
+    private record BufferContentStream(ByteBuffer content) implements ContentStream {
+
+        @Override
+        public InputStream open() {
+            return new ByteBufferInputStream(content.duplicate());
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) {
+            return new ByteBufferInputStream(slice(offset, length));
+        }
+
+        @Override
+        public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+            final var slice = slice(offset, length);
+            final var count = slice.remaining();
+            while (slice.hasRemaining()) {
+                target.write(slice);
+            }
+            return count;
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return true;
+        }
+
+        private ByteBuffer slice(final long offset, final long length) {
+            final var start = (int) Math.min(offset, content.remaining());
+            final var count = (int) Math.min(length, content.remaining() - start);
+            return content.slice(content.position() + start, count);
+        }
     }
 }
@@ -0,0 +1,140 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.resource.SignedUrl;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class LocalUrlSigner {
+
+    public static final String DEFAULT_BASE = "/media-links";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String GET = "GET";
+    private static final String PUT = "PUT";
+    private static final int SECRET_BYTES = 32;
+
+    private final String base;
+    private final SecretKeySpec secret;
+    private final Clock clock;
+
+    public LocalUrlSigner(final String base, final byte[] secret) {
+        this(base, secret, Clock.systemUTC());
+    }
+
+    public LocalUrlSigner(final String base, final byte[] secret, final Clock clock) {
+        this.base = Objects.requireNonNull(base);
+        this.secret = new SecretKeySpec(Objects.requireNonNull(secret), ALGORITHM);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    public static LocalUrlSigner withRandomSecret(final String base) {
+        final var secret = new byte[SECRET_BYTES];
+        new SecureRandom().nextBytes(secret);
+        return new LocalUrlSigner(base, secret);
+    }
+
+    public SignedUrl sign(final String id, final String filename, final Duration ttl) {
+        final var params = new LinkedHashMap<String, String>();
+        if (filename != null) {
+            params.put("name", filename);
+        }
+        return sign(GET, id, params, ttl);
+    }
+
+    public SignedUrl signUpload(
+            final String id,
+            final String contentType,
+            final long size,
+            final String checksum,
+            final Duration ttl
+    ) {
+        final var params = new LinkedHashMap<String, String>();
+        params.put("content_type", Objects.requireNonNull(contentType));
+        params.put("size", Long.toString(size));
+        params.put("checksum", Objects.requireNonNull(checksum));
+
+        final var aSignedUrl = sign(PUT, id, params, ttl);
+        return SignedUrl.with(aSignedUrl.url(), aSignedUrl.expiresAt(), Map.of("Content-Type", contentType));
+    }
+
+    public boolean verify(final String id, final String filename, final long expires, final String signature) {
+        return verify(GET, id, filename == null ? List.of() : List.of(filename), expires, signature);
+    }
+
+    public boolean verifyUpload(
+            final String id,
+            final String contentType,
+            final long size,
+            final String checksum,
+            final long expires,
+            final String signature
+    ) {
+        return contentType != null
+                && checksum != null
+                && verify(PUT, id, List.of(contentType, Long.toString(size), checksum), expires, signature);
+    }
+
+    private SignedUrl sign(
+            final String method,
+            final String id,
+            final Map<String, String> params,
+            final Duration ttl
+    ) {
+        final var expiresAt = this.clock.instant().plus(ttl);
+        final var expires = expiresAt.getEpochSecond();
+
+        final var url = new StringBuilder(this.base)
+                .append("?key=").append(encode(id));
+        params.forEach((name, value) -> url.append('&').append(name).append('=').append(encode(value)));
+        url.append("&expires=").append(expires)
+                .append("&signature=").append(signature(method, id, List.copyOf(params.values()), expires));
+
+        return SignedUrl.with(url.toString(), expiresAt);
+    }
+
+    private boolean verify(
+            final String method,
+            final String id,
+            final List<String> values,
+            final long expires,
+            final String signature
+    ) {
+        if (id == null || signature == null || this.clock.instant().getEpochSecond() > expires) {
+            return false;
+        }
+
+        return MessageDigest.isEqual(
+                signature(method, id, values, expires).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    private String signature(final String method, final String id, final List<String> values, final long expires) {
+        final var payload = "%s\n%s\n%s\n%d".formatted(method, id, String.join("\n", values), expires);
+        try {
+            final var mac = Mac.getInstance(ALGORITHM);
+            mac.init(this.secret);
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(final String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,239 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.metrics;
+
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceMetadata;
+import com.fullcycle.admin.catalogo.domain.resource.SignedUrl;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+public class InstrumentedStorageService implements StorageService, AutoCloseable {
+
+    static final String STORE = "store";
+    static final String GET = "get";
+    static final String READ = "read";
+    static final String STAT = "stat";
+    static final String LIST = "list";
+    static final String SIGN = "sign";
+    static final String COPY = "copy";
+    static final String MOVE = "move";
+    static final String DELETE = "delete";
+
+    private final StorageService delegate;
+    private final StorageMetrics metrics;
+
+    public InstrumentedStorageService(final StorageService delegate, final StorageMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public void store(final String id, final Resource resource) {
+        record(STORE, id, () -> {
+            this.delegate.store(id, resource);
+            return resource;
+        }, Resource::size);
+    }
+
+    @Override
+    public Optional<Resource> get(final String id) {
+        final var mediaType = StorageMetrics.mediaTypeOf(id);
+        return record(GET, id, () -> this.delegate.get(id), it -> 0)
+                .map(it -> Resource.with(
+                        new MeteredContentStream(it.stream(), mediaType),
+                        it.size(),
+                        it.checksum(),
+                        it.contentType(),
+                        it.name()
+                ));
+    }
+
+    @Override
+    public Optional<ResourceMetadata> stat(final String id) {
+        return record(STAT, id, () -> this.delegate.stat(id), it -> 0);
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        return record(LIST, prefix, () -> this.delegate.list(prefix), it -> 0);
+    }
+
+    @Override
+    public Stream<String> scan(final String prefix) {
+        return record(LIST, prefix, () -> this.delegate.scan(prefix), it -> 0);
+    }
+
+    @Override
+    public SignedUrl signedUrl(final String id, final String filename, final Duration ttl) {
+        return record(SIGN, id, () -> this.delegate.signedUrl(id, filename, ttl), it -> 0);
+    }
+
+    @Override
+    public SignedUrl signedUploadUrl(final String id, final String contentType, final long size, final String checksum, final Duration ttl) {
+        return record(SIGN, id, () -> this.delegate.signedUploadUrl(id, contentType, size, checksum, ttl), it -> 0);
+    }
+
+    @Override
+    public void copy(final String from, final String to) {
+        record(COPY, to, () -> {
+            this.delegate.copy(from, to);
+            return to;
+        }, it -> 0);
+    }
+
+    @Override
+    public void move(final String from, final String to) {
+        record(MOVE, to, () -> {
+            this.delegate.move(from, to);
+            return to;
+        }, it -> 0);
+    }
+
+    @Override
+    public void deleteAll(final List<String> ids) {
+        record(DELETE, ids.isEmpty() ? null : ids.get(0), () -> {
+            this.delegate.deleteAll(ids);
+            return ids;
+        }, it -> 0);
+    }
+
+    // Spring closes the bean it created, which is this wrapper, so the delegate's pools are released through it
+    @Override
+    public void close() throws Exception {
+        if (this.delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private <T> T record(
+            final String operation,
+            final String id,
+            final Supplier<T> action,
+            final ToLongFunction<T> bytes
+    ) {
+        final var aSample = this.metrics.start(operation, StorageMetrics.mediaTypeOf(id));
+        try {
+            final var result = action.get();
+            aSample.success(bytes.applyAsLong(result));
+            return result;
+        } catch (RuntimeException e) {
+            aSample.failure();
+            throw e;
+        }
+    }
+
+    private class MeteredContentStream implements ContentStream {
+
+        private final ContentStream delegate;
+        private final String mediaType;
+
+        private MeteredContentStream(final ContentStream delegate, final String mediaType) {
+            this.delegate = delegate;
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public InputStream open() throws IOException {
+            final var aSample = metrics.start(READ, this.mediaType);
+            try {
+                return new MeteredInputStream(this.delegate.open(), aSample);
+            } catch (IOException | RuntimeException e) {
+                aSample.failure();
+                throw e;
+            }
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            final var aSample = metrics.start(READ, this.mediaType);
+            try {
+                return new MeteredInputStream(this.delegate.open(offset, length), aSample);
+            } catch (IOException | RuntimeException e) {
+                aSample.failure();
+                throw e;
+            }
+        }
+
+        @Override
+        public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+            final var aSample = metrics.start(READ, this.mediaType);
+            try {
+                final var transferred = this.delegate.transferTo(offset, length, target);
+                aSample.success(transferred);
+                return transferred;
+            } catch (IOException | RuntimeException e) {
+                aSample.failure();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return this.delegate.isRepeatable();
+        }
+    }
+
+    private static class MeteredInputStream extends FilterInputStream {
+
+        private final StorageMetrics.Sample sample;
+        private long bytes;
+        private boolean failed;
+
+        private MeteredInputStream(final InputStream in, final StorageMetrics.Sample sample) {
+            super(in);
+            this.sample = sample;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                final var b = super.read();
+                if (b >= 0) {
+                    this.bytes++;
+                }
+                return b;
+            } catch (IOException e) {
+                this.failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            try {
+                final var n = super.read(b, off, len);
+                if (n > 0) {
+                    this.bytes += n;
+                }
+                return n;
+            } catch (IOException e) {
+                this.failed = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (this.failed) {
+                    this.sample.failure();
+                } else {
+                    this.sample.success(this.bytes);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.metrics;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.google.common.base.Ticker;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public class StorageMetrics {
+
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private static final long[] BUCKETS_MILLIS = {1, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000};
+    private static final Pattern TOKENS = Pattern.compile("[A-Z_]+");
+    private static final Set<String> MEDIA_TYPES = EnumSet.allOf(VideoMediaType.class).stream()
+            .map(Enum::name)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private final Ticker ticker;
+    private final ConcurrentHashMap<Key, Stats> stats;
+
+    public StorageMetrics() {
+        this(Ticker.systemTicker());
+    }
+
+    public StorageMetrics(final Ticker ticker) {
+        this.ticker = Objects.requireNonNull(ticker);
+        this.stats = new ConcurrentHashMap<>();
+    }
+
+    public static String mediaTypeOf(final String id) {
+        if (id == null || id.isBlank()) {
+            return UNKNOWN;
+        }
+
+        final var tokens = TOKENS.matcher(id);
+        while (tokens.find()) {
+            if (MEDIA_TYPES.contains(tokens.group())) {
+                return tokens.group();
+            }
+        }
+
+        final var slash = id.indexOf('/');
+        return slash > 0 ? id.substring(0, slash) : UNKNOWN;
+    }
+
+    public Sample start(final String operation, final String mediaType) {
+        final var aStats = this.stats.computeIfAbsent(new Key(operation, mediaType), key -> new Stats());
+        aStats.inFlight.incrementAndGet();
+        return new Sample(aStats, this.ticker.read());
+    }
+
+    public List<StorageOperationMetrics> snapshot() {
+        return this.stats.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(Key::operation).thenComparing(Key::mediaType)))
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .toList();
+    }
+
+    public void reset() {
+        this.stats.clear();
+    }
+
+    public class Sample {
+
+        private final Stats stats;
+        private final long startedAt;
+        private boolean finished;
+
+        private Sample(final Stats stats, final long startedAt) {
+            this.stats = stats;
+            this.startedAt = startedAt;
+        }
+
+        public void success(final long bytes) {
+            finish(bytes, false);
+        }
+
+        public void failure() {
+            finish(0, true);
+        }
+
+        private synchronized void finish(final long bytes, final boolean failed) {
+            if (this.finished) {
+                return;
+            }
+            this.finished = true;
+            this.stats.record(ticker.read() - this.startedAt, bytes, failed);
+        }
+    }
+
+    private record Key(String operation, String mediaType) {
+    }
+
+    private static class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong inFlight = new AtomicLong();
+        private final LongAdder[] buckets = new LongAdder[BUCKETS_MILLIS.length + 1];
+
+        private Stats() {
+            Arrays.setAll(this.buckets, i -> new LongAdder());
+        }
+
+        private void record(final long nanos, final long bytes, final boolean failed) {
+            this.inFlight.decrementAndGet();
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulateAndGet(nanos, Math::max);
+            this.buckets[bucketOf(nanos)].increment();
+            if (failed) {
+                this.errors.increment();
+            } else {
+                this.bytes.add(bytes);
+            }
+        }
+
+        private StorageOperationMetrics snapshot(final Key key) {
+            final var aCount = this.count.sum();
+            final var aTotal = Duration.ofNanos(this.totalNanos.sum());
+            final var aBytes = this.bytes.sum();
+            final var counts = Arrays.stream(this.buckets).mapToLong(LongAdder::sum).toArray();
+            final var aMax = Duration.ofNanos(this.maxNanos.get());
+
+            return new StorageOperationMetrics(
+                    key.operation(),
+                    key.mediaType(),
+                    aCount,
+                    this.errors.sum(),
+                    this.inFlight.get(),
+                    aBytes,
+                    aCount == 0 ? 0 : aTotal.toNanos() / 1_000_000.0 / aCount,
+                    percentile(counts, aCount, 0.50, aMax),
+                    percentile(counts, aCount, 0.95, aMax),
+                    percentile(counts, aCount, 0.99, aMax),
+                    aMax.toNanos() / 1_000_000.0,
+                    aTotal.isZero() ? 0 : aBytes * 1_000_000_000.0 / aTotal.toNanos()
+            );
+        }
+
+        private static int bucketOf(final long nanos) {
+            final var millis = nanos / 1_000_000.0;
+            for (int i = 0; i < BUCKETS_MILLIS.length; i++) {
+                if (millis <= BUCKETS_MILLIS[i]) {
+                    return i;
+                }
+            }
+            return BUCKETS_MILLIS.length;
+        }
+
+        private static double percentile(final long[] counts, final long total, final double quantile, final Duration max) {
+            if (total == 0) {
+                return 0;
+            }
+
+            final var rank = Math.ceil(quantile * total);
+            var cumulative = 0L;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    final var maxMillis = max.toNanos() / 1_000_000.0;
+                    return i < BUCKETS_MILLIS.length ? Math.min(BUCKETS_MILLIS[i], maxMillis) : maxMillis;
+                }
+            }
+            return max.toNanos() / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record StorageOperationMetrics(
+        @JsonProperty("operation") String operation,
+        @JsonProperty("media_type") String mediaType,
+        @JsonProperty("count") long count,
+        @JsonProperty("errors") long errors,
+        @JsonProperty("in_flight") long inFlight,
+        @JsonProperty("bytes") long bytes,
+        @JsonProperty("mean_ms") double meanMillis,
+        @JsonProperty("p50_ms") double p50Millis,
+        @JsonProperty("p95_ms") double p95Millis,
+        @JsonProperty("p99_ms") double p99Millis,
+        @JsonProperty("max_ms") double maxMillis,
+        @JsonProperty("bytes_per_second") double bytesPerSecond
+) {
+}
@@ -0,0 +1,238 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class BufferPool {
+
+    private static final Logger log = LoggerFactory.getLogger(BufferPool.class);
+
+    public static final int SMALL = 8 * 1024;
+    public static final int MEDIUM = 64 * 1024;
+    public static final int LARGE = 1024 * 1024;
+
+    private static final long DEFAULT_MAX_RETAINED_BYTES = 64L * 1024 * 1024;
+    private static final Cleaner CLEANER = Cleaner.create(runnable -> {
+        final var thread = new Thread(runnable, "buffer-pool-leak-detector");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final BufferPool SHARED = new BufferPool(new int[]{SMALL, MEDIUM, LARGE}, DEFAULT_MAX_RETAINED_BYTES);
+    private static final BufferPool SHARED_HEAP = new BufferPool(new int[]{SMALL, MEDIUM, LARGE}, DEFAULT_MAX_RETAINED_BYTES, false);
+
+    private final SizeClass[] sizeClasses;
+
+    public BufferPool(final int[] capacities, final long maxRetainedBytes) {
+        this(capacities, maxRetainedBytes, true);
+    }
+
+    public BufferPool(final int[] capacities, final long maxRetainedBytes, final boolean direct) {
+        final var sorted = Arrays.stream(capacities).filter(it -> it > 0).distinct().sorted().toArray();
+        if (sorted.length == 0) {
+            throw new IllegalArgumentException("A buffer pool needs at least one size class");
+        }
+
+        final var budgetPerClass = Math.max(0, maxRetainedBytes) / sorted.length;
+        this.sizeClasses = Arrays.stream(sorted)
+                .mapToObj(it -> new SizeClass(it, (int) Math.min(Integer.MAX_VALUE, budgetPerClass / it), direct))
+                .toArray(SizeClass[]::new);
+    }
+
+    public static BufferPool shared() {
+        return SHARED;
+    }
+
+    // Streams and digests work on byte arrays, a direct buffer in between would only add a copy
+    public static BufferPool sharedHeap() {
+        return SHARED_HEAP;
+    }
+
+    public Lease acquire(final int capacity) {
+        final var aClass = sizeClassOf(capacity);
+        return new Lease(aClass, aClass.take());
+    }
+
+    public long transfer(final ReadableByteChannel source, final WritableByteChannel target, final int capacity) throws IOException {
+        try (final var lease = acquire(capacity)) {
+            return copy(source, lease.buffer(), target);
+        }
+    }
+
+    public long transfer(final InputStream source, final WritableByteChannel target, final int capacity) throws IOException {
+        try (final var lease = acquire(capacity)) {
+            final var buffer = lease.buffer();
+            return buffer.hasArray()
+                    ? copy(source, buffer, target)
+                    : copy(Channels.newChannel(source), buffer, target);
+        }
+    }
+
+    public List<BufferPoolMetrics> snapshot() {
+        return Arrays.stream(this.sizeClasses)
+                .map(SizeClass::snapshot)
+                .toList();
+    }
+
+    private static long copy(final ReadableByteChannel source, final ByteBuffer buffer, final WritableByteChannel target) throws IOException {
+        long transferred = 0;
+        while (source.read(buffer) >= 0 || buffer.position() > 0) {
+            buffer.flip();
+            transferred += target.write(buffer);
+            buffer.compact();
+        }
+        return transferred;
+    }
+
+    private static long copy(final InputStream source, final ByteBuffer buffer, final WritableByteChannel target) throws IOException {
+        final var array = buffer.array();
+        long transferred = 0;
+        int count;
+        while ((count = source.read(array, 0, array.length)) >= 0) {
+            buffer.clear().limit(count);
+            while (buffer.hasRemaining()) {
+                transferred += target.write(buffer);
+            }
+        }
+        return transferred;
+    }
+
+    private SizeClass sizeClassOf(final int capacity) {
+        for (final var aClass : this.sizeClasses) {
+            if (aClass.capacity >= capacity) {
+                return aClass;
+            }
+        }
+        // Callers stream through the buffer, so larger requests get the largest class instead of a one-off buffer
+        return this.sizeClasses[this.sizeClasses.length - 1];
+    }
+
+    public static final class Lease implements AutoCloseable {
+
+        private final State state;
+        private final Cleaner.Cleanable cleanable;
+
+        private Lease(final SizeClass aClass, final ByteBuffer buffer) {
+            this.state = new State(aClass, buffer, Thread.currentThread().getName());
+            this.cleanable = CLEANER.register(this, this.state);
+        }
+
+        public ByteBuffer buffer() {
+            if (this.state.released.get()) {
+                throw new IllegalStateException("Buffer was already released");
+            }
+            return this.state.buffer;
+        }
+
+        @Override
+        public void close() {
+            if (this.state.released.compareAndSet(false, true)) {
+                this.state.sizeClass.give(this.state.buffer);
+            }
+            this.cleanable.clean();
+        }
+    }
+
+    private record State(
+            SizeClass sizeClass,
+            ByteBuffer buffer,
+            String owner,
+            AtomicBoolean released
+    ) implements Runnable {
+
+        private State(final SizeClass sizeClass, final ByteBuffer buffer, final String owner) {
+            this(sizeClass, buffer, owner, new AtomicBoolean());
+        }
+
+        @Override
+        public void run() {
+            // Only reached when a lease became unreachable without being closed
+            if (this.released.compareAndSet(false, true)) {
+                this.sizeClass.leaked.increment();
+                log.warn("Leaked pooled buffer reclaimed [capacity:{}] [acquiredBy:{}]", this.sizeClass.capacity, this.owner);
+                this.sizeClass.give(this.buffer);
+            }
+        }
+    }
+
+    private static final class SizeClass {
+
+        private final int capacity;
+        private final int maxRetained;
+        private final boolean direct;
+        private final Queue<ByteBuffer> free;
+        private final AtomicInteger retained;
+        private final AtomicInteger inUse;
+        private final LongAdder acquired;
+        private final LongAdder allocated;
+        private final LongAdder leaked;
+
+        private SizeClass(final int capacity, final int maxRetained, final boolean direct) {
+            this.capacity = capacity;
+            this.maxRetained = maxRetained;
+            this.direct = direct;
+            this.free = new ConcurrentLinkedQueue<>();
+            this.retained = new AtomicInteger();
+            this.inUse = new AtomicInteger();
+            this.acquired = new LongAdder();
+            this.allocated = new LongAdder();
+            this.leaked = new LongAdder();
+        }
+
+        private ByteBuffer take() {
+            this.acquired.increment();
+            this.inUse.incrementAndGet();
+
+            final var buffer = this.free.poll();
+            if (buffer != null) {
+                this.retained.decrementAndGet();
+                return buffer;
+            }
+
+            this.allocated.increment();
+            return this.direct ? ByteBuffer.allocateDirect(this.capacity) : ByteBuffer.allocate(this.capacity);
+        }
+
+        private void give(final ByteBuffer buffer) {
+            this.inUse.decrementAndGet();
+            buffer.clear();
+
+            if (this.retained.incrementAndGet() <= this.maxRetained) {
+                this.free.offer(buffer);
+            } else {
+                // Beyond the budget the buffer is left to the garbage collector, which frees its native memory
+                this.retained.decrementAndGet();
+            }
+        }
+
+        private BufferPoolMetrics snapshot() {
+            final var acquiredCount = this.acquired.sum();
+            final var allocatedCount = this.allocated.sum();
+            final var retainedCount = this.retained.get();
+            return new BufferPoolMetrics(
+                    this.capacity,
+                    acquiredCount,
+                    allocatedCount,
+                    this.inUse.get(),
+                    retainedCount,
+                    (long) retainedCount * this.capacity,
+                    this.leaked.sum(),
+                    acquiredCount == 0 ? 0 : (double) (acquiredCount - allocatedCount) / acquiredCount
+            );
+        }
+    }
+}
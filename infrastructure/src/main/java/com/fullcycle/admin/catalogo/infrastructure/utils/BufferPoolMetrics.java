@@ -0,0 +1,15 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BufferPoolMetrics(
+        @JsonProperty("capacity") int capacity,
+        @JsonProperty("acquired") long acquired,
+        @JsonProperty("allocated") long allocated,
+        @JsonProperty("in_use") int inUse,
+        @JsonProperty("retained") int retained,
+        @JsonProperty("retained_bytes") long retainedBytes,
+        @JsonProperty("leaked") long leaked,
+        @JsonProperty("hit_ratio") double hitRatio
+) {
+}
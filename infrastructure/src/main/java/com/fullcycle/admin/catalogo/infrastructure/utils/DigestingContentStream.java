@@ -0,0 +1,204 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
+
+public class DigestingContentStream implements ContentStream {
+
+    private final ContentStream source;
+    private final long size;
+    private final String algorithm;
+    private final TreeMap<Long, long[]> digestedRanges;
+
+    private volatile String checksum;
+    private volatile String digest;
+
+    private DigestingContentStream(final ContentStream source, final long size, final String algorithm) {
+        this.source = Objects.requireNonNull(source);
+        this.size = size;
+        this.algorithm = algorithm;
+        this.digestedRanges = new TreeMap<>();
+    }
+
+    public static DigestingContentStream of(final ContentStream source, final long size) {
+        return new DigestingContentStream(source, size, null);
+    }
+
+    public static DigestingContentStream withMd5(final ContentStream source, final long size) {
+        return new DigestingContentStream(source, size, "MD5");
+    }
+
+    public static DigestingContentStream withSha256(final ContentStream source, final long size) {
+        return new DigestingContentStream(source, size, "SHA-256");
+    }
+
+    @Override
+    public InputStream open() throws IOException {
+        return new DigestingInputStream(this.source.open(), 0, this.size, this.algorithm != null ? newDigest() : null);
+    }
+
+    // Message digests are sequential, so only a read of the whole content feeds them
+    @Override
+    public InputStream open(final long offset, final long length) throws IOException {
+        final var digest = this.algorithm != null && offset == 0 && length >= this.size ? newDigest() : null;
+        final var expected = Math.max(0, Math.min(length, this.size - offset));
+        return new DigestingInputStream(this.source.open(offset, length), offset, expected, digest);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return this.source.isRepeatable();
+    }
+
+    public String checksum() {
+        final var aChecksum = this.checksum;
+        if (aChecksum == null) {
+            throw new IllegalStateException("Checksum is only available after the content has been fully read");
+        }
+        return aChecksum;
+    }
+
+    public String md5() {
+        return digest("MD5");
+    }
+
+    public String sha256() {
+        return digest("SHA-256");
+    }
+
+    public boolean isComplete() {
+        return this.checksum != null;
+    }
+
+    public boolean isDigested() {
+        return this.digest != null;
+    }
+
+    private String digest(final String anAlgorithm) {
+        if (!anAlgorithm.equals(this.algorithm)) {
+            throw new IllegalStateException("%s is not computed by this stream".formatted(anAlgorithm));
+        }
+        final var aDigest = this.digest;
+        if (aDigest == null) {
+            throw new IllegalStateException("%s is only available after the content has been fully read".formatted(anAlgorithm));
+        }
+        return aDigest;
+    }
+
+    private synchronized void onRangeDigested(final long offset, final long length, final long crc) {
+        if (this.checksum != null) {
+            return;
+        }
+
+        this.digestedRanges.merge(offset, new long[]{length, crc}, (previous, current) -> current[0] > previous[0] ? current : previous);
+
+        long position = 0;
+        long crc32c = 0;
+        for (final var range : this.digestedRanges.entrySet()) {
+            if (range.getKey() != position) {
+                break;
+            }
+            crc32c = HashingUtils.combine(crc32c, range.getValue()[1], range.getValue()[0]);
+            position += range.getValue()[0];
+        }
+
+        if (position == this.size) {
+            this.checksum = HashingUtils.format(crc32c);
+            this.digestedRanges.clear();
+        }
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(this.algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private class DigestingInputStream extends FilterInputStream {
+
+        private final long offset;
+        private final long expected;
+        private final MessageDigest messageDigest;
+        private final CRC32C crc;
+        private long count;
+        private boolean done;
+
+        private DigestingInputStream(final InputStream in, final long offset, final long expected, final MessageDigest messageDigest) {
+            super(in);
+            this.offset = offset;
+            this.expected = expected;
+            this.messageDigest = messageDigest;
+            this.crc = new CRC32C();
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = super.read();
+            if (b == -1) {
+                finish();
+            } else {
+                this.crc.update(b);
+                if (this.messageDigest != null) {
+                    this.messageDigest.update((byte) b);
+                }
+                this.count++;
+                finishIfExhausted();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var read = super.read(b, off, len);
+            if (read == -1) {
+                finish();
+            } else if (read > 0) {
+                this.crc.update(b, off, read);
+                if (this.messageDigest != null) {
+                    this.messageDigest.update(b, off, read);
+                }
+                this.count += read;
+                finishIfExhausted();
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            throw new IOException("Skipping would leave a gap in the digested range");
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void finishIfExhausted() {
+            if (this.count >= this.expected) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            if (this.done) {
+                return;
+            }
+            this.done = true;
+            onRangeDigested(this.offset, this.count, this.crc.getValue());
+            if (this.messageDigest != null && this.count == size) {
+                digest = HexFormat.of().formatHex(this.messageDigest.digest());
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+import com.google.common.io.ByteStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class FileContentStream implements ContentStream {
+
+    private static final long MAX_MAPPED_RANGE = 64 * 1024 * 1024;
+
+    private final Path path;
+    private final AtomicReference<FileChannel> opened;
+    private final boolean repeatable;
+
+    public FileContentStream(final Path path) {
+        this(path, null);
+    }
+
+    private FileContentStream(final Path path, final FileChannel opened) {
+        this.path = path;
+        this.opened = new AtomicReference<>(opened);
+        this.repeatable = opened == null;
+    }
+
+    // The first read uses a channel opened upfront, so the file may be unlinked after this returns and still be served
+    public static FileContentStream opened(final Path path) throws IOException {
+        return new FileContentStream(path, FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public InputStream open() throws IOException {
+        return Channels.newInputStream(channel());
+    }
+
+    @Override
+    public InputStream open(final long offset, final long length) throws IOException {
+        final var channel = channel();
+        try {
+            final var count = Math.max(0, Math.min(length, channel.size() - offset));
+            if (count <= MAX_MAPPED_RANGE) {
+                try (channel) {
+                    return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, offset, count));
+                }
+            }
+            return ByteStreams.limit(Channels.newInputStream(channel.position(offset)), length);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+        try (final var channel = channel()) {
+            final var end = Math.min(offset + length, channel.size());
+            var position = offset;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, target);
+            }
+            return position - offset;
+        }
+    }
+
+    // A stream opened upfront may outlive its file, so only the first read is guaranteed
+    @Override
+    public boolean isRepeatable() {
+        return repeatable;
+    }
+
+    private FileChannel channel() throws IOException {
+        final var channel = this.opened.getAndSet(null);
+        return channel != null ? channel : FileChannel.open(path, StandardOpenOption.READ);
+    }
+}
@@ -1,15 +1,123 @@
 package com.fullcycle.admin.catalogo.infrastructure.utils;
 
-import com.google.common.hash.HashFunction;
-import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.CRC32C;
 
 public final class HashingUtils {
 
-    private static final HashFunction CHECKSUM = Hashing.crc32c();
+    private static final int BUFFER_SIZE = BufferPool.MEDIUM;
+    private static final long CRC32C_POLYNOMIAL = 0x82F63B78L;
+    private static final int GF2_DIM = 32;
 
     private HashingUtils() {}
 
     public static String checksum(final byte[] content) {
-        return CHECKSUM.hashBytes(content).toString();
+        final var crc = new CRC32C();
+        crc.update(content);
+        return format(crc.getValue());
+    }
+
+    public static String checksum(final InputStream content) {
+        final var crc = new CRC32C();
+        try (content; final var lease = BufferPool.sharedHeap().acquire(BUFFER_SIZE)) {
+            final var buffer = lease.buffer().array();
+            int count;
+            while ((count = content.read(buffer)) != -1) {
+                crc.update(buffer, 0, count);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return format(crc.getValue());
+    }
+
+    public static String sha256(final InputStream content) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try (content; final var lease = BufferPool.sharedHeap().acquire(BUFFER_SIZE)) {
+            final var buffer = lease.buffer().array();
+            int count;
+            while ((count = content.read(buffer)) != -1) {
+                digest.update(buffer, 0, count);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static String format(final long crc32c) {
+        return "%08x".formatted(Integer.reverseBytes((int) crc32c));
+    }
+
+    public static long parse(final String checksum) {
+        return Integer.toUnsignedLong(Integer.reverseBytes(Integer.parseUnsignedInt(checksum, 16)));
+    }
+
+    public static long combine(final long crc1, final long crc2, final long length2) {
+        if (length2 <= 0) {
+            return crc1;
+        }
+
+        final var even = new long[GF2_DIM];
+        final var odd = new long[GF2_DIM];
+
+        odd[0] = CRC32C_POLYNOMIAL;
+        long row = 1;
+        for (int n = 1; n < GF2_DIM; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+
+        square(even, odd);
+        square(odd, even);
+
+        var crc = crc1;
+        var length = length2;
+        do {
+            square(even, odd);
+            if ((length & 1) != 0) {
+                crc = times(even, crc);
+            }
+            length >>= 1;
+            if (length == 0) {
+                break;
+            }
+
+            square(odd, even);
+            if ((length & 1) != 0) {
+                crc = times(odd, crc);
+            }
+            length >>= 1;
+        } while (length != 0);
+
+        return (crc ^ crc2) & 0xFFFFFFFFL;
+    }
+
+    private static long times(final long[] matrix, final long vector) {
+        long sum = 0;
+        var vec = vector;
+        for (int i = 0; vec != 0; i++, vec >>>= 1) {
+            if ((vec & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void square(final long[] square, final long[] matrix) {
+        for (int n = 0; n < GF2_DIM; n++) {
+            square[n] = times(matrix, matrix[n]);
+        }
     }
 }
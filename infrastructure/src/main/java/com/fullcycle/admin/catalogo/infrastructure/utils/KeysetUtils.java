@@ -0,0 +1,150 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+public final class KeysetUtils {
+
+    private static final String ID = "id";
+
+    private KeysetUtils() {
+    }
+
+    public static <T, R> Pagination<R> findAfter(
+            final EntityManager anEntityManager,
+            final Class<T> anEntity,
+            final Specification<T> where,
+            final Function<Root<T>, List<Selection<?>>> select,
+            final Function<Tuple, R> mapper,
+            final String sort,
+            final String direction,
+            final String after,
+            final int perPage,
+            final LongSupplier total
+    ) {
+        final var cb = anEntityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(anEntity);
+        final Path<Object> sortPath = root.get(sort);
+        final Path<String> idPath = root.get(ID);
+        final var aDirection = Direction.fromString(direction);
+        final var ascending = aDirection.isAscending();
+
+        final var selections = new ArrayList<>(select.apply(root));
+        selections.add(sortPath);
+        selections.add(idPath);
+        query.multiselect(selections);
+
+        final var predicates = new ArrayList<Predicate>();
+        if (where != null) {
+            final var predicate = where.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (after != null && !after.isBlank()) {
+            final var aCursor = PageCursor.decode(after);
+            if (!aCursor.sort().equals(sort)) {
+                throw DomainException.with(new Error("'after' was issued for sort '%s' but the query sorts by '%s'"
+                        .formatted(aCursor.sort(), sort)));
+            }
+            if (!aCursor.direction().equalsIgnoreCase(aDirection.name())) {
+                throw DomainException.with(new Error("'after' was issued for direction '%s' but the query sorts '%s'"
+                        .formatted(aCursor.direction(), aDirection.name().toLowerCase())));
+            }
+            predicates.add(after(cb, sortPath, idPath, keyOf(aCursor, sortPath.getJavaType()), aCursor.id(), ascending));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(
+                ascending ? cb.asc(sortPath) : cb.desc(sortPath),
+                ascending ? cb.asc(idPath) : cb.desc(idPath)
+        );
+
+        final var rows = anEntityManager.createQuery(query)
+                .setMaxResults(perPage + 1)
+                .getResultList();
+
+        final var hasNext = rows.size() > perPage;
+        final var page = hasNext ? rows.subList(0, perPage) : rows;
+
+        String next = null;
+        if (hasNext) {
+            final var last = page.get(page.size() - 1);
+            final var keyIndex = selections.size() - 2;
+            next = PageCursor.of(sort, aDirection.name().toLowerCase(), last.get(keyIndex), last.get(keyIndex + 1, String.class)).encode();
+        }
+
+        return new Pagination<>(0, perPage, total.getAsLong(), page.stream().map(mapper).toList(), next, hasNext);
+    }
+
+    // Seeks past the cursor row; MySQL orders nulls first ascending and last descending
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate after(
+            final CriteriaBuilder cb,
+            final Path<Object> sortPath,
+            final Path<String> idPath,
+            final Comparable key,
+            final String id,
+            final boolean ascending
+    ) {
+        final Expression<Comparable> sortKey = (Expression) sortPath;
+        final var nextId = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+
+        if (key == null) {
+            return ascending
+                    ? cb.or(cb.isNotNull(sortKey), cb.and(cb.isNull(sortKey), nextId))
+                    : cb.and(cb.isNull(sortKey), nextId);
+        }
+
+        final var tie = cb.and(cb.equal(sortKey, key), nextId);
+        return ascending
+                ? cb.or(cb.greaterThan(sortKey, key), tie)
+                : cb.or(cb.lessThan(sortKey, key), cb.isNull(sortKey), tie);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable keyOf(final PageCursor aCursor, final Class<?> aType) {
+        final var key = aCursor.key();
+        if (key == null) {
+            return null;
+        }
+
+        try {
+            if (aType == String.class) {
+                return key;
+            } else if (aType == Instant.class) {
+                return Instant.parse(key);
+            } else if (aType == Boolean.class || aType == boolean.class) {
+                return Boolean.valueOf(key);
+            } else if (aType == Integer.class || aType == int.class) {
+                return Integer.valueOf(key);
+            } else if (aType == Long.class || aType == long.class) {
+                return Long.valueOf(key);
+            } else if (aType == Double.class || aType == double.class) {
+                return Double.valueOf(key);
+            } else if (aType.isEnum()) {
+                return Enum.valueOf((Class) aType, key);
+            }
+        } catch (RuntimeException e) {
+            // falls through to the error below
+        }
+        throw DomainException.with(new Error("'after' is not a valid cursor for sort '%s'".formatted(aCursor.sort())));
+    }
+}
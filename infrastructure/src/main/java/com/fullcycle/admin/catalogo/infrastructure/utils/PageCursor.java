@@ -0,0 +1,46 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+public record PageCursor(String sort, String direction, String key, String id) {
+
+    private static final String SEPARATOR = "\u001F";
+    private static final String NULL_KEY = "\u0000";
+
+    public PageCursor {
+        Objects.requireNonNull(sort);
+        Objects.requireNonNull(direction);
+        Objects.requireNonNull(id);
+    }
+
+    public static PageCursor of(final String sort, final String direction, final Object key, final String id) {
+        return new PageCursor(sort, direction, key != null ? key.toString() : null, id);
+    }
+
+    public static PageCursor decode(final String aToken) {
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(aToken), StandardCharsets.UTF_8);
+            final var parts = decoded.split(SEPARATOR, -1);
+            if (parts.length != 4 || parts[0].isBlank() || parts[1].isBlank() || parts[3].isBlank()) {
+                throw invalid(aToken);
+            }
+            return new PageCursor(parts[0], parts[1], NULL_KEY.equals(parts[2]) ? null : parts[2], parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw invalid(aToken);
+        }
+    }
+
+    public String encode() {
+        final var raw = String.join(SEPARATOR, sort, direction, key != null ? key : NULL_KEY, id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DomainException invalid(final String aToken) {
+        return DomainException.with(new Error("'after' is not a valid cursor: %s".formatted(aToken)));
+    }
+}
@@ -0,0 +1,77 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+public final class SliceUtils {
+
+    private SliceUtils() {
+    }
+
+    public static <T, R> Pagination<R> findSlice(
+            final EntityManager anEntityManager,
+            final Class<T> anEntity,
+            final Specification<T> where,
+            final Function<Root<T>, List<Selection<?>>> select,
+            final Function<Tuple, R> mapper,
+            final String sort,
+            final String direction,
+            final int page,
+            final int perPage,
+            final LongSupplier total
+    ) {
+        final var cb = anEntityManager.getCriteriaBuilder();
+        final var query = cb.createTupleQuery();
+        final var root = query.from(anEntity);
+
+        query.multiselect(select.apply(root));
+        if (where != null) {
+            final var predicate = where.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(Direction.fromString(direction).isAscending() ? cb.asc(root.get(sort)) : cb.desc(root.get(sort)));
+
+        final var rows = anEntityManager.createQuery(query)
+                .setFirstResult(page * perPage)
+                .setMaxResults(perPage + 1)
+                .getResultList();
+
+        final var hasNext = rows.size() > perPage;
+        final var items = (hasNext ? rows.subList(0, perPage) : rows).stream()
+                .map(mapper)
+                .toList();
+
+        return new Pagination<>(page, perPage, total.getAsLong(), items, null, hasNext);
+    }
+
+    public static <T> long count(
+            final EntityManager anEntityManager,
+            final Class<T> anEntity,
+            final Specification<T> where
+    ) {
+        final var cb = anEntityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(Long.class);
+        final var root = query.from(anEntity);
+
+        query.select(cb.count(root));
+        if (where != null) {
+            final var predicate = where.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        return anEntityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,180 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32C;
+
+public class SlicedInputStream extends InputStream {
+
+    private final ContentStream source;
+    private final long end;
+    private final int sliceSize;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final ExecutorService executor;
+    private final String expectedChecksum;
+    private final Deque<Future<Slice>> pending;
+    private final Queue<byte[]> free;
+    private final CRC32C crc;
+
+    private long nextOffset;
+    private Slice current;
+    private int position;
+    private boolean closed;
+
+    public SlicedInputStream(
+            final ContentStream source,
+            final long offset,
+            final long length,
+            final int sliceSize,
+            final int parallelism,
+            final long maxBufferedBytes,
+            final int maxAttempts,
+            final ExecutorService executor,
+            final String expectedChecksum
+    ) {
+        this.source = Objects.requireNonNull(source);
+        this.nextOffset = offset;
+        this.end = offset + length;
+        this.sliceSize = (int) Math.max(1, Math.min(sliceSize, length));
+        // The slice being consumed counts against the buffered bytes, at least one slice is always in flight
+        this.parallelism = (int) Math.max(1, Math.min(parallelism, maxBufferedBytes / this.sliceSize - 1));
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.executor = Objects.requireNonNull(executor);
+        this.expectedChecksum = expectedChecksum;
+        this.pending = new ArrayDeque<>(this.parallelism);
+        this.free = new ConcurrentLinkedQueue<>();
+        this.crc = new CRC32C();
+        this.current = new Slice(new byte[0], 0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final var b = new byte[1];
+        return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (this.closed) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        if (this.position >= this.current.length() && !nextSlice()) {
+            return -1;
+        }
+
+        final var count = Math.min(len, this.current.length() - this.position);
+        System.arraycopy(this.current.buffer(), this.position, b, off, count);
+        this.position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return this.current.length() - this.position;
+    }
+
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.pending.forEach(it -> it.cancel(true));
+        this.pending.clear();
+    }
+
+    private boolean nextSlice() throws IOException {
+        schedule();
+        if (this.pending.isEmpty()) {
+            verify();
+            return false;
+        }
+
+        recycle(this.current);
+        this.current = await(this.pending.poll());
+        this.position = 0;
+        this.crc.update(this.current.buffer(), 0, this.current.length());
+        schedule();
+        return true;
+    }
+
+    private void schedule() {
+        while (this.pending.size() < this.parallelism && this.nextOffset < this.end) {
+            final var offset = this.nextOffset;
+            final var length = (int) Math.min(this.sliceSize, this.end - offset);
+            this.pending.add(this.executor.submit(() -> readSlice(offset, length)));
+            this.nextOffset += length;
+        }
+    }
+
+    // Slice buffers are reused once consumed, so a stream allocates at most one buffer per slice in flight
+    private Slice readSlice(final long offset, final int length) throws IOException {
+        final var buffer = Objects.requireNonNullElseGet(this.free.poll(), () -> new byte[this.sliceSize]);
+        for (int attempt = 1; ; attempt++) {
+            try (final var in = this.source.open(offset, length)) {
+                final var count = in.readNBytes(buffer, 0, length);
+                if (count != length) {
+                    throw new IOException("Short read of slice at %d: expected %d bytes but got %d".formatted(offset, length, count));
+                }
+                return new Slice(buffer, length);
+            } catch (IOException e) {
+                if (attempt >= this.maxAttempts || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void recycle(final Slice slice) {
+        if (slice.buffer().length == this.sliceSize) {
+            this.free.offer(slice.buffer());
+        }
+    }
+
+    private Slice await(final Future<Slice> slice) throws IOException {
+        try {
+            return slice.get();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading a slice");
+        } catch (ExecutionException e) {
+            close();
+            if (e.getCause() instanceof IOException ex) {
+                throw ex;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void verify() throws IOException {
+        if (this.expectedChecksum == null || this.expectedChecksum.isBlank()) {
+            return;
+        }
+
+        final var actual = HashingUtils.format(this.crc.getValue());
+        if (!actual.equals(this.expectedChecksum)) {
+            throw new IOException("Checksum mismatch: expected %s but read %s".formatted(this.expectedChecksum, actual));
+        }
+    }
+
+    private record Slice(byte[] buffer, int length) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class TextUtils {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private TextUtils() {
+    }
+
+    // Lowercased words without accents, so "Ação" and "acao" produce the same token
+    public static List<String> tokenize(final String aText) {
+        if (aText == null || aText.isBlank()) {
+            return List.of();
+        }
+
+        final var normalized = DIACRITICS.matcher(Normalizer.normalize(aText, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        return Arrays.stream(SEPARATORS.split(normalized))
+                .filter(it -> !it.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,497 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.utils.FileContentStream;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.TRAILER;
+import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.VIDEO;
+
+public class AudioVideoDiskCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AudioVideoDiskCache.class);
+
+    private static final Set<VideoMediaType> CACHEABLE_TYPES = EnumSet.of(VIDEO, TRAILER);
+    private static final String CONTENT_SUFFIX = ".bin";
+    private static final String METADATA_SUFFIX = ".meta";
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final int MAX_ENTRY_FRACTION = 4;
+
+    private final Path directory;
+    private final long maxBytes;
+    private final Executor executor;
+    private final LinkedHashMap<String, Entry> entries;
+    private final Set<String> loading;
+    private long usedBytes;
+
+    public AudioVideoDiskCache(final Path directory, final long maxBytes, final Executor executor) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.executor = Objects.requireNonNull(executor);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.loading = ConcurrentHashMap.newKeySet();
+
+        if (isEnabled()) {
+            recover();
+        }
+    }
+
+    public static AudioVideoDiskCache disabled() {
+        return new AudioVideoDiskCache(null, 0, Runnable::run);
+    }
+
+    public static boolean isCacheable(final VideoMediaType aType) {
+        return CACHEABLE_TYPES.contains(aType);
+    }
+
+    public boolean isEnabled() {
+        return this.directory != null && this.maxBytes > 0;
+    }
+
+    // The file is opened here, an eviction racing with the caller only unlinks it
+    public Optional<Resource> get(final String key) {
+        final Entry anEntry;
+        synchronized (this.entries) {
+            anEntry = this.entries.get(key);
+        }
+
+        if (anEntry == null) {
+            return Optional.empty();
+        }
+
+        try {
+            final var content = FileContentStream.opened(anEntry.content());
+            return Optional.of(Resource.with(content, anEntry.size(), anEntry.checksum(), anEntry.contentType(), anEntry.name()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A miss is served from the origin while the same bytes are written to the cache, so a full read downloads the object once
+    public Resource tee(final String key, final Resource aResource) {
+        if (!accepts(aResource)) {
+            return aResource;
+        }
+
+        return Resource.with(new TeeContentStream(key, aResource), aResource.size(), aResource::checksum, aResource.contentType(), aResource.name());
+    }
+
+    public void load(final String key, final Resource aResource) {
+        if (!accepts(aResource) || !this.loading.add(key)) {
+            return;
+        }
+
+        try {
+            this.executor.execute(() -> {
+                try {
+                    fill(key, aResource);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to cache media [key:{}] [error:{}]", key, e.getMessage());
+                } finally {
+                    this.loading.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.loading.remove(key);
+        }
+    }
+
+    public void invalidate(final String key) {
+        final Entry anEntry;
+        synchronized (this.entries) {
+            anEntry = this.entries.remove(key);
+            if (anEntry != null) {
+                this.usedBytes -= anEntry.size();
+            }
+        }
+
+        if (anEntry != null) {
+            delete(anEntry);
+        }
+    }
+
+    public long usedBytes() {
+        synchronized (this.entries) {
+            return this.usedBytes;
+        }
+    }
+
+    private boolean accepts(final Resource aResource) {
+        return isEnabled()
+                && aResource.size() <= this.maxBytes / MAX_ENTRY_FRACTION
+                && aResource.checksum() != null
+                && !aResource.checksum().isBlank();
+    }
+
+    private boolean contains(final String key) {
+        synchronized (this.entries) {
+            return this.entries.containsKey(key);
+        }
+    }
+
+    private void fill(final String key, final Resource aResource) {
+        if (contains(key)) {
+            return;
+        }
+
+        final var partial = partialOf(key);
+        try {
+            Files.createDirectories(this.directory);
+
+            final var crc = new CRC32C();
+            final long size;
+            try (final var in = new CheckedInputStream(aResource.openStream(), crc)) {
+                size = Files.copy(in, partial, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            commit(key, aResource, partial, size, crc.getValue());
+        } catch (IOException e) {
+            discard(partial);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void commit(final String key, final Resource aResource, final Path partial, final long size, final long crc) throws IOException {
+        final var checksum = HashingUtils.format(crc);
+        if (size != aResource.size() || !checksum.equals(aResource.checksum())) {
+            log.warn("Discarding cached media with an unexpected checksum [key:{}] [expected:{}] [actual:{}]",
+                    key, aResource.checksum(), checksum);
+            Files.deleteIfExists(partial);
+            return;
+        }
+
+        final var content = contentOf(key);
+        final var anEntry = new Entry(key, content, size, checksum, aResource.contentType(), aResource.name());
+        writeMetadata(anEntry);
+        Files.move(partial, content, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        put(anEntry);
+    }
+
+    private static void discard(final Path partial) {
+        try {
+            Files.deleteIfExists(partial);
+        } catch (IOException ignored) {
+            // the partial file is replaced by the next attempt
+        }
+    }
+
+    private void put(final Entry anEntry) {
+        final var evicted = new ArrayList<Entry>();
+        synchronized (this.entries) {
+            final var previous = this.entries.put(anEntry.key(), anEntry);
+            if (previous != null) {
+                this.usedBytes -= previous.size();
+            }
+            this.usedBytes += anEntry.size();
+
+            final var eldest = this.entries.values().iterator();
+            while (this.usedBytes > this.maxBytes && eldest.hasNext()) {
+                final var candidate = eldest.next();
+                if (candidate.key().equals(anEntry.key())) {
+                    continue;
+                }
+                eldest.remove();
+                this.usedBytes -= candidate.size();
+                evicted.add(candidate);
+            }
+        }
+
+        evicted.forEach(this::delete);
+    }
+
+    private void recover() {
+        if (!Files.isDirectory(this.directory)) {
+            return;
+        }
+
+        try (final Stream<Path> files = Files.list(this.directory)) {
+            files.filter(it -> it.getFileName().toString().endsWith(METADATA_SUFFIX))
+                    .map(this::readMetadata)
+                    .flatMap(Optional::stream)
+                    .sorted(Comparator.comparing(AudioVideoDiskCache::lastModified))
+                    .forEach(this::put);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<Entry> readMetadata(final Path metadataPath) {
+        final var fileName = metadataPath.getFileName().toString();
+        final var content = metadataPath.resolveSibling(
+                fileName.substring(0, fileName.length() - METADATA_SUFFIX.length()) + CONTENT_SUFFIX);
+
+        try (final var in = Files.newInputStream(metadataPath)) {
+            final var metadata = new Properties();
+            metadata.load(in);
+
+            final var size = Long.parseLong(metadata.getProperty("size"));
+            if (!Files.isRegularFile(content) || Files.size(content) != size) {
+                Files.deleteIfExists(content);
+                Files.deleteIfExists(metadataPath);
+                return Optional.empty();
+            }
+
+            return Optional.of(new Entry(
+                    metadata.getProperty("key"),
+                    content,
+                    size,
+                    metadata.getProperty("checksum"),
+                    metadata.getProperty("contentType"),
+                    metadata.getProperty("name")
+            ));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable cached media [file:{}] [error:{}]", metadataPath, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeMetadata(final Entry anEntry) throws IOException {
+        final var metadata = new Properties();
+        metadata.setProperty("key", anEntry.key());
+        metadata.setProperty("size", Long.toString(anEntry.size()));
+        metadata.setProperty("checksum", anEntry.checksum());
+        metadata.setProperty("contentType", anEntry.contentType());
+        metadata.setProperty("name", anEntry.name());
+
+        final var metadataPath = metadataOf(anEntry.content());
+        final var partial = metadataPath.resolveSibling(metadataPath.getFileName() + PARTIAL_SUFFIX);
+        try (final var out = Files.newOutputStream(partial)) {
+            metadata.store(out, null);
+        }
+        Files.move(partial, metadataPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void delete(final Entry anEntry) {
+        try {
+            Files.deleteIfExists(metadataOf(anEntry.content()));
+            Files.deleteIfExists(anEntry.content());
+        } catch (IOException e) {
+            log.warn("Failed to delete cached media [key:{}] [error:{}]", anEntry.key(), e.getMessage());
+        }
+    }
+
+    private Path contentOf(final String key) {
+        final var name = HashingUtils.sha256(new ByteArrayInputStream(key.getBytes(StandardCharsets.UTF_8)));
+        return this.directory.resolve(name + CONTENT_SUFFIX);
+    }
+
+    private Path partialOf(final String key) {
+        final var content = contentOf(key);
+        return content.resolveSibling(content.getFileName() + PARTIAL_SUFFIX);
+    }
+
+    private static Path metadataOf(final Path content) {
+        final var fileName = content.getFileName().toString();
+        return content.resolveSibling(fileName.substring(0, fileName.length() - CONTENT_SUFFIX.length()) + METADATA_SUFFIX);
+    }
+
+    private static long lastModified(final Entry anEntry) {
+        try {
+            return Files.getLastModifiedTime(anEntry.content()).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private record Entry(String key, Path content, long size, String checksum, String contentType, String name) {
+    }
+
+    // Only full reads are copied, a ranged read falls back to a background fill of the whole object
+    private class TeeContentStream implements ContentStream {
+
+        private final String key;
+        private final Resource resource;
+
+        private TeeContentStream(final String key, final Resource resource) {
+            this.key = key;
+            this.resource = resource;
+        }
+
+        @Override
+        public InputStream open() throws IOException {
+            final var in = this.resource.stream().open();
+            if (contains(this.key) || !loading.add(this.key)) {
+                return in;
+            }
+
+            final var partial = partialOf(this.key);
+            try {
+                Files.createDirectories(directory);
+                return new TeeInputStream(in, Files.newOutputStream(partial), this.key, this.resource, partial);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to cache media [key:{}] [error:{}]", this.key, e.getMessage());
+                loading.remove(this.key);
+                return in;
+            }
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            if (isFull(offset, length)) {
+                return open();
+            }
+
+            load(this.key, this.resource);
+            return this.resource.stream().open(offset, length);
+        }
+
+        @Override
+        public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+            if (isFull(offset, length)) {
+                try (final var in = open()) {
+                    return in.transferTo(Channels.newOutputStream(target));
+                }
+            }
+
+            load(this.key, this.resource);
+            return this.resource.stream().transferTo(offset, length, target);
+        }
+
+        private boolean isFull(final long offset, final long length) {
+            return offset == 0 && length >= this.resource.size();
+        }
+    }
+
+    private class TeeInputStream extends FilterInputStream {
+
+        private final String key;
+        private final Resource resource;
+        private final Path partial;
+        private final CRC32C crc;
+        private OutputStream out;
+        private long size;
+        private boolean released;
+
+        private TeeInputStream(final InputStream in, final OutputStream out, final String key, final Resource resource, final Path partial) {
+            super(in);
+            this.out = out;
+            this.key = key;
+            this.resource = resource;
+            this.partial = partial;
+            this.crc = new CRC32C();
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = super.read();
+            if (b < 0) {
+                complete();
+            } else {
+                copy(new byte[]{(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final var count = super.read(b, off, len);
+            if (count < 0) {
+                complete();
+            } else {
+                copy(b, off, count);
+            }
+            return count;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            abandon();
+            return super.skip(n);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                abandon();
+            }
+        }
+
+        // A failing cache write never fails the read being served
+        private void copy(final byte[] b, final int off, final int len) {
+            if (this.out == null) {
+                return;
+            }
+
+            try {
+                this.out.write(b, off, len);
+                this.crc.update(b, off, len);
+                this.size += len;
+            } catch (IOException e) {
+                log.warn("Failed to cache media [key:{}] [error:{}]", this.key, e.getMessage());
+                abandon();
+            }
+        }
+
+        private void complete() {
+            if (this.out == null) {
+                release();
+                return;
+            }
+
+            try {
+                this.out.close();
+                this.out = null;
+                commit(this.key, this.resource, this.partial, this.size, this.crc.getValue());
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to cache media [key:{}] [error:{}]", this.key, e.getMessage());
+                discard(this.partial);
+            } finally {
+                release();
+            }
+        }
+
+        private void abandon() {
+            if (this.out != null) {
+                try {
+                    this.out.close();
+                } catch (IOException ignored) {
+                    // the partial file is deleted below
+                }
+                this.out = null;
+                discard(this.partial);
+            }
+            release();
+        }
+
+        private void release() {
+            if (!this.released) {
+                this.released = true;
+                loading.remove(this.key);
+            }
+        }
+    }
+}
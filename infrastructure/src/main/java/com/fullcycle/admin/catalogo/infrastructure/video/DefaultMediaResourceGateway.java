@@ -2,51 +2,220 @@ package com.fullcycle.admin.catalogo.infrastructure.video;
 
 import com.fullcycle.admin.catalogo.domain.MediaResourceGateway;
 import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceMetadata;
+import com.fullcycle.admin.catalogo.domain.resource.SignedUrl;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.DigestingContentStream;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.cleanup.MediaCleanupQueue;
+import com.fullcycle.admin.catalogo.infrastructure.video.replication.MediaReplicationQueue;
+import com.fullcycle.admin.catalogo.infrastructure.video.replication.MediaSpool;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.StagedContentStream;
+import com.google.common.collect.Iterators;
+import com.google.common.util.concurrent.Striped;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 @Component
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
+    static final String BLOBS_FOLDER = "blobs/";
+    static final String REFS_FOLDER = "refs/";
+    static final String STAGING_BLOB_PREFIX = "staging-";
+    static final String REFERENCE_CONTENT_TYPE = "application/vnd.catalogo.media-reference";
+
     private final String filenamePattern;
     private final String locationPattern;
     private final StorageService storageService;
+    private final MediaCleanupQueue cleanupQueue;
+    private final ImageMediaCache imageCache;
+    private final AudioVideoDiskCache diskCache;
+    private final ImageRenditionGenerator renditionGenerator;
+    private final MediaSpool spool;
+    private final MediaReplicationQueue replicationQueue;
+    private final Striped<Lock> locks;
 
-    public DefaultMediaResourceGateway(final StorageProperties props, final StorageService storageService) {
+    public DefaultMediaResourceGateway(
+            final StorageProperties props,
+            final StorageService storageService,
+            final MediaCleanupQueue cleanupQueue,
+            final ImageMediaCache imageCache,
+            final AudioVideoDiskCache diskCache,
+            final ImageRenditionGenerator renditionGenerator,
+            final MediaSpool spool,
+            final MediaReplicationQueue replicationQueue
+    ) {
         this.filenamePattern = props.getFilenamePattern();
         this.locationPattern = props.getLocationPattern();
         this.storageService = storageService;
+        this.cleanupQueue = cleanupQueue;
+        this.imageCache = imageCache;
+        this.diskCache = diskCache;
+        this.renditionGenerator = renditionGenerator;
+        this.spool = spool;
+        this.replicationQueue = replicationQueue;
+        this.locks = Striped.lock(64);
     }
 
     @Override
     public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource videoResource) {
-        final var filepath = filepath(anId, videoResource.type());
         final var aResource = videoResource.resource();
-        store(filepath, aResource);
-        return AudioVideoMedia.with(aResource.checksum(), aResource.name(), filepath);
+        final var filepath = filepath(anId, videoResource.type());
+
+        if (this.spool.isEnabled() && !(aResource.stream() instanceof StagedContentStream)) {
+            return spool(anId, videoResource.type(), filepath, aResource);
+        }
+
+        final var blobKey = store(filepath, aResource);
+        return AudioVideoMedia.with(aResource.checksum(), aResource.name(), blobKey);
     }
 
     @Override
     public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
-        final var filepath = filepath(anId, videoResource.type());
         final var aResource = videoResource.resource();
-        store(filepath, aResource);
-        return ImageMedia.with(aResource.checksum(), aResource.name(), filepath);
+        final var filepath = filepath(anId, videoResource.type());
+        final var blobKey = store(filepath, aResource);
+        storeRenditions(filepath, aResource);
+        this.imageCache.invalidate(anId, videoResource.type());
+        return ImageMedia.with(aResource.checksum(), aResource.name(), blobKey);
     }
 
     @Override
     public Optional<Resource> getResource(final VideoID anId, final VideoMediaType type) {
-        return this.storageService.get(filepath(anId, type));
+        return getResource(anId, type, ImageRendition.ORIGINAL);
+    }
+
+    @Override
+    public Optional<Resource> getResource(final VideoID anId, final VideoMediaType type, final ImageRendition rendition) {
+        if (ImageMediaCache.isCacheable(type)) {
+            return this.imageCache.get(anId, type, rendition)
+                    .or(() -> loadImage(anId, type, rendition));
+        }
+
+        if (AudioVideoDiskCache.isCacheable(type) && this.diskCache.isEnabled()) {
+            return this.storageService.get(filepath(anId, type))
+                    .flatMap(this::resolveCached);
+        }
+
+        return this.storageService.get(filepath(anId, type))
+                .flatMap(this::resolve);
+    }
+
+    @Override
+    public Optional<ResourceMetadata> getMetadata(
+            final VideoID anId,
+            final VideoMediaType type,
+            final ImageRendition rendition
+    ) {
+        if (ImageMediaCache.isCacheable(type)) {
+            final var aCached = this.imageCache.get(anId, type, rendition);
+            if (aCached.isPresent()) {
+                return aCached.map(ResourceMetadata::of);
+            }
+        }
+
+        final var filepath = filepath(anId, type);
+        final var aPath = rendition == ImageRendition.ORIGINAL ? filepath : renditionPath(filepath, rendition);
+        final var aPointer = this.storageService.get(aPath);
+
+        if (aPointer.isEmpty() && rendition != ImageRendition.ORIGINAL) {
+            return getMetadata(anId, type, ImageRendition.ORIGINAL);
+        }
+
+        // Only the tiny pointer is read, the blob itself is described by its metadata
+        return aPointer.flatMap(it -> {
+            if (!REFERENCE_CONTENT_TYPE.equals(it.contentType())) {
+                return Optional.of(ResourceMetadata.of(it));
+            }
+
+            final var blobKey = new String(it.content(), StandardCharsets.UTF_8);
+            return this.spool.stat(blobKey)
+                    .or(() -> this.storageService.stat(blobKey))
+                    .map(blob -> blob.withName(it.name()));
+        });
+    }
+
+    @Override
+    public Optional<SignedUrl> getSignedUrl(
+            final VideoID anId,
+            final VideoMediaType type,
+            final ImageRendition rendition,
+            final Duration ttl
+    ) {
+        final var filepath = filepath(anId, type);
+        final var aPath = rendition == ImageRendition.ORIGINAL ? filepath : renditionPath(filepath, rendition);
+        final var aPointer = this.storageService.get(aPath);
+
+        if (aPointer.isEmpty() && rendition != ImageRendition.ORIGINAL) {
+            return getSignedUrl(anId, type, ImageRendition.ORIGINAL, ttl);
+        }
+
+        return aPointer.flatMap(it -> {
+            final var aKey = REFERENCE_CONTENT_TYPE.equals(it.contentType())
+                    ? new String(it.content(), StandardCharsets.UTF_8)
+                    : aPath;
+
+            // A blob still in the local spool has no remote object to sign yet
+            if (this.spool.contains(aKey)) {
+                return Optional.empty();
+            }
+            return Optional.of(this.storageService.signedUrl(aKey, it.name(), ttl));
+        });
     }
 
     @Override
     public void clearResources(final VideoID anId) {
-        final var ids = this.storageService.list(folder(anId));
-        this.storageService.deleteAll(ids);
+        this.imageCache.invalidate(anId);
+        this.cleanupQueue.enqueue(anId);
+    }
+
+    public void purgeResources(final VideoID anId, final int batchSize) {
+        this.imageCache.invalidate(anId);
+        try (final var filepaths = this.storageService.scan(folder(anId).concat("/"))) {
+            Iterators.partition(filepaths.iterator(), Math.max(1, batchSize))
+                    .forEachRemaining(this::purge);
+        }
+    }
+
+    public boolean replicate(final String blobKey) {
+        final var lock = this.locks.get(blobKey);
+        lock.lock();
+        try {
+            final var spooled = this.spool.get(blobKey);
+            if (spooled.isEmpty()) {
+                return this.storageService.stat(blobKey).isPresent();
+            }
+
+            if (this.storageService.list(refsFolder(blobKey)).isEmpty()) {
+                this.spool.delete(blobKey);
+                return false;
+            }
+
+            if (this.storageService.stat(blobKey).isEmpty()) {
+                this.storageService.store(blobKey, spooled.get());
+            }
+            this.spool.delete(blobKey);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isAttached(final VideoID anId, final VideoMediaType aType, final String blobKey) {
+        final var filepath = filepath(anId, aType);
+        return blobKeyOf(filepath).filter(blobKey::equals).isPresent()
+                && this.storageService.stat(refKey(blobKey, filepath)).isPresent();
     }
 
     private String filename(final VideoMediaType aType) {
@@ -63,7 +232,247 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
                 .concat(filename(aType));
     }
 
-    private void store(final String filepath, final Resource aResource) {
-        this.storageService.store(filepath, aResource);
+    private String store(final String filepath, final Resource aResource) {
+        final var previous = blobKeyOf(filepath);
+        final String blobKey;
+
+        if (aResource.stream() instanceof StagedContentStream staged) {
+            // Objects uploaded straight to the bucket are adopted under the SHA-256 checked on completion, by a server side copy only when new
+            blobKey = BLOBS_FOLDER.concat(staged.sha256());
+            attach(blobKey, filepath, aResource, this::isStored, () -> this.storageService.copy(staged.key(), blobKey));
+        } else if (aResource.stream().isRepeatable()) {
+            // Content that can be read again is hashed first, so a blob that already exists is never written twice
+            blobKey = BLOBS_FOLDER.concat(HashingUtils.sha256(aResource.openStream()));
+            if (!isStored(blobKey)) {
+                this.storageService.store(blobKey, aResource);
+            }
+            attach(blobKey, filepath, aResource, this::isStored, () -> this.storageService.store(blobKey, aResource));
+        } else {
+            // One-shot streams are hashed while written to a staging object, which is renamed into place only when the blob is new
+            final var stagingKey = stagingKey();
+            try {
+                final var content = DigestingContentStream.withSha256(aResource.stream(), aResource.size());
+                this.storageService.store(stagingKey, digested(content, aResource));
+                blobKey = contentKeyOf(content, () -> this.storageService.get(stagingKey));
+                attach(blobKey, filepath, aResource, this::isStored, () -> this.storageService.move(stagingKey, blobKey));
+            } finally {
+                this.storageService.deleteAll(List.of(stagingKey));
+            }
+        }
+
+        // The previous blob is only released once nothing points at it anymore, so a failed store keeps the old media
+        this.storageService.store(filepath, reference(blobKey, aResource));
+        releasePrevious(previous, blobKey, filepath);
+        return blobKey;
+    }
+
+    private AudioVideoMedia spool(
+            final VideoID anId,
+            final VideoMediaType aType,
+            final String filepath,
+            final Resource aResource
+    ) {
+        final var previous = blobKeyOf(filepath);
+        final String blobKey;
+
+        if (aResource.stream().isRepeatable()) {
+            blobKey = BLOBS_FOLDER.concat(HashingUtils.sha256(aResource.openStream()));
+            if (!isStored(blobKey) && !this.spool.contains(blobKey)) {
+                this.spool.store(blobKey, aResource);
+            }
+            attach(blobKey, filepath, aResource, this::isSpooled, () -> this.spool.store(blobKey, aResource));
+        } else {
+            final var stagingKey = stagingKey();
+            try {
+                final var content = DigestingContentStream.withSha256(aResource.stream(), aResource.size());
+                this.spool.store(stagingKey, digested(content, aResource));
+                blobKey = contentKeyOf(content, () -> this.spool.get(stagingKey));
+                attach(blobKey, filepath, aResource, this::isSpooled, () -> this.spool.move(stagingKey, blobKey));
+            } finally {
+                this.spool.delete(stagingKey);
+            }
+        }
+
+        this.storageService.store(filepath, reference(blobKey, aResource));
+        releasePrevious(previous, blobKey, filepath);
+
+        if (isStored(blobKey)) {
+            return AudioVideoMedia.with(aResource.checksum(), aResource.name(), blobKey);
+        }
+
+        final var aMedia = AudioVideoMedia.replicating(aResource.checksum(), aResource.name(), blobKey);
+        this.replicationQueue.enqueue(aMedia.id(), anId, aType, blobKey);
+        return aMedia;
+    }
+
+    // Writes may happen outside the lock, so the blob is checked again where a release cannot race the new reference
+    private void attach(
+            final String blobKey,
+            final String filepath,
+            final Resource aResource,
+            final Predicate<String> exists,
+            final Runnable write
+    ) {
+        final var lock = this.locks.get(blobKey);
+        lock.lock();
+        try {
+            if (!exists.test(blobKey)) {
+                write.run();
+            }
+            this.storageService.store(refKey(blobKey, filepath), reference(blobKey, aResource));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isStored(final String blobKey) {
+        return this.storageService.stat(blobKey).isPresent();
+    }
+
+    private boolean isSpooled(final String blobKey) {
+        return isStored(blobKey) || this.spool.contains(blobKey);
+    }
+
+    private void releasePrevious(final Optional<String> previous, final String blobKey, final String filepath) {
+        previous
+                .filter(it -> !it.equals(blobKey))
+                .ifPresent(it -> release(it, filepath));
+    }
+
+    private void release(final String blobKey, final String filepath) {
+        final var lock = this.locks.get(blobKey);
+        lock.lock();
+        try {
+            final var refKey = refKey(blobKey, filepath);
+            this.storageService.deleteAll(List.of(refKey));
+
+            if (this.storageService.list(refsFolder(blobKey)).isEmpty()) {
+                this.storageService.deleteAll(List.of(blobKey));
+                this.spool.delete(blobKey);
+                this.diskCache.invalidate(blobKey);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void purge(final List<String> filepaths) {
+        for (final var filepath : filepaths) {
+            blobKeyOf(filepath).ifPresent(blobKey -> release(blobKey, filepath));
+        }
+        this.storageService.deleteAll(filepaths);
+    }
+
+    private Optional<Resource> loadImage(final VideoID anId, final VideoMediaType type, final ImageRendition rendition) {
+        final var filepath = filepath(anId, type);
+        final var aPath = rendition == ImageRendition.ORIGINAL ? filepath : renditionPath(filepath, rendition);
+
+        final var anImage = this.storageService.get(aPath)
+                .flatMap(aPointer -> {
+                    final var checksum = REFERENCE_CONTENT_TYPE.equals(aPointer.contentType())
+                            ? new String(aPointer.content(), StandardCharsets.UTF_8)
+                            : aPointer.checksum();
+
+                    return this.imageCache.get(anId, type, rendition, checksum)
+                            .or(() -> resolve(aPointer).map(it -> this.imageCache.put(anId, type, rendition, checksum, it)));
+                });
+
+        if (anImage.isPresent() || rendition == ImageRendition.ORIGINAL) {
+            return anImage;
+        }
+
+        // Images narrower than a rendition are served as they are
+        return getResource(anId, type, ImageRendition.ORIGINAL)
+                .map(it -> this.imageCache.put(anId, type, rendition, it.checksum(), it));
+    }
+
+    private void storeRenditions(final String filepath, final Resource anImage) {
+        final var renditions = this.renditionGenerator.generate(anImage);
+        final var stale = new ArrayList<String>();
+
+        for (final var aRendition : ImageRendition.values()) {
+            if (aRendition == ImageRendition.ORIGINAL) {
+                continue;
+            }
+
+            final var aResource = renditions.get(aRendition);
+            if (aResource != null) {
+                this.storageService.store(renditionPath(filepath, aRendition), aResource);
+            } else {
+                stale.add(renditionPath(filepath, aRendition));
+            }
+        }
+
+        this.storageService.deleteAll(stale);
+    }
+
+    private Optional<Resource> resolve(final Resource aPointer) {
+        if (!REFERENCE_CONTENT_TYPE.equals(aPointer.contentType())) {
+            return Optional.of(aPointer);
+        }
+
+        final var blobKey = new String(aPointer.content(), StandardCharsets.UTF_8);
+        return this.spool.get(blobKey)
+                .or(() -> this.storageService.get(blobKey))
+                .map(blob -> named(blob, aPointer.name()));
+    }
+
+    private Optional<Resource> resolveCached(final Resource aPointer) {
+        if (!REFERENCE_CONTENT_TYPE.equals(aPointer.contentType())) {
+            return Optional.of(aPointer);
+        }
+
+        // Blobs are content addressed, so a cached copy never goes stale while its key exists
+        final var blobKey = new String(aPointer.content(), StandardCharsets.UTF_8);
+        return this.diskCache.get(blobKey)
+                .or(() -> this.spool.get(blobKey))
+                .or(() -> this.storageService.get(blobKey).map(blob -> this.diskCache.tee(blobKey, blob)))
+                .map(blob -> named(blob, aPointer.name()));
+    }
+
+    private Optional<String> blobKeyOf(final String filepath) {
+        return this.storageService.get(filepath)
+                .filter(it -> REFERENCE_CONTENT_TYPE.equals(it.contentType()))
+                .map(it -> new String(it.content(), StandardCharsets.UTF_8));
+    }
+
+    private static Resource digested(final DigestingContentStream content, final Resource aResource) {
+        return Resource.with(content, aResource.size(), aResource::checksum, aResource.contentType(), aResource.name());
+    }
+
+    // The SHA-256 is taken from the write itself, only parallel ranged writes need a second sequential read of what was staged
+    private static String contentKeyOf(final DigestingContentStream content, final Supplier<Optional<Resource>> staged) {
+        if (content.isDigested()) {
+            return BLOBS_FOLDER.concat(content.sha256());
+        }
+
+        return staged.get()
+                .map(it -> BLOBS_FOLDER.concat(HashingUtils.sha256(it.openStream())))
+                .orElseThrow(() -> new IllegalStateException("Staged content is missing"));
+    }
+
+    private static String stagingKey() {
+        return BLOBS_FOLDER.concat(STAGING_BLOB_PREFIX).concat(IdUtils.uuid());
+    }
+
+    private static Resource named(final Resource blob, final String name) {
+        return Resource.with(blob.stream(), blob.size(), blob.checksum(), blob.contentType(), name);
+    }
+
+    private static Resource reference(final String blobKey, final Resource aResource) {
+        final var content = blobKey.getBytes(StandardCharsets.UTF_8);
+        return Resource.with(content, HashingUtils.checksum(content), REFERENCE_CONTENT_TYPE, aResource.name());
+    }
+
+    private static String renditionPath(final String filepath, final ImageRendition rendition) {
+        return filepath.concat("-").concat(rendition.name().toLowerCase());
+    }
+
+    private static String refsFolder(final String blobKey) {
+        return REFS_FOLDER.concat(blobKey.substring(BLOBS_FOLDER.length())).concat("/");
+    }
+
+    private static String refKey(final String blobKey, final String filepath) {
+        return refsFolder(blobKey).concat(filepath);
     }
 }
@@ -1,20 +1,41 @@
 package com.fullcycle.admin.catalogo.infrastructure.video;
 
 import com.fullcycle.admin.catalogo.domain.Identifier;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
 import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
 import com.fullcycle.admin.catalogo.domain.video.*;
 import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.fullcycle.admin.catalogo.infrastructure.pagination.TotalCounter;
 import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
-import com.fullcycle.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.KeysetUtils;
+import com.fullcycle.admin.catalogo.infrastructure.utils.SliceUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoCastMemberJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoCategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoGenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.search.VideoSearchIndex;
+import com.google.common.collect.Lists;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Objects;
-import java.util.Optional;
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.mapTo;
 import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.nullIfEmpty;
@@ -22,14 +43,29 @@ import static com.fullcycle.admin.catalogo.domain.utils.CollectionUtils.nullIfEm
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
+    private static final String TABLE = "videos";
+    private static final String RELEVANCE = "relevance";
+    private static final String DEFAULT_SORT = "title";
+    // Bounds the ids bound into a single 'id IN (...)'
+    private static final int MAX_CANDIDATES = 1_000;
+
     private final EventService eventService;
     private final VideoRepository videoRepository;
+    private final EntityManager entityManager;
+    private final TotalCounter totalCounter;
+    private final VideoSearchIndex searchIndex;
 
     public DefaultVideoGateway(
             final @VideoCreatedQueue EventService eventService,
-            final VideoRepository videoRepository) {
+            final VideoRepository videoRepository,
+            final EntityManager entityManager,
+            final TotalCounter totalCounter,
+            final VideoSearchIndex searchIndex) {
         this.eventService = Objects.requireNonNull(eventService);
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.totalCounter = Objects.requireNonNull(totalCounter);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
     }
 
     @Transactional
@@ -43,6 +79,8 @@ public class DefaultVideoGateway implements VideoGateway {
         final var aVideoId = anId.getValue();
         if (this.videoRepository.existsById(aVideoId)) {
             this.videoRepository.deleteById(aVideoId);
+            this.totalCounter.invalidate(TABLE);
+            afterCommit(() -> this.searchIndex.remove(aVideoId));
         }
     }
 
@@ -61,6 +99,20 @@ public class DefaultVideoGateway implements VideoGateway {
 
     @Override
     public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
+        if (RELEVANCE.equalsIgnoreCase(aQuery.sort())) {
+            return findByRelevance(aQuery);
+        }
+
+        final var matches = matchesOf(aQuery.terms());
+        if (matches != null && matches.isEmpty()) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+
+        // Index hits are only bound through the criteria query, which splits them into chunks
+        if (matches != null || aQuery.isKeyset() || aQuery.countMode() != CountMode.EXACT) {
+            return findSlice(aQuery, matches);
+        }
+
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
@@ -68,7 +120,7 @@ public class DefaultVideoGateway implements VideoGateway {
         );
 
         final var actualPage = this.videoRepository.findAll(
-                SqlUtils.like(SqlUtils.upper(aQuery.terms())),
+                null,
                 nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue)),
                 nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue)),
                 nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue)),
@@ -83,10 +135,214 @@ public class DefaultVideoGateway implements VideoGateway {
         );
     }
 
+    // Ranked hits come from the index; the database only narrows them down by relations and loads the page
+    private Pagination<VideoPreview> findByRelevance(final VideoSearchQuery aQuery) {
+        if (aQuery.terms() == null || aQuery.terms().isBlank()) {
+            return findAll(withSort(aQuery, DEFAULT_SORT));
+        }
+        if (aQuery.isKeyset()) {
+            throw DomainException.with(new Error("'after' is not supported when sorting by relevance"));
+        }
+
+        final var hits = this.searchIndex.search(aQuery.terms());
+        if (hits.isEmpty()) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+
+        final var castMembers = nullIfEmpty(mapTo(aQuery.castMembers(), Identifier::getValue));
+        final var categories = nullIfEmpty(mapTo(aQuery.categories(), Identifier::getValue));
+        final var genres = nullIfEmpty(mapTo(aQuery.genres(), Identifier::getValue));
+        final var filtered = castMembers != null || categories != null || genres != null;
+
+        // Filters are checked one chunk of ranked hits at a time, stopping once the requested page is known to be full
+        final var wanted = (long) (aQuery.page() + 1) * aQuery.perPage();
+        final var ranked = new ArrayList<String>();
+        var checked = 0;
+        while (checked < hits.size() && ranked.size() <= wanted) {
+            final var chunk = hits.subList(checked, Math.min(checked + MAX_CANDIDATES, hits.size())).stream()
+                    .map(VideoSearchIndex.Hit::id)
+                    .toList();
+            if (filtered) {
+                final var matching = new HashSet<>(this.videoRepository.findIdsMatching(
+                        new HashSet<>(chunk), castMembers, categories, genres));
+                chunk.stream().filter(matching::contains).forEach(ranked::add);
+            } else {
+                ranked.addAll(chunk);
+            }
+            checked += chunk.size();
+        }
+        final var total = checked < hits.size() ? Pagination.UNKNOWN_TOTAL : ranked.size();
+
+        final var from = (int) Math.min((long) aQuery.page() * aQuery.perPage(), ranked.size());
+        final var to = Math.min(from + aQuery.perPage(), ranked.size());
+        final var pageIds = ranked.subList(from, to);
+
+        final var previews = this.videoRepository.findPreviews(pageIds).stream()
+                .collect(Collectors.toMap(VideoPreview::id, Function.identity()));
+        final var items = pageIds.stream()
+                .map(previews::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), total, items, null, to < ranked.size());
+    }
+
+    private Set<String> matchesOf(final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return null;
+        }
+
+        final var matches = new HashSet<String>();
+        this.searchIndex.search(terms).forEach(it -> matches.add(it.id()));
+        return matches;
+    }
+
+    private Pagination<VideoPreview> findSlice(final VideoSearchQuery aQuery, final Set<String> matches) {
+        final var where = Specification.<VideoJpaEntity>where(null)
+                .and(idIn(matches))
+                .and(relatedTo(VideoCastMemberJpaEntity.class, "castMemberId", mapTo(aQuery.castMembers(), Identifier::getValue)))
+                .and(relatedTo(VideoCategoryJpaEntity.class, "categoryId", mapTo(aQuery.categories(), Identifier::getValue)))
+                .and(relatedTo(VideoGenreJpaEntity.class, "genreId", mapTo(aQuery.genres(), Identifier::getValue)));
+
+        final LongSupplier total = () -> this.totalCounter.count(
+                aQuery.countMode(),
+                TABLE,
+                filterOf(aQuery),
+                () -> SliceUtils.count(this.entityManager, VideoJpaEntity.class, where)
+        );
+
+        if (aQuery.isKeyset()) {
+            return KeysetUtils.findAfter(
+                    this.entityManager,
+                    VideoJpaEntity.class,
+                    where,
+                    DefaultVideoGateway::previewOf,
+                    DefaultVideoGateway::preview,
+                    aQuery.sort(),
+                    aQuery.direction(),
+                    aQuery.after(),
+                    aQuery.perPage(),
+                    total
+            );
+        }
+
+        return SliceUtils.findSlice(
+                this.entityManager,
+                VideoJpaEntity.class,
+                where,
+                DefaultVideoGateway::previewOf,
+                DefaultVideoGateway::preview,
+                aQuery.sort(),
+                aQuery.direction(),
+                aQuery.page(),
+                aQuery.perPage(),
+                total
+        );
+    }
+
+    private static String filterOf(final VideoSearchQuery aQuery) {
+        final var castMembers = idsOf(aQuery.castMembers());
+        final var categories = idsOf(aQuery.categories());
+        final var genres = idsOf(aQuery.genres());
+        final var terms = Objects.requireNonNullElse(aQuery.terms(), "");
+
+        if (terms.isBlank() && castMembers.isEmpty() && categories.isEmpty() && genres.isEmpty()) {
+            return "";
+        }
+        return "%s|%s|%s|%s".formatted(terms, castMembers, categories, genres);
+    }
+
+    private static Set<String> idsOf(final Set<? extends Identifier> ids) {
+        final var values = new TreeSet<String>();
+        if (ids != null) {
+            ids.forEach(it -> values.add(it.getValue()));
+        }
+        return values;
+    }
+
+    // Every hit is bound, MAX_CANDIDATES ids per IN list, so no match is dropped however broad the terms are
+    private static Specification<VideoJpaEntity> idIn(final Set<String> ids) {
+        if (ids == null) {
+            return null;
+        }
+        final var chunks = Lists.partition(List.copyOf(ids), MAX_CANDIDATES);
+        return (root, query, cb) -> cb.or(chunks.stream()
+                .map(it -> root.get("id").in(it))
+                .toArray(Predicate[]::new));
+    }
+
+    private static VideoSearchQuery withSort(final VideoSearchQuery aQuery, final String aSort) {
+        return new VideoSearchQuery(
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.terms(),
+                aSort,
+                aQuery.direction(),
+                aQuery.castMembers(),
+                aQuery.categories(),
+                aQuery.genres(),
+                aQuery.after(),
+                aQuery.count()
+        );
+    }
+
+    private static Specification<VideoJpaEntity> relatedTo(
+            final Class<?> aRelation,
+            final String aRelatedId,
+            final Set<String> ids
+    ) {
+        if (ids == null || ids.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            final var related = query.subquery(String.class);
+            final var relation = related.from(aRelation);
+            related.select(relation.get("id").<String>get("videoId"))
+                    .where(relation.get("id").get(aRelatedId).in(ids));
+            return root.get("id").in(related);
+        };
+    }
+
+    private static List<Selection<?>> previewOf(final Root<VideoJpaEntity> root) {
+        return List.of(
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        );
+    }
+
+    private static VideoPreview preview(final Tuple row) {
+        return new VideoPreview(
+                row.get(0, String.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, Instant.class),
+                row.get(4, Instant.class)
+        );
+    }
+
     private Video save(final Video aVideo) {
         final var result = this.videoRepository.save(VideoJpaEntity.from(aVideo))
                 .toAggregate();
+        this.totalCounter.invalidate(TABLE);
+        afterCommit(() -> this.searchIndex.index(result.getId().getValue(), result.getTitle(), result.getDescription()));
         aVideo.publishDomainEvents(this.eventService::send);
         return result;
     }
+
+    // The index must never expose a video whose transaction rolled back
+    private static void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
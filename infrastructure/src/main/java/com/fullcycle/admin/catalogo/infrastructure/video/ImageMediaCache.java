@@ -0,0 +1,108 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.ImageRendition;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+public class ImageMediaCache {
+
+    private static final Set<VideoMediaType> IMAGE_TYPES = EnumSet.copyOf(Arrays.stream(VideoMediaType.values())
+            .filter(VideoMediaType::isImage)
+            .toList());
+    private static final DataSize DEFAULT_SIZE = DataSize.ofMegabytes(64);
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+    private static final int MAX_ENTRY_FRACTION = 8;
+
+    private final long maxEntryBytes;
+    private final Cache<Key, Resource> contents;
+    private final Cache<Location, String> checksums;
+
+    public ImageMediaCache(final StorageProperties props) {
+        final var maxBytes = Optional.ofNullable(props.getImageCacheSize()).orElse(DEFAULT_SIZE).toBytes();
+        final var ttl = Optional.ofNullable(props.getImageCacheTtl()).orElse(DEFAULT_TTL);
+
+        this.maxEntryBytes = maxBytes / MAX_ENTRY_FRACTION;
+        this.contents = CacheBuilder.newBuilder()
+                .concurrencyLevel(1)
+                .maximumWeight(maxBytes)
+                .<Key, Resource>weigher((key, value) -> (int) Math.min(Integer.MAX_VALUE, value.size()))
+                .build();
+        this.checksums = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public static boolean isCacheable(final VideoMediaType aType) {
+        return aType.isImage();
+    }
+
+    public Optional<Resource> get(final VideoID anId, final VideoMediaType aType, final ImageRendition aRendition) {
+        return Optional.ofNullable(this.checksums.getIfPresent(new Location(anId.getValue(), aType, aRendition)))
+                .flatMap(checksum -> get(anId, aType, aRendition, checksum));
+    }
+
+    public Optional<Resource> get(
+            final VideoID anId,
+            final VideoMediaType aType,
+            final ImageRendition aRendition,
+            final String checksum
+    ) {
+        final var aResource = this.contents.getIfPresent(new Key(anId.getValue(), aType, aRendition, checksum));
+        if (aResource != null) {
+            this.checksums.put(new Location(anId.getValue(), aType, aRendition), checksum);
+        }
+        return Optional.ofNullable(aResource);
+    }
+
+    public Resource put(
+            final VideoID anId,
+            final VideoMediaType aType,
+            final ImageRendition aRendition,
+            final String checksum,
+            final Resource aResource
+    ) {
+        if (aResource.size() > this.maxEntryBytes) {
+            return aResource;
+        }
+
+        final var cached = Resource.with(aResource.content(), aResource.checksum(), aResource.contentType(), aResource.name());
+        this.contents.put(new Key(anId.getValue(), aType, aRendition, checksum), cached);
+        this.checksums.put(new Location(anId.getValue(), aType, aRendition), checksum);
+        return cached;
+    }
+
+    public void invalidate(final VideoID anId, final VideoMediaType aType) {
+        this.checksums.asMap().keySet().removeIf(key -> key.videoId().equals(anId.getValue()) && key.type() == aType);
+        this.contents.asMap().keySet().removeIf(key -> key.videoId().equals(anId.getValue()) && key.type() == aType);
+    }
+
+    public void invalidate(final VideoID anId) {
+        IMAGE_TYPES.forEach(aType -> invalidate(anId, aType));
+    }
+
+    public long weight() {
+        return this.contents.asMap().values().stream()
+                .mapToLong(Resource::size)
+                .sum();
+    }
+
+    private record Location(String videoId, VideoMediaType type, ImageRendition rendition) {
+    }
+
+    private record Key(String videoId, VideoMediaType type, ImageRendition rendition, String checksum) {
+    }
+}
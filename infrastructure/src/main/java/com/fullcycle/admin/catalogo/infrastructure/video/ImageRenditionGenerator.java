@@ -0,0 +1,169 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.ImageRendition;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+public class ImageRenditionGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageRenditionGenerator.class);
+
+    private static final float RENDITION_QUALITY = 0.85f;
+    private static final float PLACEHOLDER_QUALITY = 0.3f;
+    private static final long DEFAULT_MAX_PIXELS = 50_000_000L;
+
+    private final long maxPixels;
+
+    public ImageRenditionGenerator() {
+        this(DEFAULT_MAX_PIXELS);
+    }
+
+    ImageRenditionGenerator(final long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    public Map<ImageRendition, Resource> generate(final Resource anImage) {
+        final var renditions = new EnumMap<ImageRendition, Resource>(ImageRendition.class);
+
+        final BufferedImage source;
+        try (final var in = anImage.openStream()) {
+            source = decode(in, anImage.name());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not decode image for renditions [name:{}] [error:{}]", anImage.name(), e.getMessage());
+            return renditions;
+        }
+
+        if (source == null) {
+            return renditions;
+        }
+
+        for (final var aRendition : ImageRendition.values()) {
+            if (aRendition == ImageRendition.ORIGINAL) {
+                continue;
+            }
+            if (aRendition != ImageRendition.PLACEHOLDER && source.getWidth() <= aRendition.getWidth()) {
+                continue;
+            }
+
+            try {
+                renditions.put(aRendition, render(source, aRendition, anImage.name()));
+            } catch (IOException e) {
+                log.warn("Could not encode rendition [name:{}] [rendition:{}] [error:{}]", anImage.name(), aRendition, e.getMessage());
+            }
+        }
+
+        return renditions;
+    }
+
+    // The header is read first so a small file declaring huge dimensions is never decoded into memory
+    private BufferedImage decode(final InputStream in, final String aName) throws IOException {
+        try (final var imageIn = new MemoryCacheImageInputStream(in)) {
+            final var readers = ImageIO.getImageReaders(imageIn);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            final var reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, true);
+                final var width = reader.getWidth(0);
+                final var height = reader.getHeight(0);
+                if ((long) width * height > this.maxPixels) {
+                    log.warn("Skipping renditions of an oversized image [name:{}] [width:{}] [height:{}]", aName, width, height);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static Resource render(final BufferedImage source, final ImageRendition aRendition, final String aName) throws IOException {
+        final var alpha = source.getColorModel().hasAlpha();
+        final var scaled = scale(source, Math.min(aRendition.getWidth(), source.getWidth()), alpha);
+        final var quality = aRendition == ImageRendition.PLACEHOLDER ? PLACEHOLDER_QUALITY : RENDITION_QUALITY;
+        final var content = alpha ? encodePng(scaled) : encodeJpeg(scaled, quality);
+        final var extension = alpha ? "png" : "jpg";
+
+        return Resource.with(
+                content,
+                HashingUtils.checksum(content),
+                alpha ? "image/png" : "image/jpeg",
+                "%s-%s.%s".formatted(baseName(aName), aRendition.name().toLowerCase(), extension)
+        );
+    }
+
+    private static BufferedImage scale(final BufferedImage source, final int targetWidth, final boolean alpha) {
+        final var type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        var current = source;
+        var width = source.getWidth();
+        var height = source.getHeight();
+
+        do {
+            // Halving in steps keeps bilinear sampling from skipping pixels on large reductions
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+            final var next = new BufferedImage(width, height, type);
+            final var graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width > targetWidth);
+
+        return current;
+    }
+
+    private static byte[] encodeJpeg(final BufferedImage image, final float quality) throws IOException {
+        final var writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG writer available");
+        }
+
+        final var writer = writers.next();
+        final var out = new ByteArrayOutputStream();
+        try (final var imageOut = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOut);
+            final var param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encodePng(final BufferedImage image) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static String baseName(final String aName) {
+        final var dot = aName.lastIndexOf('.');
+        return dot > 0 ? aName.substring(0, dot) : aName;
+    }
+}
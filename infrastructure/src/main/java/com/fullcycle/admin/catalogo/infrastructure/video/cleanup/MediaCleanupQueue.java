@@ -0,0 +1,135 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.cleanup;
+
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+@Component
+public class MediaCleanupQueue {
+
+    private static final String REQUEST_SUFFIX = ".request";
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(5);
+
+    private final Path directory;
+
+    public MediaCleanupQueue(final StorageProperties props) {
+        final var aDirectory = props.getCleanupDirectory();
+        // A temporary directory would silently drop pending cleanups on restart and leak their objects
+        if (aDirectory == null || aDirectory.isBlank()) {
+            throw new IllegalStateException("'storage.catalogo-videos.cleanup-directory' should point to a persistent directory");
+        }
+        this.directory = Path.of(aDirectory);
+    }
+
+    public synchronized void enqueue(final VideoID anId) {
+        write(new MediaCleanupRequest(anId, IdUtils.uuid(), 0, Instant.EPOCH));
+    }
+
+    public List<MediaCleanupRequest> pending(final Instant now) {
+        if (!Files.isDirectory(this.directory)) {
+            return List.of();
+        }
+
+        try (final Stream<Path> files = Files.list(this.directory)) {
+            return files
+                    .filter(it -> it.getFileName().toString().endsWith(REQUEST_SUFFIX))
+                    .map(this::read)
+                    .flatMap(Optional::stream)
+                    .filter(it -> !it.notBefore().isAfter(now))
+                    .sorted(Comparator.comparing(MediaCleanupRequest::notBefore))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void complete(final MediaCleanupRequest aRequest) {
+        if (isCurrent(aRequest)) {
+            try {
+                Files.deleteIfExists(pathOf(aRequest.videoId()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public synchronized void retry(final MediaCleanupRequest aRequest, final Instant now) {
+        if (isCurrent(aRequest)) {
+            final var attempts = aRequest.attempts() + 1;
+            final var backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts, 16));
+            final var delay = backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+            write(new MediaCleanupRequest(aRequest.videoId(), aRequest.token(), attempts, now.plus(delay)));
+        }
+    }
+
+    private boolean isCurrent(final MediaCleanupRequest aRequest) {
+        return read(pathOf(aRequest.videoId()))
+                .map(it -> it.token().equals(aRequest.token()))
+                .orElse(false);
+    }
+
+    private void write(final MediaCleanupRequest aRequest) {
+        final var content = new Properties();
+        content.setProperty("videoId", aRequest.videoId().getValue());
+        content.setProperty("token", aRequest.token());
+        content.setProperty("attempts", String.valueOf(aRequest.attempts()));
+        content.setProperty("notBefore", aRequest.notBefore().toString());
+
+        try {
+            Files.createDirectories(this.directory);
+            final var partial = Files.createTempFile(this.directory, aRequest.videoId().getValue(), ".part");
+            try {
+                try (final var out = Files.newOutputStream(partial)) {
+                    content.store(out, null);
+                }
+                Files.move(partial, pathOf(aRequest.videoId()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(partial);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<MediaCleanupRequest> read(final Path aPath) {
+        final var content = new Properties();
+        try (final var in = Files.newInputStream(aPath)) {
+            content.load(in);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Optional.of(new MediaCleanupRequest(
+                VideoID.from(content.getProperty("videoId")),
+                content.getProperty("token"),
+                Integer.parseInt(content.getProperty("attempts", "0")),
+                Instant.parse(content.getProperty("notBefore", Instant.EPOCH.toString()))
+        ));
+    }
+
+    private Path pathOf(final VideoID anId) {
+        final var value = anId.getValue();
+        if (value.contains("/") || value.contains("\\") || value.contains("..")) {
+            throw new IllegalArgumentException("Invalid video id for cleanup: %s".formatted(value));
+        }
+        return this.directory.resolve(value + REQUEST_SUFFIX);
+    }
+}
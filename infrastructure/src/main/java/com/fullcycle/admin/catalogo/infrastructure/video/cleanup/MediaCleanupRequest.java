@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.cleanup;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+
+import java.time.Instant;
+
+public record MediaCleanupRequest(
+        VideoID videoId,
+        String token,
+        int attempts,
+        Instant notBefore
+) {
+}
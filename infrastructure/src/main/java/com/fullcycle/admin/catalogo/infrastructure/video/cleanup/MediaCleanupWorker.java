@@ -0,0 +1,114 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.cleanup;
+
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.video.DefaultMediaResourceGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class MediaCleanupWorker implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaCleanupWorker.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(5);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MILLIS = 200;
+
+    private final MediaCleanupQueue queue;
+    private final DefaultMediaResourceGateway mediaResourceGateway;
+    private final int batchSize;
+    private final Duration interval;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+
+    public MediaCleanupWorker(
+            final MediaCleanupQueue queue,
+            final DefaultMediaResourceGateway mediaResourceGateway,
+            final StorageProperties props
+    ) {
+        this.queue = Objects.requireNonNull(queue);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.batchSize = props.getCleanupBatchSize() > 0 ? props.getCleanupBatchSize() : DEFAULT_BATCH_SIZE;
+        this.interval = Optional.ofNullable(props.getCleanupInterval()).orElse(DEFAULT_INTERVAL);
+        this.clock = Clock.systemUTC();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "media-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::drainSafely, this.interval.toMillis(), this.interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    public int drain() {
+        var purged = 0;
+        for (final var aRequest : this.queue.pending(this.clock.instant())) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+
+            if (purge(aRequest)) {
+                this.queue.complete(aRequest);
+                purged++;
+            } else {
+                this.queue.retry(aRequest, this.clock.instant());
+            }
+        }
+        return purged;
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Media cleanup cycle failed [error:{}]", e.getMessage(), e);
+        }
+    }
+
+    private boolean purge(final MediaCleanupRequest aRequest) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                this.mediaResourceGateway.purgeResources(aRequest.videoId(), this.batchSize);
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("Media cleanup failed [videoId:{}] [attempt:{}] [error:{}]",
+                        aRequest.videoId().getValue(), attempt, e.getMessage());
+                if (attempt >= MAX_ATTEMPTS || !pause(attempt)) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private static boolean pause(final int attempt) {
+        try {
+            Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CompleteDirectUploadRequest(
+        @JsonProperty("checksum") String checksum,
+        @JsonProperty("size") Long size
+) {
+}
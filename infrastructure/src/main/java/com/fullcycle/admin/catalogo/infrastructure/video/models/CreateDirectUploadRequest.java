@@ -0,0 +1,12 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateDirectUploadRequest(
+        @JsonProperty("file_name") String fileName,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("size") Long size,
+        @JsonProperty("checksum") String checksum,
+        @JsonProperty("sha256") String sha256
+) {
+}
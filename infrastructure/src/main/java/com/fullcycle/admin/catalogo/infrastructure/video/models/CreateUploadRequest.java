@@ -0,0 +1,9 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateUploadRequest(
+        @JsonProperty("file_name") String fileName,
+        @JsonProperty("content_type") String contentType
+) {
+}
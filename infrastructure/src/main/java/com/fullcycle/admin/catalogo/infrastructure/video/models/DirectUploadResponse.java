@@ -0,0 +1,20 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record DirectUploadResponse(
+        @JsonProperty("upload_id") String uploadId,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("url") String url,
+        @JsonProperty("method") String method,
+        @JsonProperty("content_type") String contentType,
+        @JsonProperty("size") long size,
+        @JsonProperty("headers") Map<String, String> headers,
+        @JsonProperty("expires_at") Instant expiresAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record MediaUrlResponse(
+        @JsonProperty("url") String url,
+        @JsonProperty("expires_at") Instant expiresAt
+) {
+}
@@ -0,0 +1,13 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+public record UploadSessionResponse(
+        @JsonProperty("upload_id") String uploadId,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("chunks") int chunks,
+        @JsonProperty("offset") long offset
+) {
+}
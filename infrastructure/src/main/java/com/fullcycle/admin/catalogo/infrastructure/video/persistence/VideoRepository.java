@@ -7,12 +7,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
 
-    @Query("""
-            select distinct new com.fullcycle.admin.catalogo.domain.video.VideoPreview(
+    String PREVIEW = """
+            select new com.fullcycle.admin.catalogo.domain.video.VideoPreview(
                 v.id as id,
                 v.title as title,
                 v.description as description,
@@ -20,23 +22,116 @@ public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
                 v.updatedAt as updatedAt
             )
             from Video v
-                left join v.castMembers members
-                left join v.categories categories
-                left join v.genres genres
+            """;
+
+    // Relations are filtered with semi-joins, so a video matching several ids is neither repeated nor deduplicated
+    String FILTER = """
             where
                 ( :terms is null or UPPER(v.title) like :terms )
             and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
+                ( :idsCount = 0 or v.id in :ids )
+            and
+                ( :castMembersCount = 0 or v.id in (
+                    select members.id.videoId from VideoCastMember members
+                    where members.id.castMemberId in :castMembers
+                ) )
             and
-                ( :categories is null or categories.id.categoryId in :categories )
+                ( :categoriesCount = 0 or v.id in (
+                    select categories.id.videoId from VideoCategory categories
+                    where categories.id.categoryId in :categories
+                ) )
             and
-                ( :genres is null or genres.id.genreId in :genres )
-            """)
-    Page<VideoPreview> findAll(
+                ( :genresCount = 0 or v.id in (
+                    select genres.id.videoId from VideoGenre genres
+                    where genres.id.genreId in :genres
+                ) )
+            """;
+
+    default Page<VideoPreview> findAll(
+            final String terms,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Pageable page
+    ) {
+        return findAllMatching(null, terms, castMembers, categories, genres, page);
+    }
+
+    default Page<VideoPreview> findAllMatching(
+            final Set<String> ids,
+            final String terms,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Pageable page
+    ) {
+        return search(
+                terms,
+                sizeOf(ids),
+                ids,
+                sizeOf(castMembers),
+                castMembers,
+                sizeOf(categories),
+                categories,
+                sizeOf(genres),
+                genres,
+                page
+        );
+    }
+
+    default List<String> findIdsMatching(
+            final Set<String> ids,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        return searchIds(
+                null,
+                sizeOf(ids),
+                ids,
+                sizeOf(castMembers),
+                castMembers,
+                sizeOf(categories),
+                categories,
+                sizeOf(genres),
+                genres
+        );
+    }
+
+    @Query(PREVIEW + FILTER)
+    Page<VideoPreview> search(
             @Param("terms") String terms,
+            @Param("idsCount") int idsCount,
+            @Param("ids") Set<String> ids,
+            @Param("castMembersCount") int castMembersCount,
             @Param("castMembers") Set<String> castMembers,
+            @Param("categoriesCount") int categoriesCount,
             @Param("categories") Set<String> categories,
+            @Param("genresCount") int genresCount,
             @Param("genres") Set<String> genres,
             Pageable page
     );
+
+    @Query("select v.id from Video v " + FILTER)
+    List<String> searchIds(
+            @Param("terms") String terms,
+            @Param("idsCount") int idsCount,
+            @Param("ids") Set<String> ids,
+            @Param("castMembersCount") int castMembersCount,
+            @Param("castMembers") Set<String> castMembers,
+            @Param("categoriesCount") int categoriesCount,
+            @Param("categories") Set<String> categories,
+            @Param("genresCount") int genresCount,
+            @Param("genres") Set<String> genres
+    );
+
+    @Query(PREVIEW + "where v.id in :ids")
+    List<VideoPreview> findPreviews(@Param("ids") Collection<String> ids);
+
+    @Query(PREVIEW + "where v.id > :after order by v.id")
+    List<VideoPreview> findPreviewsAfter(@Param("after") String after, Pageable page);
+
+    private static int sizeOf(final Set<String> ids) {
+        return ids != null ? ids.size() : 0;
+    }
 }
@@ -1,6 +1,9 @@
 package com.fullcycle.admin.catalogo.infrastructure.video.presenters;
 
+import com.fullcycle.admin.catalogo.application.video.media.direct.DirectUploadOutput;
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionOutput;
 import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.url.MediaUrlOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.get.VideoOutput;
 import com.fullcycle.admin.catalogo.application.video.retrieve.list.VideoListOutput;
 import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoOutput;
@@ -81,4 +84,32 @@ public interface VideoApiPresenter {
     static UploadMediaResponse present(final UploadMediaOutput output) {
         return new UploadMediaResponse(output.videoId(), output.mediaType());
     }
+
+    static MediaUrlResponse present(final MediaUrlOutput output) {
+        return new MediaUrlResponse(output.url(), output.expiresAt());
+    }
+
+    static DirectUploadResponse present(final DirectUploadOutput output) {
+        return new DirectUploadResponse(
+                output.id(),
+                output.videoId(),
+                output.type(),
+                output.url(),
+                "PUT",
+                output.contentType(),
+                output.size(),
+                output.headers(),
+                output.expiresAt()
+        );
+    }
+
+    static UploadSessionResponse present(final UploadSessionOutput session) {
+        return new UploadSessionResponse(
+                session.id(),
+                session.videoId(),
+                session.type(),
+                session.chunks(),
+                session.offset()
+        );
+    }
 }
@@ -0,0 +1,140 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.replication;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+public class MediaReplicationQueue {
+
+    private static final String REQUEST_SUFFIX = ".request";
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(5);
+
+    private final Path directory;
+
+    public MediaReplicationQueue(final Path directory) {
+        this.directory = directory;
+    }
+
+    public static MediaReplicationQueue disabled() {
+        return new MediaReplicationQueue(null);
+    }
+
+    public boolean isEnabled() {
+        return this.directory != null;
+    }
+
+    public synchronized void enqueue(final String mediaId, final VideoID anId, final VideoMediaType aType, final String blobKey) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("Media replication is disabled");
+        }
+        write(new MediaReplicationRequest(mediaId, anId, aType, blobKey, 0, Instant.EPOCH));
+    }
+
+    public List<MediaReplicationRequest> pending(final Instant now) {
+        if (!isEnabled() || !Files.isDirectory(this.directory)) {
+            return List.of();
+        }
+
+        try (final Stream<Path> files = Files.list(this.directory)) {
+            return files
+                    .filter(it -> it.getFileName().toString().endsWith(REQUEST_SUFFIX))
+                    .map(this::read)
+                    .flatMap(Optional::stream)
+                    .filter(it -> !it.notBefore().isAfter(now))
+                    .sorted(Comparator.comparing(MediaReplicationRequest::notBefore))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void complete(final MediaReplicationRequest aRequest) {
+        try {
+            Files.deleteIfExists(pathOf(aRequest.mediaId()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void retry(final MediaReplicationRequest aRequest, final Instant now) {
+        if (Files.isRegularFile(pathOf(aRequest.mediaId()))) {
+            final var attempts = aRequest.attempts() + 1;
+            final var backoff = BASE_BACKOFF.multipliedBy(1L << Math.min(attempts, 16));
+            final var delay = backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+            write(new MediaReplicationRequest(
+                    aRequest.mediaId(),
+                    aRequest.videoId(),
+                    aRequest.type(),
+                    aRequest.blobKey(),
+                    attempts,
+                    now.plus(delay)
+            ));
+        }
+    }
+
+    private void write(final MediaReplicationRequest aRequest) {
+        final var content = new Properties();
+        content.setProperty("mediaId", aRequest.mediaId());
+        content.setProperty("videoId", aRequest.videoId().getValue());
+        content.setProperty("type", aRequest.type().name());
+        content.setProperty("blobKey", aRequest.blobKey());
+        content.setProperty("attempts", String.valueOf(aRequest.attempts()));
+        content.setProperty("notBefore", aRequest.notBefore().toString());
+
+        try {
+            Files.createDirectories(this.directory);
+            final var partial = Files.createTempFile(this.directory, aRequest.mediaId(), ".part");
+            try {
+                try (final var out = Files.newOutputStream(partial)) {
+                    content.store(out, null);
+                }
+                Files.move(partial, pathOf(aRequest.mediaId()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(partial);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<MediaReplicationRequest> read(final Path aPath) {
+        final var content = new Properties();
+        try (final var in = Files.newInputStream(aPath)) {
+            content.load(in);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Optional.of(new MediaReplicationRequest(
+                content.getProperty("mediaId"),
+                VideoID.from(content.getProperty("videoId")),
+                VideoMediaType.valueOf(content.getProperty("type")),
+                content.getProperty("blobKey"),
+                Integer.parseInt(content.getProperty("attempts", "0")),
+                Instant.parse(content.getProperty("notBefore", Instant.EPOCH.toString()))
+        ));
+    }
+
+    private Path pathOf(final String mediaId) {
+        if (mediaId.contains("/") || mediaId.contains("\\") || mediaId.contains("..")) {
+            throw new IllegalArgumentException("Invalid media id for replication: %s".formatted(mediaId));
+        }
+        return this.directory.resolve(mediaId + REQUEST_SUFFIX);
+    }
+}
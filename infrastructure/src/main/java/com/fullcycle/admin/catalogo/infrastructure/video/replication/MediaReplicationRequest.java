@@ -0,0 +1,16 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.replication;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+
+import java.time.Instant;
+
+public record MediaReplicationRequest(
+        String mediaId,
+        VideoID videoId,
+        VideoMediaType type,
+        String blobKey,
+        int attempts,
+        Instant notBefore
+) {
+}
@@ -0,0 +1,152 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.replication;
+
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.video.DefaultMediaResourceGateway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class MediaReplicationWorker implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MediaReplicationWorker.class);
+
+    private static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(1);
+
+    private final MediaReplicationQueue queue;
+    private final DefaultMediaResourceGateway mediaResourceGateway;
+    private final VideoGateway videoGateway;
+    private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private final Duration interval;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+
+    public MediaReplicationWorker(
+            final MediaReplicationQueue queue,
+            final DefaultMediaResourceGateway mediaResourceGateway,
+            final VideoGateway videoGateway,
+            final UpdateMediaStatusUseCase updateMediaStatusUseCase,
+            final StorageProperties props
+    ) {
+        this.queue = Objects.requireNonNull(queue);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+        this.interval = Optional.ofNullable(props.getReplicationInterval()).orElse(DEFAULT_INTERVAL);
+        this.clock = Clock.systemUTC();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!this.queue.isEnabled()) {
+            return;
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "media-replication");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::drainSafely, this.interval.toMillis(), this.interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    public int drain() {
+        var replicated = 0;
+        for (final var aRequest : this.queue.pending(this.clock.instant())) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+
+            if (replicate(aRequest)) {
+                this.queue.complete(aRequest);
+                replicated++;
+            } else {
+                this.queue.retry(aRequest, this.clock.instant());
+            }
+        }
+        return replicated;
+    }
+
+    private void drainSafely() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.error("Media replication cycle failed [error:{}]", e.getMessage(), e);
+        }
+    }
+
+    private boolean replicate(final MediaReplicationRequest aRequest) {
+        try {
+            if (!this.mediaResourceGateway.replicate(aRequest.blobKey())) {
+                log.info("Dropping replication of a released media [videoId:{}] [mediaId:{}]",
+                        aRequest.videoId().getValue(), aRequest.mediaId());
+                return true;
+            }
+            return markReplicated(aRequest);
+        } catch (RuntimeException e) {
+            log.warn("Media replication failed [videoId:{}] [mediaId:{}] [attempt:{}] [error:{}]",
+                    aRequest.videoId().getValue(), aRequest.mediaId(), aRequest.attempts() + 1, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean markReplicated(final MediaReplicationRequest aRequest) {
+        final var aMedia = this.videoGateway.findById(aRequest.videoId())
+                .flatMap(it -> mediaOf(it, aRequest.type()))
+                .filter(it -> it.id().equals(aRequest.mediaId()));
+
+        // The upload may finish before the request that spooled the media has persisted the video, so it waits with
+        // the queue backoff for as long as the media pointer still references the blob
+        if (aMedia.isEmpty()) {
+            if (this.mediaResourceGateway.isAttached(aRequest.videoId(), aRequest.type(), aRequest.blobKey())) {
+                return false;
+            }
+            log.info("Dropping replication of a media no longer attached to its video [videoId:{}] [mediaId:{}]",
+                    aRequest.videoId().getValue(), aRequest.mediaId());
+            return true;
+        }
+
+        if (aMedia.get().isReplicating()) {
+            this.updateMediaStatusUseCase.execute(UpdateMediaStatusCommand.with(
+                    MediaStatus.PENDING,
+                    aRequest.videoId().getValue(),
+                    aRequest.mediaId(),
+                    "",
+                    ""
+            ));
+        }
+        return true;
+    }
+
+    private static Optional<AudioVideoMedia> mediaOf(final Video aVideo, final VideoMediaType aType) {
+        return switch (aType) {
+            case VIDEO -> aVideo.getVideo();
+            case TRAILER -> aVideo.getTrailer();
+            default -> Optional.empty();
+        };
+    }
+}
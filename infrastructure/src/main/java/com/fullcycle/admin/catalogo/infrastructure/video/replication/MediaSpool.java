@@ -0,0 +1,58 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.replication;
+
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.resource.ResourceMetadata;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.FileSystemStorageService;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public class MediaSpool {
+
+    private final StorageService storage;
+
+    public MediaSpool(final Path directory) {
+        this(new FileSystemStorageService(directory.toString()));
+    }
+
+    private MediaSpool(final StorageService storage) {
+        this.storage = storage;
+    }
+
+    public static MediaSpool disabled() {
+        return new MediaSpool((StorageService) null);
+    }
+
+    public boolean isEnabled() {
+        return this.storage != null;
+    }
+
+    public void store(final String key, final Resource aResource) {
+        // The file system storage forces the content to disk before the object becomes visible
+        this.storage.store(key, aResource);
+    }
+
+    public void move(final String from, final String to) {
+        this.storage.move(from, to);
+    }
+
+    public Optional<Resource> get(final String key) {
+        return isEnabled() ? this.storage.get(key) : Optional.empty();
+    }
+
+    public Optional<ResourceMetadata> stat(final String key) {
+        return isEnabled() ? this.storage.stat(key) : Optional.empty();
+    }
+
+    public boolean contains(final String key) {
+        return stat(key).isPresent();
+    }
+
+    public void delete(final String key) {
+        if (isEnabled()) {
+            this.storage.deleteAll(List.of(key));
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.search;
+
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.infrastructure.utils.TextUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+@Component
+public class VideoSearchIndex implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoSearchIndex.class);
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+    private static final int TITLE_WEIGHT = 2;
+    private static final double PREFIX_WEIGHT = 0.5;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final VideoRepository videoRepository;
+    private final ReadWriteLock lock;
+    private final Object refreshing;
+    private Snapshot snapshot;
+    private List<Consumer<Snapshot>> journal;
+
+    public VideoSearchIndex(final VideoRepository videoRepository) {
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.lock = new ReentrantReadWriteLock();
+        this.refreshing = new Object();
+        this.snapshot = new Snapshot();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        refresh();
+    }
+
+    // The index lives in this JVM only, so writes committed by other instances show up once it is rebuilt from the database;
+    // local writes made while rebuilding are journaled and replayed on the new snapshot before it is swapped in
+    public void refresh() {
+        synchronized (this.refreshing) {
+            setJournal(new ArrayList<>());
+            try {
+                final var aSnapshot = new Snapshot();
+                var after = "";
+                List<VideoPreview> batch;
+                do {
+                    batch = this.videoRepository.findPreviewsAfter(after, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                    for (final var aVideo : batch) {
+                        aSnapshot.index(aVideo.id(), frequenciesOf(aVideo.title(), aVideo.description()));
+                        after = aVideo.id();
+                    }
+                } while (batch.size() == REBUILD_BATCH_SIZE);
+
+                this.lock.writeLock().lock();
+                try {
+                    this.journal.forEach(it -> it.accept(aSnapshot));
+                    this.snapshot = aSnapshot;
+                } finally {
+                    this.lock.writeLock().unlock();
+                }
+            } finally {
+                setJournal(null);
+            }
+
+            log.info("Video search index built [documents:{}] [terms:{}]", size(), termCount());
+        }
+    }
+
+    public void index(final String anId, final String aTitle, final String aDescription) {
+        final var frequencies = frequenciesOf(aTitle, aDescription);
+        write(it -> it.index(anId, frequencies));
+    }
+
+    public void remove(final String anId) {
+        write(it -> it.unindex(anId));
+    }
+
+    public List<Hit> search(final String aQuery) {
+        return search(aQuery, Integer.MAX_VALUE);
+    }
+
+    // Every query token must match a term, exactly or as its prefix; documents are ranked by BM25 and only the best are kept
+    public List<Hit> search(final String aQuery, final int aLimit) {
+        final var tokens = new LinkedHashSet<>(TextUtils.tokenize(aQuery));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        this.lock.readLock().lock();
+        try {
+            return this.snapshot.search(tokens, aLimit);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.snapshot.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void write(final Consumer<Snapshot> aWrite) {
+        this.lock.writeLock().lock();
+        try {
+            aWrite.accept(this.snapshot);
+            if (this.journal != null) {
+                this.journal.add(aWrite);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void setJournal(final List<Consumer<Snapshot>> aJournal) {
+        this.lock.writeLock().lock();
+        try {
+            this.journal = aJournal;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private int termCount() {
+        this.lock.readLock().lock();
+        try {
+            return this.snapshot.postings.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> frequenciesOf(final String aTitle, final String aDescription) {
+        final var frequencies = new HashMap<String, Integer>();
+        TextUtils.tokenize(aTitle).forEach(it -> frequencies.merge(it, TITLE_WEIGHT, Integer::sum));
+        TextUtils.tokenize(aDescription).forEach(it -> frequencies.merge(it, 1, Integer::sum));
+        return frequencies;
+    }
+
+    public record Hit(String id, double score) {
+    }
+
+    private static class Snapshot {
+
+        private final NavigableMap<String, Map<String, Integer>> postings = new TreeMap<>();
+        private final Map<String, Map<String, Integer>> documents = new HashMap<>();
+        private final Map<String, Integer> lengths = new HashMap<>();
+        private long totalLength;
+
+        private void index(final String anId, final Map<String, Integer> frequencies) {
+            unindex(anId);
+            final var length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+            this.documents.put(anId, frequencies);
+            this.lengths.put(anId, length);
+            this.totalLength += length;
+            frequencies.forEach((term, frequency) ->
+                    this.postings.computeIfAbsent(term, it -> new HashMap<>()).put(anId, frequency));
+        }
+
+        private void unindex(final String anId) {
+            final var previous = this.documents.remove(anId);
+            if (previous == null) {
+                return;
+            }
+
+            this.totalLength -= this.lengths.remove(anId);
+            previous.keySet().forEach(term -> {
+                final var documents = this.postings.get(term);
+                documents.remove(anId);
+                if (documents.isEmpty()) {
+                    this.postings.remove(term);
+                }
+            });
+        }
+
+        private List<Hit> search(final Set<String> tokens, final int aLimit) {
+            final var documentCount = this.documents.size();
+            final var averageLength = documentCount > 0 ? (double) this.totalLength / documentCount : 0;
+
+            Map<String, Double> scores = null;
+            for (final var token : tokens) {
+                final var tokenScores = new HashMap<String, Double>();
+                this.postings.subMap(token, true, token + Character.MAX_VALUE, false).forEach((term, documents) -> {
+                    final var weight = term.equals(token) ? 1.0 : PREFIX_WEIGHT;
+                    final var idf = Math.log(1 + (documentCount - documents.size() + 0.5) / (documents.size() + 0.5));
+                    documents.forEach((anId, frequency) -> {
+                        final var length = this.lengths.get(anId);
+                        final var score = weight * idf * frequency * (K1 + 1)
+                                / (frequency + K1 * (1 - B + B * length / averageLength));
+                        tokenScores.merge(anId, score, Math::max);
+                    });
+                });
+
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((anId, score) -> score + tokenScores.get(anId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .map(it -> new Hit(it.getKey(), it.getValue()))
+                    .sorted(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::id))
+                    .limit(aLimit)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Every instance keeps its own index, so videos written through another instance are picked up by a periodic rebuild
+@Component
+public class VideoSearchIndexRefresher implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoSearchIndexRefresher.class);
+
+    private static final Duration INTERVAL = Duration.ofMinutes(5);
+
+    private final VideoSearchIndex searchIndex;
+    private ScheduledExecutorService scheduler;
+
+    public VideoSearchIndexRefresher(final VideoSearchIndex searchIndex) {
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "video-search-index-refresher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::refreshSafely, INTERVAL.toMillis(), INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    private void refreshSafely() {
+        try {
+            this.searchIndex.refresh();
+        } catch (RuntimeException e) {
+            log.error("Video search index refresh failed [error:{}]", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.DirectUpload;
+import com.fullcycle.admin.catalogo.domain.video.DirectUploadGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Component
+public class DirectUploadService implements DirectUploadGateway {
+
+    static final String UPLOADS_FOLDER = "uploads/";
+    static final String INTENT_CONTENT_TYPE = "application/vnd.catalogo.upload-intent";
+
+    private static final Logger log = LoggerFactory.getLogger(DirectUploadService.class);
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(15);
+    private static final Duration DEFAULT_EXPIRY = Duration.ofHours(24);
+    private static final Pattern CHECKSUM_PATTERN = Pattern.compile("[0-9a-fA-F]{8}");
+    private static final Pattern SHA256_PATTERN = Pattern.compile("[0-9a-fA-F]{64}");
+
+    private final StorageService storageService;
+    private final Duration ttl;
+    private final Duration expiry;
+
+    public DirectUploadService(final StorageService storageService, final StorageProperties props) {
+        this.storageService = storageService;
+        this.ttl = Optional.ofNullable(props.getDirectUploadTtl()).orElse(DEFAULT_TTL);
+        this.expiry = Optional.ofNullable(props.getUploadTtl()).orElse(DEFAULT_EXPIRY);
+    }
+
+    @Override
+    public DirectUpload create(
+            final VideoID videoId,
+            final VideoMediaType type,
+            final String contentType,
+            final String name,
+            final long size,
+            final String checksum,
+            final String sha256
+    ) {
+        if (size <= 0) {
+            throw DomainException.with(new Error("'size' must be a positive number"));
+        }
+
+        if (checksum == null || !CHECKSUM_PATTERN.matcher(checksum).matches()) {
+            throw DomainException.with(new Error("'checksum' should be the CRC32C of the content in hex"));
+        }
+
+        if (sha256 == null || !SHA256_PATTERN.matcher(sha256).matches()) {
+            throw DomainException.with(new Error("'sha256' should be the SHA-256 of the content in hex"));
+        }
+
+        final var anId = IdUtils.uuid();
+        final var metadata = new Properties();
+        metadata.setProperty("videoId", videoId.getValue());
+        metadata.setProperty("type", type.name());
+        metadata.setProperty("contentType", contentType);
+        metadata.setProperty("name", name);
+        metadata.setProperty("size", Long.toString(size));
+        metadata.setProperty("checksum", checksum.toLowerCase());
+        metadata.setProperty("sha256", sha256.toLowerCase());
+        metadata.setProperty("createdAt", Instant.now().toString());
+
+        final var content = serialize(metadata);
+        this.storageService.store(intentKey(anId), Resource.with(content, HashingUtils.checksum(content), INTENT_CONTENT_TYPE, name));
+
+        final var aUrl = this.storageService.signedUploadUrl(contentKey(anId), contentType, size, checksum.toLowerCase(), this.ttl);
+
+        return new DirectUpload(anId, videoId.getValue(), type, contentType, name, size, metadata.getProperty("checksum"), metadata.getProperty("sha256"), aUrl);
+    }
+
+    @Override
+    public Resource complete(
+            final VideoID videoId,
+            final VideoMediaType type,
+            final String anId,
+            final String expectedChecksum,
+            final Long expectedSize
+    ) {
+        final var metadata = metadataOf(videoId, type, anId);
+
+        final var aContent = this.storageService.get(contentKey(anId))
+                .orElseThrow(() -> DomainException.with(new Error("Upload %s was not written to storage".formatted(anId))));
+
+        final var aSize = Long.parseLong(metadata.getProperty("size"));
+
+        if (expectedSize != null && expectedSize != aSize) {
+            throw DomainException.with(new Error("Size mismatch for upload %s: declared %d but completed with %d"
+                    .formatted(anId, aSize, expectedSize)));
+        }
+
+        if (aContent.size() != aSize) {
+            throw DomainException.with(new Error("Size mismatch for upload %s: expected %d but was %d"
+                    .formatted(anId, aSize, aContent.size())));
+        }
+
+        final var aChecksum = metadata.getProperty("checksum");
+
+        if (expectedChecksum != null && !expectedChecksum.isBlank() && !expectedChecksum.equalsIgnoreCase(aChecksum)) {
+            throw DomainException.with(new Error("Checksum mismatch for upload %s: declared %s but completed with %s"
+                    .formatted(anId, aChecksum, expectedChecksum)));
+        }
+
+        if (aChecksum == null || !aChecksum.equalsIgnoreCase(aContent.checksum())) {
+            throw DomainException.with(new Error("Checksum mismatch for upload %s: expected %s but was %s"
+                    .formatted(anId, aChecksum, aContent.checksum())));
+        }
+
+        // The declared SHA-256 names the blob the upload is adopted into, so it is checked against the bytes written before it is trusted
+        final var aSha256 = metadata.getProperty("sha256");
+        final var actualSha256 = HashingUtils.sha256(aContent.openStream());
+
+        if (aSha256 == null || !aSha256.equalsIgnoreCase(actualSha256)) {
+            throw DomainException.with(new Error("SHA-256 mismatch for upload %s: expected %s but was %s"
+                    .formatted(anId, aSha256, actualSha256)));
+        }
+
+        return Resource.with(
+                new StagedContentStream(anId, contentKey(anId), actualSha256, aContent.stream()),
+                aContent.size(),
+                aContent.checksum(),
+                metadata.getProperty("contentType"),
+                metadata.getProperty("name")
+        );
+    }
+
+    @Override
+    public void delete(final String anId) {
+        this.storageService.deleteAll(this.storageService.list(folder(anId)));
+    }
+
+    // Uploads never completed nor aborted are removed with whatever the client wrote, intents missing their creation time included
+    public int sweep(final Instant now) {
+        final var deadline = now.minus(this.expiry);
+        final Map<String, List<String>> folders;
+        try (final var keys = this.storageService.scan(UPLOADS_FOLDER)) {
+            folders = keys.collect(Collectors.groupingBy(DirectUploadService::uploadIdOf));
+        }
+
+        var expired = 0;
+        for (final var aFolder : folders.entrySet()) {
+            final var createdAt = this.storageService.get(intentKey(aFolder.getKey()))
+                    .map(it -> load(it.content()).getProperty("createdAt"))
+                    .map(Instant::parse);
+
+            if (createdAt.isEmpty() || createdAt.get().isBefore(deadline)) {
+                this.storageService.deleteAll(aFolder.getValue());
+                expired++;
+            }
+        }
+
+        if (expired > 0) {
+            log.info("Expired direct uploads removed [uploads:{}]", expired);
+        }
+        return expired;
+    }
+
+    private Properties metadataOf(final VideoID videoId, final VideoMediaType type, final String anId) {
+        if (anId.contains("/") || anId.contains("..")) {
+            throw notFound(anId);
+        }
+
+        final var anIntent = this.storageService.get(intentKey(anId))
+                .orElseThrow(() -> notFound(anId));
+
+        final var metadata = load(anIntent.content());
+
+        if (!videoId.getValue().equals(metadata.getProperty("videoId")) || !type.name().equals(metadata.getProperty("type"))) {
+            throw notFound(anId);
+        }
+
+        return metadata;
+    }
+
+    private static Properties load(final byte[] content) {
+        final var metadata = new Properties();
+        try (final var in = new ByteArrayInputStream(content)) {
+            metadata.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return metadata;
+    }
+
+    private static byte[] serialize(final Properties metadata) {
+        final var out = new ByteArrayOutputStream();
+        try {
+            metadata.store(out, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String uploadIdOf(final String aKey) {
+        final var anId = aKey.substring(UPLOADS_FOLDER.length());
+        final var slash = anId.indexOf('/');
+        return slash < 0 ? anId : anId.substring(0, slash);
+    }
+
+    private static String folder(final String anId) {
+        return UPLOADS_FOLDER.concat(anId).concat("/");
+    }
+
+    private static String intentKey(final String anId) {
+        return folder(anId).concat("intent");
+    }
+
+    private static String contentKey(final String anId) {
+        return folder(anId).concat("content");
+    }
+
+    private static NotFoundException notFound(final String anId) {
+        return NotFoundException.with(new Error("Upload %s not found".formatted(anId)));
+    }
+}
@@ -0,0 +1,307 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.utils.IdUtils;
+import com.fullcycle.admin.catalogo.domain.validation.Error;
+import com.fullcycle.admin.catalogo.domain.video.UploadSession;
+import com.fullcycle.admin.catalogo.domain.video.UploadSessionGateway;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.utils.BufferPool;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Stream;
+
+@Component
+public class ResumableUploadService implements UploadSessionGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumableUploadService.class);
+
+    private static final String METADATA = "session.properties";
+    private static final String CHUNK_PREFIX = "chunk-";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+
+    private final Path directory;
+    private final Duration ttl;
+
+    public ResumableUploadService(final StorageProperties props) {
+        final var aDirectory = props.getUploadDirectory();
+        // Sessions span many requests, so they must survive restarts and be reachable from every instance
+        if (aDirectory == null || aDirectory.isBlank()) {
+            throw new IllegalStateException("'storage.catalogo-videos.upload-directory' should point to a persistent directory shared by every instance");
+        }
+        this.directory = Path.of(aDirectory);
+        this.ttl = Optional.ofNullable(props.getUploadTtl()).orElse(DEFAULT_TTL);
+    }
+
+    @Override
+    public UploadSession create(
+            final VideoID videoId,
+            final VideoMediaType type,
+            final String contentType,
+            final String name
+    ) {
+        final var anId = IdUtils.uuid();
+        final var metadata = new Properties();
+        metadata.setProperty("videoId", videoId.getValue());
+        metadata.setProperty("type", type.name());
+        metadata.setProperty("contentType", contentType);
+        metadata.setProperty("name", name);
+
+        try {
+            final var sessionDir = Files.createDirectories(this.directory.resolve(anId));
+            try (final var out = Files.newOutputStream(sessionDir.resolve(METADATA))) {
+                metadata.store(out, null);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return get(videoId, type, anId);
+    }
+
+    @Override
+    public UploadSession get(final VideoID videoId, final VideoMediaType type, final String anId) {
+        final var metadata = metadataOf(anId);
+
+        if (!videoId.getValue().equals(metadata.getProperty("videoId")) || !type.name().equals(metadata.getProperty("type"))) {
+            throw notFound(anId);
+        }
+
+        final var chunks = contiguousChunks(anId);
+        final var offset = chunks.stream()
+                .mapToLong(ResumableUploadService::sizeOf)
+                .sum();
+
+        return new UploadSession(
+                anId,
+                videoId.getValue(),
+                type,
+                metadata.getProperty("contentType"),
+                metadata.getProperty("name"),
+                chunks.size(),
+                offset
+        );
+    }
+
+    @Override
+    public UploadSession writeChunk(
+            final VideoID videoId,
+            final VideoMediaType type,
+            final String anId,
+            final int number,
+            final InputStream content
+    ) {
+        if (number < 0) {
+            throw DomainException.with(new Error("'chunk' must be a non-negative number"));
+        }
+
+        get(videoId, type, anId);
+
+        final var sessionDir = this.directory.resolve(anId);
+        try {
+            final var partial = Files.createTempFile(sessionDir, CHUNK_PREFIX, ".part");
+            try {
+                try (content; final var channel = FileChannel.open(partial, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    BufferPool.sharedHeap().transfer(content, channel, BufferPool.LARGE);
+                }
+                Files.move(partial, chunkPath(anId, number), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(partial);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return get(videoId, type, anId);
+    }
+
+    @Override
+    public Resource complete(
+            final VideoID videoId,
+            final VideoMediaType type,
+            final String anId,
+            final String expectedChecksum
+    ) {
+        if (expectedChecksum == null || expectedChecksum.isBlank()) {
+            throw DomainException.with(new Error("'checksum' should not be empty"));
+        }
+
+        final var aSession = get(videoId, type, anId);
+        final var chunks = contiguousChunks(anId);
+
+        if (chunks.isEmpty() || chunks.size() != chunkCount(anId)) {
+            throw DomainException.with(new Error("Upload %s has missing chunks after offset %d".formatted(anId, aSession.offset())));
+        }
+
+        final var actualChecksum = HashingUtils.checksum(concat(chunks));
+
+        if (!expectedChecksum.equalsIgnoreCase(actualChecksum)) {
+            throw DomainException.with(new Error("Checksum mismatch for upload %s: expected %s but was %s"
+                    .formatted(anId, expectedChecksum, actualChecksum)));
+        }
+
+        return Resource.with(
+                ContentStream.repeatable(() -> concat(chunks)),
+                aSession.offset(),
+                actualChecksum,
+                aSession.contentType(),
+                aSession.name()
+        );
+    }
+
+    @Override
+    public void delete(final String anId) {
+        final var sessionDir = this.directory.resolve(anId);
+        if (!Files.isDirectory(sessionDir)) {
+            return;
+        }
+
+        try (final var files = Files.list(sessionDir)) {
+            for (final var file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(sessionDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Sessions that received nothing for longer than the ttl were abandoned by their clients
+    public int sweep(final Instant now) {
+        if (!Files.isDirectory(this.directory)) {
+            return 0;
+        }
+
+        final var threshold = now.minus(this.ttl);
+        var swept = 0;
+        try (final Stream<Path> sessions = Files.list(this.directory)) {
+            for (final var sessionDir : sessions.filter(Files::isDirectory).toList()) {
+                try {
+                    if (lastActivityOf(sessionDir).isBefore(threshold)) {
+                        delete(sessionDir.getFileName().toString());
+                        swept++;
+                    }
+                } catch (NoSuchFileException e) {
+                    // completed or aborted while being swept
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (swept > 0) {
+            log.info("Expired upload sessions removed [sessions:{}]", swept);
+        }
+        return swept;
+    }
+
+    private Properties metadataOf(final String anId) {
+        final var metadataPath = this.directory.resolve(anId).resolve(METADATA);
+        if (anId.contains("/") || anId.contains("..") || !Files.exists(metadataPath)) {
+            throw notFound(anId);
+        }
+
+        final var metadata = new Properties();
+        try (final var in = Files.newInputStream(metadataPath)) {
+            metadata.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return metadata;
+    }
+
+    private List<Path> contiguousChunks(final String anId) {
+        final var chunks = new ArrayList<Path>();
+        for (int number = 0; Files.exists(chunkPath(anId, number)); number++) {
+            chunks.add(chunkPath(anId, number));
+        }
+        return chunks;
+    }
+
+    private long chunkCount(final String anId) {
+        try (final Stream<Path> files = Files.list(this.directory.resolve(anId))) {
+            return files
+                    .map(it -> it.getFileName().toString())
+                    .filter(it -> it.startsWith(CHUNK_PREFIX) && !it.endsWith(".part"))
+                    .count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path chunkPath(final String anId, final int number) {
+        return this.directory.resolve(anId).resolve(CHUNK_PREFIX + "%06d".formatted(number));
+    }
+
+    private static Instant lastActivityOf(final Path sessionDir) throws IOException {
+        try (final Stream<Path> files = Files.list(sessionDir)) {
+            var lastActivity = Files.getLastModifiedTime(sessionDir).toInstant();
+            for (final var file : files.toList()) {
+                final var modifiedAt = Files.getLastModifiedTime(file).toInstant();
+                if (modifiedAt.isAfter(lastActivity)) {
+                    lastActivity = modifiedAt;
+                }
+            }
+            return lastActivity;
+        }
+    }
+
+    private static InputStream concat(final List<Path> chunks) {
+        final var streams = chunks.stream()
+                .map(ResumableUploadService::openChunk)
+                .iterator();
+
+        return new SequenceInputStream(new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return streams.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                return streams.next();
+            }
+        });
+    }
+
+    private static InputStream openChunk(final Path chunk) {
+        try {
+            return Files.newInputStream(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long sizeOf(final Path chunk) {
+        try {
+            return Files.size(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static NotFoundException notFound(final String anId) {
+        return NotFoundException.with(new Error("Upload %s not found".formatted(anId)));
+    }
+}
@@ -0,0 +1,33 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+
+public record StagedContentStream(String uploadId, String key, String sha256, ContentStream delegate) implements ContentStream {
+
+    public StagedContentStream {
+        Objects.requireNonNull(uploadId);
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(sha256);
+        Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public InputStream open() throws IOException {
+        return delegate.open();
+    }
+
+    @Override
+    public InputStream open(final long offset, final long length) throws IOException {
+        return delegate.open(offset, length);
+    }
+
+    @Override
+    public long transferTo(final long offset, final long length, final WritableByteChannel target) throws IOException {
+        return delegate.transferTo(offset, length, target);
+    }
+}
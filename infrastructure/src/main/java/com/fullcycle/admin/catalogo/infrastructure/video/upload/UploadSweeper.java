@@ -0,0 +1,67 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class UploadSweeper implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadSweeper.class);
+
+    private static final Duration INTERVAL = Duration.ofMinutes(5);
+
+    private final ResumableUploadService resumableUploadService;
+    private final DirectUploadService directUploadService;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+
+    public UploadSweeper(
+            final ResumableUploadService resumableUploadService,
+            final DirectUploadService directUploadService
+    ) {
+        this.resumableUploadService = Objects.requireNonNull(resumableUploadService);
+        this.directUploadService = Objects.requireNonNull(directUploadService);
+        this.clock = Clock.systemUTC();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "upload-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::sweepSafely, INTERVAL.toMillis(), INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    public void sweep() {
+        final var now = this.clock.instant();
+        this.resumableUploadService.sweep(now);
+        this.directUploadService.sweep(now);
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.error("Upload sweep failed [error:{}]", e.getMessage(), e);
+        }
+    }
+}
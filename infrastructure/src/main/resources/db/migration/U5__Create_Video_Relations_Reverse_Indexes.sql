@@ -0,0 +1,8 @@
+-- The composite indexes may have replaced the implicit foreign key indexes, so single column ones are restored first
+CREATE INDEX idx_vcs_category ON videos_categories (category_id);
+CREATE INDEX idx_vgs_genre ON videos_genres (genre_id);
+CREATE INDEX idx_vcms_member ON videos_cast_members (cast_member_id);
+
+DROP INDEX idx_vcs_category_video ON videos_categories;
+DROP INDEX idx_vgs_genre_video ON videos_genres;
+DROP INDEX idx_vcms_member_video ON videos_cast_members;
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.fullcycle.admin.catalogo;
 
+import com.fullcycle.admin.catalogo.infrastructure.pagination.TotalCounter;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -17,7 +18,8 @@ import java.lang.annotation.*;
         basePackages = "com.fullcycle.admin.catalogo",
         useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = TotalCounter.class)
         })
 @DataJpaTest
 @ExtendWith(MySQLCleanUpExtension.class)
@@ -0,0 +1,537 @@
+package com.fullcycle.admin.catalogo.infrastructure.api;
+
+import com.fullcycle.admin.catalogo.ApiTest;
+import com.fullcycle.admin.catalogo.ControllerTest;
+import com.fullcycle.admin.catalogo.application.video.create.CreateVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.delete.DeleteVideoUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.direct.DirectUploadOutput;
+import com.fullcycle.admin.catalogo.application.video.media.direct.complete.CompleteDirectUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.media.direct.complete.CompleteDirectUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.direct.create.CreateDirectUploadCommand;
+import com.fullcycle.admin.catalogo.application.video.media.direct.create.CreateDirectUploadUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.get.MediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.metadata.GetMediaMetadataUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.metadata.MediaMetadataOutput;
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.UploadSessionOutput;
+import com.fullcycle.admin.catalogo.application.video.media.session.abort.AbortUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.UploadChunkCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.chunk.UploadChunkUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.complete.CompleteUploadSessionCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.complete.CompleteUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.create.CreateUploadSessionCommand;
+import com.fullcycle.admin.catalogo.application.video.media.session.create.CreateUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.session.get.GetUploadSessionUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.url.GetMediaUrlUseCase;
+import com.fullcycle.admin.catalogo.application.video.media.url.MediaUrlOutput;
+import com.fullcycle.admin.catalogo.application.video.retrieve.get.GetVideoByIdUseCase;
+import com.fullcycle.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
+import com.fullcycle.admin.catalogo.application.video.update.UpdateVideoUseCase;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = VideoAPI.class)
+class VideoAPITest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes();
+    private static final String CHECKSUM = "03fe62de";
+    private static final String SHA256 = "84d89877f0d4041efb6bf91a16f0248f2fd573e6af05c19f96bedb9f882f7882";
+    private static final String ETAG = "\"03fe62de\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CreateVideoUseCase createVideoUseCase;
+
+    @MockBean
+    private GetVideoByIdUseCase getVideoByIdUseCase;
+
+    @MockBean
+    private UpdateVideoUseCase updateVideoUseCase;
+
+    @MockBean
+    private DeleteVideoUseCase deleteVideoUseCase;
+
+    @MockBean
+    private ListVideosUseCase listVideosUseCase;
+
+    @MockBean
+    private GetMediaUseCase getMediaUseCase;
+
+    @MockBean
+    private GetMediaMetadataUseCase getMediaMetadataUseCase;
+
+    @MockBean
+    private GetMediaUrlUseCase getMediaUrlUseCase;
+
+    @MockBean
+    private UploadMediaUseCase uploadMediaUseCase;
+
+    @MockBean
+    private CreateUploadSessionUseCase createUploadSessionUseCase;
+
+    @MockBean
+    private GetUploadSessionUseCase getUploadSessionUseCase;
+
+    @MockBean
+    private UploadChunkUseCase uploadChunkUseCase;
+
+    @MockBean
+    private CompleteUploadSessionUseCase completeUploadSessionUseCase;
+
+    @MockBean
+    private AbortUploadSessionUseCase abortUploadSessionUseCase;
+
+    @MockBean
+    private CreateDirectUploadUseCase createDirectUploadUseCase;
+
+    @MockBean
+    private CompleteDirectUploadUseCase completeDirectUploadUseCase;
+
+    @Test
+    void givenAValidMedia_whenCallsGetMediaByType_shouldReturnContentWithETag() throws Exception {
+        // given
+        givenAMedia();
+
+        final var aRequest = get("/videos/{id}/medias/{type}", "123", "VIDEO")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResult = this.mockMvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        this.mockMvc.perform(asyncDispatch(aResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length))
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void givenARange_whenCallsGetMediaByType_shouldReturnPartialContent() throws Exception {
+        // given
+        givenAMedia();
+
+        final var aRequest = get("/videos/{id}/medias/{type}", "123", "VIDEO")
+                .header(HttpHeaders.RANGE, "bytes=2-5")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResult = this.mockMvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        this.mockMvc.perform(asyncDispatch(aResult))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().bytes("2345".getBytes()));
+    }
+
+    @Test
+    void givenAStaleIfRange_whenCallsGetMediaByType_shouldReturnFullContent() throws Exception {
+        // given
+        givenAMedia();
+
+        final var aRequest = get("/videos/{id}/medias/{type}", "123", "VIDEO")
+                .header(HttpHeaders.RANGE, "bytes=2-5")
+                .header(HttpHeaders.IF_RANGE, "\"stale\"")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResult = this.mockMvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        this.mockMvc.perform(asyncDispatch(aResult))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(CONTENT));
+    }
+
+    @Test
+    void givenAnUnsatisfiableRange_whenCallsGetMediaByType_shouldReturnRangeNotSatisfiable() throws Exception {
+        // given
+        givenAMedia();
+
+        final var aRequest = get("/videos/{id}/medias/{type}", "123", "VIDEO")
+                .header(HttpHeaders.RANGE, "bytes=20-30")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResult = this.mockMvc.perform(aRequest);
+
+        // then
+        aResult.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    void givenAMatchingIfNoneMatch_whenCallsGetMediaByType_shouldReturnNotModified() throws Exception {
+        // given
+        givenAMedia();
+
+        final var aRequest = get("/videos/{id}/medias/{type}", "123", "VIDEO")
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG)
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResult = this.mockMvc.perform(aRequest);
+
+        // then
+        aResult.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+    }
+
+    @Test
+    void givenASize_whenCallsGetMediaByType_shouldRequestThatRendition() throws Exception {
+        // given
+        givenAMedia();
+
+        final var aRequest = get("/videos/{id}/medias/{type}", "123", "BANNER")
+                .queryParam("size", "small")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResult = this.mockMvc.perform(aRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        this.mockMvc.perform(asyncDispatch(aResult))
+                .andExpect(status().isOk());
+
+        verify(getMediaUseCase).execute(argThat(cmd ->
+                "123".equals(cmd.videoId())
+                        && "BANNER".equals(cmd.mediaType())
+                        && "small".equals(cmd.size())
+        ));
+    }
+
+    @Test
+    void givenAValidVideoIdAndType_whenCallsHeadMediaByType_shouldReturnOnlyTheMetadata() throws Exception {
+        // given
+        when(getMediaMetadataUseCase.execute(any()))
+                .thenReturn(new MediaMetadataOutput(1_073_741_824L, "03fe62de", "video/mp4", "movie.mp4"));
+
+        final var aRequest = head("/videos/{id}/medias/{type}", "123", "VIDEO")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "1073741824"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "video/mp4"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"03fe62de\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().bytes(new byte[0]));
+
+        verifyNoInteractions(getMediaUseCase);
+        verify(getMediaMetadataUseCase).execute(argThat(cmd ->
+                "123".equals(cmd.videoId()) && "VIDEO".equals(cmd.mediaType())
+        ));
+    }
+
+    @Test
+    void givenAMatchingETag_whenCallsHeadMediaByType_shouldReturnNotModified() throws Exception {
+        // given
+        when(getMediaMetadataUseCase.execute(any()))
+                .thenReturn(new MediaMetadataOutput(10, "03fe62de", "video/mp4", "movie.mp4"));
+
+        final var aRequest = head("/videos/{id}/medias/{type}", "123", "VIDEO")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"03fe62de\"")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isNotModified());
+    }
+
+    @Test
+    void givenRedirectDelivery_whenCallsGetMediaByType_shouldRedirectToTheSignedUrl() throws Exception {
+        // given
+        final var expectedUrl = "https://storage.googleapis.com/bucket/blobs/abc?X-Goog-Signature=123";
+        when(getMediaUrlUseCase.execute(any()))
+                .thenReturn(new MediaUrlOutput(expectedUrl, Instant.now().plusSeconds(300)));
+
+        final var aRequest = get("/videos/{id}/medias/{type}", "123", "VIDEO")
+                .queryParam("delivery", "redirect")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isFound())
+                .andExpect(header().string(HttpHeaders.LOCATION, expectedUrl))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+
+        verifyNoInteractions(getMediaUseCase);
+    }
+
+    @Test
+    void givenUrlDelivery_whenCallsGetMediaByType_shouldReturnTheSignedUrlAsJson() throws Exception {
+        // given
+        final var expectedUrl = "http://localhost:8080/api/media-links?key=blobs%2Fabc&expires=1&signature=xyz";
+        final var expectedExpiresAt = Instant.parse("2026-01-01T10:05:00Z");
+        when(getMediaUrlUseCase.execute(any()))
+                .thenReturn(new MediaUrlOutput(expectedUrl, expectedExpiresAt));
+
+        final var aRequest = get("/videos/{id}/medias/{type}", "123", "BANNER")
+                .queryParam("delivery", "url")
+                .queryParam("size", "small")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isOk())
+                .andExpect(jsonPath("$.url").value(expectedUrl))
+                .andExpect(jsonPath("$.expires_at").value(expectedExpiresAt.toString()));
+
+        verify(getMediaUrlUseCase).execute(argThat(cmd ->
+                "123".equals(cmd.videoId())
+                        && "BANNER".equals(cmd.mediaType())
+                        && "small".equals(cmd.size())
+        ));
+    }
+
+    @Test
+    void givenAnInvalidDelivery_whenCallsGetMediaByType_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var aRequest = get("/videos/{id}/medias/{type}", "123", "VIDEO")
+                .queryParam("delivery", "carrier-pigeon")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isUnprocessableEntity());
+
+        verifyNoInteractions(getMediaUseCase, getMediaUrlUseCase);
+    }
+
+    @Test
+    void givenAValidIntent_whenCallsCreateDirectUpload_shouldReturnTheSignedUploadUrl() throws Exception {
+        // given
+        final var expectedUrl = "https://storage.googleapis.com/bucket/uploads/abc/content?X-Goog-Signature=123";
+        final var expectedExpiresAt = Instant.parse("2026-01-01T10:15:00Z");
+
+        when(createDirectUploadUseCase.execute(any()))
+                .thenReturn(new DirectUploadOutput("abc", "123", VideoMediaType.VIDEO, "video/mp4", 10,
+                        expectedUrl, Map.of(), expectedExpiresAt));
+
+        final var aRequest = post("/videos/{id}/medias/{type}/direct-uploads", "123", "VIDEO")
+                .with(ApiTest.VIDEOS_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"file_name": "video.mp4", "content_type": "video/mp4", "size": 10, "checksum": "%s", "sha256": "%s"}
+                        """.formatted(CHECKSUM, SHA256));
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/videos/123/medias/VIDEO/direct-uploads/abc"))
+                .andExpect(jsonPath("$.upload_id").value("abc"))
+                .andExpect(jsonPath("$.url").value(expectedUrl))
+                .andExpect(jsonPath("$.method").value("PUT"))
+                .andExpect(jsonPath("$.content_type").value("video/mp4"))
+                .andExpect(jsonPath("$.expires_at").value(expectedExpiresAt.toString()));
+
+        verify(createDirectUploadUseCase).execute(
+                CreateDirectUploadCommand.with("123", VideoMediaType.VIDEO, "video/mp4", "video.mp4", 10L, CHECKSUM, SHA256));
+    }
+
+    @Test
+    void givenAWrittenObject_whenCallsCompleteDirectUpload_shouldAttachTheMedia() throws Exception {
+        // given
+        when(completeDirectUploadUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput("123", VideoMediaType.VIDEO));
+
+        final var aRequest = post("/videos/{id}/medias/{type}/direct-uploads/{uploadId}/complete", "123", "VIDEO", "abc")
+                .with(ApiTest.VIDEOS_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"checksum": "%s", "size": 10}
+                        """.formatted(CHECKSUM));
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/videos/123/medias/VIDEO"))
+                .andExpect(jsonPath("$.video_id").value("123"))
+                .andExpect(jsonPath("$.media_type").value("VIDEO"));
+
+        verify(completeDirectUploadUseCase).execute(
+                CompleteDirectUploadCommand.with("123", VideoMediaType.VIDEO, "abc", CHECKSUM, 10L));
+    }
+
+    @Test
+    void givenAValidPayload_whenCallsCreateUpload_shouldReturnTheUploadSession() throws Exception {
+        // given
+        when(createUploadSessionUseCase.execute(any()))
+                .thenReturn(new UploadSessionOutput("abc", "123", VideoMediaType.VIDEO, "video/mp4", "video.mp4", 0, 0));
+
+        final var aRequest = post("/videos/{id}/medias/{type}/uploads", "123", "VIDEO")
+                .with(ApiTest.VIDEOS_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"file_name": "video.mp4", "content_type": "video/mp4"}
+                        """);
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/videos/123/medias/VIDEO/uploads/abc"))
+                .andExpect(jsonPath("$.upload_id").value("abc"))
+                .andExpect(jsonPath("$.video_id").value("123"))
+                .andExpect(jsonPath("$.media_type").value("VIDEO"))
+                .andExpect(jsonPath("$.chunks").value(0))
+                .andExpect(jsonPath("$.offset").value(0));
+
+        verify(createUploadSessionUseCase).execute(
+                CreateUploadSessionCommand.with("123", VideoMediaType.VIDEO, "video/mp4", "video.mp4"));
+    }
+
+    @Test
+    void givenAChunk_whenCallsUploadChunk_shouldReturnTheReceivedOffset() throws Exception {
+        // given
+        final var receivedContent = new AtomicReference<byte[]>();
+        when(uploadChunkUseCase.execute(any()))
+                .thenAnswer(call -> {
+                    receivedContent.set(call.<UploadChunkCommand>getArgument(0).content().readAllBytes());
+                    return new UploadSessionOutput("abc", "123", VideoMediaType.VIDEO, "video/mp4", "video.mp4", 1, CONTENT.length);
+                });
+
+        final var aRequest = put("/videos/{id}/medias/{type}/uploads/{uploadId}/chunks/{number}", "123", "VIDEO", "abc", 0)
+                .with(ApiTest.VIDEOS_JWT)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(CONTENT);
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isOk())
+                .andExpect(jsonPath("$.upload_id").value("abc"))
+                .andExpect(jsonPath("$.chunks").value(1))
+                .andExpect(jsonPath("$.offset").value(CONTENT.length));
+
+        verify(uploadChunkUseCase).execute(argThat(cmd ->
+                "123".equals(cmd.videoId())
+                        && VideoMediaType.VIDEO == cmd.mediaType()
+                        && "abc".equals(cmd.uploadId())
+                        && cmd.number() == 0
+        ));
+        Assertions.assertArrayEquals(CONTENT, receivedContent.get());
+    }
+
+    @Test
+    void givenAnUploadSession_whenCallsGetUpload_shouldReturnTheReceivedOffset() throws Exception {
+        // given
+        when(getUploadSessionUseCase.execute(UploadSessionCommand.with("123", VideoMediaType.VIDEO, "abc")))
+                .thenReturn(new UploadSessionOutput("abc", "123", VideoMediaType.VIDEO, "video/mp4", "video.mp4", 2, 20));
+
+        final var aRequest = get("/videos/{id}/medias/{type}/uploads/{uploadId}", "123", "VIDEO", "abc")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isOk())
+                .andExpect(jsonPath("$.upload_id").value("abc"))
+                .andExpect(jsonPath("$.chunks").value(2))
+                .andExpect(jsonPath("$.offset").value(20));
+    }
+
+    @Test
+    void givenAllChunks_whenCallsCompleteUpload_shouldAttachTheMedia() throws Exception {
+        // given
+        when(completeUploadSessionUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput("123", VideoMediaType.VIDEO));
+
+        final var aRequest = post("/videos/{id}/medias/{type}/uploads/{uploadId}/complete", "123", "VIDEO", "abc")
+                .with(ApiTest.VIDEOS_JWT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"checksum": "%s"}
+                        """.formatted(CHECKSUM));
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/videos/123/medias/VIDEO"))
+                .andExpect(jsonPath("$.video_id").value("123"))
+                .andExpect(jsonPath("$.media_type").value("VIDEO"));
+
+        verify(completeUploadSessionUseCase).execute(
+                CompleteUploadSessionCommand.with("123", VideoMediaType.VIDEO, "abc", CHECKSUM));
+    }
+
+    @Test
+    void givenAnUploadSession_whenCallsAbortUpload_shouldRemoveTheSession() throws Exception {
+        // given
+        final var aRequest = delete("/videos/{id}/medias/{type}/uploads/{uploadId}", "123", "VIDEO", "abc")
+                .with(ApiTest.VIDEOS_JWT);
+
+        // when
+        final var aResponse = this.mockMvc.perform(aRequest);
+
+        // then
+        aResponse.andExpect(status().isNoContent());
+
+        verify(abortUploadSessionUseCase).execute(UploadSessionCommand.with("123", VideoMediaType.VIDEO, "abc"));
+    }
+
+    private void givenAMedia() {
+        final var aResource = Resource.with(CONTENT, CHECKSUM, "video/mp4", "video.mp4");
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(aResource));
+    }
+}
@@ -0,0 +1,122 @@
+package com.fullcycle.admin.catalogo.infrastructure.autocomplete;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.autocomplete.AutocompleteQuery;
+import com.fullcycle.admin.catalogo.domain.autocomplete.Suggestion;
+import com.fullcycle.admin.catalogo.domain.autocomplete.SuggestionType;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryAutocompleteGatewayTest extends UnitTest {
+
+    private CategoryRepository categoryRepository;
+    private GenreRepository genreRepository;
+    private CastMemberRepository castMemberRepository;
+
+    private InMemoryAutocompleteGateway target;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository = mock(CategoryRepository.class);
+        genreRepository = mock(GenreRepository.class);
+        castMemberRepository = mock(CastMemberRepository.class);
+        target = new InMemoryAutocompleteGateway(categoryRepository, genreRepository, castMemberRepository);
+    }
+
+    @Test
+    void givenIndexedNames_whenSearchesAPrefix_shouldRankWholeNamePrefixesFirstAndIgnoreAccents() {
+        // given
+        target.index(new Suggestion("1", "Filmes de Ação", SuggestionType.CATEGORY));
+        target.index(new Suggestion("2", "Ação", SuggestionType.GENRE));
+        target.index(new Suggestion("3", "Ação e Aventura", SuggestionType.GENRE));
+        target.index(new Suggestion("4", "Drama", SuggestionType.GENRE));
+
+        // when
+        final var actualSuggestions = target.search(new AutocompleteQuery("aca", Set.of(), 10));
+
+        // then
+        Assertions.assertEquals(List.of("2", "3", "1"), actualSuggestions.stream().map(Suggestion::id).toList());
+    }
+
+    @Test
+    void givenTypesAndALimit_whenSearches_shouldFilterByTypeAndKeepTheBestMatches() {
+        // given
+        target.index(new Suggestion("1", "Mark Hamill", SuggestionType.CAST_MEMBER));
+        target.index(new Suggestion("2", "Martin Scorsese", SuggestionType.CAST_MEMBER));
+        target.index(new Suggestion("3", "Marvel", SuggestionType.CATEGORY));
+        target.index(new Suggestion("4", "Mary Shelley", SuggestionType.CAST_MEMBER));
+
+        // when
+        final var actualSuggestions =
+                target.search(new AutocompleteQuery("mar", Set.of(SuggestionType.CAST_MEMBER), 2));
+
+        // then
+        Assertions.assertEquals(List.of("1", "4"), actualSuggestions.stream().map(Suggestion::id).toList());
+    }
+
+    @Test
+    void givenAnInfixOrMisspelledTerm_whenSearches_shouldFallBackToTrigrams() {
+        // given
+        target.index(new Suggestion("1", "Wesley FullCycle", SuggestionType.CAST_MEMBER));
+        target.index(new Suggestion("2", "Documentários", SuggestionType.CATEGORY));
+
+        // when
+        final var actualInfix = target.search(new AutocompleteQuery("cycle", Set.of(), 10));
+        final var actualTypo = target.search(new AutocompleteQuery("documetarios", Set.of(), 10));
+
+        // then
+        Assertions.assertEquals(List.of("1"), actualInfix.stream().map(Suggestion::id).toList());
+        Assertions.assertEquals(List.of("2"), actualTypo.stream().map(Suggestion::id).toList());
+        Assertions.assertTrue(target.search(new AutocompleteQuery("xyz", Set.of(), 10)).isEmpty());
+    }
+
+    @Test
+    void givenAnUpdatedAndARemovedName_whenSearches_shouldReflectTheChanges() {
+        // given
+        target.index(new Suggestion("1", "Terror", SuggestionType.GENRE));
+        target.index(new Suggestion("2", "Terror", SuggestionType.CATEGORY));
+
+        // when
+        target.index(new Suggestion("1", "Suspense", SuggestionType.GENRE));
+        target.remove(SuggestionType.CATEGORY, "2");
+
+        // then
+        Assertions.assertTrue(target.search(new AutocompleteQuery("terror", Set.of(), 10)).isEmpty());
+        Assertions.assertEquals("1", target.search(new AutocompleteQuery("sus", Set.of(), 10)).get(0).id());
+        Assertions.assertEquals(1, target.size());
+    }
+
+    @Test
+    void givenPersistedNames_whenStarts_shouldBuildTheIndexFromTheRepositories() {
+        // given
+        when(categoryRepository.findNamesAfter(eq(""), any()))
+                .thenReturn(List.of(new IndexedName("1", "Filmes")));
+        when(genreRepository.findNamesAfter(eq(""), any()))
+                .thenReturn(List.of(new IndexedName("2", "Ficção")));
+        when(castMemberRepository.findNamesAfter(eq(""), any()))
+                .thenReturn(List.of(new IndexedName("3", "Fernanda Montenegro")));
+
+        // when
+        target.afterPropertiesSet();
+
+        // then
+        final var actualSuggestions = target.search(new AutocompleteQuery("f", Set.of(), 10));
+        Assertions.assertEquals(3, target.size());
+        Assertions.assertEquals(
+                List.of(SuggestionType.GENRE, SuggestionType.CATEGORY, SuggestionType.CAST_MEMBER),
+                actualSuggestions.stream().map(Suggestion::type).toList()
+        );
+    }
+}
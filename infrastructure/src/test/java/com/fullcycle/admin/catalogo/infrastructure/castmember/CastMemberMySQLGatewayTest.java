@@ -0,0 +1,84 @@
+package com.fullcycle.admin.catalogo.infrastructure.castmember;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@MySQLGatewayTest
+class CastMemberMySQLGatewayTest {
+
+    @Autowired
+    private CastMemberMySQLGateway castMemberGateway;
+
+    @Autowired
+    private CastMemberRepository castMemberRepository;
+
+    @Test
+    void givenMembersSharingTheSortKey_whenWalksFindAllWithCursorsInBothDirections_shouldReturnEveryMemberOnceInOrder() {
+        // given
+        castMemberRepository.saveAllAndFlush(List.of(
+                CastMemberJpaEntity.from(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR)),
+                CastMemberJpaEntity.from(CastMember.newMember("Quentin Tarantino", CastMemberType.DIRECTOR)),
+                CastMemberJpaEntity.from(CastMember.newMember("Jason Statham", CastMemberType.ACTOR)),
+                CastMemberJpaEntity.from(CastMember.newMember("Martin Scorsese", CastMemberType.DIRECTOR)),
+                CastMemberJpaEntity.from(CastMember.newMember("Keanu Reeves", CastMemberType.ACTOR))
+        ));
+
+        final var persisted = castMemberRepository.findAll().stream().map(CastMemberJpaEntity::toAggregate).toList();
+        final Comparator<CastMember> ascending = Comparator.comparing((CastMember it) -> it.getType().name())
+                .thenComparing(it -> it.getId().getValue());
+
+        final var expectedAscending = persisted.stream().sorted(ascending).map(CastMember::getId).toList();
+        final var expectedDescending = persisted.stream().sorted(ascending.reversed()).map(CastMember::getId).toList();
+
+        // when
+        final var actualAscending = walk("type", "asc");
+        final var actualDescending = walk("type", "desc");
+
+        // then
+        Assertions.assertEquals(expectedAscending, actualAscending);
+        Assertions.assertEquals(expectedDescending, actualDescending);
+    }
+
+    @Test
+    void givenACursorIssuedForAnotherDirection_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        castMemberRepository.saveAllAndFlush(List.of(
+                CastMemberJpaEntity.from(CastMember.newMember("Vin Diesel", CastMemberType.ACTOR)),
+                CastMemberJpaEntity.from(CastMember.newMember("Quentin Tarantino", CastMemberType.DIRECTOR))
+        ));
+
+        final var aCursor = castMemberGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", "")).next();
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> castMemberGateway.findAll(new SearchQuery(0, 1, "", "name", "desc", aCursor)));
+
+        // then
+        Assertions.assertEquals("'after' was issued for direction 'asc' but the query sorts 'desc'",
+                actualException.getErrors().get(0).message());
+    }
+
+    private List<CastMemberID> walk(final String sort, final String direction) {
+        final var ids = new ArrayList<CastMemberID>();
+        var after = "";
+        do {
+            final var aPage = castMemberGateway.findAll(new SearchQuery(0, 2, "", sort, direction, after));
+            aPage.items().forEach(it -> ids.add(it.getId()));
+            after = aPage.next();
+        } while (after != null);
+        return ids;
+    }
+}
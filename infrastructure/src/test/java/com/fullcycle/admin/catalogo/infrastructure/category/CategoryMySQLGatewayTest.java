@@ -2,6 +2,9 @@ package com.fullcycle.admin.catalogo.infrastructure.category;
 
 import com.fullcycle.admin.catalogo.domain.category.Category;
 import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.pagination.CountMode;
+import com.fullcycle.admin.catalogo.domain.pagination.Pagination;
 import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
@@ -10,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -378,4 +382,168 @@ class CategoryMySQLGatewayTest {
         assertEquals(expectedPerPage, actualResult.items().size());
         assertEquals(filmes.getId(), actualResult.items().get(0).getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenPrePersistedCategories_whenWalksFindAllWithCursors_thenShouldReturnEveryCategoryOnceInOrder() {
+        // Given
+        final var expectedPerPage = 2;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", "A categoria muito assistida", true);
+        final var documentarios = Category.newCategory("Documentários", "A categoria assistida", true);
+        final var animes = Category.newCategory("Animes", null, true);
+        final var novelas = Category.newCategory("Novelas", "A categoria mais assistida", true);
+
+        this.categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios),
+                CategoryJpaEntity.from(animes),
+                CategoryJpaEntity.from(novelas)
+        ));
+
+        final var expectedIds = List.of(
+                series.getId(), novelas.getId(), documentarios.getId()
+        );
+
+        // When
+        final var actualIds = new ArrayList<CategoryID>();
+        String after = "";
+        var pages = 0;
+        do {
+            final var actualResult = this.categoryGateway.findAll(
+                    new SearchQuery(0, expectedPerPage, "", "description", "desc", after));
+
+            assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+            assertTrue(actualResult.items().size() <= expectedPerPage);
+            actualResult.items().forEach(it -> actualIds.add(it.getId()));
+            after = actualResult.next();
+            pages++;
+        } while (after != null);
+
+        // Then
+        assertEquals(3, pages);
+        assertEquals(5, actualIds.size());
+        assertEquals(expectedIds, actualIds.subList(0, 3));
+        assertTrue(actualIds.containsAll(List.of(filmes.getId(), animes.getId())));
+    }
+
+    @Test
+    void givenACursorIssuedForAnotherSort_whenCallsFindAll_thenShouldThrowDomainException() {
+        // Given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        this.categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var aCursor = this.categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", ""))
+                .next();
+
+        // When
+        final var actualException = assertThrows(DomainException.class, () ->
+                this.categoryGateway.findAll(new SearchQuery(0, 1, "", "createdAt", "asc", aCursor)));
+
+        // Then
+        assertNotNull(aCursor);
+        assertEquals("'after' was issued for sort 'name' but the query sorts by 'createdAt'",
+                actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenACursorIssuedForAnotherDirection_whenCallsFindAll_thenShouldThrowDomainException() {
+        // Given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        this.categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var aCursor = this.categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", ""))
+                .next();
+
+        // When
+        final var actualException = assertThrows(DomainException.class, () ->
+                this.categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "desc", aCursor)));
+
+        // Then
+        assertNotNull(aCursor);
+        assertEquals("'after' was issued for direction 'asc' but the query sorts 'desc'",
+                actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenNoCountMode_whenCallsFindAll_thenShouldSkipTheCountAndFlagTheNextPage() {
+        // Given
+        final var expectedPerPage = 2;
+
+        this.categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))
+        ));
+
+        // When
+        final var actualFirst = this.categoryGateway.findAll(
+                new SearchQuery(0, expectedPerPage, "", "name", "asc", null, CountMode.NONE));
+        final var actualLast = this.categoryGateway.findAll(
+                new SearchQuery(1, expectedPerPage, "", "name", "asc", null, CountMode.NONE));
+
+        // Then
+        assertEquals(Pagination.UNKNOWN_TOTAL, actualFirst.total());
+        assertEquals(expectedPerPage, actualFirst.items().size());
+        assertTrue(actualFirst.hasNext());
+
+        assertEquals(1, actualLast.currentPage());
+        assertEquals(1, actualLast.items().size());
+        assertEquals("Séries", actualLast.items().get(0).name());
+        assertFalse(actualLast.hasNext());
+    }
+
+    @Test
+    void givenCachedCountMode_whenCallsFindAll_thenShouldReuseTheTotalUntilTheGatewayWrites() {
+        // Given
+        this.categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var aQuery = new SearchQuery(0, 10, "", "name", "asc", null, CountMode.CACHED);
+        assertEquals(2, this.categoryGateway.findAll(aQuery).total());
+
+        this.categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.newCategory("Animes", null, true)));
+
+        // When
+        final var actualCached = this.categoryGateway.findAll(aQuery);
+        this.categoryGateway.create(Category.newCategory("Novelas", null, true));
+        final var actualRefreshed = this.categoryGateway.findAll(aQuery);
+
+        // Then
+        assertEquals(2, actualCached.total());
+        assertEquals(3, actualCached.items().size());
+        assertEquals(4, actualRefreshed.total());
+    }
+
+    @Test
+    void givenEstimatedCountModeWithoutTableStatistics_whenCallsFindAll_thenShouldFallBackToCounting() {
+        // Given
+        this.categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))
+        ));
+
+        // When
+        final var actualResult = this.categoryGateway.findAll(
+                new SearchQuery(0, 2, "", "name", "asc", null, CountMode.ESTIMATED));
+
+        // Then
+        assertEquals(3, actualResult.total());
+        assertEquals(2, actualResult.items().size());
+        assertTrue(actualResult.hasNext());
+    }
+}
@@ -2,13 +2,19 @@ package com.fullcycle.admin.catalogo.infrastructure.genre;
 
 import com.fullcycle.admin.catalogo.MySQLGatewayTest;
 import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.pagination.SearchQuery;
 import com.fullcycle.admin.catalogo.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @MySQLGatewayTest
@@ -72,4 +78,61 @@ class GenreMySQLGatewayTest {
         Assertions.assertEquals(aGenre.getDeletedAt(), persistedGenre.getDeletedAt());
         Assertions.assertNull(persistedGenre.getDeletedAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenGenresWithAndWithoutDeletedAt_whenWalksFindAllWithCursorsInBothDirections_shouldReturnEveryGenreOnceInOrder() {
+        // given
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(Genre.newGenre("Ação", true)),
+                GenreJpaEntity.from(Genre.newGenre("Drama", false)),
+                GenreJpaEntity.from(Genre.newGenre("Terror", true)),
+                GenreJpaEntity.from(Genre.newGenre("Comédia", false)),
+                GenreJpaEntity.from(Genre.newGenre("Suspense", true))
+        ));
+
+        final var persisted = genreRepository.findAll().stream().map(GenreJpaEntity::toAggregate).toList();
+        final Comparator<Genre> ascending = Comparator.comparing(Genre::getDeletedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(it -> it.getId().getValue());
+
+        final var expectedAscending = persisted.stream().sorted(ascending).map(Genre::getId).toList();
+        final var expectedDescending = persisted.stream().sorted(ascending.reversed()).map(Genre::getId).toList();
+
+        // when
+        final var actualAscending = walk("asc");
+        final var actualDescending = walk("desc");
+
+        // then
+        Assertions.assertEquals(expectedAscending, actualAscending);
+        Assertions.assertEquals(expectedDescending, actualDescending);
+    }
+
+    @Test
+    void givenACursorIssuedForAnotherDirection_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(Genre.newGenre("Ação", true)),
+                GenreJpaEntity.from(Genre.newGenre("Drama", false))
+        ));
+
+        final var aCursor = genreGateway.findAll(new SearchQuery(0, 1, "", "deletedAt", "desc", "")).next();
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> genreGateway.findAll(new SearchQuery(0, 1, "", "deletedAt", "asc", aCursor)));
+
+        // then
+        Assertions.assertEquals("'after' was issued for direction 'desc' but the query sorts 'asc'",
+                actualException.getErrors().get(0).message());
+    }
+
+    private List<GenreID> walk(final String direction) {
+        final var ids = new ArrayList<GenreID>();
+        var after = "";
+        do {
+            final var aPage = genreGateway.findAll(new SearchQuery(0, 2, "", "deletedAt", direction, after));
+            aPage.items().forEach(it -> ids.add(it.getId()));
+            after = aPage.next();
+        } while (after != null);
+        return ids;
+    }
+}
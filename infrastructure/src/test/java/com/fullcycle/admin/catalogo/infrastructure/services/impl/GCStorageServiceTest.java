@@ -0,0 +1,234 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.impl;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+class GCStorageServiceTest extends UnitTest {
+
+    private static final String BUCKET = "bucket";
+
+    private final Map<String, byte[]> blobs = new ConcurrentHashMap<>();
+    private final Set<String> corrupted = ConcurrentHashMap.newKeySet();
+
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() {
+        this.storage = Mockito.mock(Storage.class);
+
+        Mockito.when(storage.writer(any(BlobInfo.class)))
+                .thenAnswer(it -> writerOf(it.<BlobInfo>getArgument(0).getName()));
+
+        Mockito.when(storage.get(eq(BUCKET), anyString(), any(Storage.BlobGetOption.class)))
+                .thenAnswer(it -> blobOf(it.getArgument(1)));
+
+        Mockito.when(storage.compose(any()))
+                .thenAnswer(it -> {
+                    final Storage.ComposeRequest request = it.getArgument(0);
+                    final var out = new ByteArrayOutputStream();
+                    request.getSourceBlobs().forEach(source -> out.writeBytes(blobs.get(source.getName())));
+                    blobs.put(request.getTarget().getName(), out.toByteArray());
+                    return null;
+                });
+
+        Mockito.when(storage.delete(any(BlobId.class)))
+                .thenAnswer(it -> blobs.remove(it.<BlobId>getArgument(0).getName()) != null);
+
+        Mockito.when(storage.delete(anyList()))
+                .thenAnswer(it -> it.<List<BlobId>>getArgument(0).stream()
+                        .map(id -> blobs.remove(id.getName()) != null)
+                        .toList());
+    }
+
+    @Test
+    void givenAPartCorruptedOnce_whenCallsStoreComposite_shouldRetryThePartAndCleanUp() {
+        // given
+        final var content = "0123456789abcdefghij".getBytes();
+        final var target = new GCStorageService(BUCKET, storage, 1024, 10, 4, 2, 2, Long.MAX_VALUE, 1024, 1, Long.MAX_VALUE, 1);
+        corrupted.add(".part-1-");
+
+        // when
+        target.store("video", streamed(content, HashingUtils.checksum(content)));
+
+        // then
+        Assertions.assertArrayEquals(content, blobs.get("video"));
+        Assertions.assertEquals(Set.of("video"), blobs.keySet());
+        Assertions.assertTrue(corrupted.isEmpty());
+    }
+
+    @Test
+    void givenAFailingLatePart_whenCallsStoreComposite_shouldSkipThePartsNotStartedAndCleanUp() {
+        // given
+        final var content = "0123456789abcdefghij".getBytes();
+        final var target = new GCStorageService(BUCKET, storage, 1024, 10, 4, 2, 1, Long.MAX_VALUE, 1024, 1, Long.MAX_VALUE, 1);
+        final var released = new CountDownLatch(1);
+        final var firstStarted = new CountDownLatch(1);
+        final var started = ConcurrentHashMap.<String>newKeySet();
+
+        Mockito.when(storage.writer(any(BlobInfo.class)))
+                .thenAnswer(it -> {
+                    final var name = it.<BlobInfo>getArgument(0).getName();
+                    started.add(name.substring(0, name.lastIndexOf('-')));
+                    if (name.contains(".part-0-")) {
+                        // The first part is still uploading when the second one fails
+                        firstStarted.countDown();
+                        released.await(200, TimeUnit.MILLISECONDS);
+                    }
+                    if (name.contains(".part-1-")) {
+                        firstStarted.await(1, TimeUnit.SECONDS);
+                        throw new IllegalStateException("Part upload failed");
+                    }
+                    return writerOf(name);
+                });
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> target.store("video", streamed(content, HashingUtils.checksum(content))));
+
+        // then
+        Assertions.assertEquals("Part upload failed", actualException.getMessage());
+        Assertions.assertEquals(Set.of("video.part-0", "video.part-1"), started);
+        Assertions.assertTrue(blobs.isEmpty());
+        target.close();
+    }
+
+    @Test
+    void givenAComposedObjectWithAWrongChecksum_whenCallsStoreComposite_shouldDeleteItAndThrow() {
+        // given
+        final var content = "0123456789abcdefghij".getBytes();
+        final var target = new GCStorageService(BUCKET, storage, 1024, 10, 4, 2, 1, Long.MAX_VALUE, 1024, 1, Long.MAX_VALUE, 1);
+        corrupted.add("video");
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> target.store("video", streamed(content, HashingUtils.checksum(content))));
+
+        // then
+        Assertions.assertTrue(actualException.getMessage().startsWith("Checksum mismatch"));
+        Assertions.assertTrue(blobs.isEmpty());
+    }
+
+    @Test
+    void givenPartsThatDoNotMatchTheDeclaredChecksum_whenCallsStoreComposite_shouldNotComposeAndThrow() {
+        // given
+        final var content = "0123456789abcdefghij".getBytes();
+        final var target = new GCStorageService(BUCKET, storage, 1024, 10, 4, 2, 1, Long.MAX_VALUE, 1024, 1, Long.MAX_VALUE, 1);
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> target.store("video", streamed(content, "deadbeef")));
+
+        // then
+        Assertions.assertTrue(actualException.getMessage().startsWith("Checksum mismatch"));
+        Assertions.assertTrue(blobs.isEmpty());
+        Mockito.verify(storage, Mockito.never()).compose(any());
+    }
+
+    @Test
+    void givenAStreamedResource_whenCallsStore_shouldVerifyTheStoredChecksum() {
+        // given
+        final var content = "0123456789".getBytes();
+        final var target = new GCStorageService(BUCKET, storage);
+
+        // when
+        target.store("video", streamed(content, HashingUtils.checksum(content)));
+
+        // then
+        Assertions.assertArrayEquals(content, blobs.get("video"));
+    }
+
+    @Test
+    void givenAStoredObjectWithAWrongChecksum_whenCallsStore_shouldDeleteItAndThrow() {
+        // given
+        final var content = "0123456789".getBytes();
+        final var target = new GCStorageService(BUCKET, storage);
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> target.store("video", streamed(content, "deadbeef")));
+
+        // then
+        Assertions.assertTrue(actualException.getMessage().startsWith("Checksum mismatch"));
+        Assertions.assertTrue(blobs.isEmpty());
+    }
+
+    private Resource streamed(final byte[] content, final String checksum) {
+        return Resource.with(ContentStream.of(content), content.length, checksum, "video/mp4", "video.mp4");
+    }
+
+    private Blob blobOf(final String name) {
+        final var content = blobs.get(name);
+        if (content == null) {
+            return null;
+        }
+
+        var crc = HashingUtils.parse(HashingUtils.checksum(content));
+        if (corrupted.removeIf(name::contains)) {
+            crc = ~crc & 0xFFFFFFFFL;
+        }
+
+        final var blob = Mockito.mock(Blob.class);
+        Mockito.when(blob.getCrc32c())
+                .thenReturn(Base64.getEncoder().encodeToString(ByteBuffer.allocate(4).putInt((int) crc).array()));
+        return blob;
+    }
+
+    private WriteChannel writerOf(final String name) {
+        final var out = new ByteArrayOutputStream();
+        return new WriteChannel() {
+            @Override
+            public void setChunkSize(final int chunkSize) {
+            }
+
+            @Override
+            public RestorableState<WriteChannel> capture() {
+                return null;
+            }
+
+            @Override
+            public int write(final ByteBuffer src) {
+                final var bytes = new byte[src.remaining()];
+                src.get(bytes);
+                out.writeBytes(bytes);
+                return bytes.length;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+                blobs.put(name, out.toByteArray());
+            }
+        };
+    }
+}
@@ -0,0 +1,178 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class FileSystemStorageServiceTest extends UnitTest {
+
+    @TempDir
+    Path directory;
+
+    private FileSystemStorageService target;
+
+    @BeforeEach
+    void setUp() {
+        this.target = new FileSystemStorageService(directory.toString());
+    }
+
+    @Test
+    void givenAStreamedResource_whenCallsStore_shouldPersistContentAndMetadata() {
+        // given
+        final var expectedContent = "0123456789".getBytes();
+        final var aResource = Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "03fe62de",
+                "video/mp4",
+                "video.mp4"
+        );
+
+        // when
+        target.store("videoId-123/type-VIDEO", aResource);
+
+        // then
+        final var actualResource = target.get("videoId-123/type-VIDEO").orElseThrow();
+        Assertions.assertEquals(expectedContent.length, actualResource.size());
+        Assertions.assertEquals("03fe62de", actualResource.checksum());
+        Assertions.assertEquals("video/mp4", actualResource.contentType());
+        Assertions.assertEquals("video.mp4", actualResource.name());
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+    }
+
+    @Test
+    void givenAStoredResource_whenReadsARange_shouldReturnOnlyTheRange() throws IOException {
+        // given
+        target.store("videoId-123/type-VIDEO", Resource.with("0123456789".getBytes(), "03fe62de", "video/mp4", "video.mp4"));
+        final var aResource = target.get("videoId-123/type-VIDEO").orElseThrow();
+
+        // when
+        final byte[] actualMapped;
+        try (final var in = aResource.openStream(2, 4)) {
+            actualMapped = in.readAllBytes();
+        }
+
+        final var out = new ByteArrayOutputStream();
+        final var actualTransferred = target.get("videoId-123/type-VIDEO").orElseThrow();
+        try (final var channel = Channels.newChannel(out)) {
+            Assertions.assertEquals(3, actualTransferred.stream().transferTo(7, 10, channel));
+        }
+
+        // then
+        Assertions.assertArrayEquals("2345".getBytes(), actualMapped);
+        Assertions.assertArrayEquals("789".getBytes(), out.toByteArray());
+    }
+
+    @Test
+    void givenResourcesOfManyVideos_whenCallsListAndDeleteAll_shouldOnlyTouchThePrefix() {
+        // given
+        target.store("videoId-123/type-VIDEO", Resource.with("a".getBytes(), "1", "video/mp4", "a"));
+        target.store("videoId-123/type-BANNER", Resource.with("b".getBytes(), "2", "image/jpg", "b"));
+        target.store("videoId-456/type-VIDEO", Resource.with("c".getBytes(), "3", "video/mp4", "c"));
+
+        // when
+        final var actualIds = target.list("videoId-123/");
+        final var actualAllIds = target.list("videoId-");
+        target.deleteAll(actualIds);
+
+        // then
+        Assertions.assertEquals(
+                List.of("videoId-123/type-BANNER", "videoId-123/type-VIDEO"),
+                actualIds.stream().sorted().toList()
+        );
+        Assertions.assertEquals(3, actualAllIds.size());
+        Assertions.assertTrue(target.get("videoId-123/type-VIDEO").isEmpty());
+        Assertions.assertTrue(target.list("videoId-123/").isEmpty());
+        Assertions.assertTrue(target.get("videoId-456/type-VIDEO").isPresent());
+    }
+
+    @Test
+    void givenAStoredResource_whenCallsMove_shouldRenameItWithItsMetadata() throws IOException {
+        // given
+        final var expectedContent = "0123456789".getBytes();
+        target.store("blobs/staging-abc", Resource.with(expectedContent, "03fe62de", "video/mp4", "video.mp4"));
+
+        final Path aSource;
+        try (final var files = Files.walk(directory)) {
+            aSource = files.filter(it -> it.getFileName().toString().equals("staging-abc")).findFirst().orElseThrow();
+        }
+        final var expectedFileKey = Files.readAttributes(aSource, BasicFileAttributes.class).fileKey();
+
+        // when
+        target.move("blobs/staging-abc", "blobs/content");
+
+        // then
+        final var actualResource = target.get("blobs/content").orElseThrow();
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+        Assertions.assertEquals("03fe62de", actualResource.checksum());
+        Assertions.assertEquals("video.mp4", actualResource.name());
+        Assertions.assertTrue(target.get("blobs/staging-abc").isEmpty());
+        Assertions.assertEquals(List.of("blobs/content"), target.list("blobs/"));
+        Assertions.assertEquals(expectedFileKey, Files.readAttributes(aSource.resolveSibling("content"), BasicFileAttributes.class).fileKey());
+    }
+
+    @Test
+    void givenAnInvalidId_whenCallsGet_shouldThrowIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> target.get("videoId-123/../../etc/passwd"));
+    }
+
+    @Test
+    void givenConcurrentStoresOfTheSameId_whenCallsGet_shouldReturnOneWholeObjectWithItsOwnMetadata() throws Exception {
+        // given
+        final var first = new byte[1024 * 1024];
+        final var second = new byte[1024 * 1024];
+        Arrays.fill(first, (byte) 'a');
+        Arrays.fill(second, (byte) 'b');
+
+        final var executor = Executors.newFixedThreadPool(2);
+        final var start = new CyclicBarrier(2);
+
+        // when
+        try {
+            final var futures = new ArrayList<Future<?>>();
+            for (final var content : List.of(first, second)) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 20; i++) {
+                        target.store("videoId-123/type-VIDEO", Resource.with(content, HashingUtils.checksum(content), "video/mp4", "video.mp4"));
+                    }
+                    return null;
+                }));
+            }
+            for (final var future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        final var actualResource = target.get("videoId-123/type-VIDEO").orElseThrow();
+        final var actualContent = actualResource.content();
+        Assertions.assertTrue(Arrays.equals(first, actualContent) || Arrays.equals(second, actualContent));
+        Assertions.assertEquals(HashingUtils.checksum(actualContent), actualResource.checksum());
+
+        try (final var files = Files.walk(directory)) {
+            Assertions.assertTrue(files.noneMatch(it -> it.getFileName().toString().endsWith(".part")));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.List;
+
+class InMemoryStorageServiceTest extends UnitTest {
+
+    @Test
+    void givenAFullStorage_whenCallsStore_shouldEvictTheLeastRecentlyUsedResources() {
+        // given
+        final var target = new InMemoryStorageService(LocalUrlSigner.withRandomSecret(LocalUrlSigner.DEFAULT_BASE), 10, true);
+        target.store("a", Resource.with("aaaa".getBytes(), "1", "video/mp4", "a"));
+        target.store("b", Resource.with("bbbb".getBytes(), "2", "video/mp4", "b"));
+        target.get("a").orElseThrow();
+
+        // when
+        target.store("c", Resource.with("cccc".getBytes(), "3", "video/mp4", "c"));
+
+        // then
+        Assertions.assertTrue(target.get("b").isEmpty());
+        Assertions.assertArrayEquals("aaaa".getBytes(), target.get("a").orElseThrow().content());
+        Assertions.assertArrayEquals("cccc".getBytes(), target.get("c").orElseThrow().content());
+        Assertions.assertEquals(8, target.usedBytes());
+    }
+
+    @Test
+    void givenAResourceLargerThanTheCapacity_whenCallsStore_shouldThrowIllegalArgument() {
+        // given
+        final var target = new InMemoryStorageService(LocalUrlSigner.withRandomSecret(LocalUrlSigner.DEFAULT_BASE), 4, false);
+        final var aResource = Resource.with("too large".getBytes(), "1", "video/mp4", "a");
+
+        // when
+        Assertions.assertThrows(IllegalArgumentException.class, () -> target.store("a", aResource));
+
+        // then
+        Assertions.assertTrue(target.storage().isEmpty());
+        Assertions.assertEquals(0, target.usedBytes());
+    }
+
+    @Test
+    void givenAnOffHeapResource_whenReadsARange_shouldReturnOnlyTheRange() throws IOException {
+        // given
+        final var target = new InMemoryStorageService(LocalUrlSigner.withRandomSecret(LocalUrlSigner.DEFAULT_BASE), 1024, true);
+        final var expectedContent = "0123456789".getBytes();
+        target.store("videoId-123/type-VIDEO", Resource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "03fe62de",
+                "video/mp4",
+                "video.mp4"
+        ));
+        final var aResource = target.get("videoId-123/type-VIDEO").orElseThrow();
+
+        // when
+        final byte[] actualRange;
+        try (final var in = aResource.openStream(2, 4)) {
+            actualRange = in.readAllBytes();
+        }
+
+        final var out = new ByteArrayOutputStream();
+        try (final var channel = Channels.newChannel(out)) {
+            Assertions.assertEquals(3, aResource.stream().transferTo(7, 10, channel));
+        }
+
+        // then
+        Assertions.assertArrayEquals("2345".getBytes(), actualRange);
+        Assertions.assertArrayEquals("789".getBytes(), out.toByteArray());
+        Assertions.assertArrayEquals(expectedContent, aResource.content());
+        Assertions.assertEquals("video.mp4", aResource.name());
+    }
+
+    @Test
+    void givenResourcesOfNeighbouringPrefixes_whenCallsList_shouldOnlyReturnThePrefix() {
+        // given
+        final var target = new InMemoryStorageService();
+        target.store("videoId-12/type-VIDEO", Resource.with("a".getBytes(), "1", "video/mp4", "a"));
+        target.store("videoId-123/type-VIDEO", Resource.with("b".getBytes(), "2", "video/mp4", "b"));
+        target.store("videoId-123/type-BANNER", Resource.with("c".getBytes(), "3", "image/png", "c"));
+        target.store("videoId-124/type-VIDEO", Resource.with("d".getBytes(), "4", "video/mp4", "d"));
+
+        // when
+        final var actualIds = target.list("videoId-123/");
+
+        // then
+        Assertions.assertEquals(List.of("videoId-123/type-BANNER", "videoId-123/type-VIDEO"), actualIds);
+        Assertions.assertEquals(4, target.list("videoId-").size());
+    }
+}
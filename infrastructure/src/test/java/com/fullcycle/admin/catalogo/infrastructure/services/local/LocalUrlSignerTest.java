@@ -0,0 +1,90 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.local;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+class LocalUrlSignerTest extends UnitTest {
+
+    private static final byte[] SECRET = "a-local-secret".getBytes(StandardCharsets.UTF_8);
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Test
+    void givenASignedUrl_whenCallsVerifyWithItsParams_shouldAccept() {
+        // given
+        final var target = new LocalUrlSigner("http://localhost/api/media-links", SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // when
+        final var actualUrl = target.sign("blobs/abc", "my video+1.mp4", Duration.ofMinutes(5));
+
+        // then
+        final var params = UriComponentsBuilder.fromUriString(actualUrl.url()).build().getQueryParams();
+        final var expires = Long.parseLong(params.getFirst("expires"));
+
+        Assertions.assertTrue(actualUrl.url().startsWith("http://localhost/api/media-links?"));
+        Assertions.assertEquals(NOW.plusSeconds(300), actualUrl.expiresAt());
+        Assertions.assertEquals(NOW.plusSeconds(300).getEpochSecond(), expires);
+        Assertions.assertTrue(target.verify(
+                decode(params.getFirst("key")),
+                decode(params.getFirst("name")),
+                expires,
+                params.getFirst("signature")
+        ));
+    }
+
+    @Test
+    void givenATamperedOrExpiredUrl_whenCallsVerify_shouldReject() {
+        // given
+        final var signer = new LocalUrlSigner("/media-links", SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+        final var actualUrl = signer.sign("blobs/abc", "video.mp4", Duration.ofMinutes(5));
+        final var params = UriComponentsBuilder.fromUriString(actualUrl.url()).build().getQueryParams();
+        final var expires = Long.parseLong(params.getFirst("expires"));
+        final var signature = params.getFirst("signature");
+
+        final var later = new LocalUrlSigner("/media-links", SECRET, Clock.fixed(NOW.plusSeconds(301), ZoneOffset.UTC));
+        final var otherSecret = new LocalUrlSigner("/media-links", "other".getBytes(), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // when / then
+        Assertions.assertFalse(signer.verify("blobs/other", "video.mp4", expires, signature));
+        Assertions.assertFalse(signer.verify("blobs/abc", "other.mp4", expires, signature));
+        Assertions.assertFalse(signer.verify("blobs/abc", "video.mp4", expires + 3600, signature));
+        Assertions.assertFalse(later.verify("blobs/abc", "video.mp4", expires, signature));
+        Assertions.assertFalse(otherSecret.verify("blobs/abc", "video.mp4", expires, signature));
+    }
+
+    @Test
+    void givenAnUploadUrl_whenCallsVerify_shouldOnlyAcceptItForUploadsWithTheSameContentTypeSizeAndChecksum() {
+        // given
+        final var target = new LocalUrlSigner("/media-links", SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // when
+        final var actualUrl = target.signUpload("uploads/abc/content", "video/mp4", 10, "0a1b2c3d", Duration.ofMinutes(5));
+
+        // then
+        final var params = UriComponentsBuilder.fromUriString(actualUrl.url()).build().getQueryParams();
+        final var expires = Long.parseLong(params.getFirst("expires"));
+        final var signature = params.getFirst("signature");
+
+        Assertions.assertEquals("video/mp4", decode(params.getFirst("content_type")));
+        Assertions.assertEquals("10", params.getFirst("size"));
+        Assertions.assertEquals("0a1b2c3d", params.getFirst("checksum"));
+        Assertions.assertEquals("video/mp4", actualUrl.headers().get("Content-Type"));
+        Assertions.assertTrue(target.verifyUpload("uploads/abc/content", "video/mp4", 10, "0a1b2c3d", expires, signature));
+        Assertions.assertFalse(target.verifyUpload("uploads/abc/content", "image/png", 10, "0a1b2c3d", expires, signature));
+        Assertions.assertFalse(target.verifyUpload("uploads/abc/content", "video/mp4", 11, "0a1b2c3d", expires, signature));
+        Assertions.assertFalse(target.verifyUpload("uploads/abc/content", "video/mp4", 10, "deadbeef", expires, signature));
+        Assertions.assertFalse(target.verify("uploads/abc/content", "video/mp4", expires, signature));
+    }
+
+    private static String decode(final String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+}
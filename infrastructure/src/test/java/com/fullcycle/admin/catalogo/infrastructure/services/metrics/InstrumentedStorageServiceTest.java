@@ -0,0 +1,103 @@
+package com.fullcycle.admin.catalogo.infrastructure.services.metrics;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.services.StorageService;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class InstrumentedStorageServiceTest extends UnitTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private StorageMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        this.metrics = new StorageMetrics(new Ticker() {
+            @Override
+            public long read() {
+                return nanos.getAndAdd(TimeUnit.MILLISECONDS.toNanos(20));
+            }
+        });
+    }
+
+    @Test
+    void givenAStoredResource_whenCallsStoreAndReads_shouldRecordLatencyAndBytesPerMediaType() throws IOException {
+        // given
+        final var target = new InstrumentedStorageService(new InMemoryStorageService(), metrics);
+        final var content = "0123456789".getBytes();
+
+        // when
+        target.store("videoId-123/type-THUMBNAIL_HALF", Resource.with(content, "1", "image/png", "half.png"));
+        try (final var in = target.get("videoId-123/type-THUMBNAIL_HALF").orElseThrow().openStream()) {
+            in.readAllBytes();
+        }
+
+        // then
+        final var actualStore = metric("store", "THUMBNAIL_HALF");
+        Assertions.assertEquals(1, actualStore.count());
+        Assertions.assertEquals(10, actualStore.bytes());
+        Assertions.assertEquals(0, actualStore.inFlight());
+        Assertions.assertEquals(20.0, actualStore.meanMillis());
+        Assertions.assertEquals(20.0, actualStore.p99Millis());
+        Assertions.assertEquals(500.0, actualStore.bytesPerSecond());
+
+        final var actualRead = metric("read", "THUMBNAIL_HALF");
+        Assertions.assertEquals(1, actualRead.count());
+        Assertions.assertEquals(10, actualRead.bytes());
+        Assertions.assertEquals(1, metric("get", "THUMBNAIL_HALF").count());
+    }
+
+    @Test
+    void givenAFailingBackend_whenCallsStore_shouldCountTheErrorAndRethrow() {
+        // given
+        final var delegate = Mockito.mock(StorageService.class);
+        Mockito.doThrow(new IllegalStateException("unavailable")).when(delegate).store(Mockito.any(), Mockito.any());
+        final var target = new InstrumentedStorageService(delegate, metrics);
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> target.store("blobs/abc", Resource.with("a".getBytes(), "1", "video/mp4", "a")));
+
+        // then
+        final var actualStore = metric("store", "blobs");
+        Assertions.assertEquals(1, actualStore.count());
+        Assertions.assertEquals(1, actualStore.errors());
+        Assertions.assertEquals(0, actualStore.bytes());
+        Assertions.assertEquals(0, actualStore.inFlight());
+    }
+
+    @Test
+    void givenAnOpenStream_whenCallsSnapshot_shouldReportTheReadInFlight() throws IOException {
+        // given
+        final var target = new InstrumentedStorageService(new InMemoryStorageService(), metrics);
+        target.store("videoId-123/type-VIDEO", Resource.with("abc".getBytes(), "1", "video/mp4", "a.mp4"));
+        final var in = target.get("videoId-123/type-VIDEO").orElseThrow().openStream();
+
+        // when
+        final var actualInFlight = metric("read", "VIDEO").inFlight();
+        in.close();
+
+        // then
+        Assertions.assertEquals(1, actualInFlight);
+        Assertions.assertEquals(0, metric("read", "VIDEO").inFlight());
+        Assertions.assertEquals(List.of("VIDEO"), target.list("videoId-123/").stream().map(StorageMetrics::mediaTypeOf).toList());
+    }
+
+    private StorageOperationMetrics metric(final String operation, final String mediaType) {
+        return metrics.snapshot().stream()
+                .filter(it -> it.operation().equals(operation) && it.mediaType().equals(mediaType))
+                .findFirst()
+                .orElseThrow();
+    }
+}
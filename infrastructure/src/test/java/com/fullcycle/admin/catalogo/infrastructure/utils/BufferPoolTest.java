@@ -0,0 +1,131 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+class BufferPoolTest extends UnitTest {
+
+    @Test
+    void givenAReleasedBuffer_whenAcquiresTheSameSizeClass_shouldReuseTheDirectBuffer() {
+        // given
+        final var target = new BufferPool(new int[]{1024, 4096}, 1024 * 1024);
+
+        final ByteBuffer first;
+        try (final var lease = target.acquire(1000)) {
+            first = lease.buffer();
+            first.put((byte) 1);
+        }
+
+        // when
+        final ByteBuffer second;
+        try (final var lease = target.acquire(512)) {
+            second = lease.buffer();
+        }
+
+        // then
+        Assertions.assertSame(first, second);
+        Assertions.assertTrue(second.isDirect());
+        Assertions.assertEquals(1024, second.capacity());
+        Assertions.assertEquals(0, second.position());
+
+        final var actualMetrics = target.snapshot().get(0);
+        Assertions.assertEquals(1024, actualMetrics.capacity());
+        Assertions.assertEquals(2, actualMetrics.acquired());
+        Assertions.assertEquals(1, actualMetrics.allocated());
+        Assertions.assertEquals(0, actualMetrics.inUse());
+        Assertions.assertEquals(1, actualMetrics.retained());
+        Assertions.assertEquals(0.5, actualMetrics.hitRatio());
+    }
+
+    @Test
+    void givenARequestLargerThanEveryClass_whenAcquires_shouldLeaseTheLargestClassAndRespectTheBudget() {
+        // given
+        final var target = new BufferPool(new int[]{1024, 4096}, 8192);
+
+        // when
+        final var aLease = target.acquire(1_000_000);
+        final var actualCapacity = aLease.buffer().capacity();
+        final var anotherLease = target.acquire(4096);
+        final var yetAnotherLease = target.acquire(4096);
+        aLease.close();
+        anotherLease.close();
+        yetAnotherLease.close();
+
+        // then
+        Assertions.assertEquals(4096, actualCapacity);
+        Assertions.assertThrows(IllegalStateException.class, aLease::buffer);
+
+        final var actualMetrics = target.snapshot().get(1);
+        Assertions.assertEquals(3, actualMetrics.allocated());
+        Assertions.assertEquals(1, actualMetrics.retained());
+        Assertions.assertEquals(4096, actualMetrics.retainedBytes());
+    }
+
+    @Test
+    void givenALeaseThatIsNeverClosed_whenItIsCollected_shouldReportTheLeakAndReclaimTheBuffer() throws InterruptedException {
+        // given
+        final var target = new BufferPool(new int[]{1024}, 1024 * 1024);
+        target.acquire(1024);
+
+        // when
+        for (int attempt = 0; attempt < 50 && target.snapshot().get(0).leaked() == 0; attempt++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        // then
+        final var actualMetrics = target.snapshot().get(0);
+        Assertions.assertEquals(1, actualMetrics.leaked());
+        Assertions.assertEquals(0, actualMetrics.inUse());
+        Assertions.assertEquals(1, actualMetrics.retained());
+    }
+
+    @Test
+    void givenAStream_whenTransfersThroughAPooledBuffer_shouldCopyEveryByte() throws IOException {
+        // given
+        final var content = new byte[100_003];
+        new Random(7).nextBytes(content);
+        final var target = new BufferPool(new int[]{4096}, 4096);
+        final var out = new ByteArrayOutputStream();
+
+        // when
+        final var actualTransferred = target.transfer(new ByteArrayInputStream(content), Channels.newChannel(out), 4096);
+
+        // then
+        Assertions.assertEquals(content.length, actualTransferred);
+        Assertions.assertArrayEquals(content, out.toByteArray());
+        Assertions.assertEquals(0, target.snapshot().get(0).inUse());
+    }
+
+    @Test
+    void givenAHeapPool_whenTransfersAStream_shouldCopyThroughAPooledArray() throws IOException {
+        // given
+        final var content = new byte[100_003];
+        new Random(7).nextBytes(content);
+        final var target = new BufferPool(new int[]{4096}, 4096, false);
+        final var out = new ByteArrayOutputStream();
+
+        // when
+        final var actualTransferred = target.transfer(new ByteArrayInputStream(content), Channels.newChannel(out), 4096);
+
+        // then
+        Assertions.assertEquals(content.length, actualTransferred);
+        Assertions.assertArrayEquals(content, out.toByteArray());
+
+        try (final var lease = target.acquire(4096)) {
+            Assertions.assertFalse(lease.buffer().isDirect());
+            Assertions.assertTrue(lease.buffer().hasArray());
+        }
+        final var actualMetrics = target.snapshot().get(0);
+        Assertions.assertEquals(0, actualMetrics.inUse());
+        Assertions.assertEquals(1, actualMetrics.allocated());
+    }
+}
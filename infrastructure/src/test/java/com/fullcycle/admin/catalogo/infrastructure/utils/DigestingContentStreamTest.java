@@ -0,0 +1,124 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class DigestingContentStreamTest extends UnitTest {
+
+    @Test
+    void givenAnyContent_whenCallsHashingUtilsChecksum_shouldMatchPreviousChecksumFormat() {
+        // given
+        final var content = randomBytes(100_003);
+        final var expectedChecksum = Hashing.crc32c().hashBytes(content).toString();
+
+        // when
+        final var actualChecksum = HashingUtils.checksum(content);
+
+        // then
+        Assertions.assertEquals(expectedChecksum, actualChecksum);
+        Assertions.assertEquals(expectedChecksum, HashingUtils.checksum(new ByteArrayInputStream(content)));
+    }
+
+    @Test
+    void givenASequentialRead_whenContentIsConsumed_shouldExposeChecksumAndMd5() throws IOException {
+        // given
+        final var content = randomBytes(70_000);
+        final var expectedChecksum = HashingUtils.checksum(content);
+        final var expectedMd5 = Hashing.md5().hashBytes(content).toString();
+        final var target = DigestingContentStream.withMd5(ContentStream.of(content), content.length);
+
+        Assertions.assertFalse(target.isComplete());
+        Assertions.assertThrows(IllegalStateException.class, target::checksum);
+
+        // when
+        try (final var in = target.open()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+
+        // then
+        Assertions.assertTrue(target.isComplete());
+        Assertions.assertEquals(expectedChecksum, target.checksum());
+        Assertions.assertEquals(expectedMd5, target.md5());
+    }
+
+    @Test
+    void givenASha256Stream_whenContentIsConsumed_shouldExposeTheSha256() throws IOException {
+        // given
+        final var content = randomBytes(70_000);
+        final var expectedSha256 = Hashing.sha256().hashBytes(content).toString();
+        final var target = DigestingContentStream.withSha256(ContentStream.of(content), content.length);
+
+        Assertions.assertFalse(target.isDigested());
+        Assertions.assertThrows(IllegalStateException.class, target::sha256);
+
+        // when
+        try (final var in = target.open(0, content.length)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+
+        // then
+        Assertions.assertTrue(target.isDigested());
+        Assertions.assertEquals(expectedSha256, target.sha256());
+        Assertions.assertThrows(IllegalStateException.class, target::md5);
+    }
+
+    @Test
+    void givenParallelRangedReads_whenAllSlicesAreConsumed_shouldCombineIntoWholeContentChecksum() throws Exception {
+        // given
+        final var content = randomBytes(1_000_000);
+        final var expectedChecksum = HashingUtils.checksum(content);
+        final var target = DigestingContentStream.of(ContentStream.of(content), content.length);
+        final var sliceSize = 131_072;
+        final var executor = Executors.newFixedThreadPool(4);
+
+        // when
+        try {
+            for (long offset = content.length - (content.length % sliceSize); offset >= 0; offset -= sliceSize) {
+                final var anOffset = offset;
+                executor.submit(() -> {
+                    try (final var in = target.open(anOffset, sliceSize)) {
+                        return in.readAllBytes().length;
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        // then
+        Assertions.assertEquals(expectedChecksum, target.checksum());
+    }
+
+    @Test
+    void givenAnIncompleteRead_whenCallsChecksum_shouldThrowIllegalStateException() throws IOException {
+        // given
+        final var content = randomBytes(10_000);
+        final var target = DigestingContentStream.of(ContentStream.of(content), content.length);
+
+        // when
+        try (final var in = target.open(0, 5_000)) {
+            in.readAllBytes();
+        }
+
+        // then
+        Assertions.assertFalse(target.isComplete());
+        Assertions.assertThrows(IllegalStateException.class, target::checksum);
+    }
+
+    private static byte[] randomBytes(final int size) {
+        final var content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+}
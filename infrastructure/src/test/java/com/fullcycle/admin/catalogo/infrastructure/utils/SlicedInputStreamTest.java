@@ -0,0 +1,147 @@
+package com.fullcycle.admin.catalogo.infrastructure.utils;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SlicedInputStreamTest extends UnitTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void givenALargeContent_whenReadsAllSlices_shouldReassembleInOrderAndVerifyTheChecksum() throws IOException {
+        // given
+        final var content = new byte[10_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31);
+        }
+
+        // when
+        final byte[] actualContent;
+        try (final var in = new SlicedInputStream(ContentStream.of(content), 0, content.length, 1024, 3, Long.MAX_VALUE, 1, executor, HashingUtils.checksum(content))) {
+            actualContent = in.readAllBytes();
+        }
+
+        // then
+        Assertions.assertArrayEquals(content, actualContent);
+    }
+
+    @Test
+    void givenARange_whenReadsSlices_shouldReturnOnlyTheRange() throws IOException {
+        // given
+        final var content = "0123456789abcdefghij".getBytes();
+
+        // when
+        final byte[] actualContent;
+        try (final var in = new SlicedInputStream(ContentStream.of(content), 5, 12, 4, 2, Long.MAX_VALUE, 1, executor, null)) {
+            actualContent = in.readAllBytes();
+        }
+
+        // then
+        Assertions.assertArrayEquals(Arrays.copyOfRange(content, 5, 17), actualContent);
+    }
+
+    @Test
+    void givenABufferedBytesCap_whenReadsSlices_shouldLimitTheSlicesInFlight() throws IOException {
+        // given
+        final var content = new byte[10_000];
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+        final ContentStream tracked = new ContentStream() {
+            @Override
+            public InputStream open() throws IOException {
+                return ContentStream.of(content).open();
+            }
+
+            @Override
+            public InputStream open(final long offset, final long length) throws IOException {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                final var in = ContentStream.of(content).open(offset, length);
+                return new FilterInputStream(in) {
+                    @Override
+                    public void close() throws IOException {
+                        inFlight.decrementAndGet();
+                        super.close();
+                    }
+                };
+            }
+        };
+
+        // when
+        final byte[] actualContent;
+        try (final var in = new SlicedInputStream(tracked, 0, content.length, 1000, 4, 3000, 1, executor, null)) {
+            actualContent = in.readAllBytes();
+        }
+
+        // then
+        Assertions.assertArrayEquals(content, actualContent);
+        Assertions.assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    void givenAChecksumMismatch_whenReadsToTheEnd_shouldThrowIOException() {
+        // given
+        final var content = "0123456789".getBytes();
+
+        // when
+        final var actualException = Assertions.assertThrows(IOException.class, () -> {
+            try (final var in = new SlicedInputStream(ContentStream.of(content), 0, content.length, 3, 2, Long.MAX_VALUE, 1, executor, "deadbeef")) {
+                in.readAllBytes();
+            }
+        });
+
+        // then
+        Assertions.assertTrue(actualException.getMessage().startsWith("Checksum mismatch"));
+    }
+
+    @Test
+    void givenAFlakySlice_whenReads_shouldRetryTheSlice() throws IOException {
+        // given
+        final var content = "0123456789".getBytes();
+        final var failures = new AtomicInteger(1);
+        final ContentStream flaky = new ContentStream() {
+            @Override
+            public InputStream open() throws IOException {
+                return ContentStream.of(content).open();
+            }
+
+            @Override
+            public InputStream open(final long offset, final long length) throws IOException {
+                if (offset == 5 && failures.getAndDecrement() > 0) {
+                    throw new IOException("connection reset");
+                }
+                return ContentStream.of(content).open(offset, length);
+            }
+        };
+
+        // when
+        final byte[] actualContent;
+        try (final var in = new SlicedInputStream(flaky, 0, content.length, 5, 2, Long.MAX_VALUE, 2, executor, HashingUtils.checksum(content))) {
+            actualContent = in.readAllBytes();
+        }
+
+        // then
+        Assertions.assertArrayEquals(content, actualContent);
+        Assertions.assertEquals(-1, failures.get());
+    }
+}
@@ -0,0 +1,153 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.infrastructure.utils.FileContentStream;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class AudioVideoDiskCacheTest extends UnitTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void givenARemoteResource_whenCallsLoad_shouldServeItFromAFile() throws IOException {
+        // given
+        final var target = new AudioVideoDiskCache(directory, 1024, Runnable::run);
+        final var content = "0123456789".getBytes();
+
+        // when
+        target.load("blobs/abc", resource(content));
+
+        // then
+        final var actualResource = target.get("blobs/abc").orElseThrow();
+        Assertions.assertInstanceOf(FileContentStream.class, actualResource.stream());
+        Assertions.assertArrayEquals(content, actualResource.content());
+        Assertions.assertEquals(HashingUtils.checksum(content), actualResource.checksum());
+        Assertions.assertEquals("video/mp4", actualResource.contentType());
+
+        final var out = new ByteArrayOutputStream();
+        try (final var channel = Channels.newChannel(out)) {
+            Assertions.assertEquals(3, actualResource.stream().transferTo(7, 10, channel));
+        }
+        Assertions.assertArrayEquals("789".getBytes(), out.toByteArray());
+    }
+
+    @Test
+    void givenACorruptedRemoteResource_whenCallsLoad_shouldNotCacheIt() throws IOException {
+        // given
+        final var target = new AudioVideoDiskCache(directory, 1024, Runnable::run);
+        final var aResource = Resource.with("0123456789".getBytes(), "deadbeef", "video/mp4", "video.mp4");
+
+        // when
+        target.load("blobs/abc", aResource);
+
+        // then
+        Assertions.assertTrue(target.get("blobs/abc").isEmpty());
+        Assertions.assertEquals(0, target.usedBytes());
+        try (final var files = Files.list(directory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void givenAFullCache_whenCallsLoad_shouldEvictTheLeastRecentlyUsedAndSurviveARestart() {
+        // given
+        final var target = new AudioVideoDiskCache(directory, 40, Runnable::run);
+        target.load("blobs/a", resource("aaaaaaaaaa".getBytes()));
+        target.load("blobs/b", resource("bbbbbbbbbb".getBytes()));
+        target.load("blobs/c", resource("cccccccccc".getBytes()));
+        target.load("blobs/d", resource("dddddddddd".getBytes()));
+        target.get("blobs/a").orElseThrow();
+
+        // when
+        target.load("blobs/e", resource("eeeeeeeeee".getBytes()));
+
+        // then
+        Assertions.assertTrue(target.get("blobs/b").isEmpty());
+        Assertions.assertTrue(target.get("blobs/a").isPresent());
+        Assertions.assertEquals(40, target.usedBytes());
+
+        final var actualRecovered = new AudioVideoDiskCache(directory, 40, Runnable::run);
+        Assertions.assertEquals(40, actualRecovered.usedBytes());
+        Assertions.assertArrayEquals("eeeeeeeeee".getBytes(), actualRecovered.get("blobs/e").orElseThrow().content());
+        Assertions.assertTrue(actualRecovered.get("blobs/b").isEmpty());
+    }
+
+    @Test
+    void givenAMiss_whenTheTeedResourceIsFullyRead_shouldCacheItWithoutReadingTheOriginAgain() throws IOException {
+        // given
+        final var target = new AudioVideoDiskCache(directory, 1024, Runnable::run);
+        final var content = "0123456789".getBytes();
+        final var opens = new AtomicInteger();
+        final ContentStream origin = () -> {
+            opens.incrementAndGet();
+            return new ByteArrayInputStream(content);
+        };
+        final var aResource = Resource.with(origin, content.length, HashingUtils.checksum(content), "video/mp4", "video.mp4");
+
+        // when
+        final var out = new ByteArrayOutputStream();
+        try (final var channel = Channels.newChannel(out)) {
+            target.tee("blobs/abc", aResource).stream().transferTo(0, content.length, channel);
+        }
+
+        // then
+        Assertions.assertArrayEquals(content, out.toByteArray());
+        Assertions.assertEquals(1, opens.get());
+        Assertions.assertArrayEquals(content, target.get("blobs/abc").orElseThrow().content());
+        try (final var files = Files.list(directory)) {
+            Assertions.assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void givenAMiss_whenTheTeedResourceIsPartiallyRead_shouldNotCacheThePartialCopy() throws IOException {
+        // given
+        final var target = new AudioVideoDiskCache(directory, 1024, command -> {});
+        final var content = "0123456789".getBytes();
+
+        // when
+        try (final var in = target.tee("blobs/abc", resource(content)).openStream()) {
+            Assertions.assertArrayEquals("01234".getBytes(), in.readNBytes(5));
+        }
+
+        // then
+        Assertions.assertTrue(target.get("blobs/abc").isEmpty());
+        try (final var files = Files.list(directory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void givenACachedResource_whenItIsInvalidatedAfterGet_shouldStillServeIt() throws IOException {
+        // given
+        final var target = new AudioVideoDiskCache(directory, 1024, Runnable::run);
+        final var content = "0123456789".getBytes();
+        target.load("blobs/abc", resource(content));
+
+        // when
+        final var actualResource = target.get("blobs/abc").orElseThrow();
+        target.invalidate("blobs/abc");
+
+        // then
+        Assertions.assertArrayEquals(content, actualResource.content());
+        Assertions.assertTrue(target.get("blobs/abc").isEmpty());
+    }
+
+    private static Resource resource(final byte[] content) {
+        return Resource.with(content, HashingUtils.checksum(content), "video/mp4", "video.mp4");
+    }
+}
@@ -0,0 +1,492 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.resource.ContentStream;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.ImageRendition;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoResource;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import com.fullcycle.admin.catalogo.infrastructure.video.cleanup.MediaCleanupQueue;
+import com.fullcycle.admin.catalogo.infrastructure.video.replication.MediaReplicationQueue;
+import com.fullcycle.admin.catalogo.infrastructure.video.replication.MediaSpool;
+import com.fullcycle.admin.catalogo.infrastructure.video.upload.StagedContentStream;
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.*;
+
+class DefaultMediaResourceGatewayTest extends UnitTest {
+
+    @TempDir
+    Path cleanupDirectory;
+
+    private InMemoryStorageService storageService;
+
+    private MediaCleanupQueue cleanupQueue;
+
+    private DefaultMediaResourceGateway target;
+
+    @BeforeEach
+    void setUp() {
+        final var props = new StorageProperties();
+        props.setLocationPattern("videoId-{videoId}");
+        props.setFilenamePattern("type-{type}");
+        props.setCleanupDirectory(cleanupDirectory.toString());
+
+        this.storageService = Mockito.spy(new InMemoryStorageService());
+        this.cleanupQueue = new MediaCleanupQueue(props);
+        this.target = new DefaultMediaResourceGateway(
+                props,
+                storageService,
+                cleanupQueue,
+                new ImageMediaCache(props),
+                AudioVideoDiskCache.disabled(),
+                new ImageRenditionGenerator(),
+                MediaSpool.disabled(),
+                MediaReplicationQueue.disabled()
+        );
+    }
+
+    @Test
+    void givenTheSameContentForTwoVideos_whenCallsStore_shouldWriteASingleSharedBlob() {
+        // given
+        final var content = "trailer".getBytes();
+        final var aVideoId = VideoID.unique();
+        final var anotherVideoId = VideoID.unique();
+
+        // when
+        final var aMedia = target.storeAudioVideo(aVideoId, VideoResource.with(TRAILER, resource(content, "a.mp4")));
+        final var anotherMedia = target.storeAudioVideo(anotherVideoId, VideoResource.with(TRAILER, resource(content, "b.mp4")));
+
+        // then
+        Assertions.assertEquals(aMedia.rawLocation(), anotherMedia.rawLocation());
+        Assertions.assertTrue(aMedia.rawLocation().startsWith("blobs/"));
+        Assertions.assertEquals(HashingUtils.checksum(content), aMedia.checksum());
+        Assertions.assertEquals(1, storageService.list("blobs/").size());
+        Assertions.assertEquals(2, storageService.list("refs/").size());
+
+        final var actualResource = target.getResource(anotherVideoId, TRAILER).orElseThrow();
+        Assertions.assertArrayEquals(content, actualResource.content());
+        Assertions.assertEquals("b.mp4", actualResource.name());
+        Assertions.assertEquals("video/mp4", actualResource.contentType());
+    }
+
+    @Test
+    void givenAStoredMedia_whenCallsClearResources_shouldOnlyEnqueueTheCleanup() {
+        // given
+        final var aVideoId = VideoID.unique();
+        target.storeImage(aVideoId, VideoResource.with(BANNER, resource("banner".getBytes(), "banner.png")));
+
+        // when
+        target.clearResources(aVideoId);
+        target.clearResources(aVideoId);
+
+        // then
+        Assertions.assertTrue(target.getResource(aVideoId, BANNER).isPresent());
+
+        final var actualRequests = cleanupQueue.pending(Instant.now());
+        Assertions.assertEquals(1, actualRequests.size());
+        Assertions.assertEquals(aVideoId, actualRequests.get(0).videoId());
+    }
+
+    @Test
+    void givenASharedBlob_whenPurgesResources_shouldOnlyDeleteBlobWithTheLastReference() {
+        // given
+        final var content = "banner".getBytes();
+        final var aVideoId = VideoID.unique();
+        final var anotherVideoId = VideoID.unique();
+
+        target.storeImage(aVideoId, VideoResource.with(BANNER, resource(content, "banner.png")));
+        target.storeImage(anotherVideoId, VideoResource.with(THUMBNAIL, resource(content, "banner.png")));
+
+        // when
+        target.purgeResources(aVideoId, 1);
+
+        // then
+        Assertions.assertTrue(target.getResource(aVideoId, BANNER).isEmpty());
+        Assertions.assertTrue(target.getResource(anotherVideoId, THUMBNAIL).isPresent());
+        Assertions.assertEquals(1, storageService.list("blobs/").size());
+
+        // when
+        target.purgeResources(anotherVideoId, 1);
+
+        // then
+        Assertions.assertTrue(storageService.storage().isEmpty());
+    }
+
+    @Test
+    void givenAReplacedMedia_whenCallsStore_shouldReleaseThePreviousBlob() {
+        // given
+        final var aVideoId = VideoID.unique();
+        final var aMedia = target.storeImage(aVideoId, VideoResource.with(BANNER, resource("old".getBytes(), "old.png")));
+
+        // when
+        final var actualMedia = target.storeImage(aVideoId, VideoResource.with(BANNER, resource("new".getBytes(), "new.png")));
+
+        // then
+        Assertions.assertNotEquals(aMedia.location(), actualMedia.location());
+        Assertions.assertTrue(storageService.get(aMedia.location()).isEmpty());
+        Assertions.assertArrayEquals("new".getBytes(), target.getResource(aVideoId, BANNER).orElseThrow().content());
+        Assertions.assertEquals(1, storageService.list("blobs/").size());
+        Assertions.assertEquals(1, storageService.list("refs/").size());
+    }
+
+    @Test
+    void givenAFailingReplacement_whenCallsStore_shouldKeepServingTheOriginalMedia() {
+        // given
+        final var aVideoId = VideoID.unique();
+        final var aMedia = target.storeAudioVideo(aVideoId, VideoResource.with(VIDEO, resource("old".getBytes(), "old.mp4")));
+        Mockito.doThrow(new IllegalStateException("Storage unavailable"))
+                .when(storageService).store(Mockito.startsWith("blobs/"), Mockito.any());
+
+        // when
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> target.storeAudioVideo(aVideoId, VideoResource.with(VIDEO, resource("new".getBytes(), "new.mp4"))));
+
+        // then
+        final var actualResource = target.getResource(aVideoId, VIDEO).orElseThrow();
+        Assertions.assertArrayEquals("old".getBytes(), actualResource.content());
+        Assertions.assertEquals("old.mp4", actualResource.name());
+        Assertions.assertEquals(List.of(aMedia.rawLocation()), storageService.list("blobs/"));
+        Assertions.assertEquals(1, storageService.list("refs/").size());
+    }
+
+    @Test
+    void givenANewMedia_whenCallsStore_shouldReadTheContentOnce() {
+        // given
+        final var content = "video".getBytes();
+        final var opens = new AtomicInteger();
+        final var aResource = Resource.with(
+                () -> {
+                    opens.incrementAndGet();
+                    return new ByteArrayInputStream(content);
+                },
+                content.length,
+                HashingUtils.checksum(content),
+                "video/mp4",
+                "movie.mp4"
+        );
+
+        // when
+        final var aMedia = target.storeAudioVideo(VideoID.unique(), VideoResource.with(VIDEO, aResource));
+
+        // then
+        Assertions.assertEquals(1, opens.get());
+        Assertions.assertEquals("blobs/" + Hashing.sha256().hashBytes(content), aMedia.rawLocation());
+        Assertions.assertEquals(List.of(aMedia.rawLocation()), storageService.list("blobs/"));
+        Mockito.verify(storageService).move(Mockito.startsWith("blobs/staging-"), Mockito.eq(aMedia.rawLocation()));
+    }
+
+    @Test
+    void givenARepeatableDuplicate_whenCallsStore_shouldSkipTheWrite() {
+        // given
+        final var content = "video".getBytes();
+        final var aMedia = target.storeAudioVideo(VideoID.unique(), VideoResource.with(VIDEO, repeatable(content, "a.mp4")));
+        Mockito.clearInvocations(storageService);
+
+        // when
+        final var actualMedia = target.storeAudioVideo(VideoID.unique(), VideoResource.with(VIDEO, repeatable(content, "b.mp4")));
+
+        // then
+        Assertions.assertEquals("blobs/" + Hashing.sha256().hashBytes(content), actualMedia.rawLocation());
+        Assertions.assertEquals(aMedia.rawLocation(), actualMedia.rawLocation());
+        Assertions.assertEquals(List.of(actualMedia.rawLocation()), storageService.list("blobs/"));
+        Assertions.assertEquals(2, storageService.list("refs/").size());
+        Mockito.verify(storageService, Mockito.never()).store(Mockito.startsWith("blobs/"), Mockito.any());
+        Mockito.verify(storageService, Mockito.never()).move(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void givenACachedImage_whenCallsGetResourceAgain_shouldNotReadStorage() {
+        // given
+        final var aVideoId = VideoID.unique();
+        target.storeImage(aVideoId, VideoResource.with(THUMBNAIL, resource("thumb".getBytes(), "thumb.png")));
+        target.getResource(aVideoId, THUMBNAIL).orElseThrow();
+        Mockito.clearInvocations(storageService);
+
+        // when
+        final var actualResource = target.getResource(aVideoId, THUMBNAIL).orElseThrow();
+
+        // then
+        Assertions.assertArrayEquals("thumb".getBytes(), actualResource.content());
+        Assertions.assertEquals("thumb.png", actualResource.name());
+        Mockito.verifyNoInteractions(storageService);
+    }
+
+    @Test
+    void givenACachedImage_whenItIsReplaced_shouldServeTheNewContent() {
+        // given
+        final var aVideoId = VideoID.unique();
+        target.storeImage(aVideoId, VideoResource.with(THUMBNAIL, resource("old".getBytes(), "old.png")));
+        target.getResource(aVideoId, THUMBNAIL).orElseThrow();
+
+        // when
+        target.storeImage(aVideoId, VideoResource.with(THUMBNAIL, resource("new".getBytes(), "new.png")));
+
+        // then
+        final var actualResource = target.getResource(aVideoId, THUMBNAIL).orElseThrow();
+        Assertions.assertArrayEquals("new".getBytes(), actualResource.content());
+        Assertions.assertEquals("new.png", actualResource.name());
+    }
+
+    @Test
+    void givenAWideImage_whenCallsStoreImage_shouldServeDownscaledRenditions() throws IOException {
+        // given
+        final var aVideoId = VideoID.unique();
+        final var content = png(1600, 900);
+
+        // when
+        target.storeImage(aVideoId, VideoResource.with(BANNER, resource(content, "banner.png")));
+
+        // then
+        final var actualSmall = ImageIO.read(new ByteArrayInputStream(
+                target.getResource(aVideoId, BANNER, ImageRendition.SMALL).orElseThrow().content()));
+        final var actualPlaceholder = ImageIO.read(new ByteArrayInputStream(
+                target.getResource(aVideoId, BANNER, ImageRendition.PLACEHOLDER).orElseThrow().content()));
+
+        Assertions.assertEquals(320, actualSmall.getWidth());
+        Assertions.assertEquals(180, actualSmall.getHeight());
+        Assertions.assertEquals(32, actualPlaceholder.getWidth());
+        Assertions.assertArrayEquals(content, target.getResource(aVideoId, BANNER).orElseThrow().content());
+    }
+
+    @Test
+    void givenANarrowImage_whenCallsGetResourceWithALargerRendition_shouldServeTheOriginal() throws IOException {
+        // given
+        final var aVideoId = VideoID.unique();
+        final var content = png(200, 100);
+        target.storeImage(aVideoId, VideoResource.with(THUMBNAIL, resource(content, "thumb.png")));
+
+        // when
+        final var actualResource = target.getResource(aVideoId, THUMBNAIL, ImageRendition.LARGE).orElseThrow();
+
+        // then
+        Assertions.assertArrayEquals(content, actualResource.content());
+        Assertions.assertTrue(storageService.get("videoId-%s/type-THUMBNAIL-large".formatted(aVideoId.getValue())).isEmpty());
+        Assertions.assertTrue(storageService.get("videoId-%s/type-THUMBNAIL-placeholder".formatted(aVideoId.getValue())).isPresent());
+    }
+
+    @Test
+    void givenAStoredMedia_whenCallsGetSignedUrl_shouldSignTheSharedBlobWithTheOriginalName() {
+        // given
+        final var aVideoId = VideoID.unique();
+        final var aMedia = target.storeAudioVideo(aVideoId, VideoResource.with(VIDEO, resource("video".getBytes(), "movie.mp4")));
+
+        // when
+        final var actualUrl = target.getSignedUrl(aVideoId, VIDEO, ImageRendition.ORIGINAL, Duration.ofMinutes(5)).orElseThrow();
+
+        // then
+        Assertions.assertTrue(actualUrl.url().contains("key=" + URLEncoder.encode(aMedia.rawLocation(), StandardCharsets.UTF_8)));
+        Assertions.assertTrue(actualUrl.url().contains("name=movie.mp4"));
+        Assertions.assertTrue(actualUrl.expiresAt().isAfter(Instant.now()));
+        Assertions.assertTrue(target.getSignedUrl(aVideoId, TRAILER, ImageRendition.ORIGINAL, Duration.ofMinutes(5)).isEmpty());
+    }
+
+    @Test
+    void givenAStoredMedia_whenCallsGetMetadata_shouldOnlyStatTheSharedBlob() {
+        // given
+        final var content = "video".getBytes();
+        final var aVideoId = VideoID.unique();
+        final var aMedia = target.storeAudioVideo(aVideoId, VideoResource.with(VIDEO, resource(content, "movie.mp4")));
+        Mockito.clearInvocations(storageService);
+
+        // when
+        final var actualMetadata = target.getMetadata(aVideoId, VIDEO, ImageRendition.ORIGINAL).orElseThrow();
+
+        // then
+        Assertions.assertEquals(content.length, actualMetadata.size());
+        Assertions.assertEquals(HashingUtils.checksum(content), actualMetadata.checksum());
+        Assertions.assertEquals("video/mp4", actualMetadata.contentType());
+        Assertions.assertEquals("movie.mp4", actualMetadata.name());
+        Mockito.verify(storageService).stat(aMedia.rawLocation());
+        Mockito.verify(storageService, Mockito.never()).get(aMedia.rawLocation());
+        Assertions.assertTrue(target.getMetadata(aVideoId, TRAILER, ImageRendition.ORIGINAL).isEmpty());
+    }
+
+    @Test
+    void givenAStagedUpload_whenCallsStore_shouldAdoptTheObjectWithAServerSideCopy() {
+        // given
+        final var content = "direct".getBytes();
+        final var aVideoId = VideoID.unique();
+        final var aResource = staged("abc", content);
+        final var expectedBlobKey = "blobs/" + Hashing.sha256().hashBytes(content);
+        Mockito.clearInvocations(storageService);
+
+        // when
+        final var aMedia = target.storeAudioVideo(aVideoId, VideoResource.with(VIDEO, aResource));
+
+        // then
+        Assertions.assertEquals(expectedBlobKey, aMedia.rawLocation());
+        Mockito.verify(storageService).copy("uploads/abc/content", expectedBlobKey);
+        Mockito.verify(storageService, Mockito.never()).store(Mockito.eq(expectedBlobKey), Mockito.any());
+
+        final var actualResource = target.getResource(aVideoId, VIDEO).orElseThrow();
+        Assertions.assertArrayEquals(content, actualResource.content());
+        Assertions.assertEquals("direct.mp4", actualResource.name());
+    }
+
+    @Test
+    void givenAStagedUploadOfAnExistingBlob_whenCallsStore_shouldNotCopyIt() {
+        // given
+        final var content = "direct".getBytes();
+        final var aMedia = target.storeAudioVideo(VideoID.unique(), VideoResource.with(VIDEO, resource(content, "a.mp4")));
+        final var aResource = staged("abc", content);
+        Mockito.clearInvocations(storageService);
+
+        // when
+        final var actualMedia = target.storeAudioVideo(VideoID.unique(), VideoResource.with(VIDEO, aResource));
+
+        // then
+        Assertions.assertEquals(aMedia.rawLocation(), actualMedia.rawLocation());
+        Assertions.assertEquals(2, storageService.list("refs/").size());
+        Mockito.verify(storageService, Mockito.never()).copy(Mockito.any(), Mockito.any());
+        Mockito.verify(storageService, Mockito.never()).store(Mockito.startsWith("blobs/"), Mockito.any());
+    }
+
+    @Test
+    void givenACachedVideo_whenCallsGetResourceAgain_shouldServeItFromDiskWithoutReadingTheBlob() throws IOException {
+        // given
+        final var props = new StorageProperties();
+        props.setLocationPattern("videoId-{videoId}");
+        props.setFilenamePattern("type-{type}");
+        final var diskCache = new AudioVideoDiskCache(cleanupDirectory.resolve("media-cache"), 1024, Runnable::run);
+        final var aTarget = new DefaultMediaResourceGateway(
+                props,
+                storageService,
+                cleanupQueue,
+                new ImageMediaCache(props),
+                diskCache,
+                new ImageRenditionGenerator(),
+                MediaSpool.disabled(),
+                MediaReplicationQueue.disabled()
+        );
+
+        final var aVideoId = VideoID.unique();
+        final var aMedia = aTarget.storeAudioVideo(aVideoId, VideoResource.with(TRAILER, resource("trailer".getBytes(), "trailer.mp4")));
+        aTarget.getResource(aVideoId, TRAILER).orElseThrow().content();
+        Mockito.clearInvocations(storageService);
+
+        // when
+        final var actualResource = aTarget.getResource(aVideoId, TRAILER).orElseThrow();
+
+        // then
+        Assertions.assertArrayEquals("trailer".getBytes(), actualResource.content());
+        Assertions.assertEquals("trailer.mp4", actualResource.name());
+        Mockito.verify(storageService, Mockito.never()).get(aMedia.rawLocation());
+
+        // when
+        aTarget.purgeResources(aVideoId, 10);
+
+        // then
+        Assertions.assertTrue(diskCache.get(aMedia.rawLocation()).isEmpty());
+    }
+
+    @Test
+    void givenWriteBehind_whenCallsStoreAudioVideo_shouldServeFromTheSpoolUntilReplicated() {
+        // given
+        final var props = new StorageProperties();
+        props.setLocationPattern("videoId-{videoId}");
+        props.setFilenamePattern("type-{type}");
+        final var spool = new MediaSpool(cleanupDirectory.resolve("spool"));
+        final var replicationQueue = new MediaReplicationQueue(cleanupDirectory.resolve("requests"));
+        final var aTarget = new DefaultMediaResourceGateway(
+                props,
+                storageService,
+                cleanupQueue,
+                new ImageMediaCache(props),
+                AudioVideoDiskCache.disabled(),
+                new ImageRenditionGenerator(),
+                spool,
+                replicationQueue
+        );
+
+        final var content = "video".getBytes();
+        final var aVideoId = VideoID.unique();
+
+        // when
+        final var aMedia = aTarget.storeAudioVideo(aVideoId, VideoResource.with(VIDEO, resource(content, "movie.mp4")));
+
+        // then
+        Assertions.assertEquals(MediaStatus.REPLICATING, aMedia.status());
+        Assertions.assertTrue(storageService.get(aMedia.rawLocation()).isEmpty());
+        Assertions.assertTrue(spool.contains(aMedia.rawLocation()));
+        Assertions.assertArrayEquals(content, aTarget.getResource(aVideoId, VIDEO).orElseThrow().content());
+        Assertions.assertEquals(content.length, aTarget.getMetadata(aVideoId, VIDEO, ImageRendition.ORIGINAL).orElseThrow().size());
+        Assertions.assertTrue(aTarget.getSignedUrl(aVideoId, VIDEO, ImageRendition.ORIGINAL, Duration.ofMinutes(5)).isEmpty());
+
+        final var actualRequests = replicationQueue.pending(Instant.now());
+        Assertions.assertEquals(1, actualRequests.size());
+        Assertions.assertEquals(aMedia.id(), actualRequests.get(0).mediaId());
+
+        // when
+        final var actualReplicated = aTarget.replicate(aMedia.rawLocation());
+
+        // then
+        Assertions.assertTrue(actualReplicated);
+        Assertions.assertFalse(spool.contains(aMedia.rawLocation()));
+        Assertions.assertArrayEquals(content, storageService.get(aMedia.rawLocation()).orElseThrow().content());
+        Assertions.assertArrayEquals(content, aTarget.getResource(aVideoId, VIDEO).orElseThrow().content());
+        Assertions.assertTrue(aTarget.getSignedUrl(aVideoId, VIDEO, ImageRendition.ORIGINAL, Duration.ofMinutes(5)).isPresent());
+    }
+
+    private static byte[] png(final int width, final int height) throws IOException {
+        final var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final var out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private Resource staged(final String anUploadId, final byte[] content) {
+        final var stagedKey = "uploads/%s/content".formatted(anUploadId);
+        storageService.store(stagedKey, Resource.with(content, HashingUtils.checksum(content), "video/mp4", "content"));
+
+        return Resource.with(
+                new StagedContentStream(anUploadId, stagedKey, Hashing.sha256().hashBytes(content).toString(), storageService.get(stagedKey).orElseThrow().stream()),
+                content.length,
+                HashingUtils.checksum(content),
+                "video/mp4",
+                "direct.mp4"
+        );
+    }
+
+    private static Resource repeatable(final byte[] content, final String name) {
+        return Resource.with(
+                ContentStream.repeatable(() -> new ByteArrayInputStream(content)),
+                content.length,
+                HashingUtils.checksum(content),
+                "video/mp4",
+                name
+        );
+    }
+
+    private static Resource resource(final byte[] content, final String name) {
+        return Resource.with(
+                () -> new ByteArrayInputStream(content),
+                content.length,
+                HashingUtils.checksum(content),
+                name.endsWith(".mp4") ? "video/mp4" : "image/png",
+                name
+        );
+    }
+}
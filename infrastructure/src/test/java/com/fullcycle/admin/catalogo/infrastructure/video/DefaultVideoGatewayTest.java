@@ -0,0 +1,161 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.domain.video.VideoSearchQuery;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.fullcycle.admin.catalogo.infrastructure.services.EventService;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.admin.catalogo.infrastructure.video.search.VideoSearchIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+@MySQLGatewayTest
+@Import({DefaultVideoGateway.class, VideoSearchIndex.class})
+class DefaultVideoGatewayTest {
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private VideoSearchIndex searchIndex;
+
+    @MockBean
+    @VideoCreatedQueue
+    private EventService eventService;
+
+    @Test
+    void givenVideosWithAndWithoutRating_whenWalksFindAllWithCursorsInBothDirections_shouldReturnEveryVideoOnceInOrder() {
+        // given
+        videoRepository.saveAllAndFlush(List.of(
+                VideoJpaEntity.from(newVideo("System Design", Rating.L)),
+                VideoJpaEntity.from(newVideo("Clean Code", null)),
+                VideoJpaEntity.from(newVideo("Domain Driven Design", Rating.L)),
+                VideoJpaEntity.from(newVideo("Refactoring", null)),
+                VideoJpaEntity.from(newVideo("Microservices", Rating.AGE_10))
+        ));
+
+        final var persisted = videoRepository.findAll().stream().map(VideoJpaEntity::toAggregate).toList();
+        // Ratings are stored by their label, which is what the database sorts on
+        final Comparator<Video> ascending = Comparator.comparing((Video it) -> it.getRating() == null ? null : it.getRating().getName(),
+                        Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(it -> it.getId().getValue());
+
+        final var expectedAscending = persisted.stream().sorted(ascending).map(it -> it.getId().getValue()).toList();
+        final var expectedDescending = persisted.stream().sorted(ascending.reversed()).map(it -> it.getId().getValue()).toList();
+
+        // when
+        final var actualAscending = walk("asc");
+        final var actualDescending = walk("desc");
+
+        // then
+        Assertions.assertEquals(expectedAscending, actualAscending);
+        Assertions.assertEquals(expectedDescending, actualDescending);
+    }
+
+    @Test
+    void givenACursorIssuedForAnotherDirection_whenCallsFindAll_shouldThrowDomainException() {
+        // given
+        videoRepository.saveAllAndFlush(List.of(
+                VideoJpaEntity.from(newVideo("System Design", Rating.L)),
+                VideoJpaEntity.from(newVideo("Clean Code", null)),
+                VideoJpaEntity.from(newVideo("Refactoring", Rating.AGE_10))
+        ));
+
+        final var aCursor = videoGateway.findAll(query("rating", "asc", "")).next();
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> videoGateway.findAll(query("rating", "desc", aCursor)));
+
+        // then
+        Assertions.assertNotNull(aCursor);
+        Assertions.assertEquals("'after' was issued for direction 'asc' but the query sorts 'desc'",
+                actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenAVideoSavedInAnOpenTransaction_whenSearches_shouldOnlyIndexItAfterCommit() {
+        // given
+        final var aVideo = newVideo("System Design", Rating.L);
+
+        // when
+        videoGateway.create(aVideo);
+
+        // then
+        Assertions.assertTrue(videoRepository.existsById(aVideo.getId().getValue()));
+        Assertions.assertTrue(searchIndex.search("system").isEmpty());
+    }
+
+    @Test
+    void givenMoreMatchesThanACandidateChunk_whenSearchesSortedByTitle_shouldCountAndPageThroughEveryMatch() {
+        // given
+        final var videos = new ArrayList<VideoJpaEntity>();
+        for (int i = 0; i < 1_001; i++) {
+            videos.add(VideoJpaEntity.from(newVideo("Pipeline %04d".formatted(i), Rating.L)));
+        }
+        videoRepository.saveAllAndFlush(videos);
+        searchIndex.refresh();
+
+        // when
+        final var actualFirstPage = videoGateway.findAll(
+                new VideoSearchQuery(0, 10, "pipeline", "title", "asc", Set.of(), Set.of(), Set.of()));
+        final var actualLastPage = videoGateway.findAll(
+                new VideoSearchQuery(100, 10, "pipeline", "title", "asc", Set.of(), Set.of(), Set.of()));
+
+        // then
+        Assertions.assertEquals(1_001, actualFirstPage.total());
+        Assertions.assertEquals("Pipeline 0000", actualFirstPage.items().get(0).title());
+        Assertions.assertEquals(1, actualLastPage.items().size());
+        Assertions.assertEquals("Pipeline 1000", actualLastPage.items().get(0).title());
+    }
+
+    @Test
+    void givenVideosWrittenBehindTheIndex_whenRefreshes_shouldSearchTheDatabaseContent() {
+        // given
+        final var aVideo = newVideo("Observability", Rating.L);
+        videoRepository.saveAndFlush(VideoJpaEntity.from(aVideo));
+        Assertions.assertTrue(searchIndex.search("observability").isEmpty());
+
+        // when
+        searchIndex.refresh();
+
+        // then
+        Assertions.assertEquals(aVideo.getId().getValue(), searchIndex.search("observability").get(0).id());
+    }
+
+    private List<String> walk(final String direction) {
+        final var ids = new ArrayList<String>();
+        var after = "";
+        do {
+            final var aPage = videoGateway.findAll(query("rating", direction, after));
+            aPage.items().stream().map(VideoPreview::id).forEach(ids::add);
+            after = aPage.next();
+        } while (after != null);
+        return ids;
+    }
+
+    private static VideoSearchQuery query(final String sort, final String direction, final String after) {
+        return new VideoSearchQuery(0, 2, "", sort, direction, Set.of(), Set.of(), Set.of(), after);
+    }
+
+    private static Video newVideo(final String title, final Rating rating) {
+        return Video.newVideo(title, "Uma descrição", Year.of(2022), 120.10, false, false, rating, Set.of(), Set.of(), Set.of());
+    }
+}
@@ -0,0 +1,68 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static com.fullcycle.admin.catalogo.domain.video.ImageRendition.ORIGINAL;
+import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.*;
+
+class ImageMediaCacheTest extends UnitTest {
+
+    @Test
+    void givenMoreImagesThanTheBudget_whenCallsPut_shouldEvictByWeight() {
+        // given
+        final var props = new StorageProperties();
+        props.setImageCacheSize(DataSize.ofKilobytes(64));
+        final var target = new ImageMediaCache(props);
+
+        // when
+        for (int i = 0; i < 32; i++) {
+            target.put(VideoID.unique(), THUMBNAIL, ORIGINAL, "checksum-" + i, image(8 * 1024));
+        }
+
+        // then
+        Assertions.assertTrue(target.weight() <= DataSize.ofKilobytes(64).toBytes());
+        Assertions.assertTrue(target.weight() > 0);
+    }
+
+    @Test
+    void givenAnImageLargerThanTheEntryLimit_whenCallsPut_shouldNotCacheIt() {
+        // given
+        final var props = new StorageProperties();
+        props.setImageCacheSize(DataSize.ofKilobytes(64));
+        final var target = new ImageMediaCache(props);
+        final var aVideoId = VideoID.unique();
+
+        // when
+        target.put(aVideoId, BANNER, ORIGINAL, "checksum", image(32 * 1024));
+
+        // then
+        Assertions.assertTrue(target.get(aVideoId, BANNER, ORIGINAL).isEmpty());
+        Assertions.assertEquals(0, target.weight());
+    }
+
+    @Test
+    void givenACachedImage_whenLookingUpAnotherChecksum_shouldMiss() {
+        // given
+        final var target = new ImageMediaCache(new StorageProperties());
+        final var aVideoId = VideoID.unique();
+        target.put(aVideoId, BANNER, ORIGINAL, "checksum", image(1024));
+
+        // when
+        final var actualHit = target.get(aVideoId, BANNER, ORIGINAL, "checksum");
+        final var actualMiss = target.get(aVideoId, BANNER, ORIGINAL, "another-checksum");
+
+        // then
+        Assertions.assertTrue(actualHit.isPresent());
+        Assertions.assertTrue(actualMiss.isEmpty());
+    }
+
+    private static Resource image(final int size) {
+        return Resource.with(new byte[size], "checksum", "image/png", "image.png");
+    }
+}
@@ -0,0 +1,61 @@
+package com.fullcycle.admin.catalogo.infrastructure.video;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.ImageRendition;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+class ImageRenditionGeneratorTest extends UnitTest {
+
+    @Test
+    void givenAnImageWithinThePixelCap_whenCallsGenerate_shouldRenderTheRenditions() throws IOException {
+        // given
+        final var target = new ImageRenditionGenerator(1600 * 900);
+
+        // when
+        final var actualRenditions = target.generate(png(1600, 900));
+
+        // then
+        Assertions.assertTrue(actualRenditions.containsKey(ImageRendition.SMALL));
+        Assertions.assertTrue(actualRenditions.containsKey(ImageRendition.PLACEHOLDER));
+    }
+
+    @Test
+    void givenAnImageAboveThePixelCap_whenCallsGenerate_shouldSkipTheRenditions() throws IOException {
+        // given
+        final var target = new ImageRenditionGenerator(1600 * 900 - 1);
+
+        // when
+        final var actualRenditions = target.generate(png(1600, 900));
+
+        // then
+        Assertions.assertTrue(actualRenditions.isEmpty());
+    }
+
+    @Test
+    void givenContentThatIsNotAnImage_whenCallsGenerate_shouldReturnNoRenditions() {
+        // given
+        final var content = "not an image".getBytes();
+        final var target = new ImageRenditionGenerator();
+
+        // when
+        final var actualRenditions = target.generate(Resource.with(content, HashingUtils.checksum(content), "image/png", "banner.png"));
+
+        // then
+        Assertions.assertTrue(actualRenditions.isEmpty());
+    }
+
+    private static Resource png(final int width, final int height) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        final var content = out.toByteArray();
+        return Resource.with(content, HashingUtils.checksum(content), "image/png", "banner.png");
+    }
+}
@@ -0,0 +1,99 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.cleanup;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.video.DefaultMediaResourceGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MediaCleanupWorkerTest extends UnitTest {
+
+    @TempDir
+    Path directory;
+
+    private MediaCleanupQueue queue;
+
+    private DefaultMediaResourceGateway mediaResourceGateway;
+
+    private MediaCleanupWorker target;
+
+    @BeforeEach
+    void setUp() {
+        final var props = new StorageProperties();
+        props.setCleanupDirectory(directory.toString());
+        props.setCleanupBatchSize(10);
+
+        this.queue = new MediaCleanupQueue(props);
+        this.mediaResourceGateway = Mockito.mock(DefaultMediaResourceGateway.class);
+        this.target = new MediaCleanupWorker(queue, mediaResourceGateway, props);
+    }
+
+    @Test
+    void givenCoalescedRequests_whenDrains_shouldPurgeEachVideoOnceAndCompleteTheRequest() {
+        // given
+        final var aVideoId = VideoID.unique();
+        final var anotherVideoId = VideoID.unique();
+
+        queue.enqueue(aVideoId);
+        queue.enqueue(aVideoId);
+        queue.enqueue(anotherVideoId);
+
+        // when
+        final var actualPurged = target.drain();
+
+        // then
+        Assertions.assertEquals(2, actualPurged);
+        Assertions.assertTrue(queue.pending(Instant.now()).isEmpty());
+
+        verify(mediaResourceGateway, times(1)).purgeResources(eq(aVideoId), eq(10));
+        verify(mediaResourceGateway, times(1)).purgeResources(eq(anotherVideoId), eq(10));
+    }
+
+    @Test
+    void givenAFailingPurge_whenDrains_shouldKeepTheRequestWithBackoff() {
+        // given
+        final var aVideoId = VideoID.unique();
+        queue.enqueue(aVideoId);
+
+        doThrow(new IllegalStateException("Storage unavailable"))
+                .when(mediaResourceGateway).purgeResources(any(), anyInt());
+
+        // when
+        final var actualPurged = target.drain();
+
+        // then
+        Assertions.assertEquals(0, actualPurged);
+        Assertions.assertTrue(queue.pending(Instant.now()).isEmpty());
+
+        final var actualRequests = queue.pending(Instant.now().plusSeconds(3600));
+        Assertions.assertEquals(1, actualRequests.size());
+        Assertions.assertEquals(1, actualRequests.get(0).attempts());
+
+        verify(mediaResourceGateway, times(3)).purgeResources(eq(aVideoId), eq(10));
+    }
+
+    @Test
+    void givenNoCleanupDirectory_whenCreatesTheQueue_shouldFailFast() {
+        // given
+        final var props = new StorageProperties();
+        props.setCleanupDirectory(" ");
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> new MediaCleanupQueue(props));
+
+        // then
+        Assertions.assertEquals("'storage.catalogo-videos.cleanup-directory' should point to a persistent directory", actualException.getMessage());
+    }
+}
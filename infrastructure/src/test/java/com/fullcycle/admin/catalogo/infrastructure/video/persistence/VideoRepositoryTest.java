@@ -0,0 +1,119 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.persistence;
+
+import com.fullcycle.admin.catalogo.MySQLGatewayTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMember;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberType;
+import com.fullcycle.admin.catalogo.domain.category.Category;
+import com.fullcycle.admin.catalogo.domain.genre.Genre;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.fullcycle.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@MySQLGatewayTest
+class VideoRepositoryTest {
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private CastMemberRepository castMemberRepository;
+
+    @Test
+    void givenVideosMatchingSeveralFilterValues_whenCallsFindAll_thenShouldReturnEachVideoOnceWithAnExactTotal() {
+        // Given
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var acao = Genre.newGenre("Ação", true);
+        final var drama = Genre.newGenre("Drama", true);
+        final var wesley = CastMember.newMember("Wesley FullCycle", CastMemberType.ACTOR);
+        final var gabriel = CastMember.newMember("Gabriel Hernandes", CastMemberType.DIRECTOR);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.from(acao), GenreJpaEntity.from(drama)));
+        castMemberRepository.saveAllAndFlush(List.of(CastMemberJpaEntity.from(wesley), CastMemberJpaEntity.from(gabriel)));
+
+        final var systemDesign = newVideo("System Design", Set.of(filmes, series), Set.of(acao, drama), Set.of(wesley, gabriel));
+        final var cleanCode = newVideo("Clean Code", Set.of(filmes), Set.of(drama), Set.of(gabriel));
+        final var microsservicos = newVideo("Microsserviços", Set.of(series), Set.of(acao), Set.of());
+
+        videoRepository.saveAllAndFlush(List.of(
+                VideoJpaEntity.from(systemDesign),
+                VideoJpaEntity.from(cleanCode),
+                VideoJpaEntity.from(microsservicos)
+        ));
+
+        final var page = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title"));
+
+        // When
+        final var actualPage = videoRepository.findAll(
+                null,
+                Set.of(wesley.getId().getValue(), gabriel.getId().getValue()),
+                Set.of(filmes.getId().getValue(), series.getId().getValue()),
+                Set.of(acao.getId().getValue(), drama.getId().getValue()),
+                page
+        );
+
+        // Then
+        assertEquals(2, actualPage.getTotalElements());
+        assertEquals(
+                List.of(cleanCode.getId().getValue(), systemDesign.getId().getValue()),
+                actualPage.map(VideoPreview::id).toList()
+        );
+
+        // When
+        final var actualFiltered = videoRepository.findAll(
+                "%MICRO%",
+                null,
+                Set.of(series.getId().getValue()),
+                null,
+                page
+        );
+
+        // Then
+        assertEquals(1, actualFiltered.getTotalElements());
+        assertEquals(microsservicos.getId().getValue(), actualFiltered.getContent().get(0).id());
+    }
+
+    private static Video newVideo(
+            final String aTitle,
+            final Set<Category> categories,
+            final Set<Genre> genres,
+            final Set<CastMember> members
+    ) {
+        return Video.newVideo(
+                aTitle,
+                "Uma descrição",
+                Year.of(2022),
+                120.0,
+                false,
+                false,
+                Rating.L,
+                categories.stream().map(Category::getId).collect(Collectors.toSet()),
+                genres.stream().map(Genre::getId).collect(Collectors.toSet()),
+                members.stream().map(CastMember::getId).collect(Collectors.toSet())
+        );
+    }
+}
@@ -0,0 +1,185 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.replication;
+
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
+import com.fullcycle.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.castmember.CastMemberID;
+import com.fullcycle.admin.catalogo.domain.category.CategoryID;
+import com.fullcycle.admin.catalogo.domain.genre.GenreID;
+import com.fullcycle.admin.catalogo.domain.video.AudioVideoMedia;
+import com.fullcycle.admin.catalogo.domain.video.MediaStatus;
+import com.fullcycle.admin.catalogo.domain.video.Rating;
+import com.fullcycle.admin.catalogo.domain.video.Video;
+import com.fullcycle.admin.catalogo.domain.video.VideoGateway;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.video.DefaultMediaResourceGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Year;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.fullcycle.admin.catalogo.domain.video.VideoMediaType.VIDEO;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MediaReplicationWorkerTest extends UnitTest {
+
+    @TempDir
+    Path directory;
+
+    private MediaReplicationQueue queue;
+
+    private DefaultMediaResourceGateway mediaResourceGateway;
+
+    private VideoGateway videoGateway;
+
+    private UpdateMediaStatusUseCase updateMediaStatusUseCase;
+
+    private MediaReplicationWorker target;
+
+    @BeforeEach
+    void setUp() {
+        this.queue = new MediaReplicationQueue(directory);
+        this.mediaResourceGateway = Mockito.mock(DefaultMediaResourceGateway.class);
+        this.videoGateway = Mockito.mock(VideoGateway.class);
+        this.updateMediaStatusUseCase = Mockito.mock(UpdateMediaStatusUseCase.class);
+        this.target = new MediaReplicationWorker(queue, mediaResourceGateway, videoGateway, updateMediaStatusUseCase, new StorageProperties());
+    }
+
+    @Test
+    void givenAReplicatedBlob_whenDrains_shouldMarkTheMediaAsPendingAndCompleteTheRequest() {
+        // given
+        final var aMedia = AudioVideoMedia.replicating("abc", "movie.mp4", "blobs/abc");
+        final var aVideo = newVideo().updateVideoMedia(aMedia);
+        queue.enqueue(aMedia.id(), aVideo.getId(), VIDEO, aMedia.rawLocation());
+
+        when(mediaResourceGateway.replicate(aMedia.rawLocation())).thenReturn(true);
+        when(videoGateway.findById(aVideo.getId())).thenReturn(Optional.of(aVideo));
+
+        // when
+        final var actualReplicated = target.drain();
+
+        // then
+        Assertions.assertEquals(1, actualReplicated);
+        Assertions.assertTrue(queue.pending(Instant.now().plusSeconds(3600)).isEmpty());
+
+        final var captor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
+        verify(updateMediaStatusUseCase, times(1)).execute(captor.capture());
+        Assertions.assertEquals(MediaStatus.PENDING, captor.getValue().status());
+        Assertions.assertEquals(aVideo.getId().getValue(), captor.getValue().videoId());
+        Assertions.assertEquals(aMedia.id(), captor.getValue().resourceId());
+    }
+
+    @Test
+    void givenAFailingUpload_whenDrains_shouldKeepTheRequestWithBackoff() {
+        // given
+        final var aMedia = AudioVideoMedia.replicating("abc", "movie.mp4", "blobs/abc");
+        final var aVideo = newVideo().updateVideoMedia(aMedia);
+        queue.enqueue(aMedia.id(), aVideo.getId(), VIDEO, aMedia.rawLocation());
+
+        when(mediaResourceGateway.replicate(any())).thenThrow(new IllegalStateException("Storage unavailable"));
+
+        // when
+        final var actualReplicated = target.drain();
+
+        // then
+        Assertions.assertEquals(0, actualReplicated);
+        Assertions.assertTrue(queue.pending(Instant.now()).isEmpty());
+
+        final var actualRequests = queue.pending(Instant.now().plusSeconds(3600));
+        Assertions.assertEquals(1, actualRequests.size());
+        Assertions.assertEquals(1, actualRequests.get(0).attempts());
+
+        verify(updateMediaStatusUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAVideoNotYetPersisted_whenDrains_shouldRetryTheStatusUpdateLater() {
+        // given
+        final var aMedia = AudioVideoMedia.replicating("abc", "movie.mp4", "blobs/abc");
+        final var aVideo = newVideo();
+        queue.enqueue(aMedia.id(), aVideo.getId(), VIDEO, aMedia.rawLocation());
+
+        when(mediaResourceGateway.replicate(aMedia.rawLocation())).thenReturn(true);
+        when(mediaResourceGateway.isAttached(aVideo.getId(), VIDEO, aMedia.rawLocation())).thenReturn(true);
+        when(videoGateway.findById(eq(aVideo.getId()))).thenReturn(Optional.of(aVideo));
+
+        // when
+        final var actualReplicated = target.drain();
+
+        // then
+        Assertions.assertEquals(0, actualReplicated);
+        Assertions.assertEquals(1, queue.pending(Instant.now().plusSeconds(3600)).size());
+        verify(updateMediaStatusUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAMediaStillAttachedAfterManyAttempts_whenDrains_shouldKeepRetrying() {
+        // given
+        final var aMedia = AudioVideoMedia.replicating("abc", "movie.mp4", "blobs/abc");
+        final var aVideo = newVideo();
+        queue.enqueue(aMedia.id(), aVideo.getId(), VIDEO, aMedia.rawLocation());
+
+        when(mediaResourceGateway.replicate(aMedia.rawLocation())).thenReturn(true);
+        when(mediaResourceGateway.isAttached(aVideo.getId(), VIDEO, aMedia.rawLocation())).thenReturn(true);
+        when(videoGateway.findById(eq(aVideo.getId()))).thenReturn(Optional.empty());
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            final var aRequest = queue.pending(Instant.now().plus(Duration.ofDays(1))).get(0);
+            queue.retry(aRequest, Instant.EPOCH);
+            target.drain();
+        }
+
+        // then
+        final var actualRequests = queue.pending(Instant.now().plus(Duration.ofDays(1)));
+        Assertions.assertEquals(1, actualRequests.size());
+        Assertions.assertTrue(actualRequests.get(0).attempts() >= 10);
+        verify(updateMediaStatusUseCase, never()).execute(any());
+    }
+
+    @Test
+    void givenAMediaNoLongerAttached_whenDrains_shouldDropTheRequest() {
+        // given
+        final var aMedia = AudioVideoMedia.replicating("abc", "movie.mp4", "blobs/abc");
+        final var aVideo = newVideo();
+        queue.enqueue(aMedia.id(), aVideo.getId(), VIDEO, aMedia.rawLocation());
+
+        when(mediaResourceGateway.replicate(aMedia.rawLocation())).thenReturn(true);
+        when(mediaResourceGateway.isAttached(aVideo.getId(), VIDEO, aMedia.rawLocation())).thenReturn(false);
+        when(videoGateway.findById(eq(aVideo.getId()))).thenReturn(Optional.of(aVideo));
+
+        // when
+        final var actualReplicated = target.drain();
+
+        // then
+        Assertions.assertEquals(1, actualReplicated);
+        Assertions.assertTrue(queue.pending(Instant.now().plus(Duration.ofDays(1))).isEmpty());
+        verify(updateMediaStatusUseCase, never()).execute(any());
+    }
+
+    private static Video newVideo() {
+        return Video.newVideo(
+                "System Design Interviews",
+                "Uma descrição",
+                Year.of(2022),
+                120.10,
+                false,
+                false,
+                Rating.L,
+                Set.of(CategoryID.unique()),
+                Set.of(GenreID.unique()),
+                Set.of(CastMemberID.unique())
+        );
+    }
+}
@@ -0,0 +1,127 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.search;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.video.VideoPreview;
+import com.fullcycle.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VideoSearchIndexTest extends UnitTest {
+
+    private VideoRepository videoRepository;
+
+    private VideoSearchIndex target;
+
+    @BeforeEach
+    void setUp() {
+        videoRepository = mock(VideoRepository.class);
+        target = new VideoSearchIndex(videoRepository);
+    }
+
+    @Test
+    void givenIndexedVideos_whenSearches_shouldRankTitleMatchesFirstAndIgnoreAccents() {
+        // given
+        target.index("1", "Arquitetura de Microsserviços", "Como dividir um monólito");
+        target.index("2", "System Design", "Microsserviços, filas e cache na prática");
+        target.index("3", "Clean Code", "Código limpo");
+
+        // when
+        final var actualHits = target.search("microsservicos");
+
+        // then
+        Assertions.assertEquals(List.of("1", "2"), actualHits.stream().map(VideoSearchIndex.Hit::id).toList());
+        Assertions.assertTrue(actualHits.get(0).score() > actualHits.get(1).score());
+    }
+
+    @Test
+    void givenSeveralTokens_whenSearches_shouldRequireEveryTokenAndMatchPrefixes() {
+        // given
+        target.index("1", "Arquitetura de Microsserviços", "Como dividir um monólito");
+        target.index("2", "System Design", "Microsserviços, filas e cache na prática");
+
+        // when
+        final var actualHits = target.search("micro FILA");
+
+        // then
+        Assertions.assertEquals(List.of("2"), actualHits.stream().map(VideoSearchIndex.Hit::id).toList());
+        Assertions.assertTrue(target.search("micro kafka").isEmpty());
+    }
+
+    @Test
+    void givenALimit_whenSearches_shouldKeepOnlyTheBestRankedHits() {
+        // given
+        target.index("1", "Clean Code", "Clean code, clean tests");
+        target.index("2", "Clean Architecture", null);
+        target.index("3", "Refactoring", "Clean code");
+
+        // when
+        final var actualHits = target.search("clean", 2);
+
+        // then
+        Assertions.assertEquals(
+                target.search("clean").subList(0, 2).stream().map(VideoSearchIndex.Hit::id).toList(),
+                actualHits.stream().map(VideoSearchIndex.Hit::id).toList()
+        );
+    }
+
+    @Test
+    void givenAnUpdatedAndARemovedVideo_whenSearches_shouldReflectTheChanges() {
+        // given
+        target.index("1", "Clean Code", null);
+        target.index("2", "Clean Architecture", null);
+
+        // when
+        target.index("1", "Refactoring", null);
+        target.remove("2");
+
+        // then
+        Assertions.assertTrue(target.search("clean").isEmpty());
+        Assertions.assertEquals("1", target.search("refactor").get(0).id());
+        Assertions.assertEquals(1, target.size());
+    }
+
+    @Test
+    void givenPersistedVideos_whenStarts_shouldBuildTheIndexFromTheRepository() {
+        // given
+        final var now = Instant.now();
+        when(videoRepository.findPreviewsAfter(eq(""), any()))
+                .thenReturn(List.of(new VideoPreview("1", "Clean Code", "Código limpo", now, now)));
+
+        // when
+        target.afterPropertiesSet();
+
+        // then
+        Assertions.assertEquals(1, target.size());
+        Assertions.assertEquals("1", target.search("codigo").get(0).id());
+    }
+
+    @Test
+    void givenAVideoIndexedWhileRefreshing_whenRefreshes_shouldKeepItInTheNewIndex() {
+        // given
+        final var now = Instant.now();
+        target.index("2", "Old title", "");
+        when(videoRepository.findPreviewsAfter(eq(""), any()))
+                .thenAnswer(invocation -> {
+                    target.index("3", "Refactoring", "Melhorando o design");
+                    return List.of(new VideoPreview("1", "Clean Code", "Código limpo", now, now));
+                });
+
+        // when
+        target.refresh();
+
+        // then
+        Assertions.assertEquals(2, target.size());
+        Assertions.assertEquals("1", target.search("clean").get(0).id());
+        Assertions.assertEquals("3", target.search("refactoring").get(0).id());
+        Assertions.assertTrue(target.search("old").isEmpty());
+    }
+}
@@ -0,0 +1,180 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.resource.Resource;
+import com.fullcycle.admin.catalogo.domain.video.DirectUpload;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.Instant;
+
+class DirectUploadServiceTest extends UnitTest {
+
+    private static final VideoID VIDEO_ID = VideoID.from("123");
+    private static final VideoMediaType TYPE = VideoMediaType.VIDEO;
+    private static final byte[] CONTENT = "0123456789".getBytes();
+    private static final String SHA256 = HashingUtils.sha256(new ByteArrayInputStream(CONTENT));
+
+    private InMemoryStorageService storageService;
+
+    private DirectUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        final var props = new StorageProperties();
+        props.setDirectUploadTtl(Duration.ofMinutes(10));
+        props.setUploadTtl(Duration.ofHours(1));
+
+        this.storageService = new InMemoryStorageService();
+        this.service = new DirectUploadService(storageService, props);
+    }
+
+    @Test
+    void givenAnObjectWrittenToStorage_whenCallsComplete_shouldReturnTheStagedResource() {
+        // given
+        final var expectedChecksum = HashingUtils.checksum(CONTENT);
+        final var anUpload = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4", CONTENT.length, expectedChecksum, SHA256);
+
+        givenAWrittenObject(anUpload, CONTENT);
+
+        // when
+        final var actualResource = service.complete(VIDEO_ID, TYPE, anUpload.id(), null, (long) CONTENT.length);
+
+        // then
+        Assertions.assertTrue(anUpload.url().url().contains("key=uploads%2F" + anUpload.id() + "%2Fcontent"));
+        Assertions.assertTrue(actualResource.stream() instanceof StagedContentStream);
+        Assertions.assertEquals(anUpload.id(), ((StagedContentStream) actualResource.stream()).uploadId());
+        Assertions.assertEquals(SHA256, ((StagedContentStream) actualResource.stream()).sha256());
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals(CONTENT.length, actualResource.size());
+        Assertions.assertEquals("video/mp4", actualResource.contentType());
+        Assertions.assertEquals("video.mp4", actualResource.name());
+        Assertions.assertArrayEquals(CONTENT, actualResource.content());
+
+        // when
+        service.delete(anUpload.id());
+
+        // then
+        Assertions.assertTrue(storageService.storage().isEmpty());
+    }
+
+    @Test
+    void givenAMismatchingObject_whenCallsComplete_shouldThrowDomainException() {
+        // given
+        final var anUpload = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4", CONTENT.length, HashingUtils.checksum(CONTENT), SHA256);
+
+        // when / then
+        final var missing = Assertions.assertThrows(DomainException.class,
+                () -> service.complete(VIDEO_ID, TYPE, anUpload.id(), null, null));
+        Assertions.assertEquals("Upload %s was not written to storage".formatted(anUpload.id()), missing.getMessage());
+
+        givenAWrittenObject(anUpload, "012345".getBytes());
+        final var wrongSize = Assertions.assertThrows(DomainException.class,
+                () -> service.complete(VIDEO_ID, TYPE, anUpload.id(), null, null));
+        Assertions.assertEquals("Size mismatch for upload %s: expected 10 but was 6".formatted(anUpload.id()), wrongSize.getMessage());
+
+        givenAWrittenObject(anUpload, "9876543210".getBytes());
+        final var wrongChecksum = Assertions.assertThrows(DomainException.class,
+                () -> service.complete(VIDEO_ID, TYPE, anUpload.id(), null, null));
+        Assertions.assertTrue(wrongChecksum.getMessage().startsWith("Checksum mismatch for upload %s".formatted(anUpload.id())));
+
+        givenAWrittenObject(anUpload, "9876543210".getBytes());
+        final var otherChecksum = Assertions.assertThrows(DomainException.class,
+                () -> service.complete(VIDEO_ID, TYPE, anUpload.id(), HashingUtils.checksum("9876543210".getBytes()), null));
+        Assertions.assertTrue(otherChecksum.getMessage().startsWith("Checksum mismatch for upload %s".formatted(anUpload.id())));
+
+        Assertions.assertThrows(NotFoundException.class,
+                () -> service.complete(VideoID.from("456"), TYPE, anUpload.id(), null, null));
+    }
+
+    @Test
+    void givenAnObjectNotMatchingTheDeclaredSha256_whenCallsComplete_shouldThrowDomainException() {
+        // given
+        final var aSha256 = HashingUtils.sha256(new ByteArrayInputStream("9876543210".getBytes()));
+        final var anUpload = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4", CONTENT.length, HashingUtils.checksum(CONTENT), aSha256);
+
+        givenAWrittenObject(anUpload, CONTENT);
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> service.complete(VIDEO_ID, TYPE, anUpload.id(), null, null));
+
+        // then
+        Assertions.assertEquals("SHA-256 mismatch for upload %s: expected %s but was %s".formatted(anUpload.id(), aSha256, SHA256),
+                actualException.getMessage());
+    }
+
+    @Test
+    void givenAnInvalidSha256_whenCallsCreate_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "'sha256' should be the SHA-256 of the content in hex";
+
+        // when
+        final var missing = Assertions.assertThrows(DomainException.class,
+                () -> service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4", CONTENT.length, HashingUtils.checksum(CONTENT), null));
+        final var malformed = Assertions.assertThrows(DomainException.class,
+                () -> service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4", CONTENT.length, HashingUtils.checksum(CONTENT), "abc"));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, missing.getErrors().get(0).message());
+        Assertions.assertEquals(expectedErrorMessage, malformed.getErrors().get(0).message());
+        Assertions.assertTrue(storageService.storage().isEmpty());
+    }
+
+    @Test
+    void givenAnInvalidChecksum_whenCallsCreate_shouldThrowDomainException() {
+        // given
+        final var expectedErrorMessage = "'checksum' should be the CRC32C of the content in hex";
+
+        // when
+        final var missing = Assertions.assertThrows(DomainException.class,
+                () -> service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4", CONTENT.length, null, SHA256));
+        final var malformed = Assertions.assertThrows(DomainException.class,
+                () -> service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4", CONTENT.length, "not-a-crc", SHA256));
+
+        // then
+        Assertions.assertEquals(expectedErrorMessage, missing.getErrors().get(0).message());
+        Assertions.assertEquals(expectedErrorMessage, malformed.getErrors().get(0).message());
+        Assertions.assertTrue(storageService.storage().isEmpty());
+    }
+
+    @Test
+    void givenAbandonedUploads_whenCallsSweep_shouldRemoveOnlyTheExpiredOnes() {
+        // given
+        final var anUpload = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4", CONTENT.length, HashingUtils.checksum(CONTENT), SHA256);
+        givenAWrittenObject(anUpload, CONTENT);
+        storageService.store("uploads/orphan/content", Resource.with(CONTENT, HashingUtils.checksum(CONTENT), "video/mp4", "content"));
+
+        // when
+        final var actualOrphans = service.sweep(Instant.now().plus(Duration.ofMinutes(30)));
+
+        // then
+        Assertions.assertEquals(1, actualOrphans);
+        Assertions.assertEquals(2, storageService.storage().size());
+        Assertions.assertTrue(storageService.storage().keySet().stream().allMatch(it -> it.startsWith("uploads/%s/".formatted(anUpload.id()))));
+
+        // when
+        final var actualExpired = service.sweep(Instant.now().plus(Duration.ofHours(2)));
+
+        // then
+        Assertions.assertEquals(1, actualExpired);
+        Assertions.assertTrue(storageService.storage().isEmpty());
+    }
+
+    private void givenAWrittenObject(final DirectUpload anUpload, final byte[] content) {
+        storageService.store(
+                "uploads/%s/content".formatted(anUpload.id()),
+                Resource.with(content, HashingUtils.checksum(content), anUpload.contentType(), "content")
+        );
+    }
+}
@@ -0,0 +1,179 @@
+package com.fullcycle.admin.catalogo.infrastructure.video.upload;
+
+import com.fullcycle.admin.catalogo.domain.UnitTest;
+import com.fullcycle.admin.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.admin.catalogo.domain.exceptions.NotFoundException;
+import com.fullcycle.admin.catalogo.domain.video.VideoID;
+import com.fullcycle.admin.catalogo.domain.video.VideoMediaType;
+import com.fullcycle.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.admin.catalogo.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+class ResumableUploadServiceTest extends UnitTest {
+
+    private static final VideoID VIDEO_ID = VideoID.from("123");
+    private static final VideoMediaType TYPE = VideoMediaType.VIDEO;
+
+    @TempDir
+    Path directory;
+
+    private ResumableUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        final var props = new StorageProperties();
+        props.setUploadDirectory(directory.toString());
+        this.service = new ResumableUploadService(props);
+    }
+
+    @Test
+    void givenChunksOutOfOrder_whenCallsGet_shouldReportContiguousOffset() {
+        // given
+        final var aSession = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4");
+
+        // when
+        service.writeChunk(VIDEO_ID, TYPE, aSession.id(), 0, new ByteArrayInputStream("abc".getBytes()));
+        service.writeChunk(VIDEO_ID, TYPE, aSession.id(), 2, new ByteArrayInputStream("gh".getBytes()));
+
+        final var actualSession = service.get(VIDEO_ID, TYPE, aSession.id());
+
+        // then
+        Assertions.assertEquals(1, actualSession.chunks());
+        Assertions.assertEquals(3, actualSession.offset());
+    }
+
+    @Test
+    void givenAllChunks_whenCallsComplete_shouldReturnAssembledResource() {
+        // given
+        final var expectedContent = "abcdefgh".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var aSession = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4");
+
+        service.writeChunk(VIDEO_ID, TYPE, aSession.id(), 1, new ByteArrayInputStream("def".getBytes()));
+        service.writeChunk(VIDEO_ID, TYPE, aSession.id(), 0, new ByteArrayInputStream("abc".getBytes()));
+        service.writeChunk(VIDEO_ID, TYPE, aSession.id(), 2, new ByteArrayInputStream("gh".getBytes()));
+
+        // when
+        final var actualResource = service.complete(VIDEO_ID, TYPE, aSession.id(), expectedChecksum);
+
+        // then
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals(expectedContent.length, actualResource.size());
+        Assertions.assertArrayEquals(expectedContent, actualResource.content());
+        Assertions.assertEquals("video/mp4", actualResource.contentType());
+        Assertions.assertEquals("video.mp4", actualResource.name());
+    }
+
+    @Test
+    void givenAMissingChunk_whenCallsComplete_shouldThrowDomainException() {
+        // given
+        final var aSession = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4");
+        service.writeChunk(VIDEO_ID, TYPE, aSession.id(), 0, new ByteArrayInputStream("abc".getBytes()));
+        service.writeChunk(VIDEO_ID, TYPE, aSession.id(), 2, new ByteArrayInputStream("gh".getBytes()));
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> service.complete(VIDEO_ID, TYPE, aSession.id(), "00000000"));
+
+        // then
+        Assertions.assertEquals(
+                "Upload %s has missing chunks after offset 3".formatted(aSession.id()),
+                actualException.getErrors().get(0).message()
+        );
+    }
+
+    @Test
+    void givenAWrongChecksum_whenCallsComplete_shouldThrowDomainException() {
+        // given
+        final var aSession = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4");
+        service.writeChunk(VIDEO_ID, TYPE, aSession.id(), 0, new ByteArrayInputStream("abc".getBytes()));
+
+        // when / then
+        Assertions.assertThrows(DomainException.class,
+                () -> service.complete(VIDEO_ID, TYPE, aSession.id(), "00000000"));
+    }
+
+    @Test
+    void givenNoChecksum_whenCallsComplete_shouldThrowDomainException() {
+        // given
+        final var aSession = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4");
+        service.writeChunk(VIDEO_ID, TYPE, aSession.id(), 0, new ByteArrayInputStream("abc".getBytes()));
+
+        // when
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> service.complete(VIDEO_ID, TYPE, aSession.id(), null));
+
+        // then
+        Assertions.assertEquals("'checksum' should not be empty", actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    void givenAnAbandonedSession_whenCallsSweep_shouldRemoveOnlyExpiredSessions() throws Exception {
+        // given
+        final var now = Instant.now();
+        final var anAbandoned = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4");
+        service.writeChunk(VIDEO_ID, TYPE, anAbandoned.id(), 0, new ByteArrayInputStream("abc".getBytes()));
+        final var anActive = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4");
+
+        final var expired = FileTime.from(now.minus(Duration.ofHours(25)));
+        try (final var files = Files.walk(directory.resolve(anAbandoned.id()))) {
+            for (final var file : files.toList()) {
+                Files.setLastModifiedTime(file, expired);
+            }
+        }
+
+        // when
+        final var actualSwept = service.sweep(now);
+
+        // then
+        Assertions.assertEquals(1, actualSwept);
+        Assertions.assertFalse(Files.exists(directory.resolve(anAbandoned.id())));
+        Assertions.assertEquals(anActive.id(), service.get(VIDEO_ID, TYPE, anActive.id()).id());
+    }
+
+    @Test
+    void givenADeletedSession_whenCallsGet_shouldThrowNotFound() {
+        // given
+        final var aSession = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4");
+        service.writeChunk(VIDEO_ID, TYPE, aSession.id(), 0, new ByteArrayInputStream("abc".getBytes()));
+
+        // when
+        service.delete(aSession.id());
+
+        // then
+        Assertions.assertFalse(Files.exists(directory.resolve(aSession.id())));
+        Assertions.assertThrows(NotFoundException.class, () -> service.get(VIDEO_ID, TYPE, aSession.id()));
+    }
+
+    @Test
+    void givenAnotherVideo_whenCallsGet_shouldThrowNotFound() {
+        // given
+        final var aSession = service.create(VIDEO_ID, TYPE, "video/mp4", "video.mp4");
+
+        // when / then
+        Assertions.assertThrows(NotFoundException.class, () -> service.get(VideoID.from("456"), TYPE, aSession.id()));
+    }
+
+    @Test
+    void givenNoUploadDirectory_whenCreatesTheService_shouldFailFast() {
+        // given
+        final var props = new StorageProperties();
+        props.setUploadDirectory(" ");
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> new ResumableUploadService(props));
+
+        // then
+        Assertions.assertEquals("'storage.catalogo-videos.upload-directory' should point to a persistent directory shared by every instance", actualException.getMessage());
+    }
+}